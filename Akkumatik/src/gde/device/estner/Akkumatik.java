@@ -30,6 +30,7 @@ import gde.comm.DeviceCommPort;
 import gde.config.Settings;
 import gde.data.Channel;
 import gde.data.Channels;
+import gde.data.DerivedRecords;
 import gde.data.Record;
 import gde.data.RecordSet;
 import gde.device.DeviceConfiguration;
@@ -68,6 +69,8 @@ public class Akkumatik extends DeviceConfiguration implements IDevice {
 	protected final Channels						channels;
 	protected GathererThread						dataGatherThread	= null;
 	protected final Settings 						settings = Settings.getInstance();
+	// 3=Power U*I [W], 4=Energy U*C [mWh]
+	protected final DerivedRecords			derivedRecords		= new DerivedRecords().product(3, 0, 1, 1000.).product(4, 0, 2, 1000000.);
 
 	/**
 	 * constructor using properties file
@@ -216,6 +219,7 @@ public class Akkumatik extends DeviceConfiguration implements IDevice {
 			if (doUpdateProgressBar && i % 50 == 0) this.application.setProgress(((++progressCycle * 5000) / recordDataSize), sThreadId);
 		}
 
+		this.derivedRecords.evaluate(recordSet);
 		if (doUpdateProgressBar) this.application.setProgress(100, sThreadId);
 		updateVisibilityStatus(recordSet, true);
 		recordSet.syncScaleOfSyncableRecords();
@@ -235,8 +239,8 @@ public class Akkumatik extends DeviceConfiguration implements IDevice {
 		points[0] = Integer.valueOf(dataBuffer[2]);
 		points[1] = Integer.valueOf(dataBuffer[3].replace(GDE.STRING_PLUS, GDE.STRING_EMPTY));
 		points[2] = Integer.valueOf(dataBuffer[4].replace(GDE.STRING_PLUS, GDE.STRING_EMPTY)) * 1000;
-		points[3] = Double.valueOf(points[0] * points[1] / 1000.0).intValue(); // power U*I [W]
-		points[4] = Double.valueOf(points[0] / 1000.0 * points[2] / 1000.0).intValue(); // energy U*C [mWh]
+		points[3] = 0; // power U*I [W], see derivedRecords
+		points[4] = 0; // energy U*C [mWh], see derivedRecords
 		points[5] = Integer.valueOf(dataBuffer[5]);
 		points[6] = Integer.valueOf(dataBuffer[6]) * 1000;
 		points[7] = Integer.valueOf(dataBuffer[7]) * 1000;
@@ -419,8 +423,8 @@ public class Akkumatik extends DeviceConfiguration implements IDevice {
 			points[0] = (((convertBuffer[0] & 0xff) << 24) + ((convertBuffer[1] & 0xff) << 16) + ((convertBuffer[2] & 0xff) << 8) + ((convertBuffer[3] & 0xff) << 0));
 			points[1] = (((convertBuffer[4] & 0xff) << 24) + ((convertBuffer[5] & 0xff) << 16) + ((convertBuffer[6] & 0xff) << 8) + ((convertBuffer[7] & 0xff) << 0));
 			points[2] = (((convertBuffer[8] & 0xff) << 24) + ((convertBuffer[9] & 0xff) << 16) + ((convertBuffer[10] & 0xff) << 8) + ((convertBuffer[11] & 0xff) << 0));
-			points[3] = Double.valueOf((points[0] / 1000.0) * (points[1] / 1000.0) * 1000).intValue(); // power U*I [W]
-			points[4] = Double.valueOf((points[0] / 1000.0) * (points[2] / 1000.0)).intValue(); // energy U*C [mWh]
+			points[3] = 0; // power U*I [W], see derivedRecords
+			points[4] = 0; // energy U*C [mWh], see derivedRecords
 			points[5] = (((convertBuffer[12] & 0xff) << 24) + ((convertBuffer[13] & 0xff) << 16) + ((convertBuffer[14] & 0xff) << 8) + ((convertBuffer[15] & 0xff) << 0));
 			points[6] = (((convertBuffer[16] & 0xff) << 24) + ((convertBuffer[17] & 0xff) << 16) + ((convertBuffer[18] & 0xff) << 8) + ((convertBuffer[19] & 0xff) << 0));
 			points[7] = (((convertBuffer[20] & 0xff) << 24) + ((convertBuffer[21] & 0xff) << 16) + ((convertBuffer[22] & 0xff) << 8) + ((convertBuffer[23] & 0xff) << 0));
@@ -448,6 +452,7 @@ public class Akkumatik extends DeviceConfiguration implements IDevice {
 
 			if (doUpdateProgressBar && i % 50 == 0) this.application.setProgress(((++progressCycle * 2500) / recordDataSize), sThreadId);
 		}
+		this.derivedRecords.evaluate(recordSet);
 		if (doUpdateProgressBar) this.application.setProgress(100, sThreadId);
 		updateVisibilityStatus(recordSet, true);
 		recordSet.syncScaleOfSyncableRecords();
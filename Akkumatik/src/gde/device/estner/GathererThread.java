@@ -169,6 +169,7 @@ public class GathererThread extends Thread {
 						timeStep1 = this.device.getProcessingTime(data) - startCycleTime1;
 						if (lastCycleTime1 < timeStep1 ) {
 							recordSet1.addPoints(this.device.convertDataBytes(points1, data), timeStep1);
+							this.device.derivedRecords.evaluate(recordSet1, true);
 							if (log.isLoggable(Level.TIME)) GathererThread.log.logp(Level.TIME, GathererThread.$CLASS_NAME, $METHOD_NAME, "time = " + TimeLine.getFomatedTimeWithUnit(startCycleTime1 + this.device.getProcessingTime(data))); //$NON-NLS-1$
 							lastCycleTime1 = timeStep1;
 						}
@@ -229,6 +230,7 @@ public class GathererThread extends Thread {
 						timeStep2 = this.device.getProcessingTime(data) - startCycleTime2;
 						if (lastCycleTime2 < timeStep2 ) {
 							recordSet2.addPoints(this.device.convertDataBytes(points2, data), timeStep2);
+							this.device.derivedRecords.evaluate(recordSet2, true);
 							if (log.isLoggable(Level.TIME)) GathererThread.log.logp(Level.TIME, GathererThread.$CLASS_NAME, $METHOD_NAME, "time = " + TimeLine.getFomatedTimeWithUnit(startCycleTime2 + this.device.getProcessingTime(data))); //$NON-NLS-1$
 							lastCycleTime2 = timeStep2;
 						}
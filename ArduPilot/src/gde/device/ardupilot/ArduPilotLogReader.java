@@ -18,12 +18,10 @@
 ****************************************************************************************/
 package gde.device.ardupilot;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -39,7 +37,6 @@ import gde.data.Record;
 import gde.data.RecordSet;
 import gde.device.DataTypes;
 import gde.device.IDevice;
-import gde.device.InputTypes;
 import gde.device.MeasurementType;
 import gde.device.PropertyType;
 import gde.device.StatisticsType;
@@ -47,6 +44,7 @@ import gde.exception.DataInconsitsentException;
 import gde.exception.DataTypeException;
 import gde.exception.MissMatchDeviceException;
 import gde.exception.NotSupportedFileFormatException;
+import gde.io.CSVTokenizer;
 import gde.log.Level;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
@@ -62,150 +60,14 @@ public class ArduPilotLogReader {
 
 	final static DataExplorer	application	= DataExplorer.getInstance();
 	final static Channels			channels		= Channels.getInstance();
-	final static String 			pattern 		= "[^0-9].";
+	final static String				BIN_FILE_ENDING	= ".bin";
 	
 	static int 								realUsedMeasurementCount;
 	static IDevice 						device = ArduPilotLogReader.application.getActiveDevice();
 
 	/**
-	 * read the first two line of CSV file and prepare a map with all available information
-	 * @param separator
-	 * @param filePath
-	 * @return map with GDE.DEVICE_NAME,GDE.CSV_DATA_HEADER,[GDE.CHANNEL_CONFIG_NAME]
-	 * @throws NotSupportedFileFormatException
-	 * @throws IOException
-	 */
-	public static HashMap<String, String> getHeader(char separator, String filePath) throws NotSupportedFileFormatException, IOException {
-		String line = GDE.STRING_STAR;
-		BufferedReader reader = null; // to read the data
-		HashMap<String, String> header = new HashMap<String, String>();
-		
-//    # output header info
-//    xml.write("<header>\n")
-//    xml.write("  <logfile>"   + escape(self.logfile) + "</logfile>\n")
-//    xml.write("  <sizekb>"    + escape(repr(self.logdata.filesizeKB)) + "</sizekb>\n")
-//    xml.write("  <sizelines>" + escape(repr(self.logdata.lineCount)) + "</sizelines>\n")
-//    xml.write("  <duration>"  + escape(str(datetime.timedelta(seconds=self.logdata.durationSecs))) + "</duration>\n")
-//    xml.write("  <vehicletype>" + escape(self.logdata.vehicleTypeString) + "</vehicletype>\n")
-//    if self.logdata.vehicleType == VehicleType.Copter and self.logdata.getCopterType():
-//        xml.write("  <coptertype>"  + escape(self.logdata.getCopterType()) + "</coptertype>\n")
-//    xml.write("  <firmwareversion>" + escape(self.logdata.firmwareVersion) + "</firmwareversion>\n")
-//    xml.write("  <firmwarehash>" + escape(self.logdata.firmwareHash) + "</firmwarehash>\n")
-//    xml.write("  <hardwaretype>" + escape(self.logdata.hardwareType) + "</hardwaretype>\n")
-//    xml.write("  <freemem>" + escape(repr(self.logdata.freeRAM)) + "</freemem>\n")
-//    xml.write("  <skippedlines>" + escape(repr(self.logdata.skippedLines)) + "</skippedlines>\n")
-//    xml.write("</header>\n")
-
-		header.put("logfile", filePath.substring(filePath.lastIndexOf(GDE.FILE_SEPARATOR) + 1));
-		File logFile = new File(filePath);
-		header.put("sizekb", "" + (logFile.isFile() ? logFile.length()/1000 : 0));
-		
-		
-		try {
-			reader = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), "ISO-8859-1")); //$NON-NLS-1$
-			int lineCount = 0;
-			while (((line = reader.readLine()) != null)) {
-				++lineCount;
-				
-				if (line.startsWith("Ardu")) { 
-					header.put("vehicletype", line.split(" ")[0]);	
-					header.put("firmwareversion", line.split(" ")[1]);	
-				}
-				else if (line.startsWith("Free")) {
-					header.put("freemem", line.split(" ")[2]);	
-				}
-			}
-			header.put("sizelines", "" + lineCount);
-
-			header.put(GDE.DEVICE_NAME, application.getActiveDevice().getName());
-			
-			log.log(Level.FINE, GDE.DEVICE_NAME + header.get(GDE.DEVICE_NAME));
-			log.log(Level.FINE, GDE.CHANNEL_CONFIG_NAME + (header.get(GDE.CHANNEL_CONFIG_NAME) != null ? header.get(GDE.CHANNEL_CONFIG_NAME) : "")); //$NON-NLS-1$
-		}
-		catch (FileNotFoundException e) {
-			log.log(Level.SEVERE, e.getMessage(), e);
-			throw new FileNotFoundException(Messages.getString(MessageIds.GDE_MSGW0011, new Object[] { filePath }));
-		}
-		catch (IOException e) {
-			log.log(Level.SEVERE, e.getMessage(), e);
-			throw new IOException(Messages.getString(MessageIds.GDE_MSGW0012, new Object[] { filePath }));
-		}
-		finally {
-			if (reader != null) reader.close();
-		}
-
-		return header;
-	}
-
-	/**
-	 * read the first two line of CSV file and prepare a map with all available information
-	 * @param separator
-	 * @param filePath
-	 * @return map with GDE.DEVICE_NAME,GDE.CSV_DATA_HEADER,[GDE.CHANNEL_CONFIG_NAME]
-	 * @throws NotSupportedFileFormatException
-	 * @throws IOException
-	 */
-	public static LinkedHashMap<String, LogFMT> getSensorsMeasurements(String separator, String filePath) throws NotSupportedFileFormatException, IOException {
-		String line = GDE.STRING_STAR;
-		BufferedReader reader = null; // to read the data
-		LinkedHashMap<String, LogFMT> logFmts = new LinkedHashMap<String, LogFMT>();
-		
-		//FMT, 128, 89, FMT, BBnNZ, Type,Length,Name,Format
-		//FMT, 130, 35, GPS, BIBcLLeeEe, Status,Time,NSats,HDop,Lat,Lng,RelAlt,Alt,Spd,GCrs
-		//	
-	  //  see "struct GPS_State" and "Log_Write_GPS":
-	  //	#define GPS_LABELS "TimeUS,Status,GMS,GWk,NSats,HDop,Lat,Lng,Alt,Spd,GCrs,VZ,U"
-	  //	#define GPS_FMT    "QBIHBcLLefffB"
-	  //	#define GPS_UNITS  "s---SmDUmnhn-"
-	  //	#define GPS_MULTS  "F---0BGGB000-"
-		try {
-			reader = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), "ISO-8859-1")); //$NON-NLS-1$
-			while (((line = reader.readLine()) != null)) {				
-				if (line.startsWith("FMT")) { //formating specification
-					String[] tmpFMT = line.split(", ");
-					switch (ArduPilot.LogEntry.getLogEntry(tmpFMT[3])) { // make sure only enumerated member of LogEntry get used
-					case ACC:
-					case ARSP:
-					case BARO:
-					case CURR: 
-					case CURR_CELL: 
-					case ESC:
-					case GPA:
-					case GYR:
-					case IMT:
-					case IMU:
-					case ISBD:
-					case ISBH:
-					case MAG:
-					case PID:
-					case QUAT:
-					case GPS:
-						log.log(Level.INFO, String.format("%4s\t%12s\t%s", tmpFMT[3], tmpFMT[4], tmpFMT[5]));
-						logFmts.put(tmpFMT[3], new LogFMT(line, separator));
-						break;
-					default: //skip, since not part of implemented log entry enum
-						continue;
-					}
-				}
-			}
-		}
-		catch (FileNotFoundException e) {
-			log.log(Level.SEVERE, e.getMessage(), e);
-			throw new FileNotFoundException(Messages.getString(MessageIds.GDE_MSGW0011, new Object[] { filePath }));
-		}
-		catch (IOException e) {
-			log.log(Level.SEVERE, e.getMessage(), e);
-			throw new IOException(Messages.getString(MessageIds.GDE_MSGW0012, new Object[] { filePath }));
-		}
-		finally {
-			if (reader != null) reader.close();
-		}
-
-		return logFmts;
-	}
-
-	/**
-	 * read the selected CSV file
+	 * read the selected log file in one pass, the text log (*.log) or the binary DataFlash log (*.bin)
+	 * the FMT entries are taken while reading, the decoded rows are added to the record set after all formats are known
 	 * @return record set created
 	 * @throws NotSupportedFileFormatException
 	 * @throws MissMatchDeviceException
@@ -215,36 +77,29 @@ public class ArduPilotLogReader {
 	 */
 	public static RecordSet read(char separator, String filePath, String recordSetNameExtend) throws NotSupportedFileFormatException, MissMatchDeviceException, IOException, DataInconsitsentException,
 			DataTypeException {
-		String line = GDE.STRING_STAR;
 		RecordSet recordSet = null;
-		long inputFileSize = new File(filePath).length();
-		int progressLineLength = Math.abs(ArduPilotLogReader.application.getActiveDevice().getDataBlockSize(InputTypes.FILE_IO));
-		BufferedReader reader = null; // to read the data
-		
 		Channel activeChannel = null;
 		ArduPilotLogReader.realUsedMeasurementCount = 0;
 
 		try {
-			HashMap<String, String> fileHeader = ArduPilotLogReader.getHeader(separator, filePath);
-			LinkedHashMap<String, LogFMT> logEntries = ArduPilotLogReader.getSensorsMeasurements(""+separator, filePath);
-			activeChannel = ArduPilotLogReader.channels.get(ArduPilotLogReader.channels.getChannelNumber(fileHeader.get(GDE.CHANNEL_CONFIG_NAME)));
+			activeChannel = ArduPilotLogReader.channels.get(ArduPilotLogReader.channels.getChannelNumber(null));
 			activeChannel = activeChannel == null ? ArduPilotLogReader.channels.getActiveChannel() : activeChannel;
 
 			if (activeChannel != null) {
 				GDE.getUiNotification().setStatusMessage(Messages.getString(MessageIds.GDE_MSGT0134) + filePath);
 				GDE.getUiNotification().setProgress(0);
 
-				// check for device name and channel or configuration in first line
-				if (!ArduPilotLogReader.application.getActiveDevice().getName().equals(fileHeader.get(GDE.DEVICE_NAME))) {
-					MissMatchDeviceException e = new MissMatchDeviceException(Messages.getString(MessageIds.GDE_MSGW0013, new Object[] { fileHeader.get(GDE.DEVICE_NAME) })); // mismatch device name
-					log.log(Level.SEVERE, e.getMessage(), e);
-					throw e;
+				long nanoTime = System.nanoTime();
+				LogRows logRows = new LogRows();
+				if (filePath.toLowerCase().endsWith(ArduPilotLogReader.BIN_FILE_ENDING)) {
+					new DataFlashReader(logRows, GDE.STRING_EMPTY + separator).read(filePath);
 				}
-
-				reader = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), "ISO-8859-1")); //$NON-NLS-1$
-				while (((line = reader.readLine()) != null) && line.matches(ArduPilotLogReader.pattern)) {
-					// read until line does not starts with numbers
+				else {
+					HashMap<String, String> fileHeader = ArduPilotLogReader.readTextLog(GDE.STRING_EMPTY + separator, filePath, logRows);
+					log.log(Level.FINE, fileHeader.toString());
 				}
+				log.log(Level.TIME, String.format("%,d rows decoded in %,d ms", logRows.getRowCount(), (System.nanoTime() - nanoTime) / 1000000)); //$NON-NLS-1$
+				LinkedHashMap<String, LogFMT> logEntries = logRows.getLogFmts();
 
 				if (GDE.isWithUi()) {
 					ArduPilotLogReader.channels.switchChannel(activeChannel.getNumber(), GDE.STRING_EMPTY);
@@ -258,42 +113,19 @@ public class ArduPilotLogReader {
 				List<String> tmpRecordNames = new ArrayList<>();
 				List<String> tmpRecordSymbols = new ArrayList<>();
 				List<String> tmpRecordUnits = new ArrayList<>();
-				List<Double> tmpRecordFactors = new ArrayList<>();
 				int measurementOrdinal = 0;
-				for (LogFMT logEntryFormat : logEntries.values()) {
-					switch (ArduPilot.LogEntry.getLogEntry(logEntryFormat.name)) { // make sure only enumerated member of LogEntry get used
-					case ACC:
-					case ARSP:
-					case BARO:
-					case CURR: 
-					case CURR_CELL: 
-					case ESC:
-					case GPA:
-					case GYR:
-					case IMT:
-					case IMU:
-					case ISBD:
-					case ISBH:
-					case MAG:
-					case PID:
-					case QUAT:
-					case GPS:
-						log.log(Level.FINE, logEntryFormat.name);
-						tmpRecordNames.addAll(logEntryFormat.getMeasurementNames());
-						List<String> symbols = logEntryFormat.getSymbols();
-						tmpRecordSymbols.addAll(symbols);
-						List<String> units = logEntryFormat.getUnits();
-						tmpRecordUnits.addAll(units);
-						List<Double> factors = logEntryFormat.getMults();
-						tmpRecordFactors.addAll(factors);
-						int index = 0;
-						for (String measurementName : logEntryFormat.getMeasurementNames()) {
-							ArduPilotLogReader.setupMeasurement(activeChannel.getNumber(), measurementOrdinal++, measurementName, symbols.get(index), units.get(index), true, factors.get(index), true);
-							++index;
-						}
-						break;
-					default: //skip, since not part of implemented log entry enum
-						break;
+				for (LogFMT logEntryFormat : logEntries.values()) { // contains enumerated member of LogEntry only
+					log.log(Level.FINE, logEntryFormat.name);
+					tmpRecordNames.addAll(logEntryFormat.getMeasurementNames());
+					List<String> symbols = logEntryFormat.getSymbols();
+					tmpRecordSymbols.addAll(symbols);
+					List<String> units = logEntryFormat.getUnits();
+					tmpRecordUnits.addAll(units);
+					List<Double> factors = logEntryFormat.getMults();
+					int index = 0;
+					for (String measurementName : logEntryFormat.getMeasurementNames()) {
+						ArduPilotLogReader.setupMeasurement(activeChannel.getNumber(), measurementOrdinal++, measurementName, symbols.get(index), units.get(index), true, factors.get(index), true);
+						++index;
 					}
 				}
 				if (tmpRecordNames.size() != existingNumberMeasurements) {
@@ -321,103 +153,20 @@ public class ArduPilotLogReader {
 						record.setDataType(Record.DataType.GPS_LATITUDE);
 				}
 
-				//correct data and start time
-				boolean isFileBasedTimeStamp = true;
-				long startTimeStamp = (long) (new File(filePath).lastModified() - recordSet.getMaxTime_ms());
+				//correct data and start time, the first log time stamp replaces the file based time stamp
+				long startTimeStamp = logRows.getStartTimeStamp() != 0 ? logRows.getStartTimeStamp() : (long) (new File(filePath).lastModified() - recordSet.getMaxTime_ms());
 				recordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129)
 						+ new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss").format(startTimeStamp));
-				//preliminary start time stamp, might be replaced by first GPS time stamp
 				recordSet.setStartTimeStamp(startTimeStamp);
 				activeChannel.setFileDescription((new SimpleDateFormat("yyyy-MM-dd").format(startTimeStamp)).substring(0, 10) + activeChannel.getFileDescription().substring(10));
 
-				long lastTimeStamp = 0;
-
-				// now get all data   0; 14,780;  0,598;  1,000;  8,838;  0,002
 				String[] updateRecordNames = recordSet.getRecordNames();
-				int[] points = new int[updateRecordNames.length];
-				if (points.length != recordSet.realSize()) {
+				if (updateRecordNames.length != recordSet.realSize()) {
 					throw new DataInconsitsentException(String.format("mismatch recordSet size to detected point size\n%s \n%s", StringHelper.arrayToString(recordSet.getRecordNames()), StringHelper.arrayToString(updateRecordNames)));
 				}
-				
-				boolean isNewTimeStamp = false;
-				int lineNumber = 0;
-				while ((line = reader.readLine()) != null) {
-					++lineNumber;
-					switch (ArduPilot.LogEntry.getLogEntry(line.split(", ")[0])) { // make sure only enumerated member of LogEntry get used
-					case ACC:
-					case ARSP:
-					case BARO:
-					case CURR: 
-					case CURR_CELL: 
-					case ESC:
-					case GPA:
-					case GYR:
-					case IMT:
-					case IMU:
-					case ISBD:
-					case ISBH:
-					case MAG:
-					case PID:
-					case QUAT:
-					case GPS: //GPS, 3, 594438201, 6, 4.68, 44.0290459, -77.7367640, 3.13, 91.56, 0.00, 0.00				
-						log.log(Level.FINE, line);
-						String sensor = line.split(", ")[0];
-						LogFMT logEntry = logEntries.get(sensor);
-						int index = 0;
-						for (String name : logEntry.getMeasurementNames()) {
-							int entryOrdinal = recordSet.get(name).getOrdinal();
-							//FMT, 130, 35, GPS, BIBcLLeeEe, Status,Time,NSats,HDop,Lat,Lng,RelAlt,Alt,Spd,GCrs
-							//log.log(Level.FINE, String.format("name: %s, ordinal: %d, fmt: %s, value: %s", name, entryOrdinal, logEntry.getFmt(index), line.split(", ")[index+1]));
-	
-							if (name.toLowerCase().contains("time")) {
-								long tmpTimeStamp = Long.parseLong(line.split(", ")[1+index]) *1000;
-								//log.log(Level.FINE, new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss").format(tmpTimeStamp));
-								if (isFileBasedTimeStamp && lastTimeStamp == 0) {
-									startTimeStamp = lastTimeStamp = tmpTimeStamp;
-									recordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129)	+ new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss").format(startTimeStamp));
-									recordSet.setStartTimeStamp(startTimeStamp);
-									activeChannel.setFileDescription((new SimpleDateFormat("yyyy-MM-dd").format(startTimeStamp)).substring(0, 10) + activeChannel.getFileDescription().substring(10));
-									isNewTimeStamp = true;
-								} else if (lastTimeStamp < tmpTimeStamp) {
-									lastTimeStamp = tmpTimeStamp;
-									isNewTimeStamp = true;
-								}
-								log.log(Level.FINE, new SimpleDateFormat("mm:ss.SSS").format((lastTimeStamp - startTimeStamp)/1000));
-								points[entryOrdinal] = 0; //skip time entry (int) (lastTimeStamp - startTimeStamp);																
-							} else {
-								
-								try {
-									points[entryOrdinal] =  Integer.parseInt(""+ArduPilot.parseValue(logEntry.getFmt(index), line.split(", ")[1+index]));
-								}
-								catch (NumberFormatException e) {
-									log.log(Level.WARNING, String.format("%s line %d -> NumberFormatException for %s", filePath, lineNumber, e.getMessage()));
-								}								
-							}
-							++index;
-						}
-						if (isNewTimeStamp) {
-							recordSet.addPoints(points, (lastTimeStamp - startTimeStamp)/1000.0); //time_ms
-							isNewTimeStamp = false;
-						}
-						break;
-
-					default:
-						continue;
-					}
-
-
-					progressLineLength = progressLineLength > line.length() ? progressLineLength : line.length();
-					int progress = (int) (lineNumber*100/(inputFileSize/progressLineLength));
-					if (progress <= 90 && progress > GDE.getUiNotification().getProgressPercentage() && progress % 10 == 0) 	{
-						GDE.getUiNotification().setProgress(progress);
-						try {
-							Thread.sleep(2);
-						}
-						catch (Exception e) {
-							// ignore
-						}
-					}
-				}
+				GDE.getUiNotification().setProgress(60);
+				logRows.replay(recordSet);
+				GDE.getUiNotification().setProgress(90);
 
 				recordSet.setSaved(true);
 
@@ -427,9 +176,6 @@ public class ArduPilotLogReader {
 				recordSet.updateVisibleAndDisplayableRecordsForTable();
 				device.updateVisibilityStatus(recordSet, true);
 				if (GDE.isWithUi()) activeChannel.switchRecordSet(recordSetName);
-
-				reader.close();
-				reader = null;
 			}
 		}
 		catch (UnsupportedEncodingException e) {
@@ -445,7 +191,6 @@ public class ArduPilotLogReader {
 			throw new IOException(Messages.getString(MessageIds.GDE_MSGW0012, new Object[] { filePath }));
 		}
 		finally {
-			if (reader != null) reader.close();
 			GDE.getUiNotification().setProgress(100);
 			GDE.getUiNotification().setStatusMessage(GDE.STRING_EMPTY);
 			if (GDE.isWithUi()) {
@@ -457,6 +202,90 @@ public class ArduPilotLogReader {
 		return recordSet;
 	}
 
+	/**
+	 * read the text log in one pass, the FMT lines of the supported log entries define the formats of the following data lines
+	 * @param separator
+	 * @param filePath
+	 * @param logRows receives the formats and the decoded data lines
+	 * @return map with the header information, e.g. vehicletype, firmwareversion, freemem, sizelines
+	 * @throws IOException
+	 */
+	static HashMap<String, String> readTextLog(String separator, String filePath, LogRows logRows) throws IOException {
+		HashMap<String, String> header = new HashMap<String, String>();
+		header.put("logfile", filePath.substring(filePath.lastIndexOf(GDE.FILE_SEPARATOR) + 1));
+		long inputFileSize = Math.max(1, new File(filePath).length());
+		header.put("sizekb", "" + inputFileSize / 1000);
+
+		List<String> fmtNames = new ArrayList<>(); // the entry name of each format index, the field 0 of a data line is matched without creating a string
+		List<Integer> fmtIndices = new ArrayList<>();
+		try (CSVTokenizer tokenizer = new CSVTokenizer(new FileInputStream(filePath), GDE.CHAR_COMMA)) {
+			long nextProgress = inputFileSize / 5;
+			while (tokenizer.nextLine()) {
+				int fmtIndex = -1;
+				for (int i = 0; i < fmtNames.size() && fmtIndex < 0; i++) {
+					if (tokenizer.equals(0, fmtNames.get(i))) fmtIndex = fmtIndices.get(i);
+				}
+				if (fmtIndex >= 0) {
+					ArduPilotLogReader.decodeLine(tokenizer, fmtIndex, logRows, filePath);
+				}
+				else if (tokenizer.lineStartsWith("FMT")) { //formating specification
+					if (tokenizer.getFieldCount() > 5 && ArduPilot.LogEntry.getLogEntry(tokenizer.getString(3)) != ArduPilot.LogEntry.UNKNOWN) { // make sure only enumerated member of LogEntry get used
+						String line = tokenizer.getLine();
+						String name = tokenizer.getString(3);
+						log.log(Level.INFO, line);
+						int index = fmtNames.indexOf(name);
+						if (index < 0) {
+							fmtNames.add(name);
+							fmtIndices.add(logRows.putFormat(new LogFMT(line, separator)));
+						}
+						else {
+							fmtIndices.set(index, logRows.putFormat(new LogFMT(line, separator)));
+						}
+					}
+				}
+				else if (tokenizer.lineStartsWith("Ardu")) {
+					String[] entries = tokenizer.getLine().split(GDE.STRING_BLANK);
+					header.put("vehicletype", entries[0]);
+					if (entries.length > 1) header.put("firmwareversion", entries[1]);
+				}
+				else if (tokenizer.lineStartsWith("Free")) {
+					String[] entries = tokenizer.getLine().split(GDE.STRING_BLANK);
+					if (entries.length > 2) header.put("freemem", entries[2]);
+				}
+
+				if (tokenizer.getBytesConsumed() >= nextProgress) {
+					GDE.getUiNotification().setProgress((int) (50 * tokenizer.getBytesConsumed() / inputFileSize));
+					nextProgress += inputFileSize / 5;
+				}
+			}
+			header.put("sizelines", "" + tokenizer.getLineNumber());
+		}
+		return header;
+	}
+
+	/**
+	 * decode the actual data line of the tokenizer, e.g. GPS, 3, 594438201, 6, 4.68, 44.0290459, -77.7367640, 3.13, 91.56, 0.00, 0.00
+	 */
+	private static void decodeLine(CSVTokenizer tokenizer, int fmtIndex, LogRows logRows, String filePath) {
+		int fieldCount = logRows.getFieldCount(fmtIndex);
+		logRows.beginRow(fmtIndex);
+		for (int index = 0; index < fieldCount; index++) {
+			try {
+				if (1 + index >= tokenizer.getFieldCount() || tokenizer.isBlank(1 + index))
+					logRows.putMissing();
+				else if (logRows.isTimeField(fmtIndex, index))
+					logRows.putTimeStamp(tokenizer.getLong(1 + index) * 1000);
+				else
+					logRows.putValue(tokenizer.getUnscaledLong(1 + index)); // the value without decimal point, e.g. 4.68 -> 468 or -77.7367640 -> -777367640
+			}
+			catch (NumberFormatException e) {
+				log.log(Level.WARNING, String.format("%s line %d -> NumberFormatException for %s", filePath, tokenizer.getLineNumber(), e.getMessage()));
+				logRows.putMissing();
+			}
+		}
+		logRows.endRow();
+	}
+
 	/**
 	 * setup GPS related measurement, this gets called while preparing records
 	 * @param dataType
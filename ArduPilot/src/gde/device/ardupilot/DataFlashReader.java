@@ -0,0 +1,274 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.device.ardupilot;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+
+import gde.GDE;
+import gde.log.Level;
+
+/**
+ * Decoder of the binary DataFlash log (*.bin) as written by the ArduPilot flight controller.
+ * Each message starts with the header bytes 0xA3 0x95 and the message type, the FMT messages (type 128) define the
+ * length, the field formats and the labels of the other message types.
+ * The field values are converted to the int values the text log import gets from the same log entries, e.g. 'L' 1e-7 degree
+ * or 'c' 1e-2 as raw integer and floats with six decimals, values which do not fit into an int are skipped.
+ * @author Winfried Brügmann
+ */
+final class DataFlashReader {
+	static final Logger					log						= Logger.getLogger(DataFlashReader.class.getName());
+
+	static final int						HEAD_BYTE_1		= 0xA3;
+	static final int						HEAD_BYTE_2		= 0x95;
+	static final int						FMT_TYPE			= 128;
+	static final int						HEADER_LENGTH	= 3;
+
+	/**
+	 * message type -> format, e.g. length and field formats, null if the type is not defined yet
+	 */
+	private final MessageFormat[]	formats				= new MessageFormat[256];
+	private final LogRows					logRows;
+	private final String					separator;
+
+	private static final class MessageFormat {
+		final int			length;
+		final String	name;
+		final byte[]	fieldFormats;
+		/**
+		 * the format index of the log rows or -1 if the log entry is not supported
+		 */
+		final int			fmtIndex;
+
+		MessageFormat(int length, String name, byte[] fieldFormats, int fmtIndex) {
+			this.length = length;
+			this.name = name;
+			this.fieldFormats = fieldFormats;
+			this.fmtIndex = fmtIndex;
+		}
+	}
+
+	/**
+	 * @param logRows receives the formats of the supported log entries and their decoded rows
+	 * @param separator the device data block separator used to split the FMT labels
+	 */
+	DataFlashReader(LogRows logRows, String separator) {
+		this.logRows = logRows;
+		this.separator = separator;
+		this.formats[FMT_TYPE] = new MessageFormat(89, "FMT", "BBnNZ".getBytes(StandardCharsets.ISO_8859_1), -1); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * decode all messages of the file in one pass
+	 * @param filePath
+	 * @throws IOException
+	 */
+	void read(String filePath) throws IOException {
+		try (RandomAccessFile file = new RandomAccessFile(filePath, "r"); FileChannel channel = file.getChannel()) { //$NON-NLS-1$
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			int limit = buffer.limit();
+			int progressStep = Math.max(1, limit / 5);
+			int nextProgress = progressStep;
+			int skippedBytes = 0;
+			int position = 0;
+			while (position + HEADER_LENGTH <= limit) {
+				if ((buffer.get(position) & 0xFF) != HEAD_BYTE_1 || (buffer.get(position + 1) & 0xFF) != HEAD_BYTE_2) {
+					++position; // resynchronize
+					++skippedBytes;
+					continue;
+				}
+				MessageFormat format = this.formats[buffer.get(position + 2) & 0xFF];
+				if (format == null || position + format.length > limit) {
+					++position;
+					++skippedBytes;
+					continue;
+				}
+				if (format.fmtIndex >= 0)
+					decodeRow(buffer, position + HEADER_LENGTH, format);
+				else if (format.name.equals("FMT")) //$NON-NLS-1$
+					putFormat(buffer, position + HEADER_LENGTH);
+				position += format.length;
+
+				if (position >= nextProgress) {
+					GDE.getUiNotification().setProgress((int) (50L * position / limit));
+					nextProgress += progressStep;
+				}
+			}
+			if (skippedBytes > 0) log.log(Level.WARNING, String.format("%s %d bytes skipped", filePath, skippedBytes)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * FMT payload: type uint8, length uint8, name char[4], format char[16], labels char[64]
+	 */
+	private void putFormat(MappedByteBuffer buffer, int offset) {
+		int type = buffer.get(offset) & 0xFF;
+		int length = buffer.get(offset + 1) & 0xFF;
+		String name = getString(buffer, offset + 2, 4);
+		String fieldFormats = getString(buffer, offset + 6, 16);
+		String labels = getString(buffer, offset + 22, 64);
+		if (type == FMT_TYPE) return;
+
+		int fmtIndex = -1;
+		if (ArduPilot.LogEntry.getLogEntry(name) != ArduPilot.LogEntry.UNKNOWN) {
+			try {
+				LogFMT logFmt = new LogFMT(String.format("FMT, %d, %d, %s, %s, %s", type, length, name, fieldFormats, labels), this.separator); //$NON-NLS-1$
+				if (logFmt.getMeasurementNames().size() <= fieldFormats.length()) {
+					fmtIndex = this.logRows.putFormat(logFmt);
+					log.log(Level.INFO, String.format("%4s\t%12s\t%s", name, fieldFormats, labels)); //$NON-NLS-1$
+				}
+			}
+			catch (RuntimeException e) {
+				log.log(Level.WARNING, String.format("%s skipped -> %s", name, e.getMessage())); //$NON-NLS-1$
+			}
+		}
+		this.formats[type] = new MessageFormat(length, name, fieldFormats.getBytes(StandardCharsets.ISO_8859_1), fmtIndex);
+	}
+
+	private void decodeRow(MappedByteBuffer buffer, int offset, MessageFormat format) {
+		LogRows rows = this.logRows;
+		int fieldCount = rows.getFieldCount(format.fmtIndex);
+		rows.beginRow(format.fmtIndex);
+		for (int i = 0; i < fieldCount; i++) {
+			byte fieldFormat = format.fieldFormats[i];
+			if (rows.isTimeField(format.fmtIndex, i)) {
+				rows.putTimeStamp(getLong(buffer, offset, fieldFormat) * 1000);
+			}
+			else {
+				switch (fieldFormat) {
+				case 'f':
+					putScaled(buffer.getFloat(offset));
+					break;
+				case 'd':
+					putScaled(buffer.getDouble(offset));
+					break;
+				case 'n':
+				case 'N':
+				case 'Z':
+				case 'a':
+					rows.putMissing();
+					break;
+				default:
+					rows.putValue(getLong(buffer, offset, fieldFormat));
+				}
+			}
+			offset += getSize(fieldFormat);
+		}
+		rows.endRow();
+	}
+
+	/**
+	 * floats are taken with six decimals like the text log notation
+	 */
+	private void putScaled(double value) {
+		double scaled = Math.rint(value * 1000000.);
+		if (Double.isNaN(scaled) || scaled < Integer.MIN_VALUE || scaled > Integer.MAX_VALUE)
+			this.logRows.putMissing();
+		else
+			this.logRows.putValue((int) scaled);
+	}
+
+	/**
+	 * @return the integer field value without the format multiplier, e.g. 'c' is the centi value like the text notation without decimal point, floats are truncated
+	 */
+	private static long getLong(MappedByteBuffer buffer, int offset, byte fieldFormat) {
+		switch (fieldFormat) {
+		case 'b':
+			return buffer.get(offset);
+		case 'B':
+		case 'M':
+			return buffer.get(offset) & 0xFF;
+		case 'h':
+		case 'c':
+			return buffer.getShort(offset);
+		case 'H':
+		case 'C':
+			return buffer.getShort(offset) & 0xFFFF;
+		case 'i':
+		case 'e':
+		case 'L':
+			return buffer.getInt(offset);
+		case 'I':
+		case 'E':
+			return buffer.getInt(offset) & 0xFFFFFFFFL;
+		case 'q':
+		case 'Q':
+			return buffer.getLong(offset);
+		case 'f':
+			return (long) buffer.getFloat(offset);
+		case 'd':
+			return (long) buffer.getDouble(offset);
+		default:
+			return 0;
+		}
+	}
+
+	/**
+	 * @return the number of bytes of the field format
+	 */
+	static int getSize(byte fieldFormat) {
+		switch (fieldFormat) {
+		case 'b':
+		case 'B':
+		case 'M':
+			return 1;
+		case 'h':
+		case 'H':
+		case 'c':
+		case 'C':
+			return 2;
+		case 'i':
+		case 'I':
+		case 'e':
+		case 'E':
+		case 'L':
+		case 'f':
+		case 'n':
+			return 4;
+		case 'd':
+		case 'q':
+		case 'Q':
+			return 8;
+		case 'N':
+			return 16;
+		case 'Z':
+		case 'a':
+			return 64;
+		default:
+			log.log(Level.WARNING, String.format("unknown field format %c", (char) fieldFormat)); //$NON-NLS-1$
+			return 0;
+		}
+	}
+
+	private static String getString(MappedByteBuffer buffer, int offset, int length) {
+		byte[] bytes = new byte[length];
+		buffer.get(offset, bytes);
+		int end = 0;
+		while (end < length && bytes[end] != 0) {
+			++end;
+		}
+		return new String(bytes, 0, end, StandardCharsets.ISO_8859_1).trim();
+	}
+}
@@ -39,97 +39,97 @@ public class LogFMT {
 				String defined_fmt = ArduPilot.ACC.getFmt(measurementName);
 				if (defined_fmt.getBytes()[0] != fmt)
 					log.log(Level.WARNING, String.format("%s missmatch fmt log vs definition -> %c vs %c", this.measurementNames.get(i), fmt, defined_fmt.getBytes()[0]));
-				this.fmts.add(""+fmt);
+				this.fmts.add(String.valueOf((char) fmt));
 				break;
 			case ARSP:
 				defined_fmt = ArduPilot.ARSP.getFmt(measurementName);
 				if (defined_fmt.getBytes()[0] != fmt)
 					log.log(Level.WARNING, String.format("%s missmatch fmt log vs definition -> %c vs %c", this.measurementNames.get(i), fmt, defined_fmt.getBytes()[0]));
-				this.fmts.add(""+fmt);
+				this.fmts.add(String.valueOf((char) fmt));
 				break;
 			case BARO:
 				defined_fmt = ArduPilot.BARO.getFmt(measurementName);
 				if (defined_fmt.getBytes()[0] != fmt)
 					log.log(Level.WARNING, String.format("%s missmatch fmt log vs definition -> %c vs %c", this.measurementNames.get(i), fmt, defined_fmt.getBytes()[0]));
-				this.fmts.add(""+fmt);
+				this.fmts.add(String.valueOf((char) fmt));
 				break;
 			case CURR:
 				defined_fmt = ArduPilot.CURR.getFmt(measurementName);
 				if (defined_fmt.getBytes()[0] != fmt)
 					log.log(Level.WARNING, String.format("%s missmatch fmt log vs definition -> %c vs %c", this.measurementNames.get(i), fmt, defined_fmt.getBytes()[0]));
-				this.fmts.add(""+fmt);
+				this.fmts.add(String.valueOf((char) fmt));
 				break;
 			case CURR_CELL:
 				defined_fmt = ArduPilot.CURR_CELL.getFmt(measurementName);
 				if (defined_fmt.getBytes()[0] != fmt)
 					log.log(Level.WARNING, String.format("%s missmatch fmt log vs definition -> %c vs %c", this.measurementNames.get(i), fmt, defined_fmt.getBytes()[0]));
-				this.fmts.add(""+fmt);
+				this.fmts.add(String.valueOf((char) fmt));
 				break;
 			case ESC:
 				defined_fmt = ArduPilot.ESC.getFmt(measurementName);
 				if (defined_fmt.getBytes()[0] != fmt)
 					log.log(Level.WARNING, String.format("%s missmatch fmt log vs definition -> %c vs %c", this.measurementNames.get(i), fmt, defined_fmt.getBytes()[0]));
-				this.fmts.add(""+fmt);
+				this.fmts.add(String.valueOf((char) fmt));
 				break;
 			case GPA:
 				defined_fmt = ArduPilot.GPA.getFmt(measurementName);
 				if (defined_fmt.getBytes()[0] != fmt)
 					log.log(Level.WARNING, String.format("%s missmatch fmt log vs definition -> %c vs %c", this.measurementNames.get(i), fmt, defined_fmt.getBytes()[0]));
-				this.fmts.add(""+fmt);
+				this.fmts.add(String.valueOf((char) fmt));
 				break;
 			case GPS:
 				defined_fmt = ArduPilot.GPS.getFmt(measurementName);
 				if (defined_fmt.getBytes()[0] != fmt)
 					log.log(Level.WARNING, String.format("%s missmatch fmt log vs definition -> %c vs %c", this.measurementNames.get(i), fmt, defined_fmt.getBytes()[0]));
-				this.fmts.add(""+fmt);
+				this.fmts.add(String.valueOf((char) fmt));
 				break;
 			case GYR:
 				defined_fmt = ArduPilot.GYR.getFmt(measurementName);
 				if (defined_fmt.getBytes()[0] != fmt)
 					log.log(Level.WARNING, String.format("%s missmatch fmt log vs definition -> %c vs %c", this.measurementNames.get(i), fmt, defined_fmt.getBytes()[0]));
-				this.fmts.add(""+fmt);
+				this.fmts.add(String.valueOf((char) fmt));
 				break;
 			case IMT:
 				defined_fmt = ArduPilot.IMT.getFmt(measurementName);
 				if (defined_fmt.getBytes()[0] != fmt)
 					log.log(Level.WARNING, String.format("%s missmatch fmt log vs definition -> %c vs %c", this.measurementNames.get(i), fmt, defined_fmt.getBytes()[0]));
-				this.fmts.add(""+fmt);
+				this.fmts.add(String.valueOf((char) fmt));
 				break;
 			case IMU:
 				defined_fmt = ArduPilot.IMU.getFmt(measurementName);
 				if (defined_fmt.getBytes()[0] != fmt)
 					log.log(Level.WARNING, String.format("%s missmatch fmt log vs definition -> %c vs %c", this.measurementNames.get(i), fmt, defined_fmt.getBytes()[0]));
-				this.fmts.add(""+fmt);
+				this.fmts.add(String.valueOf((char) fmt));
 				break;
 			case ISBD:
 				defined_fmt = ArduPilot.ISBD.getFmt(measurementName);
 				if (defined_fmt.getBytes()[0] != fmt)
 					log.log(Level.WARNING, String.format("%s missmatch fmt log vs definition -> %c vs %c", this.measurementNames.get(i), fmt, defined_fmt.getBytes()[0]));
-				this.fmts.add(""+fmt);
+				this.fmts.add(String.valueOf((char) fmt));
 				break;
 			case ISBH:
 				defined_fmt = ArduPilot.ISBH.getFmt(measurementName);
 				if (defined_fmt.getBytes()[0] != fmt)
 					log.log(Level.WARNING, String.format("%s missmatch fmt log vs definition -> %c vs %c", this.measurementNames.get(i), fmt, defined_fmt.getBytes()[0]));
-				this.fmts.add(""+fmt);
+				this.fmts.add(String.valueOf((char) fmt));
 				break;
 			case MAG:
 				defined_fmt = ArduPilot.MAG.getFmt(measurementName);
 				if (defined_fmt.getBytes()[0] != fmt)
 					log.log(Level.WARNING, String.format("%s missmatch fmt log vs definition -> %c vs %c", this.measurementNames.get(i), fmt, defined_fmt.getBytes()[0]));
-				this.fmts.add(""+fmt);
+				this.fmts.add(String.valueOf((char) fmt));
 				break;
 			case PID:
 				defined_fmt = ArduPilot.PID.getFmt(measurementName);
 				if (defined_fmt.getBytes()[0] != fmt)
 					log.log(Level.WARNING, String.format("%s missmatch fmt log vs definition -> %c vs %c", this.measurementNames.get(i), fmt, defined_fmt.getBytes()[0]));
-				this.fmts.add(""+fmt);
+				this.fmts.add(String.valueOf((char) fmt));
 				break;
 			case QUAT:
 				defined_fmt = ArduPilot.QUAT.getFmt(measurementName);
 				if (defined_fmt.getBytes()[0] != fmt)
 					log.log(Level.WARNING, String.format("%s missmatch fmt log vs definition -> %c vs %c", this.measurementNames.get(i), fmt, defined_fmt.getBytes()[0]));
-				this.fmts.add(""+fmt);
+				this.fmts.add(String.valueOf((char) fmt));
 				//this.fmts.add(defined_fmt);
 				break;
 			default:
@@ -0,0 +1,193 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.device.ardupilot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+
+import gde.data.Record;
+import gde.data.RecordSet;
+import gde.exception.DataInconsitsentException;
+
+/**
+ * Decoded log rows of the supported log entries, collected in one pass over the log file.
+ * The record set can only be created after all FMT entries are known, hence the rows are kept as compact int values
+ * and replayed into the record set afterwards.
+ * A row holds the format index and the values in the sequence of the format's measurement names, time fields hold zero.
+ * The time stamp handling is the same for the text and the binary log.
+ * @author Winfried Brügmann
+ */
+final class LogRows {
+
+	/**
+	 * the formats in the log file sequence, a redefined format keeps its position
+	 */
+	private final LinkedHashMap<String, LogFMT>	logFmts					= new LinkedHashMap<>();
+	private final List<LogFMT>									rowFmts					= new ArrayList<>();
+	private final List<boolean[]>								timeFields			= new ArrayList<>();
+
+	private int[]																data						= new int[1 << 16];
+	private int																	size						= 0;
+	/**
+	 * data indices of values which could not be decoded, the record keeps the previous value
+	 */
+	private final BitSet												missing					= new BitSet();
+	private long[]															timeOffsets			= new long[1 << 12];
+	private int																	timeOffsetCount	= 0;
+
+	private int																	rowStart				= -1;
+	private boolean															isNewTimeStamp	= false;
+	private long																startTimeStamp	= 0;
+	private long																lastTimeStamp		= 0;
+	private int																	rowCount				= 0;
+
+	/**
+	 * @param logFmt the format of a supported log entry
+	 * @return the format index used by {@link #beginRow(int)}
+	 */
+	int putFormat(LogFMT logFmt) {
+		this.logFmts.put(logFmt.name, logFmt);
+		this.rowFmts.add(logFmt);
+		List<String> names = logFmt.getMeasurementNames();
+		boolean[] isTime = new boolean[names.size()];
+		for (int i = 0; i < isTime.length; i++) {
+			isTime[i] = names.get(i).toLowerCase(Locale.ENGLISH).contains("time"); //$NON-NLS-1$
+		}
+		this.timeFields.add(isTime);
+		return this.rowFmts.size() - 1;
+	}
+
+	LinkedHashMap<String, LogFMT> getLogFmts() {
+		return this.logFmts;
+	}
+
+	/**
+	 * @return true if the field holds a time stamp instead of a measurement value
+	 */
+	boolean isTimeField(int fmtIndex, int fieldIndex) {
+		return this.timeFields.get(fmtIndex)[fieldIndex];
+	}
+
+	int getFieldCount(int fmtIndex) {
+		return this.timeFields.get(fmtIndex).length;
+	}
+
+	void beginRow(int fmtIndex) {
+		ensureCapacity(1 + getFieldCount(fmtIndex));
+		this.rowStart = this.size;
+		this.data[this.size++] = fmtIndex;
+		this.isNewTimeStamp = false;
+	}
+
+	void putValue(int value) {
+		this.data[this.size++] = value;
+	}
+
+	/**
+	 * @param value the scaled value, a value exceeding the int range is taken as missing
+	 */
+	void putValue(long value) {
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+			putMissing();
+		else
+			this.data[this.size++] = (int) value;
+	}
+
+	/**
+	 * the value could not be decoded, the record keeps its previous value
+	 */
+	void putMissing() {
+		this.missing.set(this.size);
+		this.data[this.size++] = 0;
+	}
+
+	/**
+	 * @param timeStamp the log time field value * 1000, the first one is the record set start time stamp
+	 */
+	void putTimeStamp(long timeStamp) {
+		if (this.lastTimeStamp == 0) {
+			this.startTimeStamp = this.lastTimeStamp = timeStamp;
+			this.isNewTimeStamp = true;
+		}
+		else if (this.lastTimeStamp < timeStamp) {
+			this.lastTimeStamp = timeStamp;
+			this.isNewTimeStamp = true;
+		}
+		this.data[this.size++] = 0;
+	}
+
+	/**
+	 * a row is added to the record set if it carries a new time stamp, otherwise it updates the points of the next row only
+	 */
+	void endRow() {
+		if (this.isNewTimeStamp) {
+			this.data[this.rowStart] |= Integer.MIN_VALUE;
+			if (this.timeOffsetCount == this.timeOffsets.length) this.timeOffsets = Arrays.copyOf(this.timeOffsets, this.timeOffsetCount * 2);
+			this.timeOffsets[this.timeOffsetCount++] = this.lastTimeStamp - this.startTimeStamp;
+		}
+		++this.rowCount;
+	}
+
+	private void ensureCapacity(int length) {
+		if (this.size + length > this.data.length) this.data = Arrays.copyOf(this.data, Math.max(this.data.length * 2, this.size + length));
+	}
+
+	/**
+	 * @return the time stamp of the first log time field or 0 if the log does not contain time fields
+	 */
+	long getStartTimeStamp() {
+		return this.startTimeStamp;
+	}
+
+	int getRowCount() {
+		return this.rowCount;
+	}
+
+	/**
+	 * add the rows with a new time stamp to the record set, the points carry the values of the rows in between
+	 * @param recordSet holds the records of all formats
+	 */
+	void replay(RecordSet recordSet) throws DataInconsitsentException {
+		int[][] ordinals = new int[this.rowFmts.size()][];
+		for (int i = 0; i < ordinals.length; i++) {
+			List<String> names = this.rowFmts.get(i).getMeasurementNames();
+			ordinals[i] = new int[names.size()];
+			for (int j = 0; j < ordinals[i].length; j++) {
+				Record record = recordSet.get(names.get(j));
+				ordinals[i][j] = record != null ? record.getOrdinal() : -1; // redefined format
+			}
+		}
+
+		int[] points = new int[recordSet.size()];
+		int timeOffsetIndex = 0;
+		for (int i = 0; i < this.size;) {
+			int header = this.data[i++];
+			int[] rowOrdinals = ordinals[header & Integer.MAX_VALUE];
+			for (int ordinal : rowOrdinals) {
+				if (ordinal >= 0 && !this.missing.get(i)) points[ordinal] = this.data[i];
+				++i;
+			}
+			if (header < 0) recordSet.addPoints(points, this.timeOffsets[timeOffsetIndex++] / 1000.0); //time_ms
+		}
+	}
+}
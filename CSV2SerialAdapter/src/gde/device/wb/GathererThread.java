@@ -195,7 +195,7 @@ public class GathererThread extends Thread {
 					if (channelRecordSet != null) {
 						if (this.serialPort.isInterruptedByUser) break;
 						if (this.parser.getValues().length == channelRecordSet.size()) 
-							channelRecordSet.addPoints(this.parser.getValues(), (tmpCycleTime - startCycleTime));
+							channelRecordSet.getIngestQueue().addPoints(this.parser.getValues(), (tmpCycleTime - startCycleTime));
 						else
 							this.application.setStatusMessage(String.format("Miss match record set size = %d to parsed values length = %d, please correct!", channelRecordSet.size(), this.parser.getValues().length), SWT.COLOR_RED);
 							
@@ -301,6 +301,7 @@ public class GathererThread extends Thread {
 		if (doClosePort && this.isPortOpenedByLiveGatherer && this.serialPort.isConnected()) this.serialPort.close();
 
 		if (tmpRecordSet != null) {
+			tmpRecordSet.closeIngestQueue();
 			this.device.updateVisibilityStatus(tmpRecordSet, true);
 			this.device.makeInActiveDisplayable(tmpRecordSet);
 			this.application.updateStatisticsData();
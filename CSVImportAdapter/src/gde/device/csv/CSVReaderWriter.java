@@ -44,12 +44,12 @@ import gde.data.Record;
 import gde.data.RecordSet;
 import gde.device.DeviceConfiguration;
 import gde.device.IDevice;
-import gde.device.InputTypes;
 import gde.device.MeasurementType;
 import gde.exception.DataInconsitsentException;
 import gde.exception.DataTypeException;
 import gde.exception.MissMatchDeviceException;
 import gde.exception.NotSupportedFileFormatException;
+import gde.io.CSVTokenizer;
 import gde.log.Level;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
@@ -193,6 +193,15 @@ public class CSVReaderWriter {
 		return header;
 	}
 
+	/**
+	 * remove unit and format characters of a value, e.g. 85%, -65dBm, 12:30
+	 * @param value
+	 * @return the value to be parsed as number
+	 */
+	private static String cleanValue(String value) {
+		return value.replace(GDE.CHAR_COMMA, GDE.CHAR_DOT).replace(GDE.STRING_COLON, GDE.STRING_EMPTY).replace(GDE.STRING_BLANK, GDE.STRING_EMPTY).replace("%", GDE.STRING_EMPTY).replace("dBm", GDE.STRING_EMPTY);
+	}
+
 	/**
 	 * read the selected CSV file
 	 * @return record set created
@@ -207,8 +216,7 @@ public class CSVReaderWriter {
 		String line = GDE.STRING_STAR;
 		RecordSet recordSet = null;
 		long inputFileSize = new File(filePath).length();
-		int progressLineLength = Math.abs(CSVReaderWriter.application.getActiveDevice().getDataBlockSize(InputTypes.FILE_IO));
-		BufferedReader reader = null; // to read the data
+		CSVTokenizer tokenizer = null; // to read the data
 		IDevice device = CSVReaderWriter.application.getActiveDevice();
 		Channel activeChannel = null;
 
@@ -232,8 +240,8 @@ public class CSVReaderWriter {
 				fileHeader = CSVReaderWriter.evaluateType(separator, fileHeader, (DeviceConfiguration) device);
 				CSVReaderWriter.log.log(Level.FINE, "device name check ok, channel/configuration ok"); //$NON-NLS-1$
 
-				reader = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), "ISO-8859-1")); //$NON-NLS-1$
-				while (((line = reader.readLine()) != null) && !Character.isDigit(line.charAt(0)) && !line.contains(GDE.STRING_EMPTY + separator)) {
+				tokenizer = new CSVTokenizer(new FileInputStream(filePath), separator);
+				while (tokenizer.nextLine() && !(tokenizer.getLineLength() > 0 && Character.isDigit(tokenizer.charAt(0, 0))) && tokenizer.getFieldCount() < 2) {
 					// read until line does not starts with numbers and contains defined separator
 				}
 
@@ -285,43 +293,43 @@ public class CSVReaderWriter {
 				if (points.length != recordSet.realSize()) {
 					throw new DataInconsitsentException(String.format("mismatch recordSet size to detected point size\n%s \n%s", StringHelper.arrayToString(recordSet.getRecordNames()), StringHelper.arrayToString(updateRecordNames)));
 				}
-				int lineNumber = 0;
-				while ((line = reader.readLine()) != null) {
-					++lineNumber;
-					if (line.startsWith("#")) {
+				boolean isSpektrumTime = fileHeader.get(TRANSMITTER_TYPE) != null && fileHeader.get(TRANSMITTER_TYPE).equals(TRANSMITTER_TYPE_SPEKTRUM);
+				while (tokenizer.nextLine()) {
+					if (tokenizer.lineStartsWith("#")) {
+						line = tokenizer.getLine();
 						if (recordSet.getRecordSetDescription().endsWith(GDE.LINE_SEPARATOR))
 							recordSet.setRecordSetDescription(recordSet.getRecordSetDescription() + line.substring(1) + GDE.LINE_SEPARATOR);
 						else
 							recordSet.setRecordSetDescription(recordSet.getRecordSetDescription() + line.replace('#', GDE.CHAR_BLANK) + GDE.LINE_SEPARATOR);
 						continue;
 					}
-					else if (line.startsWith("Finish") || line.startsWith("0Hz-10Hz") || line.startsWith("Total")) {
+					else if (tokenizer.lineStartsWith("Finish") || tokenizer.lineStartsWith("0Hz-10Hz") || tokenizer.lineStartsWith("Total")) {
+						line = tokenizer.getLine();
 						if (recordSet.getRecordSetDescription().endsWith(GDE.LINE_SEPARATOR))
 							recordSet.setRecordSetDescription(recordSet.getRecordSetDescription() + line + GDE.LINE_SEPARATOR);
 						else
 							recordSet.setRecordSetDescription(recordSet.getRecordSetDescription() + GDE.CHAR_BLANK + line + GDE.LINE_SEPARATOR);
 						continue;
 					}
-					String[] dataStr = line.split(GDE.STRING_EMPTY + separator);
 					String data;
 					if (device.getTimeStep_ms() < 0) { //time step coming from values, variable time stamp
-						data = dataStr[0].trim().replace(GDE.CHAR_COMMA, GDE.CHAR_DOT);
-						if (data.contains(GDE.STRING_COLON)) {
+						if (tokenizer.contains(0, GDE.CHAR_COLON)) {
 							int hour = 0;
 							int minute = 0;
 							int second = 0;
 
-							if (data.indexOf(GDE.STRING_COLON) != data.lastIndexOf(GDE.STRING_COLON)) { //00:01:45
-								hour = Integer.parseInt(data.substring(0, 2));
-								minute = Integer.parseInt(data.substring(3, 5));
-								second = Integer.parseInt(data.substring(6, 8));
+							if (tokenizer.indexOf(0, GDE.CHAR_COLON) != tokenizer.lastIndexOf(0, GDE.CHAR_COLON)) { //00:01:45
+								hour = tokenizer.getDigits(0, 0, 2);
+								minute = tokenizer.getDigits(0, 3, 2);
+								second = tokenizer.getDigits(0, 6, 2);
 							}
-							else if (data.indexOf(GDE.STRING_COLON) == data.lastIndexOf(GDE.STRING_COLON)) { // 00:01
-								minute = Integer.parseInt(data.substring(0, 2));
-								second = Integer.parseInt(data.substring(3, 5));
+							else { // 00:01
+								minute = tokenizer.getDigits(0, 0, 2);
+								second = tokenizer.getDigits(0, 3, 2);
 							}
 							GregorianCalendar calendar = new GregorianCalendar(year, month - 1, day, hour, minute, second);
-							timeStamp = calendar.getTimeInMillis() + (data.contains(GDE.STRING_DOT) ? Integer.parseInt(data.substring(data.lastIndexOf(GDE.CHAR_DOT) + 1)) : 0);
+							int millisIndex = Math.max(tokenizer.lastIndexOf(0, GDE.CHAR_DOT), tokenizer.lastIndexOf(0, GDE.CHAR_COMMA));
+							timeStamp = calendar.getTimeInMillis() + (millisIndex >= 0 ? tokenizer.getDigits(0, millisIndex + 1, tokenizer.getLength(0) - millisIndex - 1) : 0);
 
 							if (lastTimeStamp < timeStamp) {
 								time_ms = (int) (lastTimeStamp == 0 ? 0 : time_ms + (timeStamp - lastTimeStamp));
@@ -333,7 +341,7 @@ public class CSVReaderWriter {
 						}
 						else
 							// decimal time value
-							time_ms = Integer.valueOf(data).intValue() * (fileHeader.get(TRANSMITTER_TYPE) != null && fileHeader.get(TRANSMITTER_TYPE).equals(TRANSMITTER_TYPE_SPEKTRUM) ? 10 : 1);
+							time_ms = tokenizer.getInt(0) * (isSpektrumTime ? 10 : 1);
 					}
 					else if (lastTimeStamp == 0) {
 						lastTimeStamp = timeStamp = startTimeStamp;
@@ -342,18 +350,11 @@ public class CSVReaderWriter {
 						lastTimeStamp = timeStamp;
 					}
 					
-					for (int i = 0; i < updateRecordNames.length && i < dataStr.length - 1; i++) { // only iterate over record names found in file
-						try {
-							data = dataStr[i + 1].trim().replace(GDE.CHAR_COMMA, GDE.CHAR_DOT).replace(GDE.STRING_COLON, GDE.STRING_EMPTY).replace(GDE.STRING_BLANK, GDE.STRING_EMPTY).replace("%", GDE.STRING_EMPTY).replace("dBm", GDE.STRING_EMPTY);
-						}
-						catch (Exception e) {
-							data = "0";
-							CSVReaderWriter.log.log(Level.WARNING, String.format("Check line = %s", line));
-						}
+					for (int i = 0; i < updateRecordNames.length && i < tokenizer.getFieldCount() - 1; i++) { // only iterate over record names found in file
 						switch (recordSet.get(i).getDataType()) {
 						case GPS_LONGITUDE:
 						case GPS_LATITUDE:
-							data = data.replace("E", GDE.STRING_EMPTY).replace('W', GDE.CHAR_DASH).replace("N", GDE.STRING_EMPTY).replace('S', GDE.CHAR_DASH).replace(GDE.STRING_COLON, GDE.STRING_DOT);
+							data = cleanValue(tokenizer.getString(i + 1)).replace("E", GDE.STRING_EMPTY).replace('W', GDE.CHAR_DASH).replace("N", GDE.STRING_EMPTY).replace('S', GDE.CHAR_DASH).replace(GDE.STRING_COLON, GDE.STRING_DOT);
 							if (data.contains(GDE.STRING_DOT)) {
 								points[i] = Integer.parseInt(String.format("%s%6s", data.substring(0, data.indexOf(GDE.CHAR_DOT)), (data.substring(data.indexOf(GDE.CHAR_DOT) + 1) + "000000").substring(0, 6)));
 							}
@@ -364,18 +365,22 @@ public class CSVReaderWriter {
 
 						default:
 							try {
-								points[i] = Double.valueOf(Double.valueOf(data) * 1000.0).intValue();
+								points[i] = (int) (tokenizer.getDouble(i + 1) * 1000.0);
 							}
 							catch (NumberFormatException e) {
-								//points[i] = 0;  //ignore and keep last value
+								try { // value with unit or time format
+									points[i] = (int) (Double.parseDouble(cleanValue(tokenizer.getString(i + 1))) * 1000.0);
+								}
+								catch (NumberFormatException e1) {
+									//points[i] = 0;  //ignore and keep last value
+								}
 							}
 							break;
 						}
 					}
 					recordSet.addPoints(points, time_ms);
 
-					progressLineLength = progressLineLength > line.length() ? progressLineLength : line.length();
-					int progress = (int) (lineNumber*100/(inputFileSize/progressLineLength));
+					int progress = (int) (tokenizer.getBytesConsumed() * 100 / inputFileSize);
 					if (progress <= 90 && progress > GDE.getUiNotification().getProgressPercentage() && progress % 10 == 0) 	{
 						GDE.getUiNotification().setProgress(progress);
 						try {
@@ -396,8 +401,8 @@ public class CSVReaderWriter {
 				if (GDE.isWithUi()) activeChannel.switchRecordSet(recordSetName);
 				//				activeChannel.get(recordSetName).checkAllDisplayable(); // raw import needs calculation of passive records
 
-				reader.close();
-				reader = null;
+				tokenizer.close();
+				tokenizer = null;
 			}
 		}
 		catch (UnsupportedEncodingException e) {
@@ -413,7 +418,7 @@ public class CSVReaderWriter {
 			throw new IOException(Messages.getString(MessageIds.GDE_MSGW0012, new Object[] { filePath }));
 		}
 		finally {
-			if (reader != null) reader.close();
+			if (tokenizer != null) tokenizer.close();
 			GDE.getUiNotification().setProgress(100);
 			GDE.getUiNotification().setStatusMessage(GDE.STRING_EMPTY);
 			if (GDE.isWithUi()) {
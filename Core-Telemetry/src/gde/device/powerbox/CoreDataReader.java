@@ -23,10 +23,10 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -35,6 +35,7 @@ import java.util.Map.Entry;
 import java.util.TreeSet;
 import java.util.Vector;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import gde.GDE;
 import gde.data.Channel;
@@ -140,174 +141,179 @@ public class CoreDataReader {
 					List<File> logFiles = FileUtils.getFileListing(new File(searchPath), 0, filter);
 					int numberLogFiles = logFiles.size();
 					int numberProcessedLogFiles = 1;
-					for (File logFile : logFiles) {
-						log.log(Level.INFO, logFile.getAbsolutePath());
-						line = 0;
-
-						FileInputStream fis = new FileInputStream(logFile);
-						InputStreamReader in = new InputStreamReader(fis, "ISO-8859-1"); //$NON-NLS-1$
-						BufferedReader br = new BufferedReader(in);
-
-						String strLine;
-						while ((strLine = br.readLine()) != null) {
-							line++;
-							strLine = strLine.trim();
-							/*First character - commentar?
-							#AppVer=1.95
-							#TCfwVer=1.21
-							#SCfwVer=1.4
-							#Model=X-Perience Pro@0x5F33C7FF
-							#SensorsTable
-							*/
-							if (strLine.length() == 0 || strLine.startsWith("#")) { //$NON-NLS-1$
-								if (strLine.startsWith("#AppVer"))
-									appVer = strLine.substring(8).trim();
-								else if (strLine.startsWith("#TCfwVer"))
-									tcFwVer = strLine.substring(9).trim();
-								else if (strLine.startsWith("#SCfwVer"))
-									scFwVer = strLine.substring(9).trim();
-								else if (strLine.startsWith("#Model=")) {
-									modelName = strLine.substring(7, strLine.indexOf('@')).trim();
-								}
-								else if (strLine.startsWith("#SensorsTable")) {
-									isSensorTable = true;
-									isStartLogEntries = false;
-									log.log(Level.INFO, "SensorsTable");
-								}
-								else if (strLine.startsWith("#Time")) {
-									if (isSensorTable) {
-										//all sensors and variables evaluated, recordSet can be build
-										recordSetNameExtend = device.getRecordSetStateNameReplacement(1); // state name
-										if (recordNameExtend.length() > 0) {
-											recordSetNameExtend = recordSetNameExtend + GDE.STRING_BLANK + GDE.STRING_LEFT_BRACKET + recordNameExtend + GDE.STRING_RIGHT_BRACKET;
-										}
+					int batchSize = Math.max(1, Runtime.getRuntime().availableProcessors());
+					for (int batchStart = 0; batchStart < numberLogFiles; batchStart += batchSize) {
+						// read and split the lines of the next log files in parallel, the lines are evaluated sequentially in file order
+						List<LogFileLines> batch = logFiles.subList(batchStart, Math.min(numberLogFiles, batchStart + batchSize)).parallelStream() //
+								.map(LogFileLines::read).collect(Collectors.toCollection(ArrayList::new));
+						for (int batchIndex = 0; batchIndex < batch.size(); batchIndex++) {
+							LogFileLines logFileLines = batch.set(batchIndex, null); // release the lines of a log file after evaluation
+							File logFile = logFileLines.file;
+							log.log(Level.INFO, logFile.getAbsolutePath());
+							line = 0;
+
+							for (int lineIndex = 0; lineIndex < logFileLines.lines.length; lineIndex++) {
+								line++;
+								String strLine = logFileLines.lines[lineIndex];
+								/*First character - commentar?
+								#AppVer=1.95
+								#TCfwVer=1.21
+								#SCfwVer=1.4
+								#Model=X-Perience Pro@0x5F33C7FF
+								#SensorsTable
+								*/
+								if (strLine.length() == 0 || strLine.startsWith("#")) { //$NON-NLS-1$
+									if (strLine.startsWith("#AppVer"))
+										appVer = strLine.substring(8).trim();
+									else if (strLine.startsWith("#TCfwVer"))
+										tcFwVer = strLine.substring(9).trim();
+									else if (strLine.startsWith("#SCfwVer"))
+										scFwVer = strLine.substring(9).trim();
+									else if (strLine.startsWith("#Model=")) {
+										modelName = strLine.substring(7, strLine.indexOf('@')).trim();
+									}
+									else if (strLine.startsWith("#SensorsTable")) {
+										isSensorTable = true;
+										isStartLogEntries = false;
+										log.log(Level.INFO, "SensorsTable");
+									}
+									else if (strLine.startsWith("#Time")) {
+										if (isSensorTable) {
+											//all sensors and variables evaluated, recordSet can be build
+											recordSetNameExtend = device.getRecordSetStateNameReplacement(1); // state name
+											if (recordNameExtend.length() > 0) {
+												recordSetNameExtend = recordSetNameExtend + GDE.STRING_BLANK + GDE.STRING_LEFT_BRACKET + recordNameExtend + GDE.STRING_RIGHT_BRACKET;
+											}
 
-										//prepare new record set now
-										recordSetName = (activeChannel.size() + 1) + ") " + recordSetNameExtend; //$NON-NLS-1$
-										//adapt record names and units to current telemetry sensors
-										int index = 0;
-										Vector<String> vecRecordNames = new Vector<String>();
-										Map<Integer, Record.DataType> mapRecordType = new HashMap<Integer, Record.DataType>();
-										//add record exclude Tx
-										for (TelemetrySensor telemetrySensor : CoreDataReader.sensorData) {
-											boolean isActualgps = false;
-											for (TelemetryData.TelemetryVar dataVar : telemetrySensor.getVariables()) {
-												String newRecordName = dataVar.getName().trim();
-												while (vecRecordNames.contains(newRecordName)) { //check for duplicated record names and update to make unique
-													newRecordName = String.format("%s %s", newRecordName, telemetrySensor.getName());
-													dataVar.setName(newRecordName);
-												}
-												vecRecordNames.add(newRecordName);
-												if (CoreDataReader.log.isLoggable(Level.INFO)) CoreDataReader.log.log(Level.INFO, String.format("add new record = %s [%s]", newRecordName, dataVar.getUnit()));
-
-												if (dataVar.getDataType() == TelemetryData.T_GPS && (!telemetrySensor.getName().equals("Core") && !telemetrySensor.getName().equals("Atom"))) {
-													if (dataVar.getName().toLowerCase().startsWith("lon") || dataVar.getName().toLowerCase().startsWith("län")) {
-														isActualgps = true;
-														mapRecordType.put(index, Record.DataType.GPS_LATITUDE);
-														dataVar.unit = "°";
+											//prepare new record set now
+											recordSetName = (activeChannel.size() + 1) + ") " + recordSetNameExtend; //$NON-NLS-1$
+											//adapt record names and units to current telemetry sensors
+											int index = 0;
+											Vector<String> vecRecordNames = new Vector<String>();
+											Map<Integer, Record.DataType> mapRecordType = new HashMap<Integer, Record.DataType>();
+											//add record exclude Tx
+											for (TelemetrySensor telemetrySensor : CoreDataReader.sensorData) {
+												boolean isActualgps = false;
+												for (TelemetryData.TelemetryVar dataVar : telemetrySensor.getVariables()) {
+													String newRecordName = dataVar.getName().trim();
+													while (vecRecordNames.contains(newRecordName)) { //check for duplicated record names and update to make unique
+														newRecordName = String.format("%s %s", newRecordName, telemetrySensor.getName());
+														dataVar.setName(newRecordName);
 													}
-													else if (dataVar.getName().toLowerCase().startsWith("lat") || dataVar.getName().toLowerCase().startsWith("breit")) {
-														isActualgps = true;
-														mapRecordType.put(index, Record.DataType.GPS_LONGITUDE);
-														dataVar.unit = "°";
+													vecRecordNames.add(newRecordName);
+													if (CoreDataReader.log.isLoggable(Level.INFO)) CoreDataReader.log.log(Level.INFO, String.format("add new record = %s [%s]", newRecordName, dataVar.getUnit()));
+
+													if (dataVar.getDataType() == TelemetryData.T_GPS && (!telemetrySensor.getName().equals("Core") && !telemetrySensor.getName().equals("Atom"))) {
+														if (dataVar.getName().toLowerCase().startsWith("lon") || dataVar.getName().toLowerCase().startsWith("län")) {
+															isActualgps = true;
+															mapRecordType.put(index, Record.DataType.GPS_LATITUDE);
+															dataVar.unit = "°";
+														}
+														else if (dataVar.getName().toLowerCase().startsWith("lat") || dataVar.getName().toLowerCase().startsWith("breit")) {
+															isActualgps = true;
+															mapRecordType.put(index, Record.DataType.GPS_LONGITUDE);
+															dataVar.unit = "°";
+														}
 													}
+													else if (isActualgps && dataVar.getUnit().contains("°") && dataVar.getParam() == 10) {
+														mapRecordType.put(index, Record.DataType.GPS_AZIMUTH);
+													}
+													else if ((dataVar.getName().toLowerCase().endsWith("hoehe") || dataVar.getName().toLowerCase().contains("höhe") || dataVar.getName().toLowerCase().contains("height")
+															|| dataVar.getName().toLowerCase().contains("alt")) && dataVar.getUnit().equals("m")) //dataVar.getParam()==4
+													{
+														mapRecordType.put(index, Record.DataType.GPS_ALTITUDE);
+													}
+													else if ((dataVar.getName().toLowerCase().contains("speed") || dataVar.getName().toLowerCase().contains("geschw"))
+															&& (dataVar.getUnit().equals("km/h") || dataVar.getUnit().equals("kmh") || dataVar.getUnit().equals("kph") || dataVar.getUnit().equals("m/s"))) {
+														mapRecordType.put(index, Record.DataType.GPS_SPEED);
+													}
+													if (CoreDataReader.log.isLoggable(Level.FINE)) CoreDataReader.log.log(Level.FINE, "param = " + dataVar.getParam());
+													device.setMeasurementName(activeChannelConfigNumber, index, dataVar.getName());
+													device.setMeasurementUnit(activeChannelConfigNumber, index, dataVar.getUnit());
+													++index;
 												}
-												else if (isActualgps && dataVar.getUnit().contains("°") && dataVar.getParam() == 10) {
-													mapRecordType.put(index, Record.DataType.GPS_AZIMUTH);
-												}
-												else if ((dataVar.getName().toLowerCase().endsWith("hoehe") || dataVar.getName().toLowerCase().contains("höhe") || dataVar.getName().toLowerCase().contains("height")
-														|| dataVar.getName().toLowerCase().contains("alt")) && dataVar.getUnit().equals("m")) //dataVar.getParam()==4
-												{
-													mapRecordType.put(index, Record.DataType.GPS_ALTITUDE);
-												}
-												else if ((dataVar.getName().toLowerCase().contains("speed") || dataVar.getName().toLowerCase().contains("geschw"))
-														&& (dataVar.getUnit().equals("km/h") || dataVar.getUnit().equals("kmh") || dataVar.getUnit().equals("kph") || dataVar.getUnit().equals("m/s"))) {
-													mapRecordType.put(index, Record.DataType.GPS_SPEED);
-												}
-												if (CoreDataReader.log.isLoggable(Level.FINE)) CoreDataReader.log.log(Level.FINE, "param = " + dataVar.getParam());
-												device.setMeasurementName(activeChannelConfigNumber, index, dataVar.getName());
-												device.setMeasurementUnit(activeChannelConfigNumber, index, dataVar.getUnit());
-												++index;
 											}
+											//build up the record set with variable number of records just fit the sensor sensorData
+											String[] recordNames = vecRecordNames.toArray(new String[0]);
+											String[] recordSymbols = new String[recordNames.length];
+											String[] recordUnits = new String[recordNames.length];
+											for (int i = 0; i < recordNames.length; i++) {
+												MeasurementType measurement = device.getMeasurement(activeChannelConfigNumber, i);
+												recordSymbols[i] = measurement.getSymbol();
+												recordUnits[i] = measurement.getUnit();
+											}
+											recordSet = RecordSet.createRecordSet(recordSetName, device, activeChannelConfigNumber, recordNames, recordSymbols, recordUnits, device.getTimeStep_ms(), isRaw, true, true);
+											//set record sensorData type which are not default
+											for (Entry<Integer, Record.DataType> entry : mapRecordType.entrySet()) {
+												recordSet.get(entry.getKey().intValue()).setDataType(entry.getValue());
+											}
+											recordSetName = recordSet.getName(); // cut/correct length of recordSetName
+											//correct time if needed
+											try {
+												isOutdated = Integer.parseInt(dateTime.split(GDE.STRING_DASH)[0]) <= 2000;
+											}
+											catch (Exception e) {
+												// ignore and state as not outdated
+											}
+											activeChannel.put(recordSetName, recordSet);
+											if (CoreDataReader.log.isLoggable(Level.FINE)) CoreDataReader.log.log(Level.FINE, device.getNumberOfMeasurements(activeChannelConfigNumber) + " - " + recordSet.size());
+											points = new int[recordNames.length];
 										}
-										//build up the record set with variable number of records just fit the sensor sensorData
-										String[] recordNames = vecRecordNames.toArray(new String[0]);
-										String[] recordSymbols = new String[recordNames.length];
-										String[] recordUnits = new String[recordNames.length];
-										for (int i = 0; i < recordNames.length; i++) {
-											MeasurementType measurement = device.getMeasurement(activeChannelConfigNumber, i);
-											recordSymbols[i] = measurement.getSymbol();
-											recordUnits[i] = measurement.getUnit();
-										}
-										recordSet = RecordSet.createRecordSet(recordSetName, device, activeChannelConfigNumber, recordNames, recordSymbols, recordUnits, device.getTimeStep_ms(), isRaw, true, true);
-										//set record sensorData type which are not default
-										for (Entry<Integer, Record.DataType> entry : mapRecordType.entrySet()) {
-											recordSet.get(entry.getKey().intValue()).setDataType(entry.getValue());
-										}
-										recordSetName = recordSet.getName(); // cut/correct length of recordSetName
-										//correct time if needed
+
 										try {
-											isOutdated = Integer.parseInt(dateTime.split(GDE.STRING_DASH)[0]) <= 2000;
+											startTime_ms = Long.parseLong(strLine.substring(8).trim(), 16) * 1000;
+											isSensorTable = false;
+											isStartLogEntries = true;
+											//log.log(Level.INFO, "Time = " + StringHelper.getFormatedTime("YYYY-MM-dd hh:mm:ss.SSS", startTime_ms));
 										}
 										catch (Exception e) {
-											// ignore and state as not outdated
+											log.log(Level.SEVERE, logFile.getName() + " line # " + line + " failed parsing " + strLine.substring(8));
 										}
-										activeChannel.put(recordSetName, recordSet);
-										if (CoreDataReader.log.isLoggable(Level.FINE)) CoreDataReader.log.log(Level.FINE, device.getNumberOfMeasurements(activeChannelConfigNumber) + " - " + recordSet.size());
-										points = new int[recordNames.length];
 									}
+									continue;
+								}
 
+								String[] fields = logFileLines.fields[lineIndex]; // field 0 is reserved for the time stamp
+								int fieldOffset = 1;
+								if (isSensorTable) { //patch time stamp 0 to enable adding sensor
+									fields[0] = "000000000"; //$NON-NLS-1$
+									fieldOffset = 0;
+								}
+								else if (isStartLogEntries && strLine.startsWith(":")) {
 									try {
-										startTime_ms = Long.parseLong(strLine.substring(8).trim(), 16) * 1000;
-										isSensorTable = false;
-										isStartLogEntries = true;
-										//log.log(Level.INFO, "Time = " + StringHelper.getFormatedTime("YYYY-MM-dd hh:mm:ss.SSS", startTime_ms));
+										long entryTime_ms = startTime_ms + Integer.parseInt(strLine.substring(1, 3)) * 1000;
+										fieldOffset = logFileLines.setEntryTimeStamp(lineIndex, Long.toString(entryTime_ms));
+										fields = logFileLines.fields[lineIndex];
+										if (entryTime_ms > lastEntryTime_ms) {
+											//log.log(Level.INFO, "addPoints");
+											recordSet.addPoints(points, time_ms);
+											if (lastEntryTime_ms != 0) time_ms += entryTime_ms - lastEntryTime_ms;
+											lastEntryTime_ms = entryTime_ms;
+										}
 									}
 									catch (Exception e) {
-										log.log(Level.SEVERE, logFile.getName() + " line # " + line + " failed parsing " + strLine.substring(8));
+										log.log(Level.SEVERE, logFile.getName() + " line # " + line + " failed parsing " + strLine);
 									}
-								}
-								continue;
-							}
 
-							if (isSensorTable) //patch time stamp 0 to enable adding sensor
-								strLine = "000000000;" + strLine;
-							else if (isStartLogEntries && strLine.startsWith(":")) {
-								try {
-									long entryTime_ms = startTime_ms + Integer.parseInt(strLine.substring(1, 3)) * 1000;
-									strLine = String.format("%09d;%s", entryTime_ms, strLine.substring(4));
-									if (entryTime_ms > lastEntryTime_ms) {
-										//log.log(Level.INFO, "addPoints");
-										recordSet.addPoints(points, time_ms);
-										if (lastEntryTime_ms != 0) time_ms += entryTime_ms - lastEntryTime_ms;
-										lastEntryTime_ms = entryTime_ms;
-									}
-								}
-								catch (Exception e) {
-									log.log(Level.SEVERE, logFile.getName() + " line # " + line + " failed parsing " + strLine);
 								}
+								//log.log(Level.INFO, strLine);
 
-							}
-							//log.log(Level.INFO, strLine);
-
-							List<String> array = new ArrayList<String>();
-							array.addAll(Arrays.asList(strLine.replace("|", ";").split(";")));
-							if (array != null && array.size() > 0) {
-								if (array.size() == 4) { //only sensors/variables may have 4 entries in array while missing a unit 
-									//log.log(Level.WARNING, String.format("Sensor sensorData unknown! - %s", array));
-									array.add(GDE.STRING_EMPTY);
-									continue;
+								int fieldCount = fields.length - fieldOffset;
+								if (fieldCount > 0) {
+									if (fieldCount == 4) { //only sensors/variables may have 4 entries in array while missing a unit 
+										//log.log(Level.WARNING, String.format("Sensor sensorData unknown! - %s", Arrays.toString(fields)));
+										continue;
+									}
+									//if (!fields[0].equals("000000000")) //print sensor measurements
+									//	log.log(Level.INFO, Arrays.toString(fields));
+									parseLineParams(fields, fieldOffset, Math.max(5, fieldCount), recordSet, points, logFile.getName(), line);
 								}
-								//if (!array.get(0).equals("000000000")) //print sensor measurements
-								//	log.log(Level.INFO, array.toString());
-								parseLineParams(array.toArray(new String[5]), recordSet, points, logFile.getName(), line);
 							}
-						}
-						in.close();
 
-						int progress = (int) (numberProcessedLogFiles++ * 100 / numberLogFiles);
-						if (progress <= 90 && progress > GDE.getUiNotification().getProgressPercentage()) {
-							GDE.getUiNotification().setProgress(progress);
+							int progress = (int) (numberProcessedLogFiles++ * 100 / numberLogFiles);
+							if (progress <= 90 && progress > GDE.getUiNotification().getProgressPercentage()) {
+								GDE.getUiNotification().setProgress(progress);
+							}
 						}
 					}
 				}
@@ -371,8 +377,11 @@ public class CoreDataReader {
 
 	/**
 	 * parse string array into parameter
+	 * @param params
+	 * @param offset index of the time stamp within params
+	 * @param count number of parameters to be parsed, parameters beyond the array length are evaluated as null
 	 */
-	static void parseLineParams(String params[], RecordSet recordSet, int[] points, String fileName, int lineNumber) {
+	static void parseLineParams(String params[], int offset, int count, RecordSet recordSet, int[] points, String fileName, int lineNumber) {
 		final int ST_TIME = 0;
 		final int ST_DEVICE_ID = 1;
 		final int ST_PARAM_NUM = 2;
@@ -395,7 +404,8 @@ public class CoreDataReader {
 		if (params == null) {
 			return;
 		}
-		for (String param : params) {
+		for (int paramIndex = offset; paramIndex < offset + count; paramIndex++) {
+			String param = paramIndex < params.length ? params[paramIndex] : null;
 			try {
 				switch (state) {
 				case ST_TIME:
@@ -522,4 +532,95 @@ public class CoreDataReader {
 		return null;
 	}
 
+	/**
+	 * trimmed lines of a Core log file, the data lines are split once into fields while reading, field 0 is reserved for the time stamp of sensor table lines
+	 */
+	static final class LogFileLines {
+		final File				file;
+		final String[]		lines;
+		final String[][]	fields;
+
+		private LogFileLines(File file, List<String> lines) {
+			this.file = file;
+			this.lines = lines.toArray(new String[0]);
+			this.fields = new String[this.lines.length][];
+			for (int i = 0; i < this.lines.length; i++) {
+				String strLine = this.lines[i];
+				if (strLine.length() == 0 || strLine.charAt(0) == '#') continue;
+				this.fields[i] = splitFields(strLine, 0);
+			}
+		}
+
+		/**
+		 * @param logFile
+		 * @return the lines read with ISO-8859-1 encoding
+		 * @throws UncheckedIOException
+		 */
+		static LogFileLines read(File logFile) {
+			List<String> lines = new ArrayList<>();
+			try (BufferedReader br = new BufferedReader(new InputStreamReader(new FileInputStream(logFile), "ISO-8859-1"))) { //$NON-NLS-1$
+				String strLine;
+				while ((strLine = br.readLine()) != null) {
+					lines.add(strLine.trim());
+				}
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return new LogFileLines(logFile, lines);
+		}
+
+		/**
+		 * replace the entry time of a log entry line by the time stamp, e.g. ":05;..." where the leading 4 characters hold the entry time
+		 * @param index of the log entry line
+		 * @param timeStamp
+		 * @return the index of the time stamp within the fields of the line
+		 */
+		int setEntryTimeStamp(int index, String timeStamp) {
+			String strLine = this.lines[index];
+			if (strLine.length() < 4) throw new IllegalArgumentException("log entry without values"); //$NON-NLS-1$
+			if (isSeparator(strLine.charAt(3))) { // the entry time is field 1 of the existing split
+				this.fields[index][1] = timeStamp;
+				return 1;
+			}
+			this.fields[index] = splitFields(strLine, 4); // entry time not separated, the values start behind the leading 4 characters
+			this.fields[index][0] = timeStamp;
+			return 0;
+		}
+
+		/**
+		 * split at ';' and '|' like String.split, i.e. trailing empty fields are removed
+		 * @param strLine
+		 * @param beginIndex
+		 * @return the fields starting at index 1
+		 */
+		static String[] splitFields(String strLine, int beginIndex) {
+			int length = strLine.length();
+			while (length > beginIndex && isSeparator(strLine.charAt(length - 1))) {
+				--length;
+			}
+			if (length == beginIndex) return new String[1];
+
+			int fieldCount = 1;
+			for (int i = beginIndex; i < length; i++) {
+				if (isSeparator(strLine.charAt(i))) ++fieldCount;
+			}
+			String[] fields = new String[1 + fieldCount];
+			int fieldIndex = 1;
+			int fieldStart = beginIndex;
+			for (int i = beginIndex; i < length; i++) {
+				if (isSeparator(strLine.charAt(i))) {
+					fields[fieldIndex++] = strLine.substring(fieldStart, i);
+					fieldStart = i + 1;
+				}
+			}
+			fields[fieldIndex] = strLine.substring(fieldStart, length);
+			return fields;
+		}
+
+		private static boolean isSeparator(char c) {
+			return c == ';' || c == '|';
+		}
+	}
+
 }
@@ -43,6 +43,7 @@ import java.net.URL;
 import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -52,12 +53,14 @@ import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.jar.JarEntry;
@@ -723,6 +726,26 @@ public abstract class DataAccess implements Cloneable {
 			return Stream.empty();
 		}
 
+		@Override
+		public void walkSourceFolder(Path fittedFolderPath, BiConsumer<Path, BasicFileAttributes> entryConsumer) throws IOException {
+			if (!existsSourceFolder(fittedFolderPath)) return;
+
+			Files.walkFileTree(fittedFolderPath, EnumSet.of(FileVisitOption.FOLLOW_LINKS), 1, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+					// a link which could not be followed does not have an existing target
+					if (!attrs.isSymbolicLink()) entryConsumer.accept(file, attrs);
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(Path file, IOException e) {
+					log.log(WARNING, file + GDE.STRING_MESSAGE_CONCAT + e.getMessage());
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		}
+
 		@Override
 		public boolean existsSourceFolder(Path fittedFolderPath) {
 			File sourceFolder = fittedFolderPath.toFile();
@@ -1119,6 +1142,13 @@ public abstract class DataAccess implements Cloneable {
 	 */
 	public abstract Stream<String> getSourceFolderList(Path fittedFolderPath);
 
+	/**
+	 * Visit the files and directory entries of the folder with a single attributes read per entry, symbolic links are followed.
+	 * @param fittedFolderPath is a customized path (full path for local file system access or relative path for other data sources)
+	 * @param entryConsumer receives the entries in folder listing order with their attributes, a non existing folder has no entries
+	 */
+	public abstract void walkSourceFolder(Path fittedFolderPath, BiConsumer<Path, BasicFileAttributes> entryConsumer) throws IOException;
+
 	/**
 	 * Use the {@code try-with-resources} construct.
 	 * @see java.nio.file.Files#walk(Path, java.nio.file.FileVisitOption...)
@@ -41,6 +41,7 @@ import gde.exception.ApplicationConfigurationException;
 import gde.exception.FailedQueryException;
 import gde.exception.SerialPortException;
 import gde.exception.TimeOutException;
+import gde.log.MetricEvents.SerialFrame;
 import gde.ui.DataExplorer;
 
 /**
@@ -209,7 +210,10 @@ public class DeviceCommPort implements IDeviceCommPort {
 	 * @see gde.serial.IDeviceCommPort#read(byte[], int)
 	 */
 	public byte[] read(byte[] readBuffer, int timeout_msec) throws IOException, TimeOutException {
-		return this.port.read(readBuffer, timeout_msec);
+		SerialFrame event = SerialFrame.start(this.deviceConfig.getPort());
+		byte[] frame = this.port.read(readBuffer, timeout_msec);
+		event.stop(frame.length);
+		return frame;
 	}
 
 	/**
@@ -222,28 +226,40 @@ public class DeviceCommPort implements IDeviceCommPort {
 	 * @throws TimeOutException
 	 */
 	public synchronized byte[] read(byte[] readBuffer, int timeout_msec, boolean checkFailedQuery) throws IOException, FailedQueryException, TimeOutException {
-		return this.port.read(readBuffer, timeout_msec, checkFailedQuery);
+		SerialFrame event = SerialFrame.start(this.deviceConfig.getPort());
+		byte[] frame = this.port.read(readBuffer, timeout_msec, checkFailedQuery);
+		event.stop(frame.length);
+		return frame;
 	}
 
 	/* (non-Javadoc)
 	 * @see gde.serial.IDeviceCommPort#read(byte[], int, int)
 	 */
 	public byte[] read(byte[] readBuffer, int timeout_msec, int stableIndex) throws IOException, TimeOutException {
-		return this.port.read(readBuffer, timeout_msec, stableIndex);
+		SerialFrame event = SerialFrame.start(this.deviceConfig.getPort());
+		byte[] frame = this.port.read(readBuffer, timeout_msec, stableIndex);
+		event.stop(frame.length);
+		return frame;
 	}
 
 	/* (non-Javadoc)
 	 * @see gde.serial.IDeviceCommPort#read(byte[], int, int)
 	 */
 	public byte[] read(byte[] readBuffer, int timeout_msec, int stableIndex, int minCountBytes) throws IOException, TimeOutException {
-		return this.port.read(readBuffer, timeout_msec, stableIndex, minCountBytes);
+		SerialFrame event = SerialFrame.start(this.deviceConfig.getPort());
+		byte[] frame = this.port.read(readBuffer, timeout_msec, stableIndex, minCountBytes);
+		event.stop(frame.length);
+		return frame;
 	}
 
 	/* (non-Javadoc)
 	 * @see gde.serial.IDeviceCommPort#read(byte[], int, java.util.Vector)
 	 */
 	public byte[] read(byte[] readBuffer, int timeout_msec, Vector<Long> waitTimes) throws IOException, TimeOutException {
-		return this.port.read(readBuffer, timeout_msec, waitTimes);
+		SerialFrame event = SerialFrame.start(this.deviceConfig.getPort());
+		byte[] frame = this.port.read(readBuffer, timeout_msec, waitTimes);
+		event.stop(frame.length);
+		return frame;
 	}
 
 	/* (non-Javadoc)
@@ -18,6 +18,7 @@
 ****************************************************************************************/
 package gde.comm;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.DataInputStream;
 import java.io.EOFException;
@@ -25,7 +26,6 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.util.Date;
 import java.util.Random;
 import java.util.Set;
 import java.util.StringTokenizer;
@@ -86,6 +86,7 @@ public class DeviceSerialPortSimulatorImpl extends DeviceCommPort implements IDe
 	final Settings			simSettings;
 	final int						sleepTime_ms;
 	final boolean				isTimeStepConstant;
+	final Random				randomGenerator			= new Random();
 
 	/**
 	 * constructor to create a communications port simulation instance
@@ -131,33 +132,7 @@ public class DeviceSerialPortSimulatorImpl extends DeviceCommPort implements IDe
 							String openFilePath = (openFileDialog.getFilterPath() + GDE.STRING_FILE_SEPARATOR_UNIX + openFileDialog.getFileName()).replace(GDE.CHAR_FILE_SEPARATOR_WINDOWS, GDE.CHAR_FILE_SEPARATOR_UNIX);
 
 							try {
-								if (openFilePath.toLowerCase().endsWith(GDE.FILE_ENDING_OSD)) {
-									fileType = GDE.FILE_ENDING_STAR_OSD;
-									//add implementation to use *.osd files as simulation data input
-								}
-								else if (openFilePath.toLowerCase().endsWith(GDE.FILE_ENDING_LOV)) {
-									fileType = GDE.FILE_ENDING_STAR_LOV;
-									data_in = new DataInputStream(new FileInputStream(new File(openFilePath)));
-									LogViewReader.readHeader(data_in);
-									switch (simApplication.getActiveDevice().getName()) {
-									case "Robbe PowerPeak IV":
-										data_in.skip(6); //data start offset
-										break;
-									default:
-										break;
-									}
-								}
-								else if (openFilePath.toLowerCase().endsWith(GDE.FILE_ENDING_DOT_TXT)) {
-									fileType = GDE.FILE_ENDING_STAR_TXT;
-									txt_in = new BufferedReader(new InputStreamReader(new FileInputStream(openFilePath), "ISO-8859-1")); //$NON-NLS-1$
-									txt_in.read();
-								}
-								else if (openFilePath.toLowerCase().endsWith(GDE.FILE_ENDING_DOT_LOG)) {
-									fileType = GDE.FILE_ENDING_STAR_LOG;
-									txt_in = new BufferedReader(new InputStreamReader(new FileInputStream(openFilePath), "ISO-8859-1")); //$NON-NLS-1$
-								}
-								else
-									simApplication.openMessageDialog(Messages.getString(MessageIds.GDE_MSGI0008) + openFilePath);
+								openInputFile(openFilePath);
 							}
 							catch (Exception e) {
 								log.log(Level.SEVERE, e.getMessage(), e);
@@ -175,6 +150,68 @@ public class DeviceSerialPortSimulatorImpl extends DeviceCommPort implements IDe
 		return null;
 	}
 
+	/**
+	 * open the simulation input file without user interaction, e.g. for a load test with many simulated ports
+	 * @param filePath the *.lov, *.txt, *.log, *.csv or *.bin file used as simulation data input
+	 * @throws IOException if the file could not be opened or the *.lov header is not supported
+	 */
+	public void open(String filePath) throws IOException {
+		try {
+			openInputFile(filePath.replace(GDE.CHAR_FILE_SEPARATOR_WINDOWS, GDE.CHAR_FILE_SEPARATOR_UNIX));
+		}
+		catch (IOException e) {
+			throw e;
+		}
+		catch (Exception e) {
+			throw new IOException(e.getMessage(), e);
+		}
+		this.isConnected = this.data_in != null || this.txt_in != null;
+		if (!this.isConnected) throw new IOException(Messages.getString(MessageIds.GDE_MSGI0008) + filePath);
+	}
+
+	/**
+	 * open the input stream according the file type
+	 * @param openFilePath
+	 * @throws Exception
+	 */
+	void openInputFile(String openFilePath) throws Exception {
+		if (openFilePath.toLowerCase().endsWith(GDE.FILE_ENDING_OSD)) {
+			fileType = GDE.FILE_ENDING_STAR_OSD;
+			//add implementation to use *.osd files as simulation data input
+		}
+		else if (openFilePath.toLowerCase().endsWith(GDE.FILE_ENDING_LOV)) {
+			fileType = GDE.FILE_ENDING_STAR_LOV;
+			data_in = new DataInputStream(new BufferedInputStream(new FileInputStream(new File(openFilePath))));
+			LogViewReader.readHeader(data_in);
+			switch ((this.simDevice != null ? this.simDevice : this.simApplication.getActiveDevice()).getName()) {
+			case "Robbe PowerPeak IV":
+				data_in.skip(6); //data start offset
+				break;
+			default:
+				break;
+			}
+		}
+		else if (openFilePath.toLowerCase().endsWith(GDE.FILE_ENDING_DOT_TXT)) {
+			fileType = GDE.FILE_ENDING_STAR_TXT;
+			txt_in = new BufferedReader(new InputStreamReader(new FileInputStream(openFilePath), "ISO-8859-1")); //$NON-NLS-1$
+			txt_in.read();
+		}
+		else if (openFilePath.toLowerCase().endsWith(GDE.FILE_ENDING_DOT_CSV)) { // line by line as *.txt
+			fileType = GDE.FILE_ENDING_STAR_TXT;
+			txt_in = new BufferedReader(new InputStreamReader(new FileInputStream(openFilePath), "ISO-8859-1")); //$NON-NLS-1$
+		}
+		else if (openFilePath.toLowerCase().endsWith(GDE.FILE_ENDING_DOT_LOG)) {
+			fileType = GDE.FILE_ENDING_STAR_LOG;
+			txt_in = new BufferedReader(new InputStreamReader(new FileInputStream(openFilePath), "ISO-8859-1")); //$NON-NLS-1$
+		}
+		else if (openFilePath.toLowerCase().endsWith(GDE.FILE_ENDING_DOT_BIN)) { // raw data blocks of the read buffer size
+			fileType = GDE.FILE_ENDING_STAR_BIN;
+			data_in = new DataInputStream(new BufferedInputStream(new FileInputStream(new File(openFilePath))));
+		}
+		else if (this.simApplication != null)
+			simApplication.openMessageDialog(Messages.getString(MessageIds.GDE_MSGI0008) + openFilePath);
+	}
+
 	/* (non-Javadoc)
 	 * @see gde.serial.IDeviceSerialPort#close()
 	 */
@@ -230,6 +267,15 @@ public class DeviceSerialPortSimulatorImpl extends DeviceCommPort implements IDe
 					this.close();
 				}
 			}
+			else if (data_in != null && this.fileType.equals(GDE.FILE_ENDING_STAR_BIN)) {
+				try {
+					data_in.readFully(readBuffer);
+				}
+				catch (EOFException e) {
+					readBuffer = new byte[0];
+					this.close();
+				}
+			}
 			else if (txt_in != null) {
 				if (this.fileType.equals(GDE.FILE_ENDING_STAR_TXT)) {
 					StringBuffer sb = new StringBuffer();
@@ -418,11 +464,13 @@ public class DeviceSerialPortSimulatorImpl extends DeviceCommPort implements IDe
 			else if (txt_in != null) {
 				if (this.fileType.equals(GDE.FILE_ENDING_STAR_TXT)) {
 					String line;
-					while ((line = txt_in.readLine()) != null) {
-						if (line.length() >= simDevice.getDataBlockSize(FormatTypes.BYTE)) {
-							readBuffer = (line+"\r\n").getBytes();
-							break;
-						}	
+					while ((line = txt_in.readLine()) != null && line.length() < simDevice.getDataBlockSize(FormatTypes.BYTE))
+						; // skip lines shorter than a data block
+					if (line != null) {
+						readBuffer = (line+"\r\n").getBytes();
+					}
+					else {
+						readBuffer = new byte[0];
 						this.close();
 					}
 				}
@@ -690,16 +738,15 @@ public class DeviceSerialPortSimulatorImpl extends DeviceCommPort implements IDe
 	 */
 	int getWaitTime() {
 		int sleepTime = 0;
-		Random randomGenerator = new Random(new Date().getTime());
     if (this.isTimeStepConstant) {
     	sleepTime = this.sleepTime_ms;
     }
     else {
 			while (sleepTime < this.sleepTime_ms/2 || sleepTime > this.sleepTime_ms*2) {
-				sleepTime = randomGenerator.nextInt(this.sleepTime_ms);
+				sleepTime = this.randomGenerator.nextInt(this.sleepTime_ms);
 			}
 		}
-		log.log(Level.TIME, "sleepTime : " + sleepTime + " ms");
+		if (log.isLoggable(Level.TIME)) log.log(Level.TIME, "sleepTime : " + sleepTime + " ms");
 		return sleepTime;
 	}
 
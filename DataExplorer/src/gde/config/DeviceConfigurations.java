@@ -22,11 +22,11 @@ package gde.config;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -39,9 +39,9 @@ import gde.GDE;
 import gde.device.DeviceConfiguration;
 import gde.device.IDevice;
 import gde.log.Level;
+import gde.log.Metrics;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
-import gde.utils.StringHelper;
 
 /**
  * Provide device lists from used flagged devices and the selected active device.
@@ -99,6 +99,7 @@ public final class DeviceConfigurations {
 	 * Fills the DeviceConfigurations list.
 	 */
 	public synchronized void initialize(Analyzer analyzer) {
+		long startNanoTime = System.nanoTime();
 		String activeDeviceName = analyzer.getSettings().getActiveDevice();
 		Objects.requireNonNull(activeDeviceName);
 
@@ -111,7 +112,8 @@ public final class DeviceConfigurations {
 		//active device configurations collected, now synchronize settings device_use accordingly
 		this.synchronizeDeviceUse();
 		
-		log.log(Level.TIME, "device init time = " + StringHelper.getFormatedTime("ss:SSS", (new Date().getTime() - GDE.StartTime)));
+		Metrics.timer("device.init").recordSince(startNanoTime); //$NON-NLS-1$
+		Metrics.timer("startup.device.init").record(TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - GDE.StartTime)); //$NON-NLS-1$
 	}
 
 	/**
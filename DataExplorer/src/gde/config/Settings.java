@@ -137,6 +137,7 @@ public final class Settings extends Properties {
 	final static String							OBJECT_DESC_SURROUND_BACKGRD		= "object_desciption_surround_backgrd";																														//$NON-NLS-1$
 	final static String							DISPLAY_DENSITY_FONT_CORRECT		= "display_density_font_correction";
 	final static String							KMZ_EXPORT_TIME_STEP_MS					= "kmz_export_time_step_ms";
+	final static String							RECORD_SET_HEAP_BUDGET_MB				= "record_set_heap_budget_mb";
 	public final static String			SKIN_COLOR_SCHEMA								= "skin_color_schema";
 	public final static String			COLOR_SCHEMA_SYSTEM							= "color_schema_system";
 	public final static String			COLOR_SCHEMA_LIGHT							= "color_schema_light";
@@ -784,6 +785,7 @@ public final class Settings extends Properties {
 			writer.write(String.format("%-40s \t=\t %s\n", Settings.GRAPHICS_HEADER_VISIBLE, isGraphicsHeaderVisible())); //$NON-NLS-1$
 			writer.write(String.format("%-40s \t=\t %s\n", Settings.DISPLAY_DENSITY_FONT_CORRECT, getFontDisplayDensityAdaptionFactor())); //$NON-NLS-1$
 			writer.write(String.format("%-40s \t=\t %s\n", Settings.KMZ_EXPORT_TIME_STEP_MS, getKmzExportTimeStep_ms())); //$NON-NLS-1$
+			writer.write(String.format("%-40s \t=\t %s\n", Settings.RECORD_SET_HEAP_BUDGET_MB, getRecordSetHeapBudget_MB())); //$NON-NLS-1$
 
 			writer.write(String.format("%-40s \t=\t %s\n", Settings.GRID_DASH_STYLE, getGridDashStyleAsString())); //$NON-NLS-1$
 			writer.write(String.format("%-40s \t=\t %s\n", Settings.GRID_COMPARE_WINDOW_HOR_TYPE, getGridCompareWindowHorizontalType())); //$NON-NLS-1$
@@ -2586,6 +2588,25 @@ public final class Settings extends Properties {
 		return Integer.valueOf(this.getProperty(Settings.KMZ_EXPORT_TIME_STEP_MS, "500")); //$NON-NLS-1$ ;
 	}
 
+	/**
+	 * set the heap budget in MB for the decoded data of all record sets, 0 = half of the maximum heap size
+	 */
+	public void setRecordSetHeapBudget_MB(int newBudget_MB) {
+		this.setProperty(Settings.RECORD_SET_HEAP_BUDGET_MB, GDE.STRING_EMPTY + newBudget_MB);
+	}
+
+	/**
+	 * @return heap budget in MB for the decoded data of all record sets, 0 = half of the maximum heap size
+	 */
+	public int getRecordSetHeapBudget_MB() {
+		try {
+			return Math.max(0, Integer.parseInt(this.getProperty(Settings.RECORD_SET_HEAP_BUDGET_MB, "0").trim())); //$NON-NLS-1$
+		}
+		catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
 	/**
 	 * set boolean value if the history analysis tabs should be visible
 	 * @param isActive
@@ -560,7 +560,8 @@ public class Channel extends HashMap<String, RecordSet> {
 	 * @param deleteRecordSetName
 	 */
 	public void remove(String deleteRecordSetName) {
-		super.remove(deleteRecordSetName);
+		RecordSet deletedRecordSet = super.remove(deleteRecordSetName);
+		if (deletedRecordSet != null) RecordSetMemoryGovernor.getInstance().removed(deletedRecordSet);
 		if (this.size() == 0) this.activeRecordSet = null;
 		else this.activeRecordSet = this.get(this.getRecordSetNames()[0]);
 	}
@@ -582,6 +583,7 @@ public class Channel extends HashMap<String, RecordSet> {
 		RecordSet newActiveRecordSet = this.get(recordSetKey);
 		if (newActiveRecordSet != null) {
 			this.activeRecordSet = newActiveRecordSet;
+			RecordSetMemoryGovernor.getInstance().touch(newActiveRecordSet);
 		}
 	}
 
@@ -590,6 +592,7 @@ public class Channel extends HashMap<String, RecordSet> {
 	 */
 	public void setActiveRecordSet(RecordSet newActiveRecordSet) {
 		this.activeRecordSet = newActiveRecordSet;
+		if (newActiveRecordSet != null) RecordSetMemoryGovernor.getInstance().touch(newActiveRecordSet);
 	}
 
 	/**
@@ -821,6 +824,7 @@ public class Channel extends HashMap<String, RecordSet> {
 		}
 
 		super.clear();
+		RecordSetMemoryGovernor.getInstance().cleared(this);
 		this.objectKey = GDE.STRING_EMPTY;
 	}
 
@@ -0,0 +1,147 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Formatted rows of a record set for the virtual data table.
+ * Rows are formatted in blocks which are kept in a least recently used cache around the viewport,
+ * the next block in scroll direction is formatted ahead by the prefetch executor.
+ * The cache is keyed by the data index, hence zoom and scope offsets do not invalidate the formatted rows.
+ * @author Winfried Brügmann
+ */
+public class DataTableModel {
+	final static Logger				log					= Logger.getLogger(DataTableModel.class.getName());
+
+	public final static int		BLOCK_SIZE	= 64;
+	public final static int		MAX_BLOCKS	= 32;
+
+	private final RecordSet		recordSet;
+	private final boolean			isAbsolute;
+	private final Executor		prefetchExecutor;
+	private final Map<Integer, String[][]>	blocks			= new LinkedHashMap<Integer, String[][]>(MAX_BLOCKS * 4 / 3 + 1, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, String[][]> eldest) {
+			return size() > MAX_BLOCKS;
+		}
+	};
+
+	private int								dataSize;
+	private int								lastIndex		= -1;
+	private int								pendingBlock	= -1;
+	private volatile boolean	isValid			= true;
+
+	/**
+	 * @param recordSet
+	 * @param isAbsolute false shows timesteps starting with zero
+	 * @param prefetchExecutor executes the formatting of the next block, e.g. deferred on the UI thread
+	 */
+	public DataTableModel(RecordSet recordSet, boolean isAbsolute, Executor prefetchExecutor) {
+		this.recordSet = recordSet;
+		this.isAbsolute = isAbsolute;
+		this.prefetchExecutor = prefetchExecutor;
+		this.dataSize = recordSet.getRecordDataSize(true);
+	}
+
+	/**
+	 * @return true if the model formats the rows of this record set with this time format
+	 */
+	public boolean isModelFor(RecordSet activeRecordSet, boolean isAbsoluteTime) {
+		return this.isValid && this.recordSet == activeRecordSet && this.isAbsolute == isAbsoluteTime;
+	}
+
+	/**
+	 * @param row the table row index, the zoom or scope offset is applied
+	 * @return the formatted values including time
+	 */
+	public synchronized String[] getRow(int row) {
+		int index = this.recordSet.get(0).getIndex(row);
+		checkDataSize();
+
+		int blockIndex = index / BLOCK_SIZE;
+		String[][] block = this.blocks.get(blockIndex);
+		if (block == null) {
+			block = fillBlock(blockIndex);
+		}
+		String[] tableRow = block[index % BLOCK_SIZE];
+		if (tableRow == null) { // block was filled while gathering and did not contain this row
+			tableRow = block[index % BLOCK_SIZE] = this.recordSet.getDataTableRowAt(index, this.isAbsolute);
+		}
+
+		if (this.lastIndex >= 0 && index != this.lastIndex) {
+			prefetch(index > this.lastIndex ? blockIndex + 1 : blockIndex - 1);
+		}
+		this.lastIndex = index;
+		return tableRow;
+	}
+
+	/**
+	 * drop all formatted rows, the model must not be used anymore
+	 */
+	public synchronized void invalidate() {
+		this.isValid = false;
+		this.blocks.clear();
+	}
+
+	/**
+	 * histo transition columns depend on the transitions which are redetermined as long as the record set is gathering
+	 */
+	private void checkDataSize() {
+		int actualDataSize = this.recordSet.getRecordDataSize(true);
+		if (actualDataSize != this.dataSize) {
+			if (this.recordSet.getAnalyzer().getSettings().isHistoActive() && this.recordSet.getAnalyzer().getSettings().isDataTableTransitions()) {
+				this.blocks.clear();
+			}
+			this.dataSize = actualDataSize;
+		}
+	}
+
+	private void prefetch(int blockIndex) {
+		if (blockIndex < 0 || blockIndex * BLOCK_SIZE >= this.dataSize || blockIndex == this.pendingBlock || this.blocks.containsKey(blockIndex)) return;
+
+		this.pendingBlock = blockIndex;
+		this.prefetchExecutor.execute(() -> {
+			synchronized (this) {
+				if (this.isValid && !this.blocks.containsKey(blockIndex)) {
+					fillBlock(blockIndex);
+				}
+				if (this.pendingBlock == blockIndex) this.pendingBlock = -1;
+			}
+		});
+	}
+
+	private String[][] fillBlock(int blockIndex) {
+		String[][] block = new String[BLOCK_SIZE][];
+		int startIndex = blockIndex * BLOCK_SIZE;
+		int endIndex = Math.min(startIndex + BLOCK_SIZE, this.dataSize);
+		for (int i = startIndex; i < endIndex; i++) {
+			block[i - startIndex] = this.recordSet.getDataTableRowAt(i, this.isAbsolute);
+		}
+		this.blocks.put(blockIndex, block);
+		if (log.isLoggable(Level.FINER)) log.log(Level.FINER, String.format("block %d filled, rows %d..%d", blockIndex, startIndex, endIndex - 1));
+		return block;
+	}
+}
@@ -0,0 +1,251 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.logging.Logger;
+
+import gde.log.Level;
+
+/**
+ * Declarative calculation of the records a device derives from measured records, e.g. capacity, power or energy.
+ * A device declares the formulas once, the evaluation copies the source records into int columns and runs the formula kernels as primitive loops.
+ * Formulas which do not depend on another formula's result are evaluated in parallel for large record sets.
+ * The incremental evaluation calculates the points added since the previous evaluation only, e.g. while gathering live data.
+ * The values are written as raw points, hence the formulas take the record values in the same scale (1000 * value).
+ * @author Winfried Brügmann
+ */
+public class DerivedRecords {
+	final static String	$CLASS_NAME					= DerivedRecords.class.getName();
+	final static Logger	log									= Logger.getLogger($CLASS_NAME);
+
+	/**
+	 * record sets with less data points are evaluated sequentially
+	 */
+	public final static int	PARALLEL_MIN_SIZE	= 1 << 15;
+
+	/**
+	 * primitive loop calculating a derived record
+	 */
+	@FunctionalInterface
+	public interface Kernel {
+		/**
+		 * @param sources the source columns, element j corresponds to the data point index fromIndex + j
+		 * @param target the column to be filled, same length as the source columns
+		 * @param fromIndex the data point index of the first column element
+		 * @param state values kept from the previous incremental evaluation, e.g. the running sum, all zero for a full evaluation
+		 */
+		void apply(int[][] sources, int[] target, int fromIndex, double[] state);
+	}
+
+	/**
+	 * a derived record with its sources and the kernel factory, the factory binds record set dependent parameters like the time step
+	 */
+	static final class Formula {
+		final int															targetOrdinal;
+		final int[]														sourceOrdinals;
+		final Function<RecordSet, Kernel>			kernelFactory;
+		final int															stateSize;
+		final int															index;
+		int																		level;
+
+		Formula(int index, int targetOrdinal, int[] sourceOrdinals, Function<RecordSet, Kernel> kernelFactory, int stateSize) {
+			this.index = index;
+			this.targetOrdinal = targetOrdinal;
+			this.sourceOrdinals = sourceOrdinals;
+			this.kernelFactory = kernelFactory;
+			this.stateSize = stateSize;
+		}
+	}
+
+	/**
+	 * incremental evaluation state of one record set, kept by the record set
+	 */
+	static final class Evaluation {
+		final DerivedRecords	owner;
+		int										evaluatedSize;
+		final double[][]			states;
+
+		Evaluation(DerivedRecords owner, List<Formula> formulas) {
+			this.owner = owner;
+			this.states = new double[formulas.size()][];
+			for (int i = 0; i < this.states.length; i++) {
+				this.states[i] = new double[formulas.get(i).stateSize];
+			}
+		}
+	}
+
+	private final List<Formula>	formulas		= new ArrayList<>();
+	private int									levelCount	= 0;
+
+	/**
+	 * target = sum over the data points 1..i of source * multiplier / divisor, the first point is zero, e.g. capacity from current
+	 * @param multiplier e.g. the average time step in ms
+	 * @param divisor e.g. 3600. for mAh
+	 */
+	public DerivedRecords integrate(int targetOrdinal, int sourceOrdinal, ToDoubleFunction<RecordSet> multiplier, double divisor) {
+		return define(targetOrdinal, recordSet -> {
+			final double factor = multiplier.applyAsDouble(recordSet);
+			return (sources, target, fromIndex, state) -> {
+				final int[] source = sources[0];
+				double sum = state[0];
+				for (int j = 0; j < target.length; j++) {
+					if (fromIndex + j > 0) sum += (source[j] * factor) / divisor;
+					target[j] = (int) sum;
+				}
+				state[0] = sum;
+			};
+		}, 1, sourceOrdinal);
+	}
+
+	/**
+	 * target = sum over the data points 1..i of (a / scale) * (b / scale) * multiplier / divisor, the first point is zero, e.g. energy from voltage and current
+	 * @param scale e.g. 1000. to calculate with the record values
+	 * @param multiplier e.g. the average time step in ms
+	 * @param divisor e.g. 3600.
+	 */
+	public DerivedRecords integrateProduct(int targetOrdinal, int sourceOrdinalA, int sourceOrdinalB, double scale, ToDoubleFunction<RecordSet> multiplier, double divisor) {
+		return define(targetOrdinal, recordSet -> {
+			final double factor = multiplier.applyAsDouble(recordSet) / divisor;
+			return (sources, target, fromIndex, state) -> {
+				final int[] a = sources[0], b = sources[1];
+				double sum = state[0];
+				for (int j = 0; j < target.length; j++) {
+					if (fromIndex + j > 0) sum += (a[j] / scale) * (b[j] / scale) * factor;
+					target[j] = (int) sum;
+				}
+				state[0] = sum;
+			};
+		}, 1, sourceOrdinalA, sourceOrdinalB);
+	}
+
+	/**
+	 * target = a * b / divisor, e.g. power from voltage and current
+	 */
+	public DerivedRecords product(int targetOrdinal, int sourceOrdinalA, int sourceOrdinalB, double divisor) {
+		return define(targetOrdinal, recordSet -> (sources, target, fromIndex, state) -> {
+			final int[] a = sources[0], b = sources[1];
+			for (int j = 0; j < target.length; j++) {
+				target[j] = (int) (1.0 * a[j] * b[j] / divisor);
+			}
+		}, 0, sourceOrdinalA, sourceOrdinalB);
+	}
+
+	/**
+	 * target = source / divisor, e.g. the voltage per cell
+	 * @param divisor e.g. the number of cells taken from a record property
+	 */
+	public DerivedRecords ratio(int targetOrdinal, int sourceOrdinal, ToDoubleFunction<RecordSet> divisor) {
+		return define(targetOrdinal, recordSet -> {
+			final double value = divisor.applyAsDouble(recordSet);
+			return (sources, target, fromIndex, state) -> {
+				final int[] source = sources[0];
+				for (int j = 0; j < target.length; j++) {
+					target[j] = (int) (source[j] / value);
+				}
+			};
+		}, 0, sourceOrdinal);
+	}
+
+	/**
+	 * declare a device specific formula, formulas using a derived record as source must be declared after the formula of this record
+	 * @param targetOrdinal the record ordinal of the derived record
+	 * @param kernelFactory creates the kernel with the record set dependent parameters bound
+	 * @param stateSize the number of values the kernel keeps between incremental evaluations
+	 * @param sourceOrdinals the record ordinals of the kernel's source columns
+	 * @return this for chaining
+	 */
+	public synchronized DerivedRecords define(int targetOrdinal, Function<RecordSet, Kernel> kernelFactory, int stateSize, int... sourceOrdinals) {
+		Formula formula = new Formula(this.formulas.size(), targetOrdinal, sourceOrdinals, kernelFactory, stateSize);
+		for (Formula other : this.formulas) { // a formula depending on a derived record is evaluated after it
+			for (int sourceOrdinal : sourceOrdinals) {
+				if (other.targetOrdinal == sourceOrdinal) formula.level = Math.max(formula.level, other.level + 1);
+			}
+		}
+		this.formulas.add(formula);
+		this.levelCount = Math.max(this.levelCount, formula.level + 1);
+		return this;
+	}
+
+	/**
+	 * calculate all derived records from scratch
+	 */
+	public void evaluate(RecordSet recordSet) {
+		evaluate(recordSet, false);
+	}
+
+	/**
+	 * @param isIncremental true calculates the data points added since the previous evaluation of this record set only
+	 */
+	public void evaluate(RecordSet recordSet, boolean isIncremental) {
+		long startNanos = System.nanoTime();
+		synchronized (recordSet) {
+			Evaluation evaluation = recordSet.derivedRecordsEvaluation;
+			if (!isIncremental || evaluation == null || evaluation.owner != this || evaluation.states.length != this.formulas.size()) {
+				recordSet.derivedRecordsEvaluation = evaluation = new Evaluation(this, this.formulas);
+			}
+
+			int toIndex = Integer.MAX_VALUE;
+			for (Formula formula : this.formulas) {
+				for (int sourceOrdinal : formula.sourceOrdinals) {
+					toIndex = Math.min(toIndex, recordSet.get(sourceOrdinal).realSize());
+				}
+			}
+			int fromIndex = evaluation.evaluatedSize;
+			if (toIndex == Integer.MAX_VALUE || fromIndex > toIndex) { // no formulas or the record set was reduced
+				fromIndex = 0;
+				toIndex = toIndex == Integer.MAX_VALUE ? 0 : toIndex;
+				for (double[] state : evaluation.states) {
+					Arrays.fill(state, 0.);
+				}
+			}
+			if (fromIndex == toIndex) return;
+
+			final Evaluation finalEvaluation = evaluation;
+			final int from = fromIndex, to = toIndex;
+			boolean isParallel = to - from >= PARALLEL_MIN_SIZE;
+			for (int level = 0; level < this.levelCount; level++) {
+				final int currentLevel = level;
+				if (isParallel)
+					this.formulas.parallelStream().filter(f -> f.level == currentLevel).forEach(f -> apply(recordSet, f, finalEvaluation, from, to));
+				else
+					this.formulas.stream().filter(f -> f.level == currentLevel).forEach(f -> apply(recordSet, f, finalEvaluation, from, to));
+			}
+			evaluation.evaluatedSize = to;
+			if (log.isLoggable(Level.FINE)) log.log(Level.FINE, String.format("%s %d..%d %d formulas in %,d us", recordSet.getName(), from, to, this.formulas.size(), (System.nanoTime() - startNanos) / 1000)); //$NON-NLS-1$
+		}
+	}
+
+	private void apply(RecordSet recordSet, Formula formula, Evaluation evaluation, int fromIndex, int toIndex) {
+		int[][] sources = new int[formula.sourceOrdinals.length][];
+		for (int i = 0; i < sources.length; i++) {
+			sources[i] = recordSet.get(formula.sourceOrdinals[i]).getRawPoints(fromIndex, toIndex);
+		}
+		int[] target = new int[toIndex - fromIndex];
+		formula.kernelFactory.apply(recordSet).apply(sources, target, fromIndex, evaluation.states[formula.index]);
+
+		Record record = recordSet.get(formula.targetOrdinal);
+		if (fromIndex == 0) record.clear();
+		record.setRawPoints(fromIndex, target);
+	}
+}
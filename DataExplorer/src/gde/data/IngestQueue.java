@@ -0,0 +1,300 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.data;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import gde.GDE;
+import gde.exception.DataInconsitsentException;
+import gde.log.Level;
+import gde.messages.MessageIds;
+import gde.messages.Messages;
+import gde.ui.DataExplorer;
+
+/**
+ * Single producer / single consumer ring buffer between a device gatherer thread and its record set.
+ * The gatherer thread copies the converted points into a pre-allocated slot without taking any lock,
+ * the display thread drains all pending slots as one batch into the record set right before the windows get refreshed.
+ * If the ring buffer runs full the producer drains it by itself, so device reads are never dropped.
+ * Without UI the points are applied immediately.
+ * @author Winfried Brügmann
+ */
+public class IngestQueue {
+	final static String						$CLASS_NAME				= IngestQueue.class.getName();
+	final static Logger						log								= Logger.getLogger($CLASS_NAME);
+
+	public final static int				DEFAULT_CAPACITY	= 1024;
+
+	private final static byte			POINTS						= 0;
+	private final static byte			POINTS_TIME				= 1;
+	private final static byte			NONE_CALC					= 2;
+	private final static byte			NONE_CALC_TIME		= 3;
+
+	private final RecordSet				recordSet;
+	private final int							mask;
+	private final int[][]					rows;
+	private final double[]				times_ms;
+	private final byte[]					modes;
+
+	/**
+	 * next slot to be written, owned by the producer
+	 */
+	private final AtomicLong			tail							= new AtomicLong();
+	/**
+	 * next slot to be read, owned by the consumer
+	 */
+	private final AtomicLong			head							= new AtomicLong();
+	private final AtomicBoolean		isDrainRequested	= new AtomicBoolean();
+
+	private final AtomicLong			drainedCount			= new AtomicLong();
+	private final AtomicLong			batchCount				= new AtomicLong();
+	private final AtomicLong			overflowCount			= new AtomicLong();
+	private final AtomicLong			failedCount				= new AtomicLong();
+	private volatile int					maxBacklog				= 0;
+	private volatile boolean			isOpen						= false;																// live gathering ongoing
+	private volatile long					firstOfferNanos		= 0;
+	private volatile Consumer<IngestQueue>	drainRequester	= null;
+
+	/**
+	 * @param recordSet the consumer of the queued points
+	 * @param capacity is rounded up to the next power of two
+	 */
+	public IngestQueue(RecordSet recordSet, int capacity) {
+		this.recordSet = recordSet;
+		int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+		this.mask = size - 1;
+		this.rows = new int[size][];
+		this.times_ms = new double[size];
+		this.modes = new byte[size];
+	}
+
+	/**
+	 * enqueue a series of points for all records of the record set
+	 * @param points as int[], where the length must fit records.size()
+	 * @throws DataInconsitsentException
+	 */
+	public void addPoints(int[] points) throws DataInconsitsentException {
+		if (points.length != this.recordSet.size())
+			throw new DataInconsitsentException(Messages.getString(MessageIds.GDE_MSGE0035, new Object[] { this.getClass().getSimpleName(), "addPoints", points.length, this.recordSet.size() })); //$NON-NLS-1$
+		offer(points, 0., POINTS);
+	}
+
+	/**
+	 * enqueue a series of points for all records of the record set
+	 * @param points as int[], where the length must fit records.size()
+	 * @param time_ms
+	 * @throws DataInconsitsentException
+	 */
+	public void addPoints(int[] points, double time_ms) throws DataInconsitsentException {
+		if (points.length != this.recordSet.size())
+			throw new DataInconsitsentException(Messages.getString(MessageIds.GDE_MSGE0035, new Object[] { this.getClass().getSimpleName(), "addPoints", points.length, this.recordSet.size() })); //$NON-NLS-1$
+		offer(points, time_ms, POINTS_TIME);
+	}
+
+	/**
+	 * enqueue a series of points for the none calculation records (records active or inactive)
+	 * @param points as int[], where the length must fit the none calculation records
+	 * @throws DataInconsitsentException
+	 */
+	public void addNoneCalculationRecordsPoints(int[] points) throws DataInconsitsentException {
+		if (points.length > this.recordSet.getNoneCalculationRecordNames().length)
+			throw new DataInconsitsentException(Messages.getString(MessageIds.GDE_MSGE0036, new Object[] { this.getClass().getSimpleName(), "addNoneCalculationRecordsPoints" })); //$NON-NLS-1$
+		offer(points, 0., NONE_CALC);
+	}
+
+	/**
+	 * enqueue a series of points for the none calculation records (records active or inactive)
+	 * @param points as int[], where the length must fit the none calculation records
+	 * @param time_ms
+	 * @throws DataInconsitsentException
+	 */
+	public void addNoneCalculationRecordsPoints(int[] points, double time_ms) throws DataInconsitsentException {
+		if (points.length > this.recordSet.getNoneCalculationRecordNames().length)
+			throw new DataInconsitsentException(Messages.getString(MessageIds.GDE_MSGE0036, new Object[] { this.getClass().getSimpleName(), "addNoneCalculationRecordsPoints" })); //$NON-NLS-1$
+		offer(points, time_ms, NONE_CALC_TIME);
+	}
+
+	/**
+	 * copy the points into the next free slot, called by the producer thread only
+	 */
+	private void offer(int[] points, double time_ms, byte mode) {
+		if (this.firstOfferNanos == 0) this.firstOfferNanos = System.nanoTime();
+		if (!this.isOpen) this.isOpen = true;
+		long t = this.tail.getPlain();
+		if (t - this.head.getAcquire() > this.mask) {
+			this.overflowCount.incrementAndGet();
+			drain(); // consumer did not keep up, apply the backlog on the gatherer thread
+		}
+		int slot = (int) (t & this.mask);
+		int[] row = this.rows[slot];
+		if (row == null || row.length != points.length) this.rows[slot] = row = new int[points.length];
+		System.arraycopy(points, 0, row, 0, points.length);
+		this.times_ms[slot] = time_ms;
+		this.modes[slot] = mode;
+		this.tail.setRelease(t + 1);
+
+		int backlog = (int) (t + 1 - this.head.getAcquire());
+		if (backlog > this.maxBacklog) this.maxBacklog = backlog;
+
+		if (this.isDrainRequested.compareAndSet(false, true)) {
+			Consumer<IngestQueue> requester = this.drainRequester;
+			if (requester != null) {
+				requester.accept(this);
+			} else if (GDE.isWithUi() && DataExplorer.getInstance().getRefreshScheduler() != null) {
+				DataExplorer.getInstance().getRefreshScheduler().requestDrain(this);
+			} else {
+				drainRequested();
+			}
+		}
+	}
+
+	/**
+	 * route the drain requests to a consumer other than the refresh scheduler, e.g. the simulated display thread of a load test
+	 * @param requester receives the queue once per pending batch and has to call {@link #drainRequested()}, null restores the default
+	 */
+	public void setDrainRequester(Consumer<IngestQueue> requester) {
+		this.drainRequester = requester;
+	}
+
+	/**
+	 * drain on behalf of a previous drain request
+	 */
+	public void drainRequested() {
+		this.isDrainRequested.set(false); // subsequent offers will request again
+		drain();
+	}
+
+	/**
+	 * apply all pending points as one batch to the record set.
+	 * @return the number of points series applied
+	 */
+	public synchronized int drain() {
+		long h = this.head.getPlain();
+		long t = this.tail.getAcquire();
+		if (h == t) return 0;
+
+		synchronized (this.recordSet) {
+			for (long i = h; i < t; i++) {
+				int slot = (int) (i & this.mask);
+				try {
+					switch (this.modes[slot]) {
+					case POINTS_TIME:
+						this.recordSet.addPoints(this.rows[slot], this.times_ms[slot]);
+						break;
+					case NONE_CALC:
+						this.recordSet.addNoneCalculationRecordsPoints(this.rows[slot]);
+						break;
+					case NONE_CALC_TIME:
+						this.recordSet.addNoneCalculationRecordsPoints(this.rows[slot], this.times_ms[slot]);
+						break;
+					case POINTS:
+					default:
+						this.recordSet.addPoints(this.rows[slot]);
+						break;
+					}
+				} catch (DataInconsitsentException e) {
+					this.failedCount.incrementAndGet();
+					log.log(Level.WARNING, e.getMessage(), e);
+				}
+			}
+		}
+		this.head.setRelease(t);
+		this.drainedCount.addAndGet(t - h);
+		this.batchCount.incrementAndGet();
+		if (log.isLoggable(Level.FINER)) log.log(Level.FINER, this.toString());
+		return (int) (t - h);
+	}
+
+	/**
+	 * apply all pending points and mark the live gathering as finished, a subsequent offer will re-open the queue
+	 */
+	public synchronized void close() {
+		drain();
+		this.isOpen = false;
+	}
+
+	/**
+	 * @return true if points were offered since creation or the last close
+	 */
+	public boolean isOpen() {
+		return this.isOpen;
+	}
+
+	/**
+	 * drop all pending points, e.g. if the record set gets cleared
+	 */
+	public synchronized void discard() {
+		this.head.setRelease(this.tail.getAcquire());
+	}
+
+	/**
+	 * @return the number of points series waiting to be applied to the record set
+	 */
+	public int getBacklog() {
+		return (int) (this.tail.getAcquire() - this.head.getAcquire());
+	}
+
+	public int getMaxBacklog() {
+		return this.maxBacklog;
+	}
+
+	/**
+	 * @return the number of points series offered since creation, maintained by the producer thread and therefore not behind like the record size
+	 */
+	public long getOfferedCount() {
+		return this.tail.getAcquire();
+	}
+
+	public long getDrainedCount() {
+		return this.drainedCount.get();
+	}
+
+	/**
+	 * @return the number of drains executed by the producer because the consumer did not keep up
+	 */
+	public long getOverflowCount() {
+		return this.overflowCount.get();
+	}
+
+	/**
+	 * @return the number of points series rejected by the record set while draining
+	 */
+	public long getFailedCount() {
+		return this.failedCount.get();
+	}
+
+	/**
+	 * @return the points series per second offered since the first offer
+	 */
+	public double getIngestRate() {
+		long elapsedNanos = System.nanoTime() - this.firstOfferNanos;
+		return this.firstOfferNanos == 0 || elapsedNanos <= 0 ? 0. : getOfferedCount() * 1.e9 / elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		long batches = this.batchCount.get();
+		return String.format("IngestQueue %s [offered=%d, drained=%d, batches=%d, avgBatch=%.1f, backlog=%d, maxBacklog=%d, overflows=%d, failed=%d, rate=%.1f/s]", //$NON-NLS-1$
+				this.recordSet.getName(), getOfferedCount(), getDrainedCount(), batches, batches > 0 ? (double) getDrainedCount() / batches : 0., getBacklog(), this.maxBacklog, this.overflowCount.get(), this.failedCount.get(), getIngestRate());
+	}
+
+}
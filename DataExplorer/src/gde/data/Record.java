@@ -364,11 +364,12 @@ public class Record extends AbstractRecord implements IRecord {
 	}
 
 	/**
-	 * copy constructor
+	 * copy constructor, the points are taken by one block copy of the shared point instances
 	 */
 	private Record(Record record) {
-		super(record);
+		super(record.realSize());
 		if (log.isLoggable(Level.FINE)) log.log(Level.FINE, record.name + " Record(Record)"); //$NON-NLS-1$
+		this.copyRange(record, 0, record.realSize());
 		this.parent = record.parent;
 		this.ordinal = record.ordinal;
 		this.name = record.name;
@@ -415,7 +416,6 @@ public class Record extends AbstractRecord implements IRecord {
 	 */
 	@Override
 	public synchronized Record clone() {
-		super.clone();
 		return new Record(this);
 	}
 
@@ -465,13 +465,9 @@ public class Record extends AbstractRecord implements IRecord {
 		this.trimToSize();
 
 		if (isFromBegin) {
-			for (int i = dataIndex; i < record.realSize(); i++) {
-				this.add(record.realGet(i).intValue());
-			}
+			this.addRange(record, dataIndex, record.realSize());
 		} else {
-			for (int i = 0; i < dataIndex; i++) {
-				this.add(record.realGet(i).intValue());
-			}
+			this.addRange(record, 0, dataIndex);
 		}
 
 		if (record.timeStep_ms != null && !record.timeStep_ms.isConstant) { // time step vector must be updated as well
@@ -503,6 +499,62 @@ public class Record extends AbstractRecord implements IRecord {
 		this.keyName = record.keyName;
 	}
 
+	/**
+	 * take the points of the index range of the source record like {@link #add(Integer)} does.
+	 * The point instances are immutable and shared with the source record, the range is copied as one block and
+	 * the min/max values are determined without boxing the points again.
+	 * Current records with current drop smoothing need the point sequence to detect the drops and are added point by point.
+	 * @param record the source record
+	 * @param fromIndex
+	 * @param toIndex exclusive
+	 */
+	private void addRange(Record record, int fromIndex, int toIndex) {
+		synchronized (record) {
+			toIndex = Math.min(toIndex, record.elementCount);
+			if (fromIndex >= toIndex) return;
+
+			if (this.isCurrentRecord && this.device.getCurrentSmoothIndex() != 0) {
+				for (int i = fromIndex; i < toIndex; i++) {
+					this.add(record.realGet(i).intValue());
+				}
+				return;
+			}
+			copyRange(record, fromIndex, toIndex);
+		}
+	}
+
+	/**
+	 * copy the points of the index range of the source record as one block and determine the min/max values, the points are taken as they are
+	 * @param record the source record
+	 * @param fromIndex
+	 * @param toIndex exclusive
+	 */
+	private void copyRange(Record record, int fromIndex, int toIndex) {
+		synchronized (record) {
+			toIndex = Math.min(toIndex, record.elementCount);
+			if (fromIndex >= toIndex) return;
+
+			int length = toIndex - fromIndex;
+			this.ensureCapacity(this.elementCount + length);
+			System.arraycopy(record.elementData, fromIndex, this.elementData, this.elementCount, length);
+			for (int i = this.elementCount; i < this.elementCount + length; i++) {
+				Integer point = (Integer) this.elementData[i];
+				if (point == null) continue;
+				if (i == 0) {
+					this.minValue = this.maxValue = point;
+				} else if (point > this.maxValue) {
+					this.maxValue = point;
+					this.maxValueTimeStampIndex = i;
+				} else if (point < this.minValue) {
+					this.minValue = point;
+					this.minValueTimeStampIndex = i;
+				}
+			}
+			this.elementCount += length;
+			this.modCount++;
+		}
+	}
+
 	/**
 	 * clone method re-writes data points of all records of this record set
 	 * - if isFromBegin == true, the given index is the index where the record starts after this operation
@@ -1163,6 +1215,36 @@ public class Record extends AbstractRecord implements IRecord {
 		}
 	}
 
+	/**
+	 * copy the points without zoom, scope or smoothing, e.g. as source column of a derived record
+	 * @param fromIndex
+	 * @param toIndex exclusive
+	 * @return the points of the index range, null points as zero
+	 */
+	public synchronized int[] getRawPoints(int fromIndex, int toIndex) {
+		int[] points = new int[toIndex - fromIndex];
+		for (int i = fromIndex; i < toIndex; i++) {
+			Object point = this.elementData[i];
+			points[i - fromIndex] = point != null ? (Integer) point : 0;
+		}
+		return points;
+	}
+
+	/**
+	 * write the points of a derived record, existing points are replaced and the remaining points are appended
+	 * @param fromIndex the index of the first point
+	 * @param points
+	 */
+	public synchronized void setRawPoints(int fromIndex, int[] points) {
+		this.ensureCapacity(fromIndex + points.length);
+		for (int j = 0; j < points.length; j++) {
+			if (fromIndex + j < super.size())
+				this.set(fromIndex + j, points[j]);
+			else
+				this.add(points[j]);
+		}
+	}
+
 	/**
 	 * @return all the translated record values including nulls (do not consider zoom, scope, ...)
 	 */
@@ -1561,6 +1643,7 @@ public class Record extends AbstractRecord implements IRecord {
 				} else {
 					this.drawTimeWidth = (this.timeStep_ms != null ? this.timeStep_ms.lastElement() : this.parent.timeStep_ms.lastElement()) / 10.0;
 				}
+				if (this.parent.isLiveGathering() && !this.parent.isCompareSet) this.drawTimeWidth = this.parent.getLiveDrawTimeWidth_ms(this.drawTimeWidth);
 			}
 		}
 		return this.drawTimeWidth; // for this.parent.isZoomMode=true the width was calculated while setting the zoom bounds
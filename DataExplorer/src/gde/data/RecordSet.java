@@ -109,6 +109,8 @@ public final class RecordSet extends AbstractRecordSet {
 			VALUE_GRID_TYPE, VALUE_GRID_LINE_STYLE,																																//
 			VALUE_GRID_COLOR, SMOOTH_AT_CURRENT_DROP, SMOOTH_VOLTAGE_CURVE, VOLTAGE_LIMITS };
 
+	final static double						LIVE_TIME_AXIS_HEADROOM				= .25;																				// live time axis extends by 25 percent if data reach the right border
+
 	int														configuredDisplayable					= 0;																																																										// number of record which must be displayable before table calculation begins
 
 	public final static String		UNSAVED_REASON_GRAPHICS				= Messages.getString(MessageIds.GDE_MSGT0130);
@@ -122,7 +124,11 @@ public final class RecordSet extends AbstractRecordSet {
 	int														changeCounter									= 0;																					// indicates change in general
 
 	private GroupTransitions			histoTransitions;
+	private TransitionTableMapper	transitionTableMapper;
 	private String								recordKeyMeasurement					= GDE.STRING_EMPTY;
+	private double								liveDrawTimeWidth_ms					= 0.;																					// stepwise extended time axis during live gathering
+	private IngestQueue						ingestQueue;																													// live gathering points not yet applied
+	DerivedRecords.Evaluation			derivedRecordsEvaluation;																							// incremental state of the device's derived records
 
 	/**
 	 * record set data buffers according the size of given names array, where
@@ -530,6 +536,93 @@ public final class RecordSet extends AbstractRecordSet {
 			this.addNoneCalculationRecordsPoints(points);
 	}
 
+	/**
+	 * method to add a batch of points column by column to the associated records, e.g. from a parsed file
+	 * @param columns as int[record][index], where the number of columns must fit records.size()
+	 * @param times_ms the time steps, null for record sets with constant time step
+	 * @param count the number of points per column to be added
+	 * @throws DataInconsitsentException
+	 */
+	public synchronized void addPoints(int[][] columns, double[] times_ms, int count) throws DataInconsitsentException {
+		if (columns.length != this.size())
+			throw new DataInconsitsentException(Messages.getString(MessageIds.GDE_MSGE0035, new Object[] { this.getClass().getSimpleName(), "addPoints", columns.length, this.size() })); //$NON-NLS-1$
+		addColumns(this.recordNames, columns, times_ms, count);
+	}
+
+	/**
+	 * method to add a batch of points column by column to none calculation records (records active or inactive)
+	 * @param columns as int[record][index], where the number of columns must fit the none calculation records
+	 * @param times_ms the time steps, null for record sets with constant time step
+	 * @param count the number of points per column to be added
+	 * @throws DataInconsitsentException
+	 */
+	public synchronized void addNoneCalculationRecordsPoints(int[][] columns, double[] times_ms, int count) throws DataInconsitsentException {
+		if (columns.length > this.getNoneCalculationRecordNames().length)
+			throw new DataInconsitsentException(Messages.getString(MessageIds.GDE_MSGE0036, new Object[] { this.getClass().getSimpleName(), "addNoneCalculationRecordsPoints" })); //$NON-NLS-1$
+		addColumns(this.noneCalculationRecords, columns, times_ms, count);
+	}
+
+	private void addColumns(String[] names, int[][] columns, double[] times_ms, int count) {
+		if (times_ms != null) {
+			this.timeStep_ms.ensureCapacity(this.timeStep_ms.size() + count);
+			for (int j = 0; j < count; j++) {
+				this.timeStep_ms.add(times_ms[j]);
+			}
+		}
+		for (int i = 0; i < columns.length; i++) {
+			Record record = this.get(names[i]);
+			record.ensureCapacity(record.realSize() + count);
+			final int[] column = columns[i];
+			for (int j = 0; j < count; j++) {
+				record.add(column[j]);
+			}
+		}
+		this.hasDisplayableData = true;
+	}
+
+	/**
+	 * @return the queue a live gatherer thread uses to add points without competing for the record set lock
+	 */
+	public synchronized IngestQueue getIngestQueue() {
+		if (this.ingestQueue == null) this.ingestQueue = new IngestQueue(this, IngestQueue.DEFAULT_CAPACITY);
+		return this.ingestQueue;
+	}
+
+	/**
+	 * apply points still pending in the ingest queue
+	 */
+	public void drainIngestQueue() {
+		if (this.ingestQueue != null) this.ingestQueue.drain();
+	}
+
+	/**
+	 * apply points still pending in the ingest queue and finish live gathering, call before evaluating the record set after live gathering
+	 */
+	public void closeIngestQueue() {
+		if (this.ingestQueue != null) this.ingestQueue.close();
+		this.liveDrawTimeWidth_ms = 0.;
+	}
+
+	/**
+	 * @return true if a gatherer thread is adding points through the ingest queue
+	 */
+	public boolean isLiveGathering() {
+		return this.ingestQueue != null && this.ingestQueue.isOpen();
+	}
+
+	/**
+	 * The live time axis is extended in steps to keep the time scale stable for a while.
+	 * This enables drawing new points incrementally instead of redrawing all curves with each received frame.
+	 * @param actualTimeWidth_ms is the time width represented by the data points
+	 * @return the time width of the live time axis which is greater or equal the actual time width
+	 */
+	double getLiveDrawTimeWidth_ms(double actualTimeWidth_ms) {
+		if (actualTimeWidth_ms > this.liveDrawTimeWidth_ms) {
+			this.liveDrawTimeWidth_ms = actualTimeWidth_ms * (1. + LIVE_TIME_AXIS_HEADROOM);
+		}
+		return this.liveDrawTimeWidth_ms;
+	}
+
 	/**
 	 * Uses cached transitions if the record data size has not changed (no gathering mode).
 	 * @return the transitions identified for this recordset
@@ -550,13 +643,23 @@ public final class RecordSet extends AbstractRecordSet {
 	 * @return formatted values as string array including time
 	 */
 	public String[] getDataTableRow(int index, boolean isAbsolute) {
-		index = this.get(0).getIndex(index);
+		return getDataTableRowAt(this.get(0).getIndex(index), isAbsolute);
+	}
+
+	/**
+	 * get all calculated and formated data table points of a given data index, zoom or scope offset is not applied.
+	 * @param index of the data points in the records
+	 * @param isAbsolute false shows timesteps starting with zero
+	 * @return formatted values as string array including time
+	 */
+	public String[] getDataTableRowAt(int index, boolean isAbsolute) {
 		String[] dataTableRow = new String[this.size() + 1]; // add time column
 		dataTableRow[0] = this.getFormatedTime_sec(index, isAbsolute);
 		this.device.prepareDataTableRow(this, dataTableRow, index);
 
 		if (this.analyzer.getSettings().isHistoActive() && this.analyzer.getSettings().isDataTableTransitions()) {
-			String[] rowWithSettlements = new TransitionTableMapper(this, this.analyzer).defineRowWithSettlements(index, dataTableRow);
+			if (this.transitionTableMapper == null) this.transitionTableMapper = new TransitionTableMapper(this, this.analyzer);
+			String[] rowWithSettlements = this.transitionTableMapper.defineRowWithSettlements(index, dataTableRow);
 			return rowWithSettlements;
 		} else
 			return dataTableRow;
@@ -869,6 +972,7 @@ public final class RecordSet extends AbstractRecordSet {
 	 */
 	@Override
 	public void clear() {
+		if (this.ingestQueue != null) this.ingestQueue.discard();
 		super.clear();
 		this.recordNames = new String[0];
 		this.timeStep_ms = null;
@@ -1860,6 +1964,23 @@ public final class RecordSet extends AbstractRecordSet {
 		this.hasDisplayableData = enable;
 	}
 
+	/**
+	 * release the data points to get back the header only state after opening the file, the data is reloaded from file on next use.
+	 * a constant time step is part of the header and is kept.
+	 */
+	void releaseFileData() {
+		if (this.timeStep_ms != null && !this.timeStep_ms.isConstant) {
+			this.timeStep_ms.clear();
+			this.timeStep_ms.trimToSize();
+		}
+		for (Record record : this.getValues()) {
+			record.clear();
+			record.trimToSize();
+		}
+		this.hasDisplayableData = false;
+		this.isRecalculation = true;
+	}
+
 	/**
 	 * load data from file
 	 */
@@ -1869,6 +1990,7 @@ public final class RecordSet extends AbstractRecordSet {
 				if (fullQualifiedFileName.endsWith(GDE.FILE_ENDING_OSD))
 					OsdReaderWriter.readRecordSetsData(this, fullQualifiedFileName, doShowProgress);
 				else if (fullQualifiedFileName.endsWith(GDE.FILE_ENDING_LOV)) LogViewReader.readRecordSetsData(this, fullQualifiedFileName, doShowProgress);
+				if (this.hasDisplayableData && this.parent != null) RecordSetMemoryGovernor.getInstance().loaded(this, fullQualifiedFileName);
 			}
 		} catch (Exception e) {
 			log.log(Level.SEVERE, e.getMessage(), e);
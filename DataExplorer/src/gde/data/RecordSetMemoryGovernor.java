@@ -0,0 +1,207 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.data;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import gde.config.Settings;
+import gde.device.ChannelTypes;
+import gde.log.Level;
+
+/**
+ * Heap budget for the decoded data of the record sets loaded from file across all channels.
+ * Record sets are registered as soon as their data is loaded from file, if the estimated size of all decoded data exceeds
+ * the budget the least recently used record sets are reset to the header only state, like after opening the file.
+ * A record set is evicted only if it is not the active record set of its channel, is saved and still belongs to the file
+ * it was loaded from, the next switch to the record set reloads its data from file.
+ * The channel drops the record sets it removes or clears, so the governor does not keep them reachable.
+ * @author Winfried Brügmann
+ */
+public final class RecordSetMemoryGovernor {
+	final static String											$CLASS_NAME		= RecordSetMemoryGovernor.class.getName();
+	final static Logger											log						= Logger.getLogger($CLASS_NAME);
+
+	/**
+	 * estimated heap bytes of a decoded point, compressed reference and boxed value
+	 */
+	final static int												POINT_BYTES		= 20;
+
+	private static RecordSetMemoryGovernor	instance			= null;
+
+	/**
+	 * record sets are hash maps of their records, they are tracked by identity
+	 */
+	private final Map<RecordSet, Entry>			entries				= new IdentityHashMap<>();
+	private long														accessCounter	= 0;
+	private long														evictedCount	= 0;
+	private int															suspendCount	= 0;
+
+	private static final class Entry {
+		final String	filePath;
+		long					lastAccess;
+
+		Entry(String filePath, long lastAccess) {
+			this.filePath = filePath;
+			this.lastAccess = lastAccess;
+		}
+	}
+
+	private RecordSetMemoryGovernor() {
+	}
+
+	public static synchronized RecordSetMemoryGovernor getInstance() {
+		if (RecordSetMemoryGovernor.instance == null) {
+			RecordSetMemoryGovernor.instance = new RecordSetMemoryGovernor();
+		}
+		return RecordSetMemoryGovernor.instance;
+	}
+
+	/**
+	 * register the record set whose data was just loaded from file and evict other record sets if the budget is exceeded
+	 * @param recordSet
+	 * @param filePath the file the record set data pointer refers to
+	 */
+	public synchronized void loaded(RecordSet recordSet, String filePath) {
+		this.entries.put(recordSet, new Entry(filePath, ++this.accessCounter));
+		evict(recordSet);
+	}
+
+	/**
+	 * mark the record set as most recently used
+	 * @param recordSet
+	 */
+	public synchronized void touch(RecordSet recordSet) {
+		Entry entry = this.entries.get(recordSet);
+		if (entry != null) entry.lastAccess = ++this.accessCounter;
+	}
+
+	/**
+	 * forget the record set, e.g. after it was deleted from its channel
+	 * @param recordSet
+	 */
+	public synchronized void removed(RecordSet recordSet) {
+		this.entries.remove(recordSet);
+	}
+
+	/**
+	 * forget all record sets of the channel, e.g. after the channels were cleaned up to open another file
+	 * @param clearedChannel
+	 */
+	public synchronized void cleared(Channel clearedChannel) {
+		this.entries.keySet().removeIf(r -> r.parent == clearedChannel);
+	}
+
+	/**
+	 * suspend eviction, e.g. while the record sets of a channel are written to file
+	 */
+	public synchronized void suspend() {
+		++this.suspendCount;
+	}
+
+	/**
+	 * resume eviction after the channel was written to file, the file data pointers of the written record sets are not valid anymore
+	 * @param writtenChannel if channel type is TYPE_CONFIG the record sets of all channel configurations are written
+	 */
+	public synchronized void resume(Channel writtenChannel) {
+		if (this.suspendCount > 0) --this.suspendCount;
+		boolean isConfig = writtenChannel.getType() == ChannelTypes.TYPE_CONFIG;
+		this.entries.keySet().removeIf(r -> r.parent == writtenChannel || (isConfig && r.parent.getType() == ChannelTypes.TYPE_CONFIG));
+	}
+
+	/**
+	 * evict least recently used record sets until the decoded data fits into the budget
+	 * @param keptRecordSet is never evicted
+	 * @return the number of evicted record sets
+	 */
+	synchronized int evict(RecordSet keptRecordSet) {
+		if (this.suspendCount > 0) return 0;
+
+		long budget_B = getBudget_B();
+		long total_B = 0;
+		List<RecordSet> candidates = new ArrayList<>();
+		for (Iterator<Map.Entry<RecordSet, Entry>> iterator = this.entries.entrySet().iterator(); iterator.hasNext();) {
+			Map.Entry<RecordSet, Entry> mapEntry = iterator.next();
+			RecordSet recordSet = mapEntry.getKey();
+			if (recordSet.parent.get(recordSet.getName()) != recordSet) { // record set was deleted or the channel was cleaned
+				iterator.remove();
+				continue;
+			}
+			if (recordSet.hasDisplayableData()) {
+				total_B += getDecodedSize(recordSet);
+				if (recordSet != keptRecordSet && isEvictable(recordSet, mapEntry.getValue())) candidates.add(recordSet);
+			}
+		}
+		if (total_B <= budget_B) return 0;
+
+		candidates.sort((r1, r2) -> Long.compare(this.entries.get(r1).lastAccess, this.entries.get(r2).lastAccess));
+		int count = 0;
+		for (RecordSet recordSet : candidates) {
+			if (total_B <= budget_B) break;
+			long size_B = getDecodedSize(recordSet);
+			recordSet.releaseFileData();
+			total_B -= size_B;
+			++count;
+			if (log.isLoggable(Level.FINE)) log.log(Level.FINE, String.format("%s evicted %,d bytes", recordSet.getName(), size_B)); //$NON-NLS-1$
+		}
+		this.evictedCount += count;
+		if (total_B > budget_B) log.log(Level.INFO, String.format("decoded data %,d bytes exceeds budget %,d bytes", total_B, budget_B)); //$NON-NLS-1$
+		return count;
+	}
+
+	/**
+	 * @return true if the record set data can be reloaded from file without loss
+	 */
+	private boolean isEvictable(RecordSet recordSet, Entry entry) {
+		return recordSet.parent.getActiveRecordSet() != recordSet && recordSet.isSaved() && recordSet.getFileDataSize() != 0 && recordSet.getFileDataPointer() != 0
+				&& entry.filePath.equals(recordSet.parent.getFullQualifiedFileName());
+	}
+
+	/**
+	 * @return the configured budget or half of the maximum heap size
+	 */
+	long getBudget_B() {
+		int budget_MB = Settings.getInstance().getRecordSetHeapBudget_MB();
+		return budget_MB > 0 ? (long) budget_MB << 20 : Runtime.getRuntime().maxMemory() / 2;
+	}
+
+	/**
+	 * @return the estimated heap bytes of the record set's data points and time steps
+	 */
+	static long getDecodedSize(RecordSet recordSet) {
+		long points = 0;
+		for (Record record : recordSet.getValues()) {
+			points += record.realSize();
+		}
+		TimeSteps timeSteps = recordSet.timeStep_ms;
+		if (timeSteps != null && !timeSteps.isConstant) points += timeSteps.size();
+		return points * POINT_BYTES;
+	}
+
+	/**
+	 * @return the number of record sets evicted since startup
+	 */
+	public synchronized long getEvictedCount() {
+		return this.evictedCount;
+	}
+}
@@ -79,20 +79,22 @@ public class TimeSteps extends Vector<Long> {
 	 * copy constructor
 	 */
 	private TimeSteps(TimeSteps toBeClonedTimeSteps, int index, boolean isFromBegin) {
-		super(toBeClonedTimeSteps);
-		this.clear();
+		super(getCloneCapacity(toBeClonedTimeSteps, index, isFromBegin));
 		if (!(this.isConstant = toBeClonedTimeSteps.isConstant)) {
 			this.startTimeStamp_ms = isFromBegin ? toBeClonedTimeSteps.startTimeStamp_ms + toBeClonedTimeSteps.get(index) / 10 : toBeClonedTimeSteps.startTimeStamp_ms;
 			if (isFromBegin) {
 				long cutOffVal = toBeClonedTimeSteps.get(index);
-				for (int i = index; i < toBeClonedTimeSteps.elementCount; i++) {
-					super.add(toBeClonedTimeSteps.get(i) - cutOffVal);
+				if (cutOffVal == 0 && index == 0) {
+					super.addAll(toBeClonedTimeSteps);
+				}
+				else {
+					for (int i = index; i < toBeClonedTimeSteps.elementCount; i++) {
+						super.add(toBeClonedTimeSteps.get(i) - cutOffVal);
+					}
 				}
 			}
 			else {
-				for (int i = 0; i < index; i++) {
-					this.add(toBeClonedTimeSteps.get(i));
-				}
+				super.addAll(toBeClonedTimeSteps.subList(0, Math.min(index, toBeClonedTimeSteps.elementCount)));
 			}
 		}
 		else {
@@ -102,6 +104,14 @@ public class TimeSteps extends Vector<Long> {
 		if (log.isLoggable(Level.FINER)) log.log(Level.FINER, this.toString());
 	}
 
+	/**
+	 * @return the capacity of the time steps taken by the cut, the source capacity is not carried over
+	 */
+	private static int getCloneCapacity(TimeSteps toBeClonedTimeSteps, int index, boolean isFromBegin) {
+		if (toBeClonedTimeSteps.isConstant) return 5;
+		return Math.max(5, isFromBegin ? toBeClonedTimeSteps.elementCount - index : index);
+	}
+
 	/**
 	 * overwritten clone method
 	 */
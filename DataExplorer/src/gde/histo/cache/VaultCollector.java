@@ -47,9 +47,13 @@ import gde.device.TrailTypes;
 import gde.device.TransitionAmountType;
 import gde.device.TransitionCalculusType;
 import gde.device.TransitionFigureType;
+import gde.exception.DataInconsitsentException;
 import gde.histo.datasources.HistoSet;
 import gde.histo.datasources.SourceDataSet;
 import gde.histo.device.IHistoDevice;
+import gde.histo.device.SinglePassSampler;
+import gde.histo.device.SinglePassSampler.SampleConsumer;
+import gde.histo.device.UniversalSampler;
 import gde.histo.settlements.AmountEvaluator;
 import gde.histo.settlements.CalculusEvaluator;
 import gde.histo.settlements.FigureEvaluator;
@@ -139,8 +143,9 @@ public final class VaultCollector {
 
 	private final Analyzer	analyzer;
 
-	private ExtendedVault		vault;
-	private SourceDataSet		sourceDataSet;
+	private ExtendedVault			vault;
+	private SourceDataSet			sourceDataSet;
+	private SinglePassSampler	readings;
 
 	/**
 	 * Use this for import files.
@@ -193,6 +198,46 @@ public final class VaultCollector {
 		return String.format("logChannelNumber=%d  logRecordSetOrdinal=%d  logObjectKey=%s  startTimestamp=%s  %s", vault.getLogChannelNumber(), vault.getLogRecordSetOrdinal(), vault.getLogObjectKey(), vault.getStartTimeStampFormatted(), vault.getLoadFilePath());
 	}
 
+	/**
+	 * Start the push style collection of the log readings.
+	 * The log reader fills the points array and pushes each reading by {@link #addReading(long)}, so the log file is read only once.
+	 * @param channelNumber is the log channel number
+	 * @param points is the array the log reader fills with the actual reading
+	 * @param recordTimespan_ms log measurement rate
+	 * @param sampleConsumer receives the sampled points, e.g. adds them to the truss record set
+	 */
+	public void openReadings(int channelNumber, int[] points, int recordTimespan_ms, SampleConsumer sampleConsumer) {
+		this.readings = new SinglePassSampler(channelNumber, points, recordTimespan_ms, this.analyzer, sampleConsumer);
+	}
+
+	/**
+	 * End the teaching of the sampler's max/min values which reduce oversampling.
+	 * The log reader calls this after the same number of log data blocks as the former initializing pass.
+	 * @throws DataInconsitsentException from the sample consumer
+	 */
+	public void endTeaching() throws DataInconsitsentException {
+		this.readings.endTeaching();
+	}
+
+	/**
+	 * @param timeStep_ms of the reading held by the points array
+	 * @throws DataInconsitsentException from the sample consumer
+	 */
+	public void addReading(long timeStep_ms) throws DataInconsitsentException {
+		this.readings.capturePoints(timeStep_ms);
+	}
+
+	/**
+	 * End of the log readings.
+	 * @return the sampler which took all readings, e.g. for the readings count
+	 * @throws DataInconsitsentException from the sample consumer
+	 */
+	public UniversalSampler closeReadings() throws DataInconsitsentException {
+		UniversalSampler sampler = this.readings.finish();
+		this.readings = null;
+		return sampler;
+	}
+
 	/**
 	 * Make a full vault from the truss.
 	 * @param recordSet
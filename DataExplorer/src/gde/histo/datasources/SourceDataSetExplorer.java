@@ -21,13 +21,16 @@ package gde.histo.datasources;
 
 import static java.util.logging.Level.INFO;
 
-import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.logging.Level;
@@ -38,6 +41,7 @@ import gde.GDE;
 import gde.histo.cache.VaultCollector;
 import gde.histo.datasources.SourceFolders.DirectoryType;
 import gde.histo.exclusions.ExclusionData;
+import gde.histo.utils.PathUtils;
 import gde.log.Logger;
 
 /**
@@ -55,7 +59,7 @@ public class SourceDataSetExplorer {
 	protected Consumer<String>		signaler	= s -> {};
 
 	private final LongAdder						nonWorkableCount	= new LongAdder();
-	private final List<Path>					excludedFiles			= new ArrayList<>();
+	private final List<Path>					excludedFiles			= Collections.synchronizedList(new ArrayList<>());
 	private final List<SourceDataSet>	sourceDataSets		= new ArrayList<>();
 
 	private List<VaultCollector>			trusses						= new ArrayList<>();
@@ -71,57 +75,126 @@ public class SourceDataSetExplorer {
 	}
 
 	/**
-	 * Explore the source files matching the validated extensions.
-	 * Use file name extension lists and ignore file lists to determine the files required for the data access.
+	 * Source data sets and selected trusses of a directory tree in directory listing order.
 	 */
-	private void listFiles(Map<Path, Set<DirectoryType>> pathsWithPermissions) {
-		sourceDataSets.clear();
-		nonWorkableCount.reset();
-		excludedFiles.clear();
+	private static final class DirectoryListing {
+		final List<SourceDataSet>		sourceDataSets	= new ArrayList<>();
+		final List<VaultCollector>	trusses					= new ArrayList<>();
 
-		int subDirectoryLevelMax = analyzer.getSettings().getSubDirectoryLevelMax();
-		for (Entry<Path, Set<DirectoryType>> entry : pathsWithPermissions.entrySet()) {
-			try {
-				sourceDataSets.addAll(getFileListing(entry.getKey(), subDirectoryLevelMax, entry.getValue()));
-			} catch (FileNotFoundException e) {
-				log.log(Level.SEVERE, e.getMessage(), e);
-			}
+		void addAll(DirectoryListing listing) {
+			sourceDataSets.addAll(listing.sourceDataSets);
+			trusses.addAll(listing.trusses);
 		}
 	}
 
 	/**
-	 * Recursively walk a directory tree.
-	 * @param rootDirectory
-	 * @param recursionDepth specifies the depth of recursion cycles (0 means no recursion)
-	 * @param directoryTypes which the returned files must match (file extension)
-	 * @return the unsorted files matching the {@code extensions} and not discarded as per exclusion list
+	 * Walk a directory with a single attributes read per entry, the subdirectories are walked by forked tasks.
+	 * The listing of a subdirectory takes the position of its directory entry.
 	 */
-	private List<SourceDataSet> getFileListing(Path rootDirectory, int recursionDepth, Set<DirectoryType> directoryTypes) throws FileNotFoundException {
-		signaler.accept("get file names     " + rootDirectory.toString());
-		List<SourceDataSet> sourceDataSets = new ArrayList<>();
-		ExclusionData exclusionData = new ExclusionData(new DirectoryScanner(analyzer).getActiveFolder(), analyzer.getDataAccess());
-		boolean isSuppressMode = analyzer.getSettings().isSuppressMode();
-		for (String fileName : analyzer.getDataAccess().getSourceFolderList(rootDirectory).toArray(String[]::new)) {
-			Path filePath = rootDirectory.resolve(fileName);
-			if (analyzer.getDataAccess().existsSourceFile(filePath)) {
-				SourceDataSet originFile = SourceDataSet.createSourceDataSet(filePath, analyzer);
-				if (originFile != null && originFile.isWorkableFile(directoryTypes, sourceFolders)) {
-					if (!isSuppressMode || !exclusionData.isExcluded(filePath.getFileName().toString())) {
-						sourceDataSets.add(originFile);
-					} else {
-						excludedFiles.add(filePath);
-						log.log(INFO, "file is excluded              ", filePath);
+	private final class DirectoryWalk extends RecursiveTask<DirectoryListing> {
+		private static final long		serialVersionUID	= 5312871496316512379L;
+
+		private final Path					directory;
+		private final int						recursionDepth;
+		private final Set<String>		workableExtentions;
+		private final ExclusionData	exclusionData;
+		private final VaultChecker	vaultChecker;
+
+		/**
+		 * @param recursionDepth specifies the depth of recursion cycles (0 means no recursion)
+		 * @param workableExtentions which the returned files must match
+		 * @param exclusionData discards the excluded files or null if the suppress mode is not active
+		 * @param vaultChecker selects the trusses of the workable files
+		 */
+		DirectoryWalk(Path directory, int recursionDepth, Set<String> workableExtentions, ExclusionData exclusionData, VaultChecker vaultChecker) {
+			this.directory = directory;
+			this.recursionDepth = recursionDepth;
+			this.workableExtentions = workableExtentions;
+			this.exclusionData = exclusionData;
+			this.vaultChecker = vaultChecker;
+		}
+
+		@Override
+		protected DirectoryListing compute() {
+			signaler.accept("get file names     " + directory.toString());
+			List<Object> entries = new ArrayList<>(); // source data sets and forked subdirectory walks
+			try {
+				analyzer.getDataAccess().walkSourceFolder(directory, (filePath, attributes) -> {
+					if (!attributes.isDirectory()) {
+						SourceDataSet originFile = getWorkableFile(filePath);
+						if (originFile != null) entries.add(originFile);
+					} else if (recursionDepth > 0) {
+						entries.add(new DirectoryWalk(filePath, recursionDepth - 1, workableExtentions, exclusionData, vaultChecker).fork());
 					}
+				});
+			} catch (IOException e) {
+				log.log(Level.SEVERE, e.getMessage(), e);
+			}
+
+			// the files of this directory are screened while the subdirectories are walked
+			List<List<VaultCollector>> fileTrusses = entries.parallelStream() //
+					.filter(SourceDataSet.class::isInstance).map(SourceDataSet.class::cast) //
+					.peek(d -> signaler.accept("get file properties    " + d.getActualFile().toString())) //
+					.map(d -> d.getSelectedTrusses(vaultChecker).collect(Collectors.toList())) //
+					.collect(Collectors.toList());
+			DirectoryListing listing = new DirectoryListing();
+			int fileIndex = 0;
+			for (Object entry : entries) {
+				if (entry instanceof SourceDataSet) {
+					listing.sourceDataSets.add((SourceDataSet) entry);
+					listing.trusses.addAll(fileTrusses.get(fileIndex++));
 				} else {
-					nonWorkableCount.increment();
+					listing.addAll(((DirectoryWalk) entry).join());
 				}
-			} else if (recursionDepth > 0) { // recursive walk by calling itself
-				List<SourceDataSet> deeperList = getFileListing(filePath, recursionDepth - 1, directoryTypes);
-				sourceDataSets.addAll(deeperList);
 			}
+			return listing;
+		}
+
+		/**
+		 * @return the source data set or null if the file is not workable or excluded
+		 */
+		private SourceDataSet getWorkableFile(Path filePath) {
+			String fileName = filePath.getFileName().toString();
+			SourceDataSet originFile = workableExtentions.contains(PathUtils.getFileExtention(fileName)) && sourceFolders.isMatchingPath(filePath) //
+					? SourceDataSet.createSourceDataSet(filePath, analyzer) : null;
+			if (originFile == null) {
+				nonWorkableCount.increment();
+				log.log(Level.FINE, "not a workable file           ", filePath);
+				return null;
+			}
+			if (exclusionData != null && exclusionData.isExcluded(fileName)) {
+				excludedFiles.add(filePath);
+				log.log(INFO, "file is excluded              ", filePath);
+				return null;
+			}
+			return originFile;
+		}
+	}
+
+	/**
+	 * Explore the source files matching the validated extensions.
+	 * Use file name extension lists and ignore file lists to determine the files required for the data access.
+	 * The directory trees are walked in parallel, the exclusions are loaded and the extensions are determined once per root directory.
+	 * @param vaultChecker selects the trusses while the files are listed
+	 */
+	private void listFiles(Map<Path, Set<DirectoryType>> pathsWithPermissions, VaultChecker vaultChecker) {
+		sourceDataSets.clear();
+		nonWorkableCount.reset();
+		excludedFiles.clear();
+
+		int subDirectoryLevelMax = analyzer.getSettings().getSubDirectoryLevelMax();
+		ExclusionData exclusionData = analyzer.getSettings().isSuppressMode() //
+				? new ExclusionData(new DirectoryScanner(analyzer).getActiveFolder(), analyzer.getDataAccess()) : null;
+		VaultChecker extentionChecker = new VaultChecker(analyzer);
+		List<VaultCollector> listedTrusses = new ArrayList<>();
+		for (Entry<Path, Set<DirectoryType>> entry : pathsWithPermissions.entrySet()) {
+			Set<String> workableExtentions = extentionChecker.getWorkableExtentions(entry.getValue());
+			DirectoryListing listing = ForkJoinPool.commonPool().invoke(new DirectoryWalk(entry.getKey(), subDirectoryLevelMax, workableExtentions, exclusionData, vaultChecker));
+			sourceDataSets.addAll(listing.sourceDataSets);
+			listedTrusses.addAll(listing.trusses);
 		}
 		signaler.accept("");
-		return sourceDataSets;
+		trusses = listedTrusses;
 	}
 
 	/**
@@ -150,14 +223,17 @@ public class SourceDataSetExplorer {
 	 * @param doListFiles true gets the files from the file system whereas false uses the files list from the last call
 	 */
 	public void screen4Trusses(Map<Path, Set<DirectoryType>> pathsWithPermissions, boolean doListFiles) {
-		// a channel change without any additional criterion change can use the existent list of files for reading the trusses (performance)
-		if (doListFiles) listFiles(pathsWithPermissions);
-
 		VaultChecker vaultChecker = new VaultChecker(analyzer);
-		trusses = sourceDataSets.parallelStream() //
-				.peek(d -> signaler.accept("get file properties    " + d.getActualFile().toString())) //
-				.flatMap(d -> d.getSelectedTrusses(vaultChecker)) //
-				.collect(Collectors.toList());
+		if (doListFiles) {
+			// the files are screened while the directories are walked
+			listFiles(pathsWithPermissions, vaultChecker);
+		} else {
+			// a channel change without any additional criterion change can use the existent list of files for reading the trusses (performance)
+			trusses = sourceDataSets.parallelStream() //
+					.peek(d -> signaler.accept("get file properties    " + d.getActualFile().toString())) //
+					.flatMap(d -> d.getSelectedTrusses(vaultChecker)) //
+					.collect(Collectors.toList());
+		}
 		signaler.accept("");
 	}
 
@@ -89,6 +89,15 @@ public final class VaultChecker {
 		this.analyzer = analyzer;
 	}
 
+	/**
+	 * @return the file extensions the current device supports for the directory types
+	 */
+	public Set<String> getWorkableExtentions(Set<DirectoryType> directoryTypes) {
+		return directoryTypes.stream() //
+				.flatMap(t -> t.getDataSetExtentions(analyzer.getActiveDevice(), analyzer.getSettings()).stream()) //
+				.collect(Collectors.toSet());
+	}
+
 	/**
 	 * @return true if the current device supports both directory type and file extension
 	 */
@@ -70,6 +70,10 @@ import gde.histo.datasources.HistoSet.RebuildStep;
 import gde.histo.exclusions.ExclusionData;
 import gde.histo.recordings.TrailRecordSet;
 import gde.log.Logger;
+import gde.log.MetricEvents;
+import gde.log.MetricEvents.CacheAccess;
+import gde.log.MetricEvents.VaultBuild;
+import gde.log.Metrics;
 
 /**
  * Convert the source files into a trail recordSet required for the history tabs.
@@ -396,21 +400,20 @@ public final class VaultPicker {
 			progress.ifPresent((p) -> p.set(INITIALIZED));
 
 			if (realRebuildStep.isEqualOrBiggerThan(RebuildStep.F_FILE_CHECK)) {
+				VaultBuild event = VaultBuild.start("paths");
 				realRebuildStep = directoryScanner.isValidated(rebuildStep);
-				log.time(() -> format("  %3d file paths verified           time=%,6d [ms]", directoryScanner.getValidatedFoldersCount(), NANOSECONDS.toMillis(System.nanoTime() - startNanoTime + 500000)));
+				event.stop(directoryScanner.getValidatedFoldersCount(), 0);
 			}
 			progress.ifPresent((p) -> p.set(PATHS_VERIFIED));
 
 			if (realRebuildStep.isEqualOrBiggerThan(RebuildStep.B_HISTOVAULTS)) {
 				initialize();
 				{
+					VaultBuild event = VaultBuild.start("trusses");
 					sourceDataSetExplorer.setStatusMessages(directoryScanner.isSlowFolderAccess());
 					boolean reReadFiles = !directoryScanner.isChannelChangeOnly();
 					sourceDataSetExplorer.screen4Trusses(directoryScanner.getSourceFolders().getMap(), reReadFiles);
-
-					long millis = NANOSECONDS.toMillis(System.nanoTime() - startNanoTime);
-					if (millis > 0)
-						log.time(() -> format("%,5d trusses    select folders     time=%,6d [ms] :: per second:%5d", sourceDataSetExplorer.getTrusses().size(), millis, sourceDataSetExplorer.getTrusses().size() * 1000 / millis));
+					event.stop(sourceDataSetExplorer.getTrusses().size(), 0);
 				}
 				progress.ifPresent((p) -> p.set(SCANNED));
 
@@ -432,24 +435,17 @@ public final class VaultPicker {
 					}
 					final long recordSetBytesCachedSum = recordSetBytesSum;
 					{// step: transform log files from workload map into vaults and put them into the histoSet map
-						long nanoTime = System.nanoTime();
+						VaultBuild event = VaultBuild.start("files");
 						loadVaultsFromFiles(trussJobs, progress);
-						long loadCount = trussJobs.values().parallelStream().mapToInt(Collection::size).sum();
-						if (loadCount > 0) {
-							long micros = NANOSECONDS.toMicros(System.nanoTime() - nanoTime);
-							log.time(() -> format("%,5d recordsets create from files  time=%,6d [ms] :: per second:%5d :: Rate=%,6d MiB/s", loadCount, micros / 1000, loadCount * 1000000 / micros, (int) ((this.recordSetBytesSum - recordSetBytesCachedSum) / 1.024 / 1.024 / micros)));
-						}
+						int loadCount = trussJobs.values().parallelStream().mapToInt(Collection::size).sum();
+						event.stop(loadCount, this.recordSetBytesSum - recordSetBytesCachedSum);
 					}
 					{// step: save vaults in the file system
-						long nanoTime = System.nanoTime(), cacheSize_B = 0;
-						long loadCount = trussJobs.values().parallelStream().mapToInt(Collection::size).sum();
+						int loadCount = trussJobs.values().parallelStream().mapToInt(Collection::size).sum();
 						if (loadCount > 0) {
-							cacheSize_B = analyzer.getDataAccess().getCacheSize();
+							VaultBuild event = VaultBuild.start("store");
 							new VaultReaderWriter(analyzer, Optional.empty()).storeInCaches(trussJobs);
-							if (analyzer.getDataAccess().getCacheSize() - cacheSize_B > 0) {
-								long micros = NANOSECONDS.toMicros(System.nanoTime() - nanoTime);
-								log.time(() -> format("%,5d recordsets store in cache     time=%,6d [ms] :: per second:%5d :: Rate=%,6d MiB/s", loadCount, micros / 1000, loadCount * 1000000 / micros, (int) ((this.recordSetBytesSum - recordSetBytesCachedSum) / 1.024 / 1.024 / micros)));
-							}
+							event.stop(loadCount, this.recordSetBytesSum - recordSetBytesCachedSum);
 						}
 					}
 				}
@@ -459,26 +455,20 @@ public final class VaultPicker {
 			if (analyzer.getSettings().isSuppressMode()) suppressedVaults.addAll(removeSuppressedHistoVaults());
 
 			if (realRebuildStep.isEqualOrBiggerThan(RebuildStep.C_TRAILRECORDSET)) {
-				long nanoTime = System.nanoTime();
+				VaultBuild event = VaultBuild.start("trail.create");
 				trailRecordSet = TrailRecordSet.createRecordSet(analyzer);
 				trailRecordSet.initializeFromVaults(pickedVaults);
 				trailRecordSet.applyTemplate(true); // needs reasonable data
-				if (recordSetBytesSum > 0) {
-					long micros = NANOSECONDS.toMicros(System.nanoTime() - nanoTime);
-					log.time(() -> format("%,5d timeSteps new TrailRecordSet  time=%,6d [ms] :: per second:%5d", //
-							pickedVaults.size(), micros / 1000, pickedVaults.size() > 0 ? pickedVaults.size() * 1000000 / micros : 0));
-				}
+				event.stop(pickedVaults.size(), 0);
 			} else if (realRebuildStep.isEqualOrBiggerThan(RebuildStep.D_TRAIL_DATA)) { // keeps the template in contrast to the logic above
-				long nanoTime = System.nanoTime();
+				VaultBuild event = VaultBuild.start("trail.refill");
 				trailRecordSet.initializeTrailSelectors();
 				trailRecordSet.refillFromVaults(pickedVaults);
-				long micros = NANOSECONDS.toMicros(System.nanoTime() - nanoTime);
-				log.time(() -> format("%,5d timeSteps  to TrailRecordSet  time=%,6d [ms] :: per second:%5d", //
-						pickedVaults.size(), micros / 1000, pickedVaults.size() > 0 ? pickedVaults.size() * 1000000 / micros : 0));
+				event.stop(pickedVaults.size(), 0);
 			}
 			progress.ifPresent((p) -> p.set(RECORDED));
 
-			this.elapsedTime_us = (int) ((System.nanoTime() - startNanoTime + 500000) / 1000);
+			this.elapsedTime_us = (int) ((Metrics.timer(MetricEvents.VAULT_BUILD).recordSince(startNanoTime) + 500000) / 1000);
 			log.time(() -> format("%,5d timeSteps  total              time=%,6d [ms] :: per second:%5d :: Rate=%,6d MiB/s", this.pickedVaults.size(), elapsedTime_us / 1000, this.pickedVaults.size() * 1000000 / this.elapsedTime_us, (int) (this.recordSetBytesSum / 1.024 / 1.024 / this.elapsedTime_us)));
 		} catch (IOException | UncheckedIOException e) {
 			ThrowableUtils.rethrow(e);
@@ -518,11 +508,11 @@ public final class VaultPicker {
 	 * @param trussJobs is the job list which is worked on and reduced for each vault found in the cache
 	 */
 	private void loadVaultsFromCache(TrussJobs trussJobs, Optional<ProgressManager> progress) throws IOException {
-		long nanoTime = System.nanoTime();
-		long hitCount = VaultReaderWriter.getInnerCacheHitCount();
+		VaultBuild event = VaultBuild.start("cache");
 		int tmpHistoSetsSize = pickedVaults.size();
 		VaultReaderWriter vaultReaderWriter = new VaultReaderWriter(analyzer, progress);
 		for (ExtendedVault histoVault : vaultReaderWriter.loadFromCaches(trussJobs)) {
+			CacheAccess.record("vault", true); //$NON-NLS-1$
 			if (!histoVault.isTruss()) {
 				putVault(histoVault);
 				recordSetBytesSum += histoVault.getScorePoint(ScoreLabelTypes.LOG_RECORD_SET_BYTES.ordinal());
@@ -530,11 +520,11 @@ public final class VaultPicker {
 				log.info(() -> format("vault has no log data %,7d kiB %s", histoVault.getLogFileLength() / 1024, histoVault.getLoadFilePath()));
 			}
 		}
-		int loadCount = pickedVaults.size() - tmpHistoSetsSize;
-		if (loadCount > 0) {
-			long micros = NANOSECONDS.toMicros(System.nanoTime() - nanoTime);
-			log.time(() -> format("%,5d/%,5d      vaults cached/hit  time=%,6d [ms] :: per second:%5d :: Rate=%,6d MiB/s", loadCount, VaultReaderWriter.getInnerCacheHitCount() - hitCount, micros / 1000, loadCount * 1000000 / micros, (int) (this.recordSetBytesSum / 1.024 / 1.024 / micros)));
+		for (int i = trussJobs.values().stream().mapToInt(List::size).sum(); i > 0; i--) {
+			CacheAccess.record("vault", false); //$NON-NLS-1$
 		}
+		int loadCount = pickedVaults.size() - tmpHistoSetsSize;
+		event.stop(loadCount, this.recordSetBytesSum);
 	}
 
 	/**
@@ -0,0 +1,142 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.histo.device;
+
+import java.util.Arrays;
+
+import gde.Analyzer;
+import gde.exception.DataInconsitsentException;
+import gde.log.Logger;
+
+/**
+ * Random sampling of the log readings pushed by a log reader which reads the log file only once.
+ * The readings up to the log reader's end of teaching teach a sampler the max/min values and are kept in a compact buffer,
+ * afterwards they are sampled by the sampler taking the taught max/min values, i.e. the same samples as with a separate
+ * initializing pass over the first log data blocks.
+ * The following readings are sampled immediately and the valid samples are pushed to the sample consumer.
+ * @author Winfried Brügmann
+ */
+public final class SinglePassSampler {
+	private final static String	$CLASS_NAME	= SinglePassSampler.class.getName();
+	private final static Logger	log					= Logger.getLogger($CLASS_NAME);
+
+	/**
+	 * receives the valid samples
+	 */
+	@FunctionalInterface
+	public interface SampleConsumer {
+		void accept(int[] samplePoints, long sampleTimeStep_ms) throws DataInconsitsentException;
+	}
+
+	private final int							channelNumber;
+	private final int[]						points;
+	private final int							recordTimespan_ms;
+	private final Analyzer				analyzer;
+	private final SampleConsumer	consumer;
+
+	private UniversalSampler			teachingSampler;
+	private int[]									teachingPoints;
+	private long[]								teachingTimeSteps_ms;
+	private int										teachingCount	= 0;
+
+	private UniversalSampler			sampler				= null;
+
+	/**
+	 * @param channelNumber is the log channel number which may differ in case of channel mix
+	 * @param points is the array the log reader fills with the actual reading
+	 * @param recordTimespan_ms log measurement rate
+	 * @param analyzer
+	 * @param consumer receives the valid samples
+	 */
+	public SinglePassSampler(int channelNumber, int[] points, int recordTimespan_ms, Analyzer analyzer, SampleConsumer consumer) {
+		this.channelNumber = channelNumber;
+		this.points = points;
+		this.recordTimespan_ms = recordTimespan_ms;
+		this.analyzer = analyzer;
+		this.consumer = consumer;
+
+		this.teachingSampler = UniversalSampler.createSampler(channelNumber, points, recordTimespan_ms, analyzer);
+		// a sampler without random sampling takes all readings and does not need any max/min values
+		if (this.teachingSampler.getMaxPoints().length == 0) {
+			this.sampler = this.teachingSampler;
+			this.teachingSampler = null;
+		} else {
+			this.teachingPoints = new int[1024 * points.length];
+			this.teachingTimeSteps_ms = new long[1024];
+		}
+	}
+
+	/**
+	 * take the reading from the points array
+	 * @param timeStep_ms
+	 * @throws DataInconsitsentException
+	 */
+	public void capturePoints(long timeStep_ms) throws DataInconsitsentException {
+		if (this.sampler != null) {
+			if (this.sampler.capturePoints(timeStep_ms)) this.consumer.accept(this.sampler.getSamplePoints(), this.sampler.getSampleTimeStep_ms());
+		} else {
+			this.teachingSampler.capturePoints(timeStep_ms);
+			if (this.teachingCount == this.teachingTimeSteps_ms.length) {
+				this.teachingPoints = Arrays.copyOf(this.teachingPoints, this.teachingPoints.length * 2);
+				this.teachingTimeSteps_ms = Arrays.copyOf(this.teachingTimeSteps_ms, this.teachingTimeSteps_ms.length * 2);
+			}
+			System.arraycopy(this.points, 0, this.teachingPoints, this.teachingCount * this.points.length, this.points.length);
+			this.teachingTimeSteps_ms[this.teachingCount++] = timeStep_ms;
+		}
+	}
+
+	/**
+	 * end the teaching, e.g. after the number of log data blocks which were read by the former initializing pass.
+	 * the buffered readings are sampled and the following readings are sampled immediately.
+	 * @throws DataInconsitsentException
+	 */
+	public void endTeaching() throws DataInconsitsentException {
+		if (this.sampler == null) finishTeaching();
+	}
+
+	/**
+	 * sample the buffered readings with the taught max/min values, the points array is restored afterwards
+	 */
+	private void finishTeaching() throws DataInconsitsentException {
+		int[] maxPoints = this.teachingSampler.getMaxPoints();
+		int[] minPoints = this.teachingSampler.getMinPoints();
+		this.sampler = UniversalSampler.createSampler(this.channelNumber, this.points, maxPoints, minPoints, this.recordTimespan_ms, this.analyzer);
+		this.teachingSampler = null;
+
+		int[] actualPoints = this.points.clone();
+		for (int i = 0; i < this.teachingCount; i++) {
+			System.arraycopy(this.teachingPoints, i * this.points.length, this.points, 0, this.points.length);
+			if (this.sampler.capturePoints(this.teachingTimeSteps_ms[i])) this.consumer.accept(this.sampler.getSamplePoints(), this.sampler.getSampleTimeStep_ms());
+		}
+		System.arraycopy(actualPoints, 0, this.points, 0, this.points.length);
+		log.finer(() -> String.format("taught by %d readings", this.teachingCount)); //$NON-NLS-1$
+		this.teachingPoints = null;
+		this.teachingTimeSteps_ms = null;
+	}
+
+	/**
+	 * sample the buffered readings if the log ended before the teaching was finished
+	 * @return the sampler which took all readings
+	 * @throws DataInconsitsentException
+	 */
+	public UniversalSampler finish() throws DataInconsitsentException {
+		endTeaching();
+		return this.sampler;
+	}
+}
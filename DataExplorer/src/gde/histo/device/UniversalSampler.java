@@ -142,6 +142,19 @@ public final class UniversalSampler {
 		return new UniversalSampler(channelNumber, maxPoints, minPoints, newRecordTimespan_ms, analyzer);
 	}
 
+	/**
+	 * @param channelNumber is the log channel number which may differ in case of channel mix
+	 * @param points are the log measurement points, i.e. the array the log reader fills
+	 * @param maxPoints log measurement points with a length equal to the number of log measurement points
+	 * @param minPoints measurement points with a length equal to the number of log measurement points
+	 * @param newRecordTimespan_ms log measurement rate
+	 * @param analyzer defines the the requested device, channel, object
+	 * @return a new instance
+	 */
+	public static UniversalSampler createSampler(int channelNumber, int[] points, int[] maxPoints, int[] minPoints, int newRecordTimespan_ms, Analyzer analyzer) {
+		return new UniversalSampler(channelNumber, points, maxPoints, minPoints, newRecordTimespan_ms, analyzer);
+	}
+
 	@Override
 	public String toString() {
 		return String.format("pointsLength=%d  samplingTimespan_ms=%d userSamplingTimespan_ms=%d  readingCount=%d samplingCount=%d oversamplingCount=%d", points.length, this.samplingTimespan_ms, this.analyzer.getSettings().getSamplingTimespan_ms(), this.readingCount, this.samplingCount, this.oversamplingCount);
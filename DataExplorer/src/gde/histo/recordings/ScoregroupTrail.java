@@ -75,6 +75,11 @@ public final class ScoregroupTrail extends TrailRecord {
 		}
 	}
 
+	@Override
+	protected int[] getVaultTrailOrdinals() {
+		return getScoregroup().getScore().stream().mapToInt(s -> s.getLabel().ordinal()).toArray();
+	}
+
 	@Override
 	public boolean hasReasonableData() {
 		return true;
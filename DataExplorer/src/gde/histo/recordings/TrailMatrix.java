@@ -0,0 +1,156 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+
+package gde.histo.recordings;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import gde.device.TrailTypes;
+import gde.histo.cache.ExtendedVault;
+import gde.histo.cache.HistoVault;
+import gde.log.Logger;
+
+/**
+ * Dense matrix of the vault points [vault x trail record x trail ordinal] for the picked vaults.
+ * The points are taken once from the vaults, selecting a trail type or a suite reads the columns without vault lookups.
+ * A column holds the points of all vaults in the vault index sequence together with a null bitmap.
+ * @author Winfried Brügmann
+ */
+final class TrailMatrix {
+	private static final String	$CLASS_NAME	= TrailMatrix.class.getName();
+	private static final Logger	log					= Logger.getLogger($CLASS_NAME);
+
+	/**
+	 * Points of one trail of one trail record for all vaults.
+	 */
+	static final class Column {
+		private final int[]		points;
+		private final long[]	nullBits;
+
+		Column(int vaultCount) {
+			this.points = new int[vaultCount];
+			this.nullBits = new long[(vaultCount + Long.SIZE - 1) / Long.SIZE];
+		}
+
+		int size() {
+			return this.points.length;
+		}
+
+		boolean isNull(int vaultIndex) {
+			return (this.nullBits[vaultIndex / Long.SIZE] & (1L << vaultIndex)) != 0;
+		}
+
+		/**
+		 * @return the point or null if the vault does not hold the trail
+		 */
+		Integer get(int vaultIndex) {
+			return isNull(vaultIndex) ? null : this.points[vaultIndex];
+		}
+
+		private void set(int vaultIndex, Integer point) {
+			if (point == null)
+				this.nullBits[vaultIndex / Long.SIZE] |= 1L << vaultIndex;
+			else
+				this.points[vaultIndex] = point;
+		}
+	}
+
+	private final HistoVault[]	indexedVaults;
+	private final int						width;
+	/**
+	 * Index is recordOrdinal * width + trailOrdinal.
+	 */
+	private final Column[]			columns;
+
+	/**
+	 * Take the points of the trails applicable to the records from the vaults.
+	 * @param indexedVaults in the timestep sequence
+	 * @param records are the trail records of the recordset
+	 */
+	TrailMatrix(HistoVault[] indexedVaults, Collection<TrailRecord> records) {
+		long nanoTime = System.nanoTime();
+		this.indexedVaults = indexedVaults;
+		int maxOrdinal = records.stream().mapToInt(TrailRecord::getOrdinal).max().orElse(-1);
+		int maxTrailOrdinal = TrailTypes.VALUES.length - 1;
+		for (TrailRecord record : records) {
+			for (int trailOrdinal : record.getVaultTrailOrdinals()) {
+				maxTrailOrdinal = Math.max(maxTrailOrdinal, trailOrdinal);
+			}
+		}
+		this.width = maxTrailOrdinal + 1;
+		this.columns = new Column[(maxOrdinal + 1) * this.width];
+
+		List<int[]> cells = new ArrayList<>();
+		List<TrailRecord> cellRecords = new ArrayList<>();
+		for (TrailRecord record : records) {
+			for (int trailOrdinal : record.getVaultTrailOrdinals()) {
+				cells.add(new int[] { record.getOrdinal(), trailOrdinal });
+				cellRecords.add(record);
+			}
+		}
+		IntStream.range(0, cells.size()).parallel().forEach(i -> {
+			int[] cell = cells.get(i);
+			this.columns[cell[0] * this.width + cell[1]] = createColumn(cellRecords.get(i), cell[1]);
+		});
+		log.time(() -> String.format("%,5d vaults  %,5d columns  time=%,6d [ms]", indexedVaults.length, cells.size(), (System.nanoTime() - nanoTime) / 1000000)); //$NON-NLS-1$
+	}
+
+	private Column createColumn(TrailRecord record, int trailOrdinal) {
+		Column column = new Column(this.indexedVaults.length);
+		for (int i = 0; i < this.indexedVaults.length; i++) {
+			column.set(i, record.getVaultPoint((ExtendedVault) this.indexedVaults[i], trailOrdinal));
+		}
+		return column;
+	}
+
+	/**
+	 * @param trailOrdinal is the requested trail ordinal number which may differ from the selected trail type (e.g. suites)
+	 * @return the column view of the points; columns of trails not declared by the record are taken from the vaults on demand
+	 */
+	Column getColumn(TrailRecord record, int trailOrdinal) {
+		int index = record.getOrdinal() * this.width + trailOrdinal;
+		if (trailOrdinal >= this.width || index >= this.columns.length) return createColumn(record, trailOrdinal);
+		Column column = this.columns[index];
+		if (column == null) {
+			synchronized (this) {
+				column = this.columns[index];
+				if (column == null) this.columns[index] = column = createColumn(record, trailOrdinal);
+			}
+		}
+		return column;
+	}
+
+	int getVaultCount() {
+		return this.indexedVaults.length;
+	}
+
+	/**
+	 * @return true if the matrix was built from the same vaults in the same sequence
+	 */
+	boolean isBuiltFrom(HistoVault[] vaults) {
+		if (vaults.length != this.indexedVaults.length) return false;
+		for (int i = 0; i < vaults.length; i++) {
+			if (vaults[i] != this.indexedVaults[i]) return false;
+		}
+		return true;
+	}
+}
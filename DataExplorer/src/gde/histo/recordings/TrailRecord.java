@@ -24,12 +24,11 @@ import static java.util.logging.Level.FINER;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
-import java.util.TreeMap;
 import java.util.Vector;
 import java.util.logging.Level;
 import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 
 import org.eclipse.swt.SWT;
 
@@ -149,38 +148,45 @@ public abstract class TrailRecord extends CommonRecord {
 		 * The record takes the selected trail type / score data from the trail record vault and populates its data.
 		 * Support trail suites and bits / tokens.
 		 */
-		synchronized void addVaults(TreeMap<Long, List<ExtendedVault>> histoVaults) {
+		synchronized void addVaults(TrailMatrix trailMatrix) {
 			if (!trailSelector.isTrailSuite()) {
-				histoVaults.values().stream().flatMap(Collection::stream).forEach(v -> {
-					addElement(getVaultPoint(v, trailSelector.getTrailOrdinal()));
-				});
+				TrailMatrix.Column column = trailMatrix.getColumn(TrailRecord.this, trailSelector.getTrailOrdinal());
+				for (int i = 0; i < column.size(); i++) {
+					addElement(column.get(i));
+				}
 			} else {
-				setSuite(histoVaults.size());
-				histoVaults.values().stream().flatMap(Collection::stream).forEach(v -> {
-					addVaultToSuite(v); //
-				});
+				setSuite(trailMatrix.getVaultCount());
+				List<TrailTypes> suiteMembers = trailSelector.getSuiteMembers();
+				TrailMatrix.Column[] columns = new TrailMatrix.Column[suiteMembers.size()];
+				for (int i = 0; i < columns.length; i++) {
+					columns[i] = trailMatrix.getColumn(TrailRecord.this, suiteMembers.get(i).ordinal());
+				}
+				for (int j = 0; j < trailMatrix.getVaultCount(); j++) {
+					addVaultToSuite(columns, j);
+				}
 			}
 			log.finer(() -> " " + getTrailSelector());
 		}
 
 		/**
-		 * Take those data points from the histo vault which are assigned to the selected trail type.
+		 * Take those data points from the trail matrix which are assigned to the selected trail type.
 		 * Support trail suites and bits / tokens.
-		 * @param pointFactor for multiplying points for bits or tokens
+		 * @param columns holds the suite members' columns
+		 * @param vaultIndex
 		 */
-		private void addVaultToSuite(ExtendedVault histoVault) {
+		private void addVaultToSuite(TrailMatrix.Column[] columns, int vaultIndex) {
 			List<TrailTypes> suiteMembers = trailSelector.getSuiteMembers();
 
 			if (trailSelector.isBoxPlotSuite()) {
-				for (int i = 0; i < trailSelector.getSuiteMembers().size(); i++) {
-					suiteRecords.get(i).addElement(getVaultPoint(histoVault, suiteMembers.get(i).ordinal()));
+				for (int i = 0; i < suiteMembers.size(); i++) {
+					suiteRecords.get(i).addElement(columns[i].get(vaultIndex));
 				}
 			} else {
 				int tmpSummationFactor = 0;
 				int masterPoint = 0; // this is the base value for adding or subtracting standard deviations
 
 				for (int i = 0; i < suiteMembers.size(); i++) {
-					Integer point = getVaultPoint(histoVault, suiteMembers.get(i).ordinal());
+					Integer point = columns[i].get(vaultIndex);
 					if (point == null) {
 						suiteRecords.get(i).addElement(null);
 					} else {
@@ -193,7 +199,7 @@ public abstract class TrailRecord extends CommonRecord {
 						suiteRecords.get(i).addElement(point);
 					}
 					if (log.isLoggable(FINER))
-						log.log(FINER, String.format(" %s trail %3d  %s  %d minVal=%d maxVal=%d", getName(), trailSelector.getTrailOrdinal(), histoVault.getLoadFilePath(), point, suiteRecords.get(i).getMinRecordValue(), suiteRecords.get(i).getMaxRecordValue()));
+						log.log(FINER, String.format(" %s trail %3d  %d  %d minVal=%d maxVal=%d", getName(), trailSelector.getTrailOrdinal(), vaultIndex, point, suiteRecords.get(i).getMinRecordValue(), suiteRecords.get(i).getMaxRecordValue()));
 				}
 			}
 			log.log(FINER, " ", trailSelector);
@@ -868,10 +874,18 @@ public abstract class TrailRecord extends CommonRecord {
 
 	/**
 	 * (Re)Build the data contents.
+	 * @param trailMatrix holds the points of the picked vaults
 	 */
-	public void initializeFromVaults(TreeMap<Long, List<ExtendedVault>> histoVaults) {
+	void initializeFromVaults(TrailMatrix trailMatrix) {
 		RecordCollector collector = new RecordCollector();
-		collector.addVaults(histoVaults);
+		collector.addVaults(trailMatrix);
+	}
+
+	/**
+	 * @return the trail ordinals which are taken from the vaults into the trail matrix
+	 */
+	protected int[] getVaultTrailOrdinals() {
+		return IntStream.range(0, TrailTypes.VALUES.length).toArray();
 	}
 
 	/**
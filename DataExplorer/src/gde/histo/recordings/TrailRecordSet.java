@@ -188,14 +188,23 @@ public final class TrailRecordSet extends AbstractRecordSet {
 		 * RecordSet startTimeStamp reverse order.
 		 */
 		private final HistoVault[]												indexedVaults;
+		/**
+		 * Points of all trail records for the indexed vaults.
+		 */
+		private final TrailMatrix													trailMatrix;
 
 		/**
 		 * @param initialVaults in startTimeStamp in reverse order for creating a new map
+		 * @param previousVaults are the vaults picked before which supply the trail matrix if the vaults did not change (may be null)
 		 */
-		public PickedVaults(TreeMap<Long, List<ExtendedVault>> initialVaults) {
+		public PickedVaults(TreeMap<Long, List<ExtendedVault>> initialVaults, PickedVaults previousVaults) {
 			this.initialVaults.putAll(initialVaults);
 			Stream<ExtendedVault> map1 = this.initialVaults.values().stream().flatMap(List::stream).distinct();
 			indexedVaults = map1.toArray(ExtendedVault[]::new);
+			if (previousVaults != null && previousVaults.trailMatrix.isBuiltFrom(indexedVaults))
+				trailMatrix = previousVaults.trailMatrix;
+			else
+				trailMatrix = new TrailMatrix(indexedVaults, getValues());
 		}
 
 		/**
@@ -308,7 +317,7 @@ public final class TrailRecordSet extends AbstractRecordSet {
 	public void refillRecord(TrailRecord record, int trailTextIndex) {
 		record.setSelectedTrail(trailTextIndex);
 		record.clear();
-		record.initializeFromVaults(this.pickedVaults.initialVaults);
+		record.initializeFromVaults(this.pickedVaults.trailMatrix);
 	}
 
 	/**
@@ -316,10 +325,8 @@ public final class TrailRecordSet extends AbstractRecordSet {
 	 * @param newPickedVaults
 	 */
 	public void refillFromVaults(TreeMap<Long, List<ExtendedVault>> newPickedVaults) {
-		this.pickedVaults = new PickedVaults(newPickedVaults);
-
 		cleanup();
-		this.pickedVaults = new PickedVaults(newPickedVaults);
+		this.pickedVaults = new PickedVaults(newPickedVaults, this.pickedVaults);
 		RecordingsCollector collector = new RecordingsCollector();
 		// re-define the valid trail types because the smart statistics setting might have changed
 		collector.defineTrailTypes();
@@ -330,7 +337,7 @@ public final class TrailRecordSet extends AbstractRecordSet {
 			trailRecord.clear();
 			// Apply the data source information (= comboBox setting) from the graphics template definition to a record set.
 			trailRecord.setSelectedTrail();
-			trailRecord.initializeFromVaults(pickedVaults.initialVaults);
+			trailRecord.initializeFromVaults(pickedVaults.trailMatrix);
 		}
 		log.finer(() -> "refilled trailRecord size = " + get(0).size());
 		collector.setGpsLocationsTags();
@@ -341,7 +348,7 @@ public final class TrailRecordSet extends AbstractRecordSet {
 	 * @param newPickedVaults
 	 */
 	public void initializeFromVaults(TreeMap<Long, List<ExtendedVault>> newPickedVaults) {
-		this.pickedVaults = new PickedVaults(newPickedVaults);
+		this.pickedVaults = new PickedVaults(newPickedVaults, null);
 
 		cleanup();
 		RecordingsCollector collector = new RecordingsCollector();
@@ -355,7 +362,7 @@ public final class TrailRecordSet extends AbstractRecordSet {
 			int trailTextOrdinal = template != null && template.isAvailable()
 					? Integer.parseInt(template.getRecordProperty(recordName, Record.TRAIL_TEXT_ORDINAL, "-1")) : -1;
 			trailRecord.setSelectedTrail(trailTextOrdinal);
-			trailRecord.initializeFromVaults(pickedVaults.initialVaults);
+			trailRecord.initializeFromVaults(pickedVaults.trailMatrix);
 		}
 		log.finer(() -> "initial trailRecord size = " + get(0).size());
 		collector.setGpsLocationsTags();
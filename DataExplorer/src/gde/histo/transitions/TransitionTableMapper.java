@@ -22,6 +22,7 @@ package gde.histo.transitions;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map.Entry;
@@ -113,6 +114,11 @@ public final class TransitionTableMapper {
 	private final Analyzer		analyzer;
 	private final ChannelType	channel;
 
+	/** the transitions the settlement columns were determined from, null if not yet determined */
+	private GroupTransitions	mappedTransitions;
+	private Set<Integer>			mappedSettlementIds;
+	private SettlementRecords	mappedSettlements;
+
 	public TransitionTableMapper(RecordSet recordSet, Analyzer analyzer) {
 		this.recordSet = recordSet;
 		this.analyzer = analyzer;
@@ -120,18 +126,18 @@ public final class TransitionTableMapper {
 	}
 
 	/**
+	 * The settlements are determined once and reused for subsequent rows as long as the record set transitions and the active
+	 * settlement types do not change (the record set provides new transitions in gathering mode).
 	 * @param index
 	 * @param dataTableRow
 	 * @return the row with additional columns for the active settlements with reasonable data
 	 */
 	public synchronized String[] defineRowWithSettlements(int index, String[] dataTableRow) {
-		SettlementTypes settlementTypes = defineActiveAndDisplayableSettlements();
 		HashMap<Integer, TransitionGroupType> transitionGroups = channel.getTransitionGroups();
-		int tableColumnsSize = recordSet.getVisibleAndDisplayableRecordsForTable().size() + 1;
-		String[] tableRow = Arrays.copyOf(dataTableRow, tableColumnsSize + settlementTypes.size() + transitionGroups.size());
-
 		GroupTransitions histoTransitions = recordSet.getHistoTransitions();
-		SettlementRecords settlements = determineSettlements(histoTransitions, settlementTypes.values());
+		SettlementRecords settlements = getSettlements(histoTransitions);
+		int tableColumnsSize = recordSet.getVisibleAndDisplayableRecordsForTable().size() + 1;
+		String[] tableRow = Arrays.copyOf(dataTableRow, tableColumnsSize + this.mappedSettlementIds.size() + transitionGroups.size());
 
 		int columnIndex = tableColumnsSize;
 		for (SettlementRecord settlementRecord : settlements.values()) {
@@ -143,7 +149,7 @@ public final class TransitionTableMapper {
 		}
 
 		for (Entry<Integer, TransitionGroupType> transitionsGroupsEntry : transitionGroups.entrySet()) {
-			TransitionChronicle transitionChronicle = recordSet.getHistoTransitions().get(transitionsGroupsEntry.getKey());
+			TransitionChronicle transitionChronicle = histoTransitions.get(transitionsGroupsEntry.getKey());
 			if (transitionChronicle != null) {
 				Transition transition = transitionChronicle.get((long) recordSet.getTime_ms(index));
 				if (transition != null) {
@@ -155,6 +161,21 @@ public final class TransitionTableMapper {
 		return tableRow;
 	}
 
+	/**
+	 * @return the settlements calculated from the transitions, cached for the transitions instance and the active settlement types
+	 */
+	private SettlementRecords getSettlements(GroupTransitions histoTransitions) {
+		SettlementTypes settlementTypes = defineActiveAndDisplayableSettlements();
+		Set<Integer> settlementIds = settlementTypes.settlementTypes.keySet();
+		if (this.mappedSettlements == null || this.mappedTransitions != histoTransitions || !this.mappedSettlementIds.equals(settlementIds)) {
+			this.mappedSettlements = determineSettlements(histoTransitions, settlementTypes.values());
+			this.mappedSettlementIds = new HashSet<>(settlementIds);
+			this.mappedTransitions = histoTransitions;
+			log.finer(() -> "settlements determined for " + recordSet.getName() + " size=" + this.mappedSettlements.values().size());
+		}
+		return this.mappedSettlements;
+	}
+
 	/**
 	 * @return the settlementTypes with reasonable data (key is settlementId)
 	 */
@@ -0,0 +1,119 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.io;
+
+import java.util.Arrays;
+
+import gde.data.RecordSet;
+import gde.exception.DataInconsitsentException;
+
+/**
+ * Column oriented buffer of parsed data lines, one primitive int array per record plus a long array for the time stamps.
+ * Filled by a {@link CSVTokenizer.RowConverter}, applied to the record set column by column.
+ * @author Winfried Brügmann
+ */
+public class CSVColumnBatch {
+
+	private int[][]		columns				= new int[0][];
+	private long[]		timeStamps		= new long[1024];
+	private int				size					= 0;
+
+	/**
+	 * add a row of points and its time stamp, the points are copied
+	 * @param points
+	 * @param timeStamp the time information, the meaning is defined by the converter, e.g. epoch milliseconds
+	 */
+	public void add(int[] points, long timeStamp) {
+		if (this.columns.length < points.length) {
+			int[][] tmpColumns = Arrays.copyOf(this.columns, points.length);
+			for (int i = this.columns.length; i < points.length; i++) {
+				tmpColumns[i] = new int[this.timeStamps.length];
+			}
+			this.columns = tmpColumns;
+		}
+		if (this.size == this.timeStamps.length) {
+			int capacity = this.size * 2;
+			this.timeStamps = Arrays.copyOf(this.timeStamps, capacity);
+			for (int i = 0; i < this.columns.length; i++) {
+				this.columns[i] = Arrays.copyOf(this.columns[i], capacity);
+			}
+		}
+		for (int i = 0; i < points.length; i++) {
+			this.columns[i][this.size] = points[i];
+		}
+		this.timeStamps[this.size++] = timeStamp;
+	}
+
+	/**
+	 * keep only the rows where the filter is true, the order is retained
+	 * @param filter
+	 */
+	public void retain(boolean[] filter) {
+		int j = 0;
+		for (int i = 0; i < this.size; i++) {
+			if (!filter[i]) continue;
+			if (i != j) {
+				this.timeStamps[j] = this.timeStamps[i];
+				for (int[] column : this.columns) {
+					column[j] = column[i];
+				}
+			}
+			++j;
+		}
+		this.size = j;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	public long getTimeStamp(int index) {
+		return this.timeStamps[index];
+	}
+
+	public void setTimeStamp(int index, long timeStamp) {
+		this.timeStamps[index] = timeStamp;
+	}
+
+	/**
+	 * @return the column array which might be longer than the size
+	 */
+	public int[] getColumn(int index) {
+		return this.columns[index];
+	}
+
+	public int getColumnCount() {
+		return this.columns.length;
+	}
+
+	/**
+	 * add all rows to the record set records column by column
+	 * @param recordSet
+	 * @param times_ms the time steps of the rows, null if the record set has a constant time step
+	 * @param isNoneCalculationRecords true if the columns belong to the none calculation records only (raw data)
+	 * @throws DataInconsitsentException
+	 */
+	public void addTo(RecordSet recordSet, double[] times_ms, boolean isNoneCalculationRecords) throws DataInconsitsentException {
+		if (this.size == 0) return;
+		if (isNoneCalculationRecords)
+			recordSet.addNoneCalculationRecordsPoints(this.columns, times_ms, this.size);
+		else
+			recordSet.addPoints(this.columns, times_ms, this.size);
+	}
+}
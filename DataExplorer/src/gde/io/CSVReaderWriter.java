@@ -27,10 +27,12 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.nio.file.Paths;
 import java.text.DecimalFormat;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
+import java.util.List;
 import java.util.logging.Logger;
 
 import gde.GDE;
@@ -67,6 +69,8 @@ public class CSVReaderWriter {
 	final static DataExplorer						application	= DataExplorer.getInstance();
 	final static Channels								channels		= Channels.getInstance();
 
+	private final static long						ABSOLUTE_TIME_MARK	= -2;
+
 	/**
 	 * read the first two line of CSV file and prepare a map with all available information
 	 * @param separator
@@ -221,9 +225,7 @@ public class CSVReaderWriter {
 	 * @throws DataTypeException
 	 */
 	public static RecordSet read(char separator, String filePath, String recordSetNameExtend, boolean isRaw) throws NotSupportedFileFormatException, MissMatchDeviceException, IOException, DataInconsitsentException, DataTypeException {
-		String line = GDE.STRING_STAR;
 		RecordSet recordSet = null;
-		BufferedReader reader; // to read the data
 		IDevice device = application.getActiveDevice();
 		Channel activeChannel = null;
 
@@ -249,10 +251,13 @@ public class CSVReaderWriter {
 				}
 				log.log(Level.FINE, "device name check ok, channel/configuration ok"); //$NON-NLS-1$
 
-				reader = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), "ISO-8859-1")); //$NON-NLS-1$
-				while (!(((line = reader.readLine())!= null) && line.contains("[") && line.contains("]"))) {
-					// read until Zeit [sec];Spannung [---];Höhe [---]
-					// 						Zeit [s];Spannung [V];Strom [A];Ladung [mAh];Leistung [W];Energie [Wh]
+				long dataOffset;
+				try (CSVTokenizer headerTokenizer = new CSVTokenizer(new FileInputStream(filePath), separator)) {
+					while (headerTokenizer.nextLine() && !(headerTokenizer.lineContains("[") && headerTokenizer.lineContains("]"))) { //$NON-NLS-1$ //$NON-NLS-2$
+						// read until Zeit [sec];Spannung [---];Höhe [---]
+						// 						Zeit [s];Spannung [V];Strom [A];Ladung [mAh];Leistung [W];Energie [Wh]
+					}
+					dataOffset = headerTokenizer.getBytesConsumed();
 				}
 
 				if (GDE.isWithUi()) {
@@ -296,58 +301,55 @@ public class CSVReaderWriter {
 						recordSet.get(recordKey).setDisplayable(true); // all data available
 					}
 				}
-				Date												date = null;
-				int													year=0, month=0, day=0;
-				long startTimeStamp=0, lastTimeStamp=0;
-
 				// now get all data   0; 14,780;  0,598;  1,000;  8,838;  0,002
-				String[] updateRecordNames = isRaw ? recordSet.getNoneCalculationRecordNames() : recordNames;
-				int[] points = new int[updateRecordNames.length];
-				while ((line = reader.readLine()) != null) {
-					String[] dataStr = line.split(GDE.STRING_EMPTY + separator);
-					String data = dataStr[0].trim().replace(',', '.');
-					if (data.contains(GDE.STRING_BLANK)) { //absolute time YYYY-MM-DD HH:mm:ss:SSS
-						if (date == null) {
-							year = Integer.parseInt(data.substring(0,4));
-							month = Integer.parseInt(data.substring(5, 7));
-							day = Integer.parseInt(data.substring(8, 10));
-						}
-						data = data.split(GDE.STRING_BLANK)[1];
-						int hour = Integer.parseInt(data.substring(0, 2));
-						int minute = Integer.parseInt(data.substring(3, 5));
-						int second = Integer.parseInt(data.substring(6, 8));
-						GregorianCalendar calendar = new GregorianCalendar(year, month - 1, day, hour, minute, second);
-						long timeStamp = calendar.getTimeInMillis() + (data.contains(GDE.STRING_DOT) ? Integer.parseInt(data.substring(data.lastIndexOf(GDE.CHAR_DOT) + 1)) : 0);
-
-						if (lastTimeStamp < timeStamp) {
-							time_ms = lastTimeStamp == 0 ? 0 : time_ms + (timeStamp - lastTimeStamp);
-							lastTimeStamp = timeStamp;
-							date = calendar.getTime();
-							if (startTimeStamp == 0) startTimeStamp = timeStamp;
+				final int columnCount = (isRaw ? recordSet.getNoneCalculationRecordNames() : recordNames).length;
+				List<CSVColumnBatch> batches = CSVTokenizer.parse(Paths.get(filePath), dataOffset, separator, () -> {
+					int[] points = new int[columnCount];
+					return (tokenizer, batch) -> convertDataLine(tokenizer, batch, points);
+				}, true);
+
+				boolean isDateDefined = false;
+				int year = 0, month = 0, day = 0;
+				int lastHour = -1;
+				long lastHourTimeStamp = 0, lastTimeStamp = 0;
+				for (CSVColumnBatch batch : batches) {
+					boolean[] filter = new boolean[batch.size()];
+					double[] times_ms = new double[batch.size()];
+					int count = 0;
+					for (int k = 0; k < batch.size(); k++) {
+						long stamp = batch.getTimeStamp(k);
+						if (stamp <= ABSOLUTE_TIME_MARK) { //absolute time YYYY-MM-DD HH:mm:ss:SSS
+							long dateTime = ABSOLUTE_TIME_MARK - stamp;
+							int timeOfDay_ms = (int) (dateTime % 100000000L);
+							if (!isDateDefined) {
+								int date = (int) (dateTime / 100000000L);
+								year = date / 10000;
+								month = date / 100 % 100;
+								day = date % 100;
+								isDateDefined = true;
+							}
+							int hour = timeOfDay_ms / 3600000;
+							if (hour != lastHour) {
+								lastHourTimeStamp = new GregorianCalendar(year, month - 1, day, hour, 0, 0).getTimeInMillis();
+								lastHour = hour;
+							}
+							long timeStamp = lastHourTimeStamp + timeOfDay_ms % 3600000;
+
+							if (lastTimeStamp < timeStamp) {
+								time_ms = lastTimeStamp == 0 ? 0 : time_ms + (timeStamp - lastTimeStamp);
+								lastTimeStamp = timeStamp;
+							}
+							else
+								continue;
 						}
-						else
-							continue;
-					}
-					else { // relative time HH:mm:ss:SSS
-						if (startTimeStamp == 0) startTimeStamp = new Date().getTime();
-						if (data.length() == 9) { //00:00.000
-							int minute = Integer.parseInt(data.substring(0, 2));
-							int second = Integer.parseInt(data.substring(3, 5));
-							time_ms = minute*60*1000 + second*1000 + Integer.parseInt(data.substring(data.lastIndexOf(GDE.CHAR_DOT) + 1));
-						}
-						else if (data.length() == 12) { //00:00:00.000)
-							int hour = Integer.parseInt(data.substring(0, 2));
-							int minute = Integer.parseInt(data.substring(3, 5));
-							int second = Integer.parseInt(data.substring(6, 8));
-							time_ms = hour*60*60*1000 + minute*60*1000 + second*1000 + Integer.parseInt(data.substring(data.lastIndexOf(GDE.CHAR_DOT) + 1));
+						else if (stamp >= 0) { // relative time HH:mm:ss:SSS
+							time_ms = stamp;
 						}
+						filter[k] = true;
+						times_ms[count++] = time_ms;
 					}
-					for (int i = 0; i < updateRecordNames.length; i++) { // only iterate over record names found in file
-						data = dataStr[i + 1].trim().replace(',', '.').replace(GDE.STRING_BLANK, GDE.STRING_EMPTY);
-						points[i] = (int) (Double.valueOf(data).doubleValue() * 1000);
-					}
-					if (isRaw) 	recordSet.addNoneCalculationRecordsPoints(points, time_ms);
-					else 				recordSet.addPoints(points, time_ms);
+					batch.retain(filter);
+					batch.addTo(recordSet, times_ms, isRaw);
 				}
 
 				recordSet.setSaved(true);
@@ -362,8 +364,6 @@ public class CSVReaderWriter {
 					application.updateAllTabs(true, true);
 				}
 
-				reader.close();
-				reader = null;
 			}
 		}
 		catch (UnsupportedEncodingException e) {
@@ -390,6 +390,37 @@ public class CSVReaderWriter {
 		return recordSet;
 	}
 
+	/**
+	 * convert a data line into points and a time stamp, called in parallel for the chunks of a file.
+	 * The time stamp holds the relative time in ms, -1 if the time format is unknown,
+	 * or the absolute date and time of day encoded as ABSOLUTE_TIME_MARK - (yyyyMMdd * 100000000 + time of day ms).
+	 * @param tokenizer positioned at the data line
+	 * @param batch
+	 * @param points
+	 */
+	private static void convertDataLine(CSVTokenizer tokenizer, CSVColumnBatch batch, int[] points) {
+		long stamp = -1;
+		int length = tokenizer.getLength(0);
+		int millisIndex = Math.max(tokenizer.lastIndexOf(0, GDE.CHAR_DOT), tokenizer.lastIndexOf(0, GDE.CHAR_COMMA));
+		if (tokenizer.contains(0, GDE.CHAR_BLANK)) { //absolute time YYYY-MM-DD HH:mm:ss:SSS
+			int date = tokenizer.getDigits(0, 0, 4) * 10000 + tokenizer.getDigits(0, 5, 2) * 100 + tokenizer.getDigits(0, 8, 2);
+			int timeIndex = tokenizer.lastIndexOf(0, GDE.CHAR_BLANK) + 1;
+			int timeOfDay_ms = ((tokenizer.getDigits(0, timeIndex, 2) * 60 + tokenizer.getDigits(0, timeIndex + 3, 2)) * 60 + tokenizer.getDigits(0, timeIndex + 6, 2)) * 1000
+					+ (millisIndex > timeIndex ? tokenizer.getDigits(0, millisIndex + 1, length - millisIndex - 1) : 0);
+			stamp = ABSOLUTE_TIME_MARK - (date * 100000000L + timeOfDay_ms);
+		}
+		else if (length == 9) { //00:00.000
+			stamp = (tokenizer.getDigits(0, 0, 2) * 60 + tokenizer.getDigits(0, 3, 2)) * 1000 + tokenizer.getDigits(0, millisIndex + 1, length - millisIndex - 1);
+		}
+		else if (length == 12) { //00:00:00.000)
+			stamp = ((tokenizer.getDigits(0, 0, 2) * 60 + tokenizer.getDigits(0, 3, 2)) * 60 + tokenizer.getDigits(0, 6, 2)) * 1000 + tokenizer.getDigits(0, millisIndex + 1, length - millisIndex - 1);
+		}
+		for (int i = 0; i < points.length; i++) { // only iterate over record names found in file
+			points[i] = (int) (tokenizer.getDouble(i + 1) * 1000);
+		}
+		batch.add(points, stamp);
+	}
+
 	/**
 	 * write data CVS file
 	 * @throws Exception
@@ -0,0 +1,552 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import gde.log.Level;
+
+/**
+ * Byte level tokenizer for character separated value files with single byte encoding (ISO-8859-1, ASCII).
+ * Lines are read into a reusable byte buffer and split into fields by remembering the field boundaries only,
+ * numbers are parsed directly from the buffer without creating strings.
+ * The data part of a file might be parsed in parallel chunks split at line boundaries, see {@link #parse(Path, long, char, Supplier, boolean)}.
+ * In difference to String.split trailing empty fields are retained, blanks around numbers are ignored.
+ * @author Winfried Brügmann
+ */
+public class CSVTokenizer implements Closeable {
+	final static String						$CLASS_NAME						= CSVTokenizer.class.getName();
+	final static Logger						log										= Logger.getLogger($CLASS_NAME);
+
+	public final static int				DEFAULT_BUFFER_SIZE		= 1 << 16;
+	/**
+	 * files smaller than this size are not split into parallel chunks
+	 */
+	public final static long			MIN_PARALLEL_SIZE			= 8L << 20;
+	final static long							MIN_CHUNK_SIZE				= 4L << 20;
+
+	/**
+	 * converts the actual line of the tokenizer into a row of the column batch, lines to be skipped are not added
+	 */
+	@FunctionalInterface
+	public interface RowConverter {
+		void convert(CSVTokenizer tokenizer, CSVColumnBatch batch);
+	}
+
+	private final InputStream			inputStream;
+	private final FileChannel			fileChannel;
+	private long									channelPosition;
+	private final long						channelEnd;
+
+	private final boolean[]				isSeparator						= new boolean[256];
+	private boolean								isMergeBlankSeparator	= false;
+
+	private byte[]								buffer;
+	private int										position;																		// start of the next line
+	private int										limit;																			// end of valid bytes in buffer
+	private boolean								isEndOfInput;
+
+	private int										lineStart, lineEnd;
+	private int[]									fieldStarts						= new int[64];
+	private int[]									fieldEnds							= new int[64];
+	private int										fieldCount;
+	private long									lineNumber;
+	private long									bytesConsumed;
+
+	/**
+	 * @param inputStream delivers the bytes, closed with this tokenizer
+	 * @param separators the field separators, e.g. ';'
+	 */
+	public CSVTokenizer(InputStream inputStream, char... separators) {
+		this(inputStream, null, 0, 0, new byte[DEFAULT_BUFFER_SIZE], 0, separators);
+	}
+
+	/**
+	 * tokenize the byte range of the file channel, which must start at a line begin.
+	 * The channel is not closed by this tokenizer and might be shared with other tokenizers for parallel reading.
+	 * @param fileChannel
+	 * @param from the file position of the first byte to tokenize
+	 * @param to the file position after the last byte to tokenize
+	 * @param separators the field separators
+	 */
+	public CSVTokenizer(FileChannel fileChannel, long from, long to, char... separators) {
+		this(null, fileChannel, from, to, new byte[DEFAULT_BUFFER_SIZE], 0, separators);
+	}
+
+	/**
+	 * tokenize the bytes from the given array
+	 * @param data
+	 * @param offset
+	 * @param length
+	 * @param separators the field separators
+	 */
+	public CSVTokenizer(byte[] data, int offset, int length, char... separators) {
+		this(null, null, 0, 0, data, offset + length, separators);
+		this.position = offset;
+		this.isEndOfInput = true;
+	}
+
+	private CSVTokenizer(InputStream inputStream, FileChannel fileChannel, long from, long to, byte[] buffer, int limit, char... separators) {
+		this.inputStream = inputStream;
+		this.fileChannel = fileChannel;
+		this.channelPosition = from;
+		this.channelEnd = to;
+		this.buffer = buffer;
+		this.limit = limit;
+		for (char separator : separators) {
+			this.isSeparator[separator & 0xFF] = true;
+		}
+	}
+
+	/**
+	 * treat a blank following a separator as part of the separator, e.g. "1, 2, 3" or "48.12, 11.72"
+	 * and a blank between two values as separator, e.g. GPS coordinates "48.12 11.72"
+	 * @param isMergeBlankSeparator
+	 * @return this tokenizer
+	 */
+	public CSVTokenizer setMergeBlankSeparator(boolean isMergeBlankSeparator) {
+		this.isMergeBlankSeparator = isMergeBlankSeparator;
+		if (isMergeBlankSeparator) this.isSeparator[' '] = true;
+		return this;
+	}
+
+	/**
+	 * advance to the next line and split it into fields
+	 * @return false if the end of input is reached
+	 * @throws IOException
+	 */
+	public boolean nextLine() throws IOException {
+		int newLine = indexOfNewLine(this.position);
+		while (newLine < 0 && !this.isEndOfInput) {
+			int searchFrom = this.limit - this.position;
+			fill();
+			newLine = indexOfNewLine(this.position + searchFrom);
+		}
+		if (newLine < 0) {
+			if (this.position >= this.limit) {
+				this.fieldCount = 0;
+				return false;
+			}
+			newLine = this.limit; // last line without line feed
+		}
+
+		this.bytesConsumed += Math.min(newLine + 1, this.limit) - this.position;
+		this.lineStart = this.position;
+		this.lineEnd = newLine > this.lineStart && this.buffer[newLine - 1] == '\r' ? newLine - 1 : newLine;
+		this.position = newLine + 1;
+		++this.lineNumber;
+		split();
+		return true;
+	}
+
+	private int indexOfNewLine(int from) {
+		final byte[] bytes = this.buffer;
+		for (int i = from; i < this.limit; i++) {
+			if (bytes[i] == '\n') return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * move the remaining bytes to the buffer begin, grow the buffer if a single line does not fit, and read more bytes
+	 */
+	private void fill() throws IOException {
+		int remaining = this.limit - this.position;
+		if (this.position > 0) {
+			System.arraycopy(this.buffer, this.position, this.buffer, 0, remaining);
+		}
+		else if (remaining == this.buffer.length) {
+			this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+		}
+		this.position = 0;
+		this.limit = remaining;
+
+		int count;
+		if (this.fileChannel != null) {
+			int maxLength = (int) Math.min(this.buffer.length - this.limit, this.channelEnd - this.channelPosition);
+			count = maxLength > 0 ? this.fileChannel.read(ByteBuffer.wrap(this.buffer, this.limit, maxLength), this.channelPosition) : -1;
+			if (count > 0) this.channelPosition += count;
+		}
+		else {
+			count = this.inputStream.read(this.buffer, this.limit, this.buffer.length - this.limit);
+		}
+		if (count < 0)
+			this.isEndOfInput = true;
+		else
+			this.limit += count;
+	}
+
+	private void split() {
+		final byte[] bytes = this.buffer;
+		int count = 0;
+		int start = this.lineStart;
+		for (int i = this.lineStart; i < this.lineEnd; i++) {
+			if (this.isSeparator[bytes[i] & 0xFF]) {
+				if (this.isMergeBlankSeparator && bytes[i] == ' ' && (i == start || i + 1 == this.lineEnd || this.isSeparator[bytes[i + 1] & 0xFF])) {
+					if (i == start) start = i + 1; // leading blank of a field
+					continue; // trailing blank of a field
+				}
+				count = addField(count, start, i);
+				start = i + 1;
+			}
+		}
+		this.fieldCount = addField(count, start, this.lineEnd);
+	}
+
+	private int addField(int index, int start, int end) {
+		if (index == this.fieldStarts.length) {
+			this.fieldStarts = Arrays.copyOf(this.fieldStarts, index * 2);
+			this.fieldEnds = Arrays.copyOf(this.fieldEnds, index * 2);
+		}
+		this.fieldStarts[index] = start;
+		this.fieldEnds[index] = end;
+		return index + 1;
+	}
+
+	/**
+	 * @return the number of fields of the actual line, an empty line has one empty field
+	 */
+	public int getFieldCount() {
+		return this.fieldCount;
+	}
+
+	/**
+	 * @return the number of lines read so far
+	 */
+	public long getLineNumber() {
+		return this.lineNumber;
+	}
+
+	/**
+	 * @return the number of bytes consumed by the lines read so far, e.g. to calculate the progress
+	 */
+	public long getBytesConsumed() {
+		return this.bytesConsumed;
+	}
+
+	/**
+	 * @return the actual line as string
+	 */
+	public String getLine() {
+		return new String(this.buffer, this.lineStart, this.lineEnd - this.lineStart, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * @return the length in bytes of the actual line
+	 */
+	public int getLineLength() {
+		return this.lineEnd - this.lineStart;
+	}
+
+	/**
+	 * @return true if the actual line starts with the prefix
+	 */
+	public boolean lineStartsWith(String prefix) {
+		if (prefix.length() > this.lineEnd - this.lineStart) return false;
+		for (int i = 0; i < prefix.length(); i++) {
+			if (this.buffer[this.lineStart + i] != (byte) prefix.charAt(i)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return true if the actual line contains the byte sequence of the string
+	 */
+	public boolean lineContains(String value) {
+		return indexOf(this.lineStart, this.lineEnd, value) >= 0;
+	}
+
+	/**
+	 * @return the field as string without leading and trailing blanks
+	 */
+	public String getString(int field) {
+		int start = trimStart(field), end = trimEnd(field);
+		return new String(this.buffer, start, end - start, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * @return true if the field without leading and trailing blanks equals the value, equals getString(field).equals(value)
+	 */
+	public boolean equals(int field, String value) {
+		int start = trimStart(field), end = trimEnd(field);
+		if (end - start != value.length()) return false;
+		for (int i = 0; i < value.length(); i++) {
+			if ((this.buffer[start + i] & 0xFF) != value.charAt(i)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return true if the field contains blanks only or nothing at all
+	 */
+	public boolean isBlank(int field) {
+		return trimStart(field) == trimEnd(field);
+	}
+
+	/**
+	 * @return the length of the field without leading and trailing blanks
+	 */
+	public int getLength(int field) {
+		return trimEnd(field) - trimStart(field);
+	}
+
+	/**
+	 * @return the character at the index of the field without leading blanks
+	 */
+	public char charAt(int field, int index) {
+		return (char) (this.buffer[trimStart(field) + index] & 0xFF);
+	}
+
+	/**
+	 * @return the position of the first occurrence of the character within the field without leading blanks or -1
+	 */
+	public int indexOf(int field, char c) {
+		int start = trimStart(field), end = trimEnd(field);
+		for (int i = start; i < end; i++) {
+			if (this.buffer[i] == (byte) c) return i - start;
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the position of the last occurrence of the character within the field without leading blanks or -1
+	 */
+	public int lastIndexOf(int field, char c) {
+		int start = trimStart(field);
+		for (int i = trimEnd(field) - 1; i >= start; i--) {
+			if (this.buffer[i] == (byte) c) return i - start;
+		}
+		return -1;
+	}
+
+	/**
+	 * @return true if the field contains the character
+	 */
+	public boolean contains(int field, char c) {
+		return lastIndexOf(field, c) >= 0;
+	}
+
+	/**
+	 * parse the digits of the field without leading blanks, e.g. the minutes of HH:mm:ss.SSS
+	 * @param field
+	 * @param offset the index of the first digit
+	 * @param length the number of digits
+	 * @return the unsigned integer value of the digits
+	 * @throws NumberFormatException if a character is not a digit
+	 */
+	public int getDigits(int field, int offset, int length) {
+		int start = trimStart(field) + offset;
+		if (offset < 0 || length <= 0 || start + length > this.fieldEnds[field]) throw numberFormatException(field);
+		int value = 0;
+		for (int i = start; i < start + length; i++) {
+			int digit = this.buffer[i] - '0';
+			if (digit < 0 || digit > 9) throw numberFormatException(field);
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	/**
+	 * @return the field parsed as integer value, blanks are ignored
+	 * @throws NumberFormatException
+	 */
+	public int getInt(int field) {
+		long value = getLong(field);
+		if (value != (int) value) throw numberFormatException(field);
+		return (int) value;
+	}
+
+	/**
+	 * @return the field parsed as long value, blanks are ignored
+	 * @throws NumberFormatException
+	 */
+	public long getLong(int field) {
+		final byte[] bytes = this.buffer;
+		int i = trimStart(field), end = trimEnd(field);
+		boolean isNegative = false;
+		if (i < end && (bytes[i] == '-' || bytes[i] == '+')) isNegative = bytes[i++] == '-';
+		if (i == end) throw numberFormatException(field);
+		long value = 0;
+		for (; i < end; i++) {
+			if (bytes[i] == ' ') continue;
+			int digit = bytes[i] - '0';
+			if (digit < 0 || digit > 9 || value > (Long.MAX_VALUE - digit) / 10) throw numberFormatException(field);
+			value = value * 10 + digit;
+		}
+		return isNegative ? -value : value;
+	}
+
+	/**
+	 * @return the field parsed as double value, a comma is accepted as decimal separator, blanks are ignored
+	 * @throws NumberFormatException
+	 */
+	public double getDouble(int field) {
+		checkField(field);
+		return parseDouble(this.buffer, this.fieldStarts[field], this.fieldEnds[field]);
+	}
+
+	/**
+	 * parse a decimal number without creating a string, the result is identical to Double.parseDouble.
+	 * A comma is accepted as decimal separator and blanks are ignored, like the replace(',', '.').replace(" ", "") sequences used before.
+	 * Numbers with more than 15 significant digits or large exponents are delegated to Double.parseDouble.
+	 * @param bytes
+	 * @param from
+	 * @param to
+	 * @return the double value
+	 * @throws NumberFormatException
+	 */
+	public static double parseDouble(byte[] bytes, int from, int to) {
+		return DecimalParser.parseDouble(bytes, from, to, true);
+	}
+
+	/**
+	 * @return the field parsed as long value with its decimal point removed, e.g. "4.68" delivers 468, blanks are ignored
+	 * @throws NumberFormatException
+	 */
+	public long getUnscaledLong(int field) {
+		checkField(field);
+		return DecimalParser.parseUnscaled(this.buffer, this.fieldStarts[field], this.fieldEnds[field]);
+	}
+
+	private int trimStart(int field) {
+		checkField(field);
+		int i = this.fieldStarts[field], end = this.fieldEnds[field];
+		while (i < end && (this.buffer[i] == ' ' || this.buffer[i] == '\t')) i++;
+		return i;
+	}
+
+	private int trimEnd(int field) {
+		checkField(field);
+		int start = this.fieldStarts[field], i = this.fieldEnds[field];
+		while (i > start && (this.buffer[i - 1] == ' ' || this.buffer[i - 1] == '\t')) i--;
+		return i;
+	}
+
+	private void checkField(int field) {
+		if (field >= this.fieldCount) throw new ArrayIndexOutOfBoundsException("Index " + field + " out of bounds for field count " + this.fieldCount); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private int indexOf(int from, int to, String value) {
+		outer: for (int i = from; i <= to - value.length(); i++) {
+			for (int j = 0; j < value.length(); j++) {
+				if (this.buffer[i + j] != (byte) value.charAt(j)) continue outer;
+			}
+			return i;
+		}
+		return -1;
+	}
+
+	private NumberFormatException numberFormatException(int field) {
+		return new NumberFormatException("For input string: \"" + getString(field) + "\""); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (this.inputStream != null) this.inputStream.close();
+	}
+
+	/**
+	 * parse the data lines of a file starting at the given offset into column batches.
+	 * Large files are split into chunks at line boundaries which are parsed in parallel, each chunk with its own tokenizer and converter.
+	 * @param filePath
+	 * @param dataOffset the file position of the first data line
+	 * @param separator
+	 * @param converterSupplier delivers a converter per chunk, converters must not share mutable state
+	 * @param isParallel false forces sequential parsing, e.g. if the converter depends on the previous lines
+	 * @return the column batches in file order
+	 * @throws IOException
+	 */
+	public static List<CSVColumnBatch> parse(Path filePath, long dataOffset, char separator, Supplier<RowConverter> converterSupplier, boolean isParallel) throws IOException {
+		try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+			long[] boundaries = getChunkBoundaries(channel, dataOffset, isParallel ? Runtime.getRuntime().availableProcessors() : 1);
+			long startNanos = System.nanoTime();
+			CSVColumnBatch[] batches = new CSVColumnBatch[boundaries.length - 1];
+			try {
+				IntStream.range(0, batches.length).parallel().forEach(i -> {
+					RowConverter converter = converterSupplier.get();
+					CSVColumnBatch batch = new CSVColumnBatch();
+					CSVTokenizer tokenizer = new CSVTokenizer(channel, boundaries[i], boundaries[i + 1], separator);
+					try {
+						while (tokenizer.nextLine()) {
+							converter.convert(tokenizer, batch);
+						}
+					}
+					catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+					batches[i] = batch;
+				});
+			}
+			catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+			if (log.isLoggable(Level.TIME)) log.log(Level.TIME, String.format("%s parsed in %d chunks, time = %d ms", filePath.getFileName(), batches.length, (System.nanoTime() - startNanos) / 1000000)); //$NON-NLS-1$
+			return new ArrayList<>(Arrays.asList(batches));
+		}
+	}
+
+	/**
+	 * @return the chunk begin positions, each at a line begin, followed by the end of file position
+	 */
+	static long[] getChunkBoundaries(FileChannel channel, long dataOffset, int maxChunks) throws IOException {
+		long size = channel.size();
+		int chunks = size - dataOffset < MIN_PARALLEL_SIZE ? 1 : (int) Math.max(1, Math.min(maxChunks, (size - dataOffset) / MIN_CHUNK_SIZE));
+		long[] boundaries = new long[chunks + 1];
+		boundaries[0] = dataOffset;
+		boundaries[chunks] = size;
+		ByteBuffer probe = ByteBuffer.allocate(4096);
+		for (int i = 1; i < chunks; i++) {
+			long position = Math.max(boundaries[i - 1], dataOffset + (size - dataOffset) * i / chunks);
+			boundaries[i] = size;
+			while (position < size) {
+				probe.clear();
+				int count = channel.read(probe, position);
+				if (count <= 0) break;
+				int index = indexOf(probe.array(), count, (byte) '\n');
+				if (index >= 0) {
+					boundaries[i] = position + index + 1;
+					break;
+				}
+				position += count;
+			}
+		}
+		return boundaries;
+	}
+
+	private static int indexOf(byte[] bytes, int length, byte value) {
+		for (int i = 0; i < length; i++) {
+			if (bytes[i] == value) return i;
+		}
+		return -1;
+	}
+}
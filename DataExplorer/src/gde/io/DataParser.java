@@ -238,7 +238,7 @@ public class DataParser extends NMEAParser implements IDataParser {
 				break;
 			case BINARY:
 			default:
-				checksum = Checksum.ADD(inputLine.substring(0, inputLine.lastIndexOf(this.separator) + 1).getBytes());
+				checksum = Checksum.ADD(inputLine, 0, inputLine.lastIndexOf(this.separator) + 1);
 				break;
 			}
 			break;
@@ -249,7 +249,7 @@ public class DataParser extends NMEAParser implements IDataParser {
 				break;
 			case BINARY:
 			default:
-				checksum = Checksum.XOR(inputLine.substring(0, inputLine.lastIndexOf(this.separator) + 1).getBytes());
+				checksum = Checksum.XOR(inputLine, 0, inputLine.lastIndexOf(this.separator) + 1);
 				break;
 			}
 			break;
@@ -260,7 +260,7 @@ public class DataParser extends NMEAParser implements IDataParser {
 				break;
 			case BINARY:
 			default:
-				checksum = Checksum.OR(inputLine.substring(0, inputLine.lastIndexOf(this.separator) + 1).getBytes());
+				checksum = Checksum.OR(inputLine, 0, inputLine.lastIndexOf(this.separator) + 1);
 				break;
 			}
 			break;
@@ -271,7 +271,7 @@ public class DataParser extends NMEAParser implements IDataParser {
 				break;
 			case BINARY:
 			default:
-				checksum = Checksum.AND(inputLine.substring(0, inputLine.lastIndexOf(this.separator) + 1).getBytes());
+				checksum = Checksum.AND(inputLine, 0, inputLine.lastIndexOf(this.separator) + 1);
 				break;
 			}
 			break;
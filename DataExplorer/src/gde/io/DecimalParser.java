@@ -0,0 +1,156 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.io;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decimal number parser working on single byte encoded characters (ISO-8859-1, ASCII) in place, without creating strings.
+ * Shared by the byte buffer cursors {@link CSVTokenizer} and {@link NMEASentence}.
+ * @author Winfried Brügmann
+ */
+public final class DecimalParser {
+
+	private final static double[]	POWER_OF_TEN				= { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+	private final static long			MAX_EXACT_MANTISSA	= 1L << 53;
+	private final static int			MAX_EXACT_DIGITS		= 15;
+	private final static int			MAX_EXPONENT_DIGITS	= 3;
+
+	private DecimalParser() {
+	}
+
+	/**
+	 * parse a decimal number, the result is identical to Double.parseDouble.
+	 * The lenient mode accepts a comma as decimal separator and ignores blanks, like the replace(',', '.').replace(" ", "") sequences used before.
+	 * Numbers with more than 15 significant digits or large exponents are delegated to Double.parseDouble.
+	 * @param bytes
+	 * @param from index of the first character, inclusive
+	 * @param to index after the last character, exclusive
+	 * @param isLenient true to accept comma and blanks
+	 * @return the double value
+	 * @throws NumberFormatException
+	 */
+	public static double parseDouble(byte[] bytes, int from, int to, boolean isLenient) {
+		int i = from;
+		if (isLenient) while (i < to && bytes[i] == ' ') i++;
+		boolean isNegative = false;
+		if (i < to && (bytes[i] == '-' || bytes[i] == '+')) isNegative = bytes[i++] == '-';
+
+		long mantissa = 0;
+		int digits = 0, fractionDigits = 0, exponent = 0;
+		boolean isFraction = false, isValid = false;
+		for (; i < to; i++) {
+			byte b = bytes[i];
+			if (b >= '0' && b <= '9') {
+				isValid = true;
+				if (mantissa == 0 && b == '0') {
+					if (isFraction) ++fractionDigits;
+					continue; // leading zeros are no significant digits
+				}
+				if (++digits > MAX_EXACT_DIGITS) return parseDoubleFallback(bytes, from, to, isLenient);
+				mantissa = mantissa * 10 + (b - '0');
+				if (isFraction) ++fractionDigits;
+			}
+			else if ((b == '.' || (isLenient && b == ',')) && !isFraction) {
+				isFraction = true;
+			}
+			else if (isLenient && b == ' ') {
+				continue;
+			}
+			else if ((b == 'e' || b == 'E') && isValid) {
+				exponent = parseExponent(bytes, i + 1, to, isLenient);
+				if (exponent == Integer.MIN_VALUE) return parseDoubleFallback(bytes, from, to, isLenient); // e.g. type suffix 1e5d
+				break;
+			}
+			else {
+				return parseDoubleFallback(bytes, from, to, isLenient); // NaN, Infinity, hex or garbage
+			}
+		}
+		if (!isValid) throw new NumberFormatException("For input string: \"" + new String(bytes, from, to - from, StandardCharsets.ISO_8859_1) + "\""); //$NON-NLS-1$ //$NON-NLS-2$
+
+		int scale = exponent - fractionDigits;
+		double value;
+		if (mantissa == 0)
+			value = 0.;
+		else if (mantissa < MAX_EXACT_MANTISSA && scale >= -22 && scale <= 22)
+			value = scale < 0 ? mantissa / POWER_OF_TEN[-scale] : mantissa * POWER_OF_TEN[scale]; // exact operands, correctly rounded
+		else
+			return parseDoubleFallback(bytes, from, to, isLenient);
+		return isNegative ? -value : value;
+	}
+
+	/**
+	 * @return the signed exponent with up to 3 digits or Integer.MIN_VALUE if the characters are no plain exponent
+	 */
+	private static int parseExponent(byte[] bytes, int from, int to, boolean isLenient) {
+		int i = from;
+		boolean isNegative = false;
+		if (i < to && (bytes[i] == '-' || bytes[i] == '+')) isNegative = bytes[i++] == '-';
+		int exponent = 0, digits = 0;
+		for (; i < to; i++) {
+			byte b = bytes[i];
+			if (b >= '0' && b <= '9') {
+				if (++digits > MAX_EXPONENT_DIGITS) return Integer.MIN_VALUE;
+				exponent = exponent * 10 + (b - '0');
+			}
+			else if (!isLenient || b != ' ') {
+				return Integer.MIN_VALUE;
+			}
+		}
+		if (digits == 0) return Integer.MIN_VALUE;
+		return isNegative ? -exponent : exponent;
+	}
+
+	private static double parseDoubleFallback(byte[] bytes, int from, int to, boolean isLenient) {
+		String value = new String(bytes, from, to - from, StandardCharsets.ISO_8859_1);
+		return Double.parseDouble(isLenient ? value.replace(',', '.').replace(" ", "") : value); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * parse a decimal number with its decimal point removed, e.g. "4.68" delivers 468, blanks are ignored
+	 * @param bytes
+	 * @param from index of the first character, inclusive
+	 * @param to index after the last character, exclusive
+	 * @return the long value of the digits
+	 * @throws NumberFormatException
+	 */
+	public static long parseUnscaled(byte[] bytes, int from, int to) {
+		int i = from;
+		while (i < to && bytes[i] == ' ') i++;
+		boolean isNegative = false;
+		if (i < to && (bytes[i] == '-' || bytes[i] == '+')) isNegative = bytes[i++] == '-';
+		long value = 0;
+		boolean isValid = false, isFraction = false;
+		for (; i < to; i++) {
+			byte b = bytes[i];
+			if (b == ' ') continue;
+			if (b == '.' && !isFraction) {
+				isFraction = true;
+				continue;
+			}
+			int digit = b - '0';
+			if (digit < 0 || digit > 9 || value > (Long.MAX_VALUE - digit) / 10)
+				throw new NumberFormatException("For input string: \"" + new String(bytes, from, to - from, StandardCharsets.ISO_8859_1) + "\""); //$NON-NLS-1$ //$NON-NLS-2$
+			value = value * 10 + digit;
+			isValid = true;
+		}
+		if (!isValid) throw new NumberFormatException("For input string: \"" + new String(bytes, from, to - from, StandardCharsets.ISO_8859_1) + "\""); //$NON-NLS-1$ //$NON-NLS-2$
+		return isNegative ? -value : value;
+	}
+}
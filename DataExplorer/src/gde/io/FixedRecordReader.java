@@ -0,0 +1,182 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+/**
+ * Reader for binary log files consisting of fixed size records, e.g. a header block followed by the data records.
+ * The file is read in large blocks into a reusable byte buffer, the records are decoded directly from the buffer.
+ * The record size may change between calls, e.g. for header and data records.
+ * A truncated record at the end of the file is not delivered, its size is available by {@link #getTruncatedBytes()}.
+ * Multi byte values are decoded little endian (low byte first) like {@link DataParser#parse2Int(byte[], int)}.
+ * @author Winfried Brügmann
+ */
+public class FixedRecordReader implements Closeable {
+	final static String					$CLASS_NAME					= FixedRecordReader.class.getName();
+	final static Logger					log									= Logger.getLogger($CLASS_NAME);
+
+	public final static int			DEFAULT_BUFFER_SIZE	= 1 << 16;
+
+	private final FileChannel		fileChannel;
+	private ByteBuffer					buffer;
+	private final long					size;
+	private boolean							isEndOfInput;
+
+	private int									recordStart					= 0;
+	private int									recordSize					= 0;
+	private long								recordPosition			= 0;
+	private int									truncatedBytes			= 0;
+
+	/**
+	 * @param filePath
+	 * @throws IOException
+	 */
+	public FixedRecordReader(Path filePath) throws IOException {
+		this.fileChannel = FileChannel.open(filePath, StandardOpenOption.READ);
+		this.size = this.fileChannel.size();
+		this.buffer = ByteBuffer.allocate((int) Math.max(1, Math.min(DEFAULT_BUFFER_SIZE, this.size))).order(ByteOrder.LITTLE_ENDIAN);
+		this.buffer.limit(0);
+		this.isEndOfInput = false;
+	}
+
+	/**
+	 * read the records from the given array
+	 * @param data
+	 * @param offset
+	 * @param length
+	 */
+	public FixedRecordReader(byte[] data, int offset, int length) {
+		this.fileChannel = null;
+		this.size = length;
+		this.buffer = ByteBuffer.wrap(data, offset, length).slice().order(ByteOrder.LITTLE_ENDIAN);
+		this.isEndOfInput = true;
+	}
+
+	/**
+	 * move to the next record
+	 * @param newRecordSize
+	 * @return false if the end of input is reached or the remaining bytes do not fill a complete record
+	 * @throws IOException
+	 */
+	public boolean next(int newRecordSize) throws IOException {
+		this.buffer.position(this.recordStart + this.recordSize);
+		this.recordPosition += this.recordSize;
+		this.recordSize = 0;
+		if (this.buffer.remaining() < newRecordSize && !fill(newRecordSize)) {
+			this.truncatedBytes = this.buffer.remaining();
+			this.recordStart = this.buffer.position();
+			return false;
+		}
+		this.recordStart = this.buffer.position();
+		this.recordSize = newRecordSize;
+		return true;
+	}
+
+	/**
+	 * move to the next record and copy its bytes
+	 * @param record receives the record bytes, the array length defines the record size
+	 * @return false if the end of input is reached or the remaining bytes do not fill a complete record
+	 * @throws IOException
+	 */
+	public boolean next(byte[] record) throws IOException {
+		if (!next(record.length)) return false;
+		this.buffer.get(this.recordStart, record, 0, record.length);
+		return true;
+	}
+
+	/**
+	 * compact the buffer and read the next block from the file channel, the buffer grows if the record size exceeds its capacity, e.g. for a file shorter than one record
+	 * @return true if the buffer holds at least the required number of bytes
+	 */
+	private boolean fill(int required) throws IOException {
+		if (this.isEndOfInput) return false;
+		this.buffer.compact();
+		if (this.buffer.capacity() < required) {
+			ByteBuffer grownBuffer = ByteBuffer.allocate(required).order(ByteOrder.LITTLE_ENDIAN);
+			this.buffer.flip();
+			this.buffer = grownBuffer.put(this.buffer);
+		}
+		while (this.buffer.position() < required) {
+			if (this.fileChannel.read(this.buffer) < 0) {
+				this.isEndOfInput = true;
+				break;
+			}
+		}
+		this.buffer.flip();
+		return this.buffer.remaining() >= required;
+	}
+
+	/**
+	 * @param index within the actual record
+	 * @return the signed byte
+	 */
+	public byte get(int index) {
+		return this.buffer.get(this.recordStart + index);
+	}
+
+	/**
+	 * @param index of the low byte within the actual record
+	 * @return the signed 2 byte value
+	 */
+	public short getShort(int index) {
+		return this.buffer.getShort(this.recordStart + index);
+	}
+
+	/**
+	 * @param index of the low byte within the actual record
+	 * @return the 4 byte value
+	 */
+	public int getInt(int index) {
+		return this.buffer.getInt(this.recordStart + index);
+	}
+
+	/**
+	 * @return the file position of the actual record
+	 */
+	public long getRecordPosition() {
+		return this.recordPosition;
+	}
+
+	/**
+	 * @return the file size
+	 */
+	public long size() {
+		return this.size;
+	}
+
+	/**
+	 * @return the number of bytes at the end of input which do not fill a complete record
+	 */
+	public int getTruncatedBytes() {
+		return this.truncatedBytes;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (this.fileChannel != null) this.fileChannel.close();
+	}
+}
@@ -21,6 +21,7 @@ package gde.io;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.GregorianCalendar;
 import java.util.Vector;
 import java.util.logging.Logger;
@@ -87,6 +88,7 @@ public class NMEAParser implements IDataParser {
 	protected final IDevice								device;
 	protected final String								deviceName;
 	protected int													channelConfigNumber;
+	protected final NMEASentence					sentence;
 	
 	int lineNumber = 0;
 
@@ -99,9 +101,17 @@ public class NMEAParser implements IDataParser {
 		//additional SM-Modellbau UniLog2 sentences
 		UL2SETUP, UL2, 
 		//Multiplex FlightRecorder 
-		SETUP1, SETUP2, D
+		SETUP1, SETUP2, D;
+
+		public static final NMEA[] VALUES = values(); // use this to avoid cloning if the index value is used
 	}
 
+	/**
+	 * sentences decoded in place by the NMEASentence cursor
+	 */
+	static final EnumSet<NMEA>	IN_PLACE_SENTENCES	= EnumSet.of(NMEA.GPRMC, NMEA.GPGSA, NMEA.GPGGA, NMEA.GPGNS, NMEA.GPVTG, NMEA.GPGSV, NMEA.GPRMB, NMEA.GPGLL, NMEA.GPZDA,
+			NMEA.GNRMC, NMEA.GNGSA, NMEA.GNGGA, NMEA.GNGNS, NMEA.GNVTG, NMEA.GNGSV, NMEA.GNRMB, NMEA.GNGLL, NMEA.GNZDA, NMEA.UL2);
+
 	/**
 	 * constructor to construct a NMEA parser
 	 * @param useLeaderChar , the leading character $
@@ -112,6 +122,7 @@ public class NMEAParser implements IDataParser {
 	 */
 	public NMEAParser(String useLeaderChar, String useSeparator, CheckSumTypes useCheckSum, int useDataBlockSize, IDevice useDevice, int useChannelConfigNumber, short useTimeOffsetUTC) {
 		this.separator = useSeparator;
+		this.sentence = new NMEASentence(useSeparator.charAt(0));
 		this.leader = useLeaderChar;
 		this.checkSumType = useCheckSum;
 		this.dataBlockSize  = useDataBlockSize;
@@ -193,7 +204,7 @@ public class NMEAParser implements IDataParser {
 	 */
 	public void parse(String inputLine, int lineNum) throws DevicePropertiesInconsistenceException, Exception {
 		final String $METHOD_NAME = "parse()"; //$NON-NLS-1$
-		log.log(Level.FINER, "parser inputLine = " + inputLine); //$NON-NLS-1$
+		if (log.isLoggable(Level.FINER)) log.log(Level.FINER, "parser inputLine = " + inputLine); //$NON-NLS-1$
 		
 		if (!inputLine.startsWith(this.leader)) 
 			throw new DevicePropertiesInconsistenceException(Messages.getString(MessageIds.GDE_MSGE0046, new Object[] { this.leader, lineNum }));
@@ -204,88 +215,97 @@ public class NMEAParser implements IDataParser {
 			//$SETUP2;sec ;;;   °C;;;;;;; km/h;    m;    m;
 			//$D;0000,95;;;8,9;;;;;;;0,0;-14;0;*33
 			inputLine = inputLine.replace(',', '.').replace(";", this.separator);
+			this.sentence.set(inputLine);
 		}
-		else if (!isChecksumOK(inputLine)) {
+		else if (!isChecksumOK(this.sentence.set(inputLine))) {
 			return;
 		}
 		
 		if(!inputLine.contains(separator)) 
 			throw new DevicePropertiesInconsistenceException(Messages.getString(MessageIds.GDE_MSGE0047, new String[] {inputLine, separator})); 
 
-		String[] strValues = inputLine.split(this.separator); // {$GPRMC,162614,A,5230.5900,N,01322.3900,E,10.0,90.0,131006,1.2,E,A*13}
-
-		try {
-			NMEA sentence = NMEA.valueOf(strValues[0].substring(1));
-			switch (sentence) {
-			case GPRMC: //Recommended Minimum Sentence C (RMC)
-			case GNRMC: //Recommended Minimum Sentence C (RMC)
-				parseRMC(strValues);
-				break;
-			case GPGGA: //Global Positioning System Fix Data (GGA)				
-			case GNGGA: //Global Positioning System Fix Data (GGA)			
-				parseGGA(strValues);
-				break;
-			case GPGNS: //Global Navigation System Fix Data			
-			case GNGNS: //Global Navigation System Fix Data
-				parseGNS(strValues);
-				break;
-			case GPGSA: //Satellite status (GSA)
-			case GNGSA: //Satellite status (GSA)
-				parseGSA(strValues);
-				break;
-			case GPVTG: // Velocity made good (VTG)
-			case GNVTG: // Velocity made good (VTG)
-				if(!deviceName.startsWith("GPS-Logger")) parseVTG(strValues);
-				break;
-			case GPGSV: // Satellites in view (GSV)
-			case GNGSV: // Satellites in view (GSV)
-				parseGSV(strValues);
-				break;
-			case GPRMB: // Recommended minimum navigation information (RMB)
-			case GNRMB: // Recommended minimum navigation information (RMB)
-				parseRMB(strValues);
-				break;
-			case GPGLL: // Geographic Latitude and Longitude (GLL)
-			case GNGLL: // Geographic Latitude and Longitude (GLL)
-				parseGLL(strValues);
-				break;
-			case GPZDA: // Data and Time (ZDA)
-			case GNZDA: // Data and Time (ZDA)
-				parseZDA(strValues);
-				break;
-			case SMGPS:
-				if (this.values.length >=15) parseSMGPS(strValues);
-				break;
-			case SMGPS2:
-				if (this.values.length >=19) parseSMGPS2(strValues);
-				break;
-			case UNILOG:
-				if (this.values.length >=24) parseUNILOG(strValues);
-				break;
-			case MLINK:
-				if (this.values.length >=39) parseMLINK(strValues);
-				break;
-			case COMMENT:
-			case KOMMENTAR:
-				//$KOMMENTAR,Extra 300. Kuban Acht. Mit UniLog Daten.*
-				//$KOMMENTAR,Trojan. Ein paar liegende Figuren. Volle M-Link Bestückung.*
-				this.comment = strValues[1].trim();
-				this.comment = this.comment.endsWith(GDE.STRING_STAR) ? this.comment.substring(0, this.comment.length() - 1) : this.comment;
-
-				break;
-			case GPSSETUP:// setup SM GPS-Logger firmware >= 1.01
-				//$GPSSETUP,2F5A,1,1,2,0,5,0,0,0,0,0,0,0,0,0,0,0,17,12C,96,3E8,1EA,1F4,64,7C,64,7D0,0,0,0,0,0,0,0,0,0,0,0,1,3,4,6,7,2,5,8,9,A,B,0,0,0,0,67,1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,9A67*09
-				this.deviceSerialNumber = String.format("%d", Integer.parseInt(strValues[1].trim(), 16)); //$NON-NLS-1$
-				this.timeOffsetUTC = (short) Integer.parseInt(strValues[4].trim(), 16);
-				if (log.isLoggable(Level.TIME)) 
-					log.log(Level.TIME, String.format("timeOffsetUTC = %d", Integer.parseInt(strValues[4].trim(), 16)));
-				if (Integer.parseInt(strValues[11].trim(), 16) == 1) { //automatic summer time
-					this.isAutoDstOffset = true;
-				}
-				this.firmwareVersion = String.format("%.2f", Integer.parseInt(strValues[54].trim(), 16)/100.0); //$NON-NLS-1$
-
-				break;
-			case SETUP: // setup SM GPS-Logger firmware 1.00
+		NMEA sentenceType = getSentenceType(this.sentence); // {$GPRMC,162614,A,5230.5900,N,01322.3900,E,10.0,90.0,131006,1.2,E,A*13}
+		if (sentenceType == null) {
+			String signature = this.sentence.getString(0).substring(1);
+			if (!missingImpleWarned.contains(signature)) {
+				log.logp(Level.WARNING, $CLASS_NAME, $METHOD_NAME, "line number " + this.lineNumber + " - NMEA sentence = " + signature + " actually not implemented!"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				missingImpleWarned.add(signature);
+			}
+			return;
+		}
+		// GPS and UniLog2 data sentences are decoded in place, the other sentences occur rarely or contain units and are split into strings
+		String[] strValues = NMEAParser.IN_PLACE_SENTENCES.contains(sentenceType) ? null : inputLine.split(this.separator);
+
+		switch (sentenceType) {
+		case GPRMC: //Recommended Minimum Sentence C (RMC)
+		case GNRMC: //Recommended Minimum Sentence C (RMC)
+			parseRMC(this.sentence);
+			break;
+		case GPGGA: //Global Positioning System Fix Data (GGA)				
+		case GNGGA: //Global Positioning System Fix Data (GGA)			
+			parseGGA(this.sentence);
+			break;
+		case GPGNS: //Global Navigation System Fix Data			
+		case GNGNS: //Global Navigation System Fix Data
+			parseGNS(this.sentence);
+			break;
+		case GPGSA: //Satellite status (GSA)
+		case GNGSA: //Satellite status (GSA)
+			parseGSA(this.sentence);
+			break;
+		case GPVTG: // Velocity made good (VTG)
+		case GNVTG: // Velocity made good (VTG)
+			if(!deviceName.startsWith("GPS-Logger")) parseVTG(this.sentence);
+			break;
+		case GPGSV: // Satellites in view (GSV)
+		case GNGSV: // Satellites in view (GSV)
+			parseGSV(this.sentence);
+			break;
+		case GPRMB: // Recommended minimum navigation information (RMB)
+		case GNRMB: // Recommended minimum navigation information (RMB)
+			parseRMB(this.sentence);
+			break;
+		case GPGLL: // Geographic Latitude and Longitude (GLL)
+		case GNGLL: // Geographic Latitude and Longitude (GLL)
+			parseGLL(this.sentence);
+			break;
+		case GPZDA: // Data and Time (ZDA)
+		case GNZDA: // Data and Time (ZDA)
+			parseZDA(this.sentence);
+			break;
+		case SMGPS:
+			if (this.values.length >=15) parseSMGPS(strValues);
+			break;
+		case SMGPS2:
+			if (this.values.length >=19) parseSMGPS2(strValues);
+			break;
+		case UNILOG:
+			if (this.values.length >=24) parseUNILOG(strValues);
+			break;
+		case MLINK:
+			if (this.values.length >=39) parseMLINK(strValues);
+			break;
+		case COMMENT:
+		case KOMMENTAR:
+			//$KOMMENTAR,Extra 300. Kuban Acht. Mit UniLog Daten.*
+			//$KOMMENTAR,Trojan. Ein paar liegende Figuren. Volle M-Link Bestückung.*
+			this.comment = strValues[1].trim();
+			this.comment = this.comment.endsWith(GDE.STRING_STAR) ? this.comment.substring(0, this.comment.length() - 1) : this.comment;
+
+			break;
+		case GPSSETUP:// setup SM GPS-Logger firmware >= 1.01
+			//$GPSSETUP,2F5A,1,1,2,0,5,0,0,0,0,0,0,0,0,0,0,0,17,12C,96,3E8,1EA,1F4,64,7C,64,7D0,0,0,0,0,0,0,0,0,0,0,0,1,3,4,6,7,2,5,8,9,A,B,0,0,0,0,67,1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,9A67*09
+			this.deviceSerialNumber = String.format("%d", Integer.parseInt(strValues[1].trim(), 16)); //$NON-NLS-1$
+			this.timeOffsetUTC = (short) Integer.parseInt(strValues[4].trim(), 16);
+			if (log.isLoggable(Level.TIME)) 
+				log.log(Level.TIME, String.format("timeOffsetUTC = %d", Integer.parseInt(strValues[4].trim(), 16)));
+			if (Integer.parseInt(strValues[11].trim(), 16) == 1) { //automatic summer time
+				this.isAutoDstOffset = true;
+			}
+			this.firmwareVersion = String.format("%.2f", Integer.parseInt(strValues[54].trim(), 16)/100.0); //$NON-NLS-1$
+
+			break;
+		case SETUP: // setup SM GPS-Logger firmware 1.00
 //							try {
 //								byte[] buffer = StringHelper.convert2ByteArray(strValues[1]);
 //								this.timeOffsetUTC = (short) ((buffer[7] << 8) + (buffer[6] & 0x00FF));
@@ -294,157 +314,158 @@ public class NMEAParser implements IDataParser {
 //							catch (Exception e) {
 //								log.logp(Level.WARNING, $CLASS_NAME, $METHOD_NAME, "line number " + this.lineNumber + GDE.STRING_MESSAGE_CONCAT + e.getMessage());
 //							}
-				break;
-			case UL2SETUP: // UniLog2 setup
-				this.deviceSerialNumber = String.format("%d", Integer.parseInt(strValues[1].trim(), 16)); //$NON-NLS-1$
-				this.firmwareVersion = String.format("%.2f", Integer.parseInt(strValues[2].trim(), 16)/100.0); //$NON-NLS-1$
-				//0 = „Temperatur“, 1 = „Millivolt“; 2 =„Speed-Sensor 250 kph“, 3 =̈„Speed-Sensor 450 kph“, 4 =„Temperatur PT1000“
-				byte A1 = (byte) (Integer.parseInt(strValues[9].trim(), 16) & 0xFF);
-				byte A2 = (byte) (Integer.parseInt(strValues[10].trim(), 16) & 0xFF);
-				byte A3 = (byte) (Integer.parseInt(strValues[11].trim(), 16) & 0xFF);
-				String tempName = Settings.getInstance().getLocale().getLanguage().equalsIgnoreCase("de") ? "Temperatur" : "Temperature";
-				this.device.setMeasurementName(this.channelConfigNumber, 17, A1 == 0x00 ? tempName+" A1" : A1 == 0x02 ? "Speed_250 A1" : A1 == 0x03 ? "Speed_450 A1" : A1 == 0x04 ? "PT1000 A1" : "Millivolt A1");
-				this.device.setMeasurementName(this.channelConfigNumber, 18, A2 == 0x00 ? tempName+" A2" : A2 == 0x02 ? "Speed_250 A2" : A2 == 0x03 ? "Speed_450 A2" : A2 == 0x04 ? "PT1000 A2" : "Millivolt A2");
-				this.device.setMeasurementName(this.channelConfigNumber, 19, A3 == 0x00 ? tempName+" A3" : A3 == 0x02 ? "Speed_250 A3" : A3 == 0x03 ? "Speed_450 A3" : A3 == 0x04 ? "PT1000 A3" : "Millivolt A3");
-				this.device.setMeasurementUnit(this.channelConfigNumber, 17, A1 == 0x00 || A1 == 0x04 ? "°C" : A1 == 0x02 || A1 == 0x03 ? "km/h" : "mV");
-				this.device.setMeasurementUnit(this.channelConfigNumber, 18, A2 == 0x00 || A2 == 0x04 ? "°C" : A2 == 0x02 || A2 == 0x03 ? "km/h" : "mV");
-				this.device.setMeasurementUnit(this.channelConfigNumber, 19, A3 == 0x00 || A2 == 0x04 ? "°C" : A3 == 0x02 || A3 == 0x03 ? "km/h" : "mV");
-				break;
-			case UL2:
-				if (this.values.length >=25){
-					if (this.deviceName.equals("UniLog2")) {
-						//0=VoltageRx, 1=Voltage, 2=Current, 3=Capacity, 4=Power, 5=Energy, 6=CellBalance, 7=CellVoltage1, 8=CellVoltage2, 9=CellVoltage3, 
-						//10=CellVoltage4, 11=CellVoltage5, 12=CellVoltage6, 13=Revolution, 14=Efficiency, 15=Altitude, 16=Climb, 17=ValueA1, 18=ValueA2, 19=ValueA3,
-						//20=ValueCollector, 21=InternTemperature, 22=ServoImpuls In, 23=ServoImpuls Out, 
-						//M-LINK 24=valAdd00 25=valAdd01 26=valAdd02 27=valAdd03 28=valAdd04 29=valAdd05 30=valAdd06 31=valAdd07 32=valAdd08 33=valAdd09 34=valAdd10 35=valAdd11 36=valAdd12 37=valAdd13 38=valAdd14;
+			break;
+		case UL2SETUP: // UniLog2 setup
+			this.deviceSerialNumber = String.format("%d", Integer.parseInt(strValues[1].trim(), 16)); //$NON-NLS-1$
+			this.firmwareVersion = String.format("%.2f", Integer.parseInt(strValues[2].trim(), 16)/100.0); //$NON-NLS-1$
+			//0 = „Temperatur“, 1 = „Millivolt“; 2 =„Speed-Sensor 250 kph“, 3 =̈„Speed-Sensor 450 kph“, 4 =„Temperatur PT1000“
+			byte A1 = (byte) (Integer.parseInt(strValues[9].trim(), 16) & 0xFF);
+			byte A2 = (byte) (Integer.parseInt(strValues[10].trim(), 16) & 0xFF);
+			byte A3 = (byte) (Integer.parseInt(strValues[11].trim(), 16) & 0xFF);
+			String tempName = Settings.getInstance().getLocale().getLanguage().equalsIgnoreCase("de") ? "Temperatur" : "Temperature";
+			this.device.setMeasurementName(this.channelConfigNumber, 17, A1 == 0x00 ? tempName+" A1" : A1 == 0x02 ? "Speed_250 A1" : A1 == 0x03 ? "Speed_450 A1" : A1 == 0x04 ? "PT1000 A1" : "Millivolt A1");
+			this.device.setMeasurementName(this.channelConfigNumber, 18, A2 == 0x00 ? tempName+" A2" : A2 == 0x02 ? "Speed_250 A2" : A2 == 0x03 ? "Speed_450 A2" : A2 == 0x04 ? "PT1000 A2" : "Millivolt A2");
+			this.device.setMeasurementName(this.channelConfigNumber, 19, A3 == 0x00 ? tempName+" A3" : A3 == 0x02 ? "Speed_250 A3" : A3 == 0x03 ? "Speed_450 A3" : A3 == 0x04 ? "PT1000 A3" : "Millivolt A3");
+			this.device.setMeasurementUnit(this.channelConfigNumber, 17, A1 == 0x00 || A1 == 0x04 ? "°C" : A1 == 0x02 || A1 == 0x03 ? "km/h" : "mV");
+			this.device.setMeasurementUnit(this.channelConfigNumber, 18, A2 == 0x00 || A2 == 0x04 ? "°C" : A2 == 0x02 || A2 == 0x03 ? "km/h" : "mV");
+			this.device.setMeasurementUnit(this.channelConfigNumber, 19, A3 == 0x00 || A2 == 0x04 ? "°C" : A3 == 0x02 || A3 == 0x03 ? "km/h" : "mV");
+			break;
+		case UL2:
+			if (this.values.length >=25){
+				if (this.deviceName.equals("UniLog2")) {
+					//0=VoltageRx, 1=Voltage, 2=Current, 3=Capacity, 4=Power, 5=Energy, 6=CellBalance, 7=CellVoltage1, 8=CellVoltage2, 9=CellVoltage3, 
+					//10=CellVoltage4, 11=CellVoltage5, 12=CellVoltage6, 13=Revolution, 14=Efficiency, 15=Altitude, 16=Climb, 17=ValueA1, 18=ValueA2, 19=ValueA3,
+					//20=ValueCollector, 21=InternTemperature, 22=ServoImpuls In, 23=ServoImpuls Out, 
+					//M-LINK 24=valAdd00 25=valAdd01 26=valAdd02 27=valAdd03 28=valAdd04 29=valAdd05 30=valAdd06 31=valAdd07 32=valAdd08 33=valAdd09 34=valAdd10 35=valAdd11 36=valAdd12 37=valAdd13 38=valAdd14;
+					//inOutMapping  000, 001, 002, 003, 004, 005, 006, 007, 008, 009, 010, 011, 012, 013, 014, 015, 016, 017, 018, 019, 020, 021, 022, 023, 024, 025
+					int[] in2out = { -1,  -1,  -1,  -1,   1,   2,  15,  16,   4,  13,   0,   3,   5,  17,  18,  19,   7,   8,   9,  10,  11,  12,  20,  21,  22,  23};
+					parseUNILOG2(this.sentence, in2out, 6, true);
+				}
+				else if (this.deviceName.equals("GPS-Logger")) {
+					if (this.channelConfigNumber == 2) {
+						//UL2 4:voltage, 5:current, 6:height, 7:climb, 8:power, 9:revolution, 11:capacity, 12:energy, 13:valueA1, 14:valueA2, 15:valueA3, 
+						//UL2 16:cellvoltage1, 17:cellvoltage2, 18:cellvoltage3, 19:cellvoltage4, 20:cellvoltage5, 21:cellvoltage6, 23:temperature intern
+						//GPS 		0=latitude 1=longitude 2=altitudeGPS 3=numSatelites 4=PDOP 5=HDOP 6=VDOP 7=velocity;
+						//begin GDE 3.4.9
+						//GPS 		0=latitude 1=longitude 2=altitudeGPS 3=numSatelites 4=PDOP 5=HDOP 6=VDOP 7=velocity;
+						//SMGPS 	8=altitudeRel 9=climb 10=voltageRx 11=distanceTotal 12=distanceStart 13=directionStart 14=azimuth/track 15=GlideRatio 16=SpeedGlideRatio;
+						//CH2-UniLog2
+						//Unilog2 17=Voltage, 18=Current, 19=Capacity, 20=Power, 21=Energy, 222=CellBalance, 23=CellVoltage1, 24=CellVoltage2, 25=CellVoltage3, 
+						//Unilog2 26=CellVoltage4, 27=CellVoltage5, 28=CellVoltage6, 29=Revolution, 30=ValueA1, 31=ValueA2, 32=ValueA3, 33=InternTemperature
+						//M-LINK  34=valAdd00 35=valAdd01 36=valAdd02 37=valAdd03 38=valAdd04 39=valAdd05 40=valAdd06 41=valAdd07 42=valAdd08 43=valAdd09 44=valAdd10 45=valAdd11 46=valAdd12 47=valAdd13 48=valAdd14;
 						//inOutMapping  000, 001, 002, 003, 004, 005, 006, 007, 008, 009, 010, 011, 012, 013, 014, 015, 016, 017, 018, 019, 020, 021, 022, 023, 024, 025
-						int[] in2out = { -1,  -1,  -1,  -1,   1,   2,  15,  16,   4,  13,   0,   3,   5,  17,  18,  19,   7,   8,   9,  10,  11,  12,  20,  21,  22,  23};
-						parseUNILOG2(strValues, in2out, 6, true);
+					//int[] in2out = { -1,  -1,  -1,  -1,  15,  16,  -1,  -1,  18,  27,  -1,  17,  19,  28,  29,  30,  21,  22,  23,  24,  25,  26,  -1,  31,  -1,  -1};
+						int[] in2out = { -1,  -1,  -1,  -1,  17,  18,  -1,  -1,  20,  29,  -1,  19,  21,  30,  31,  32,  23,  24,  25,  26,  27,  28,  -1,  33,  -1,  -1};
+						parseUNILOG2(this.sentence, in2out, 20, false);								
 					}
-					else if (this.deviceName.equals("GPS-Logger")) {
-						if (this.channelConfigNumber == 2) {
-							//UL2 4:voltage, 5:current, 6:height, 7:climb, 8:power, 9:revolution, 11:capacity, 12:energy, 13:valueA1, 14:valueA2, 15:valueA3, 
-							//UL2 16:cellvoltage1, 17:cellvoltage2, 18:cellvoltage3, 19:cellvoltage4, 20:cellvoltage5, 21:cellvoltage6, 23:temperature intern
-							//GPS 		0=latitude 1=longitude 2=altitudeGPS 3=numSatelites 4=PDOP 5=HDOP 6=VDOP 7=velocity;
-							//begin GDE 3.4.9
-							//GPS 		0=latitude 1=longitude 2=altitudeGPS 3=numSatelites 4=PDOP 5=HDOP 6=VDOP 7=velocity;
-							//SMGPS 	8=altitudeRel 9=climb 10=voltageRx 11=distanceTotal 12=distanceStart 13=directionStart 14=azimuth/track 15=GlideRatio 16=SpeedGlideRatio;
-							//CH2-UniLog2
-							//Unilog2 17=Voltage, 18=Current, 19=Capacity, 20=Power, 21=Energy, 222=CellBalance, 23=CellVoltage1, 24=CellVoltage2, 25=CellVoltage3, 
-							//Unilog2 26=CellVoltage4, 27=CellVoltage5, 28=CellVoltage6, 29=Revolution, 30=ValueA1, 31=ValueA2, 32=ValueA3, 33=InternTemperature
-							//M-LINK  34=valAdd00 35=valAdd01 36=valAdd02 37=valAdd03 38=valAdd04 39=valAdd05 40=valAdd06 41=valAdd07 42=valAdd08 43=valAdd09 44=valAdd10 45=valAdd11 46=valAdd12 47=valAdd13 48=valAdd14;
-							//inOutMapping  000, 001, 002, 003, 004, 005, 006, 007, 008, 009, 010, 011, 012, 013, 014, 015, 016, 017, 018, 019, 020, 021, 022, 023, 024, 025
-						//int[] in2out = { -1,  -1,  -1,  -1,  15,  16,  -1,  -1,  18,  27,  -1,  17,  19,  28,  29,  30,  21,  22,  23,  24,  25,  26,  -1,  31,  -1,  -1};
-							int[] in2out = { -1,  -1,  -1,  -1,  17,  18,  -1,  -1,  20,  29,  -1,  19,  21,  30,  31,  32,  23,  24,  25,  26,  27,  28,  -1,  33,  -1,  -1};
-							parseUNILOG2(strValues, in2out, 20, false);								
-						}
-					}
-					else if (this.deviceName.equals("GPS-Logger2") || this.deviceName.equals("GPS-Logger3")) {
-						if (this.channelConfigNumber == 2) {
-							//UL2 4:voltage, 5:current, 6:height, 7:climb, 8:power, 9:revolution, 11:capacity, 12:energy, 13:valueA1, 14:valueA2, 15:valueA3, 
-							//UL2 16:cellvoltage1, 17:cellvoltage2, 18:cellvoltage3, 19:cellvoltage4, 20:cellvoltage5, 21:cellvoltage6, 23:temperature intern
-							//GPS 		0=latitude 1=longitude 2=altitudeGPS 3=numSatelites 4=PDOP 5=HDOP 6=VDOP 7=velocity;
-							//SMGPS 	8=altitudeRel 9=climb 10=voltageRx 11=distanceTotal 12=distanceStart 13=directionStart 14=direction;
-							//SMGPS2 	15=AccelerationX 16=AccelerationY 17=AccelerationZ 18=ENL 19=Impuls
-							//CH2-UniLog2
-							//Unilog2 	20=Voltage, 21=Current, 22=Capacity, 23=Power, 24=Energy, 25=CellBalance, 26=CellVoltage1, 27=CellVoltage2, 28=CellVoltage3, 
-							//Unilog2 	29=CellVoltage4, 30=CellVoltage5, 31=CellVoltage6, 32=Revolution, 33=ValueA1, 34=ValueA2, 35=ValueA3, 36=InternTemperature
-							//M-LINK  	37=valAdd00 38=valAdd01 39=valAdd02 40=valAdd03 41=valAdd04 42=valAdd05 43=valAdd06 44=valAdd07 45=valAdd08 46=valAdd09 47=valAdd10 48=valAdd11 49=valAdd12 50=valAdd13 51=valAdd14;
-							//inOutMapping  000, 001, 002, 003, 004, 005, 006, 007, 008, 009, 010, 011, 012, 013, 014, 015, 016, 017, 018, 019, 020, 021, 022, 023, 024, 025
-							//int[] in2out = { -1,  -1,  -1,  -1,  20,  21,  -1,  -1,  23,  32,  -1,  22,  24,  33,  34,  35,  26,  27,  28,  29,  30,  31,  -1,  36,  -1,  -1};
-							//begin FW1.26
-							//GPS 		0=latitude 1=longitude 2=altitudeGPS 3=numSatelites 4=PDOP 5=HDOP 6=VDOP 7=velocity;
-							//SMGPS 	8=altitudeRel 9=climb 10=voltageRx 11=distanceTotal 12=distanceStart 13=directionStart 14=azimuth/track 15=GlideRatio 16=SpeedGlideRatio;
-							//SMGPS2 17=AccelerationX 18=AccelerationY 19=AccelerationZ 20=ENL 21=Impulse 22=AirSpeed 23=pressure static 24=pressure TEK 25=climb TEK
-							//CH2-UniLog2
-							//Unilog2 26=voltage_UL 27=current_UL2 28=capacity_UL2 29=power_UL2 30=energy_UL2 31=balance_UL 32=cellVoltage1 33=cellVolt2_ul 34=cellVolltage3_UL 35=cellVoltage4_UL 36=cellVoltage5_UL 37=cellVoltage6_UL 38=revolution_UL 39=a1_UL 40=a2_UL 41=a3_UL 42=temp_UL;
-							//M-LINK 43=valAdd00 44=valAdd01 45=valAdd02 46=valAdd03 47=valAdd04 48=valAdd05 49=valAdd06 50=valAdd07 51=valAdd08 52=valAdd09 53=valAdd10 54=valAdd11 55=valAdd12 56=valAdd13 57=valAdd14;
-							//inOutMapping  000, 001, 002, 003, 004, 005, 006, 007, 008, 009, 010, 011, 012, 013, 014, 015, 016, 017, 018, 019, 020, 021, 022, 023, 024, 025
+				}
+				else if (this.deviceName.equals("GPS-Logger2") || this.deviceName.equals("GPS-Logger3")) {
+					if (this.channelConfigNumber == 2) {
+						//UL2 4:voltage, 5:current, 6:height, 7:climb, 8:power, 9:revolution, 11:capacity, 12:energy, 13:valueA1, 14:valueA2, 15:valueA3, 
+						//UL2 16:cellvoltage1, 17:cellvoltage2, 18:cellvoltage3, 19:cellvoltage4, 20:cellvoltage5, 21:cellvoltage6, 23:temperature intern
+						//GPS 		0=latitude 1=longitude 2=altitudeGPS 3=numSatelites 4=PDOP 5=HDOP 6=VDOP 7=velocity;
+						//SMGPS 	8=altitudeRel 9=climb 10=voltageRx 11=distanceTotal 12=distanceStart 13=directionStart 14=direction;
+						//SMGPS2 	15=AccelerationX 16=AccelerationY 17=AccelerationZ 18=ENL 19=Impuls
+						//CH2-UniLog2
+						//Unilog2 	20=Voltage, 21=Current, 22=Capacity, 23=Power, 24=Energy, 25=CellBalance, 26=CellVoltage1, 27=CellVoltage2, 28=CellVoltage3, 
+						//Unilog2 	29=CellVoltage4, 30=CellVoltage5, 31=CellVoltage6, 32=Revolution, 33=ValueA1, 34=ValueA2, 35=ValueA3, 36=InternTemperature
+						//M-LINK  	37=valAdd00 38=valAdd01 39=valAdd02 40=valAdd03 41=valAdd04 42=valAdd05 43=valAdd06 44=valAdd07 45=valAdd08 46=valAdd09 47=valAdd10 48=valAdd11 49=valAdd12 50=valAdd13 51=valAdd14;
+						//inOutMapping  000, 001, 002, 003, 004, 005, 006, 007, 008, 009, 010, 011, 012, 013, 014, 015, 016, 017, 018, 019, 020, 021, 022, 023, 024, 025
 						//int[] in2out = { -1,  -1,  -1,  -1,  20,  21,  -1,  -1,  23,  32,  -1,  22,  24,  33,  34,  35,  26,  27,  28,  29,  30,  31,  -1,  36,  -1,  -1};
-							int[] in2out = { -1,  -1,  -1,  -1,  26,  27,  -1,  -1,  29,  38,  -1,  28,  30,  39,  40,  41,  32,  33,  34,  35,  36,  37,  -1,  42,  -1,  -1};
-							if (log.isLoggable(Level.FINE)) 
-								log.log(Level.FINE, String.format("isNmeaSentenceTime = %b", this.isNmeaSentenceTime));
-							parseUNILOG2(strValues, in2out, 31, !this.isNmeaSentenceTime);								
-						}
+						//begin FW1.26
+						//GPS 		0=latitude 1=longitude 2=altitudeGPS 3=numSatelites 4=PDOP 5=HDOP 6=VDOP 7=velocity;
+						//SMGPS 	8=altitudeRel 9=climb 10=voltageRx 11=distanceTotal 12=distanceStart 13=directionStart 14=azimuth/track 15=GlideRatio 16=SpeedGlideRatio;
+						//SMGPS2 17=AccelerationX 18=AccelerationY 19=AccelerationZ 20=ENL 21=Impulse 22=AirSpeed 23=pressure static 24=pressure TEK 25=climb TEK
+						//CH2-UniLog2
+						//Unilog2 26=voltage_UL 27=current_UL2 28=capacity_UL2 29=power_UL2 30=energy_UL2 31=balance_UL 32=cellVoltage1 33=cellVolt2_ul 34=cellVolltage3_UL 35=cellVoltage4_UL 36=cellVoltage5_UL 37=cellVoltage6_UL 38=revolution_UL 39=a1_UL 40=a2_UL 41=a3_UL 42=temp_UL;
+						//M-LINK 43=valAdd00 44=valAdd01 45=valAdd02 46=valAdd03 47=valAdd04 48=valAdd05 49=valAdd06 50=valAdd07 51=valAdd08 52=valAdd09 53=valAdd10 54=valAdd11 55=valAdd12 56=valAdd13 57=valAdd14;
+						//inOutMapping  000, 001, 002, 003, 004, 005, 006, 007, 008, 009, 010, 011, 012, 013, 014, 015, 016, 017, 018, 019, 020, 021, 022, 023, 024, 025
+					//int[] in2out = { -1,  -1,  -1,  -1,  20,  21,  -1,  -1,  23,  32,  -1,  22,  24,  33,  34,  35,  26,  27,  28,  29,  30,  31,  -1,  36,  -1,  -1};
+						int[] in2out = { -1,  -1,  -1,  -1,  26,  27,  -1,  -1,  29,  38,  -1,  28,  30,  39,  40,  41,  32,  33,  34,  35,  36,  37,  -1,  42,  -1,  -1};
+						if (log.isLoggable(Level.FINE)) 
+							log.log(Level.FINE, String.format("isNmeaSentenceTime = %b", this.isNmeaSentenceTime));
+						parseUNILOG2(this.sentence, in2out, 31, !this.isNmeaSentenceTime);								
 					}
 				}
-				break;
-			case SETUP1:// setup Multiplex FlightRecorder - time and addresses
-				//$SETUP1;Time;;; A:02;;;;;;; A:09; A:10; A:11;
-				//GPGGA	0=latitude 1=longitude 2=altitudeGPS 3=numSatelites
-				for (int i = 4, j = 2; i < this.device.getNumberOfMeasurements(channelConfigNumber); i++, j++) {
-					if (j < strValues.length && strValues[j].trim().length() > 0) {
-						String name = strValues[j].trim();//$NON-NLS-1$
-						this.device.setMeasurementName(channelConfigNumber, i, StringHelper.transfer(new String(name.getBytes("ISO-8859-1"), "UTF-8")));
-					}						
-					else {
-						this.device.setMeasurementName(channelConfigNumber, i, String.format("%d????", i));
-					}
+			}
+			break;
+		case SETUP1:// setup Multiplex FlightRecorder - time and addresses
+			//$SETUP1;Time;;; A:02;;;;;;; A:09; A:10; A:11;
+			//GPGGA	0=latitude 1=longitude 2=altitudeGPS 3=numSatelites
+			for (int i = 4, j = 2; i < this.device.getNumberOfMeasurements(channelConfigNumber); i++, j++) {
+				if (j < strValues.length && strValues[j].trim().length() > 0) {
+					String name = strValues[j].trim();//$NON-NLS-1$
+					this.device.setMeasurementName(channelConfigNumber, i, StringHelper.transfer(new String(name.getBytes("ISO-8859-1"), "UTF-8")));
+				}						
+				else {
+					this.device.setMeasurementName(channelConfigNumber, i, String.format("%d????", i));
 				}
-				break;
-			case SETUP2:// setup Multiplex FlightRecorder
-				//$SETUP2;sec ;;;   °C;;;;;;; km/h;    m;    m;
-				//GPGGA	0=latitude 1=longitude 2=altitudeGPS 3=numSatelites
-				for (int i = 4, j = 2; i < this.device.getNumberOfMeasurements(channelConfigNumber); i++, j++) {
-					if (j < strValues.length &&  strValues[j].trim().length() > 0) {
-						String unit = strValues[j].trim();
-						this.device.setMeasurementUnit(channelConfigNumber, i, StringHelper.transfer(new String(unit.getBytes("ISO-8859-1"), "UTF-8")));
-					}
-					else {
-						this.device.setMeasurementUnit(channelConfigNumber, i, GDE.STRING_EMPTY);
-					}
+			}
+			break;
+		case SETUP2:// setup Multiplex FlightRecorder
+			//$SETUP2;sec ;;;   °C;;;;;;; km/h;    m;    m;
+			//GPGGA	0=latitude 1=longitude 2=altitudeGPS 3=numSatelites
+			for (int i = 4, j = 2; i < this.device.getNumberOfMeasurements(channelConfigNumber); i++, j++) {
+				if (j < strValues.length &&  strValues[j].trim().length() > 0) {
+					String unit = strValues[j].trim();
+					this.device.setMeasurementUnit(channelConfigNumber, i, StringHelper.transfer(new String(unit.getBytes("ISO-8859-1"), "UTF-8")));
 				}
-				if (log.isLoggable(Level.FINE)) {
-					StringBuilder sb = new StringBuilder();
-					String [] names = this.device.getMeasurementNamesReplacements(channelConfigNumber);
-					for (int i = 0; i < this.device.getNumberOfMeasurements(channelConfigNumber); i++) {
-						sb.append(String.format("\n%s %s", names[i], this.device.getMeasurementUnit(channelConfigNumber, i)));
-					}
-					log.log(Level.OFF, sb.toString());
+				else {
+					this.device.setMeasurementUnit(channelConfigNumber, i, GDE.STRING_EMPTY);
 				}
-				break;
-			case D:// data Multiplex FlightRecorder
-				//$D;0000,95;;;8,9;;;;;;;0,0;-14;0;*33
-				parseMpxD(strValues);
-				break;
 			}
-		}
-		catch (Exception e) {
-			if (e instanceof IllegalArgumentException && e.getMessage().contains("No enum")) { //$NON-NLS-1$
-				if (!missingImpleWarned.contains(strValues[0].substring(1))) {
-					log.logp(Level.WARNING, $CLASS_NAME, $METHOD_NAME, "line number " + this.lineNumber + " - NMEA sentence = " + strValues[0].substring(1) + " actually not implemented!"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-					missingImpleWarned.add(strValues[0].substring(1));
+			if (log.isLoggable(Level.FINE)) {
+				StringBuilder sb = new StringBuilder();
+				String [] names = this.device.getMeasurementNamesReplacements(channelConfigNumber);
+				for (int i = 0; i < this.device.getNumberOfMeasurements(channelConfigNumber); i++) {
+					sb.append(String.format("\n%s %s", names[i], this.device.getMeasurementUnit(channelConfigNumber, i)));
 				}
+				log.log(Level.OFF, sb.toString());
 			}
-			else {
-				throw e;
-			}
+			break;
+		case D:// data Multiplex FlightRecorder
+			//$D;0000,95;;;8,9;;;;;;;0,0;-14;0;*33
+			parseMpxD(strValues);
+			break;
 		}
 	}
 
 	/**
 	 * check sentence checkSum against last two bytes hex value
 	 * checksum is build of exclusive or between $ and *
-	 * @param strValues
+	 * @param nmeaSentence
 	 */
-	boolean isChecksumOK(String sentence) {
+	boolean isChecksumOK(NMEASentence nmeaSentence) {
 		boolean isOK = true;
 		try {
-			String hexCheckSum = sentence.trim().substring(sentence.indexOf(GDE.CHAR_STAR) + 1);
-			if (hexCheckSum.length() == 2) {
-				int tmpCheckSum = Integer.parseInt(hexCheckSum, 16);
-				String subSentence = sentence.substring(1, sentence.indexOf(GDE.CHAR_STAR));
-				isOK = tmpCheckSum == Checksum.XOR(subSentence.toCharArray());
+			int indexStar = nmeaSentence.indexOf(GDE.CHAR_STAR);
+			int end = nmeaSentence.trimmedLength();
+			if (indexStar + 1 > end) throw new StringIndexOutOfBoundsException("begin " + (indexStar + 1) + ", end " + end + ", length " + end); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			if (end - indexStar - 1 == 2) {
+				int tmpCheckSum = nmeaSentence.parseHex(indexStar + 1, end);
+				if (indexStar < 1) throw new StringIndexOutOfBoundsException("begin 1, end " + indexStar + ", length " + nmeaSentence.length()); //$NON-NLS-1$ //$NON-NLS-2$
+				isOK = tmpCheckSum == nmeaSentence.xor(1, indexStar);
 				if (!isOK) 
-					log.logp(Level.WARNING, $CLASS_NAME, "parse()", String.format("line number %d : checkSum 0x%s missmatch 0x%02X in %s!", this.lineNumber, hexCheckSum, Checksum.XOR(subSentence.getBytes()), subSentence)); //$NON-NLS-1$ //$NON-NLS-2$
+					log.logp(Level.WARNING, $CLASS_NAME, "parse()", String.format("line number %d : checkSum 0x%s missmatch 0x%02X in %s!", this.lineNumber, nmeaSentence.substring(indexStar + 1, end), Checksum.XOR(nmeaSentence.substring(1, indexStar).getBytes()), nmeaSentence.substring(1, indexStar))); //$NON-NLS-1$ //$NON-NLS-2$
 			}
 		}
 		catch (Exception e) {
-			log.logp(Level.WARNING, $CLASS_NAME, "isChecksumOK()", "line number " + this.lineNumber + GDE.STRING_BLANK + e.getClass().getSimpleName() + GDE.STRING_BLANK + e.getMessage() + " in " + sentence); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			log.logp(Level.WARNING, $CLASS_NAME, "isChecksumOK()", "line number " + this.lineNumber + GDE.STRING_BLANK + e.getClass().getSimpleName() + GDE.STRING_BLANK + e.getMessage() + " in " + nmeaSentence.substring(0, nmeaSentence.length())); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		}
 		return isOK;
 	}
 
+	/**
+	 * @param nmeaSentence
+	 * @return the sentence type matching the signature in field 0 or null if not implemented
+	 */
+	static NMEA getSentenceType(NMEASentence nmeaSentence) {
+		for (NMEA sentenceType : NMEA.VALUES) {
+			if (nmeaSentence.isSignature(sentenceType.name())) return sentenceType;
+		}
+		return null;
+	}
+
 	/**
 	 * check and correct time offset for GPS-Logger which allow to configure automatically DST adjustment for file time stamps
 	 * @param calendar
@@ -477,33 +498,31 @@ public class NMEAParser implements IDataParser {
 	 * <li> 003.1,W      Magnetic Variation												</li>
 	 * <li> *6A          The checksum data, always begins with *	</li>
 	 * </ul>
-	 * @param strValues
+	 * @param fields
 	 */
-	void parseRMC(String[] strValues) {
-		if (strValues[2].equals("A")) { //$NON-NLS-1$ //$NON-NLS-2$
+	void parseRMC(NMEASentence fields) {
+		if (fields.equals(2, "A")) { //$NON-NLS-1$ //$NON-NLS-2$
 			if (this.date == null) {
-				String strValueDate = strValues[9].trim();
-				if (strValueDate.length() < 6) return; //invalid values in RMC sentence
-				this.year = Integer.parseInt(strValueDate.substring(4));
+				if (fields.length(9) < 6) return; //invalid values in RMC sentence
+				this.year = fields.parseInt(9, 4, fields.length(9));
 				this.year = this.year > 50 ? this.year + 1900 : this.year + 2000;
-				this.month = Integer.parseInt(strValueDate.substring(2, 4));
-				this.day = Integer.parseInt(strValueDate.substring(0, 2));
+				this.month = fields.parseInt(9, 2, 4);
+				this.day = fields.parseInt(9, 0, 2);
 			}
-			String strValueTime = strValues[1].trim();
-			if (strValueTime.length() < 9) return; //invalid values in RMC sentence
+			if (fields.length(1) < 9) return; //invalid values in RMC sentence
 			
-			int hour = Integer.parseInt(strValueTime.substring(0, 2)) + this.timeOffsetUTC;
-			int minute = Integer.parseInt(strValueTime.substring(2, 4));
-			int second = Integer.parseInt(strValueTime.substring(4, 6));
+			int hour = fields.parseInt(1, 0, 2) + this.timeOffsetUTC;
+			int minute = fields.parseInt(1, 2, 4);
+			int second = fields.parseInt(1, 4, 6);
 			GregorianCalendar calendar = new GregorianCalendar(this.year, this.month - 1, this.day, hour, minute, second);
 			this.isNmeaSentenceTime = true;
 			if (this.isAutoDstOffset && this.dstOffset == Short.MIN_VALUE) {
 				this.correctDstOffset(calendar);
 			}
-			int indexAfterDot = strValueTime.indexOf(GDE.CHAR_DOT) + 1;
-			long timeStamp = calendar.getTimeInMillis() + (indexAfterDot > 0  && strValueTime.length() >= indexAfterDot + 2 ? Long.parseLong(strValueTime.substring(indexAfterDot, indexAfterDot + 2)) * 10 : 0);
+			int indexAfterDot = fields.indexOf(1, GDE.CHAR_DOT) + 1;
+			long timeStamp = calendar.getTimeInMillis() + (indexAfterDot > 0  && fields.length(1) >= indexAfterDot + 2 ? fields.parseInt(1, indexAfterDot, indexAfterDot + 2) * 10L : 0);
 			if (log.isLoggable(Level.FINER))
-				log.log(Level.FINER, "RMC " + Integer.parseInt(strValueTime.substring(indexAfterDot, indexAfterDot + 2)) * 10); //$NON-NLS-1$);
+				log.log(Level.FINER, "RMC " + fields.parseInt(1, indexAfterDot, indexAfterDot + 2) * 10); //$NON-NLS-1$);
 
 			if (this.lastTimeStamp < timeStamp) {
 				this.time_ms = (int) (this.lastTimeStamp == 0 ? 0 : this.time_ms + (timeStamp - this.lastTimeStamp));
@@ -516,27 +535,27 @@ public class NMEAParser implements IDataParser {
 
 				int latitude, longitude, velocity, magneticVariation;
 				try {
-					latitude = (int) (Double.valueOf(strValues[3].trim())*10000);
-					latitude = strValues[4].trim().equalsIgnoreCase("N") ? latitude : -1 * latitude;  //$NON-NLS-1$
+					latitude = (int) (fields.parseDouble(3)*10000);
+					latitude = fields.equalsIgnoreCase(4, "N") ? latitude : -1 * latitude;  //$NON-NLS-1$
 				}
 				catch (Exception e) {
 					latitude = this.values[0];
 				}
 				try {
-					longitude = (int) (Double.valueOf(strValues[5].trim())*10000);
-					longitude = strValues[6].trim().equalsIgnoreCase("E") ? longitude : -1 * longitude;  //$NON-NLS-1$
+					longitude = (int) (fields.parseDouble(5)*10000);
+					longitude = fields.equalsIgnoreCase(6, "E") ? longitude : -1 * longitude;  //$NON-NLS-1$
 				}
 				catch (Exception e) {
 					longitude = this.values[1];
 				}
 				try {
-					velocity = (int) (Double.parseDouble(strValues[7].trim()) * 1852.0);
+					velocity = (int) (fields.parseDouble(7) * 1852.0);
 				}
 				catch (Exception e) {
 					velocity = this.values[7];
 				}
 				try {
-					magneticVariation = strValues[10].trim().length() > 0 ? (int) (Double.parseDouble(strValues[10].trim()) * 1000.0) : this.values[10];
+					magneticVariation = fields.length(10) > 0 ? (int) (fields.parseDouble(10) * 1000.0) : this.values[10];
 				}
 				catch (Exception e) {
 					magneticVariation = this.values[8];
@@ -585,26 +604,25 @@ public class NMEAParser implements IDataParser {
 	 * <li> (empty field) DGPS station ID number
 	 * <li> *47          the checksum data, always begins with *
 	 * </ul>
-	 * @param strValues
+	 * @param fields
 	 */
-	void parseGGA(String[] strValues) {
-		if (strValues[6].trim().length() == 0 || Integer.parseInt(strValues[6].trim()) > 0) { //fix quality 
-			String strValueTime = strValues[1].trim();
+	void parseGGA(NMEASentence fields) {
+		if (fields.length(6) == 0 || fields.parseTrimmedInt(6) > 0) { //fix quality 
 			long timeStamp = 0l;
-			if (strValueTime.length() < 9) return;
+			if (fields.length(1) < 9) return;
 			
-			int hour = Integer.parseInt(strValueTime.substring(0, 2)) + this.timeOffsetUTC;
-			int minute = Integer.parseInt(strValueTime.substring(2, 4));
-			int second = Integer.parseInt(strValueTime.substring(4, 6));
+			int hour = fields.parseInt(1, 0, 2) + this.timeOffsetUTC;
+			int minute = fields.parseInt(1, 2, 4);
+			int second = fields.parseInt(1, 4, 6);
 			GregorianCalendar calendar = new GregorianCalendar(this.year, this.month - 1, this.day, hour, minute, second);
 			this.isNmeaSentenceTime = true;
 			if (this.isAutoDstOffset && this.dstOffset == Short.MIN_VALUE) {
 				this.correctDstOffset(calendar);
 			}
-			int indexAfterDot = strValueTime.indexOf(GDE.CHAR_DOT) + 1;
-			timeStamp = calendar.getTimeInMillis() + (indexAfterDot > 0  && strValueTime.length() >= indexAfterDot + 2 ? Integer.parseInt(strValueTime.substring(indexAfterDot, indexAfterDot + 2)) * 10 : 0);
+			int indexAfterDot = fields.indexOf(1, GDE.CHAR_DOT) + 1;
+			timeStamp = calendar.getTimeInMillis() + (indexAfterDot > 0  && fields.length(1) >= indexAfterDot + 2 ? fields.parseInt(1, indexAfterDot, indexAfterDot + 2) * 10 : 0);
 			if (log.isLoggable(Level.FINER))
-				log.log(Level.FINER, "GGA " + Integer.parseInt(strValueTime.substring(indexAfterDot, indexAfterDot + 2)) * 10); //$NON-NLS-1$);
+				log.log(Level.FINER, "GGA " + fields.parseInt(1, indexAfterDot, indexAfterDot + 2) * 10); //$NON-NLS-1$);
 			
 			if (log.isLoggable(Level.FINE)) 
 				log.log(Level.FINE, "GGA " + new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss.SSS").format(timeStamp)); //$NON-NLS-1$);
@@ -614,8 +632,8 @@ public class NMEAParser implements IDataParser {
 			if (this.lastTimeStamp == timeStamp) { // validate sentence  depends to same sentence set
 				try {
 					if (this.values[0] == 0) {
-						latitude = (int) (Double.valueOf(strValues[2].trim())*10000);
-						latitude = strValues[3].trim().equalsIgnoreCase("N") ? latitude : -1 * latitude; //$NON-NLS-1$
+						latitude = (int) (fields.parseDouble(2)*10000);
+						latitude = fields.equalsIgnoreCase(3, "N") ? latitude : -1 * latitude; //$NON-NLS-1$
 					} 
 					else
 						latitude = this.values[0];
@@ -625,8 +643,8 @@ public class NMEAParser implements IDataParser {
 				}
 				try {
 					if (this.values[1] == 0) {
-						longitude = (int) (Double.valueOf(strValues[4].trim())*10000);
-						longitude = strValues[5].trim().equalsIgnoreCase("E") ? longitude : -1 * longitude; //$NON-NLS-1$
+						longitude = (int) (fields.parseDouble(4)*10000);
+						longitude = fields.equalsIgnoreCase(5, "E") ? longitude : -1 * longitude; //$NON-NLS-1$
 					} 
 					else
 						longitude = this.values[1];
@@ -635,13 +653,13 @@ public class NMEAParser implements IDataParser {
 					longitude = this.values[1];
 				}
 				try {
-					numSatelites = Integer.parseInt(strValues[7].trim()) * 1000;
+					numSatelites = fields.parseTrimmedInt(7) * 1000;
 				}
 				catch (Exception e) {
 					numSatelites = this.values[3];
 				}
 				try {
-					altitudeGPS = (int) (Double.parseDouble(strValues[9].trim()) * 1000.0);
+					altitudeGPS = (int) (fields.parseDouble(9) * 1000.0);
 				}
 				catch (Exception e) {
 					altitudeGPS = this.values[2];
@@ -649,27 +667,27 @@ public class NMEAParser implements IDataParser {
 			}
 			else {
 				try {
-						latitude = (int) (Double.valueOf(strValues[2].trim())*10000);
-						latitude = strValues[3].trim().equalsIgnoreCase("N") ? latitude : -1 * latitude; //$NON-NLS-1$
+						latitude = (int) (fields.parseDouble(2)*10000);
+						latitude = fields.equalsIgnoreCase(3, "N") ? latitude : -1 * latitude; //$NON-NLS-1$
 				}
 				catch (Exception e) {
 					latitude = this.values[0];
 				}
 				try {
-						longitude = (int) (Double.valueOf(strValues[4].trim())*10000);
-						longitude = strValues[5].trim().equalsIgnoreCase("E") ? longitude : -1 * longitude; //$NON-NLS-1$
+						longitude = (int) (fields.parseDouble(4)*10000);
+						longitude = fields.equalsIgnoreCase(5, "E") ? longitude : -1 * longitude; //$NON-NLS-1$
 				}
 				catch (Exception e) {
 					longitude = this.values[1];
 				}
 				try {
-					numSatelites = Integer.parseInt(strValues[7].trim()) * 1000;
+					numSatelites = fields.parseTrimmedInt(7) * 1000;
 				}
 				catch (Exception e) {
 					numSatelites = this.values[3];
 				}
 				try {
-					altitudeGPS = (int) (Double.parseDouble(strValues[9].trim()) * 1000.0);
+					altitudeGPS = (int) (fields.parseDouble(9) * 1000.0);
 				}
 				catch (Exception e) {
 					altitudeGPS = this.values[2];
@@ -719,27 +737,25 @@ public class NMEAParser implements IDataParser {
 	 * <li> RRRR  			 DGPS station ID number
 	 * <li> *47          the checksum data, always begins with *
 	 * </ul>
-	 * @param strValues
+	 * @param fields
 	 */
-	void parseGNS(String[] strValues) {
-		String modeIndicator = strValues[6].trim();
-		if (modeIndicator.length() == 0 || modeIndicator.contains("A") || modeIndicator.contains("D") || modeIndicator.contains("P")) { //fix quality 
-			String strValueTime = strValues[1].trim();
+	void parseGNS(NMEASentence fields) {
+		if (fields.length(6) == 0 || fields.contains(6, 'A') || fields.contains(6, 'D') || fields.contains(6, 'P')) { //fix quality 
 			long timeStamp = 0l;
-			if (strValueTime.length() < 9) return;
+			if (fields.length(1) < 9) return;
 			
-			int hour = Integer.parseInt(strValueTime.substring(0, 2)) + this.timeOffsetUTC;
-			int minute = Integer.parseInt(strValueTime.substring(2, 4));
-			int second = Integer.parseInt(strValueTime.substring(4, 6));
+			int hour = fields.parseInt(1, 0, 2) + this.timeOffsetUTC;
+			int minute = fields.parseInt(1, 2, 4);
+			int second = fields.parseInt(1, 4, 6);
 			GregorianCalendar calendar = new GregorianCalendar(this.year, this.month - 1, this.day, hour, minute, second);
 			this.isNmeaSentenceTime = true;
 			if (this.isAutoDstOffset && this.dstOffset == Short.MIN_VALUE) {
 				this.correctDstOffset(calendar);
 			}
-			int indexAfterDot = strValueTime.indexOf(GDE.CHAR_DOT) + 1;
-			timeStamp = calendar.getTimeInMillis() + (indexAfterDot > 0  && strValueTime.length() >= indexAfterDot + 2 ? Integer.parseInt(strValueTime.substring(indexAfterDot, indexAfterDot + 2)) * 10 : 0);
+			int indexAfterDot = fields.indexOf(1, GDE.CHAR_DOT) + 1;
+			timeStamp = calendar.getTimeInMillis() + (indexAfterDot > 0  && fields.length(1) >= indexAfterDot + 2 ? fields.parseInt(1, indexAfterDot, indexAfterDot + 2) * 10 : 0);
 			if (log.isLoggable(Level.FINER))
-				log.log(Level.FINER, "GNS " + Integer.parseInt(strValueTime.substring(indexAfterDot, indexAfterDot + 2)) * 10); //$NON-NLS-1$);
+				log.log(Level.FINER, "GNS " + fields.parseInt(1, indexAfterDot, indexAfterDot + 2) * 10); //$NON-NLS-1$);
 			
 			if (log.isLoggable(Level.FINE)) 
 				log.log(Level.FINE, "GNS " + new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss.SSS").format(timeStamp)); //$NON-NLS-1$);
@@ -749,8 +765,8 @@ public class NMEAParser implements IDataParser {
 			if (this.lastTimeStamp == timeStamp) { // validate sentence  depends to same sentence set
 				try {
 					if (this.values[0] == 0) {
-						latitude = (int) (Double.valueOf(strValues[2].trim())*10000);
-						latitude = strValues[3].trim().equalsIgnoreCase("N") ? latitude : -1 * latitude; //$NON-NLS-1$
+						latitude = (int) (fields.parseDouble(2)*10000);
+						latitude = fields.equalsIgnoreCase(3, "N") ? latitude : -1 * latitude; //$NON-NLS-1$
 					} 
 					else
 						latitude = this.values[0];
@@ -760,8 +776,8 @@ public class NMEAParser implements IDataParser {
 				}
 				try {
 					if (this.values[1] == 0) {
-						longitude = (int) (Double.valueOf(strValues[4].trim())*10000);
-						longitude = strValues[5].trim().equalsIgnoreCase("E") ? longitude : -1 * longitude; //$NON-NLS-1$
+						longitude = (int) (fields.parseDouble(4)*10000);
+						longitude = fields.equalsIgnoreCase(5, "E") ? longitude : -1 * longitude; //$NON-NLS-1$
 					} 
 					else
 						longitude = this.values[1];
@@ -770,13 +786,13 @@ public class NMEAParser implements IDataParser {
 					longitude = this.values[1];
 				}
 				try {
-					numSatelites = Integer.parseInt(strValues[7].trim()) * 1000;
+					numSatelites = fields.parseTrimmedInt(7) * 1000;
 				}
 				catch (Exception e) {
 					numSatelites = this.values[3];
 				}
 				try {
-					altitudeGPS = (int) (Double.parseDouble(strValues[9].trim()) * 1000.0);
+					altitudeGPS = (int) (fields.parseDouble(9) * 1000.0);
 				}
 				catch (Exception e) {
 					altitudeGPS = this.values[2];
@@ -784,27 +800,27 @@ public class NMEAParser implements IDataParser {
 			}
 			else {
 				try {
-						latitude = (int) (Double.valueOf(strValues[2].trim())*10000);
-						latitude = strValues[3].trim().equalsIgnoreCase("N") ? latitude : -1 * latitude; //$NON-NLS-1$
+						latitude = (int) (fields.parseDouble(2)*10000);
+						latitude = fields.equalsIgnoreCase(3, "N") ? latitude : -1 * latitude; //$NON-NLS-1$
 				}
 				catch (Exception e) {
 					latitude = this.values[0];
 				}
 				try {
-						longitude = (int) (Double.valueOf(strValues[4].trim())*10000);
-						longitude = strValues[5].trim().equalsIgnoreCase("E") ? longitude : -1 * longitude; //$NON-NLS-1$
+						longitude = (int) (fields.parseDouble(4)*10000);
+						longitude = fields.equalsIgnoreCase(5, "E") ? longitude : -1 * longitude; //$NON-NLS-1$
 				}
 				catch (Exception e) {
 					longitude = this.values[1];
 				}
 				try {
-					numSatelites = Integer.parseInt(strValues[7].trim()) * 1000;
+					numSatelites = fields.parseTrimmedInt(7) * 1000;
 				}
 				catch (Exception e) {
 					numSatelites = this.values[3];
 				}
 				try {
-					altitudeGPS = (int) (Double.parseDouble(strValues[9].trim()) * 1000.0);
+					altitudeGPS = (int) (fields.parseDouble(9) * 1000.0);
 				}
 				catch (Exception e) {
 					altitudeGPS = this.values[2];
@@ -841,27 +857,27 @@ public class NMEAParser implements IDataParser {
 	 * <li> 2.1      Vertical dilution of precision (VDOP)
 	 * <li> *39      the checksum data, always begins with *
 	 * </ul>
-	 * @param strValues
+	 * @param fields
 	 */
-	void parseGSA(String[] strValues) {
-		if (strValues[1].equals("A") || strValues[1].equals("M")) { //$NON-NLS-1$ //$NON-NLS-2$
+	void parseGSA(NMEASentence fields) {
+		if (fields.equals(1, "A") || fields.equals(1, "M")) { //$NON-NLS-1$ //$NON-NLS-2$
 			int PDOP = this.values[4], HDOP = this.values[5], VDOP = this.values[6];
 			try {
-				PDOP = (int) (Double.parseDouble(strValues[strValues.length - 3].trim()) * 1000.0);
+				PDOP = (int) (fields.parseDouble(fields.getFieldCount() - 3) * 1000.0);
 			}
 			catch (Exception e) {
 				//ignore and leave value unchanged
 			}
 			try {
-				HDOP = (int) (Double.parseDouble(strValues[strValues.length - 2].trim()) * 1000.0);
+				HDOP = (int) (fields.parseDouble(fields.getFieldCount() - 2) * 1000.0);
 			}
 			catch (Exception e) {
 				//ignore and leave value unchanged
 			}
 			try {
-				String value = strValues[strValues.length - 1].trim();
-				value = value.contains(GDE.STRING_STAR) ? value.substring(0, value.indexOf(GDE.CHAR_STAR)) : value;
-				VDOP = (int) (Double.parseDouble(value) * 1000.0);
+				int field = fields.getFieldCount() - 1;
+				int indexStar = fields.indexOf(field, GDE.CHAR_STAR);
+				VDOP = (int) (fields.parseDouble(field, 0, indexStar >= 0 ? indexStar : fields.length(field)) * 1000.0);
 			}
 			catch (Exception e) {
 				//ignore and leave value unchanged
@@ -895,17 +911,17 @@ public class NMEAParser implements IDataParser {
 	 * <li> 			for up to 4 satellites per sentence
 	 * <li> *75      the checksum data, always begins with *
 	 * </ul>
-	 * @param strValues
+	 * @param fields
 	 */
-	void parseGSV(String[] strValues) {
-		if (!(GDE.STRING_EMPTY+numGSVsentence).equals(strValues[1]) || (GDE.STRING_EMPTY+numGSVsentence).equals(strValues[2])) { 
+	void parseGSV(NMEASentence fields) {
+		if (!fields.equals(1, numGSVsentence) || fields.equals(2, numGSVsentence)) { 
 			int numSentence = 1;
 			int actualSentence = 0;
 			int actualNumSattelites = 0;
 			try {
-				numSentence = Integer.parseInt(strValues[1]);
-				actualSentence = Integer.parseInt(strValues[2]);
-				actualNumSattelites = Integer.parseInt(strValues[3]) * 1000;
+				numSentence = fields.parseInt(1);
+				actualSentence = fields.parseInt(2);
+				actualNumSattelites = fields.parseInt(3) * 1000;
 				if (numSentence >= numGSVsentence && actualSentence <= numGSVsentence && (numSattelites == 0 || numSattelites == actualNumSattelites)){ // in synch
 					numGSVsentence = actualSentence == numSentence ? 1 : numSentence; // reset after reading last sentence of set
 					numSattelites = actualNumSattelites;
@@ -922,17 +938,17 @@ public class NMEAParser implements IDataParser {
 			}
 			//passed sentence sync check
 			try {
-				for (int i = 0; i < 4 && (7 + 4*i) < strValues.length; i++) { //up to 4 satellites per sentence
-					int numSattelite = Integer.parseInt(strValues[4 + 4*i]);
-					int elevationDegrees = Integer.parseInt(strValues[5 + 4*i]);
-					int azimuthDegrees = Integer.parseInt(strValues[6 + 4*i]);
+				for (int i = 0; i < 4 && (7 + 4*i) < fields.getFieldCount(); i++) { //up to 4 satellites per sentence
+					int numSattelite = fields.parseInt(4 + 4*i);
+					int elevationDegrees = fields.parseInt(5 + 4*i);
+					int azimuthDegrees = fields.parseInt(6 + 4*i);
 					int signalNoiseRation;
-					if (strValues[7 + 4*i].contains(GDE.STRING_STAR)) {
-						String tmpValue = strValues[7 + 4*i].substring(0, strValues[7 + 4*i].indexOf(GDE.CHAR_STAR));
-						signalNoiseRation = tmpValue.length() > 0 ? Integer.parseInt(tmpValue) : 0;
+					int indexStar = fields.indexOf(7 + 4*i, GDE.CHAR_STAR);
+					if (indexStar >= 0) {
+						signalNoiseRation = indexStar > 0 ? fields.parseInt(7 + 4*i, 0, indexStar) : 0;
 					}
 					else 
-						signalNoiseRation = Integer.parseInt(strValues[7 + 4*i]);
+						signalNoiseRation = fields.parseInt(7 + 4*i);
 					
 					if (log.isLoggable(Level.FINE)) 
 						log.log(Level.FINE, "numSattelite = " + numSattelite + " elevation = " + elevationDegrees + " azimuth = " + azimuthDegrees + " signalNoiseRation = " + signalNoiseRation); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
@@ -975,16 +991,16 @@ public class NMEAParser implements IDataParser {
 	 * <li>         010.2,K      Ground speed, Kilometers per hour
 	 * <li>         *48          Checksum
 	 * </ul>
-	 * @param strValues
+	 * @param fields
 	 */
-	void parseVTG(String[] strValues) {
+	void parseVTG(NMEASentence fields) {
 			int velocity;
 			try {
-				velocity = (int) (Double.parseDouble(strValues[7].trim()) * 1000.0);
+				velocity = (int) (fields.parseDouble(7) * 1000.0);
 			}
 			catch (Exception e) {
 				try {
-					velocity = (int) (Double.parseDouble(strValues[5].trim()) * 1852.0);
+					velocity = (int) (fields.parseDouble(5) * 1852.0);
 				}
 				catch (Exception e1) {
 					velocity = this.values[7];
@@ -1014,31 +1030,30 @@ public class NMEAParser implements IDataParser {
 	 	 * <li> A            Data Active or V (void)
 	 	 * <li> *iD          checksum data
 	 	 * </ul>
-	 	 * @param strValues
+	 	 * @param fields
 	 	 */
-	void parseGLL(String[] strValues) {
-		if (strValues[6].equals("A")) { //$NON-NLS-1$ //$NON-NLS-2$
+	void parseGLL(NMEASentence fields) {
+		if (fields.equals(6, "A")) { //$NON-NLS-1$ //$NON-NLS-2$
 			if (this.date == null) {
 				Calendar calendar = new GregorianCalendar();
 				this.year = calendar.get(Calendar.YEAR);
 				this.month = calendar.get(Calendar.MONTH)+1;
 				this.day = calendar.get(Calendar.DATE);
 			}
-			String strValueTime = strValues[5].trim();
-			if (strValueTime.length() < 9) return;
+			if (fields.length(5) < 9) return;
 			
-			int hour = Integer.parseInt(strValueTime.substring(0, 2)) + this.timeOffsetUTC;
-			int minute = Integer.parseInt(strValueTime.substring(2, 4));
-			int second = Integer.parseInt(strValueTime.substring(4, 6));
+			int hour = fields.parseInt(5, 0, 2) + this.timeOffsetUTC;
+			int minute = fields.parseInt(5, 2, 4);
+			int second = fields.parseInt(5, 4, 6);
 			GregorianCalendar calendar = new GregorianCalendar(this.year, this.month - 1, this.day, hour, minute, second);
 			this.isNmeaSentenceTime = true;
 			if (this.isAutoDstOffset && this.dstOffset == Short.MIN_VALUE) {
 				this.correctDstOffset(calendar);
 			}
-			int indexAfterDot = strValueTime.indexOf(GDE.CHAR_DOT) + 1;
-			long timeStamp = calendar.getTimeInMillis() + (indexAfterDot > 0  && strValueTime.length() >= indexAfterDot + 2 ? Long.parseLong(strValueTime.substring(indexAfterDot, indexAfterDot + 2)) * 10 : 0);
+			int indexAfterDot = fields.indexOf(5, GDE.CHAR_DOT) + 1;
+			long timeStamp = calendar.getTimeInMillis() + (indexAfterDot > 0  && fields.length(5) >= indexAfterDot + 2 ? fields.parseInt(5, indexAfterDot, indexAfterDot + 2) * 10L : 0);
 			if (log.isLoggable(Level.FINER))
-				log.log(Level.FINER, "GLL " + Integer.parseInt(strValueTime.substring(indexAfterDot, indexAfterDot + 2)) * 10); //$NON-NLS-1$);
+				log.log(Level.FINER, "GLL " + fields.parseInt(5, indexAfterDot, indexAfterDot + 2) * 10); //$NON-NLS-1$);
 			
 			if (log.isLoggable(Level.FINE)) 
 				log.log(Level.FINE, "GLL " + new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss.SSS").format(timeStamp)); //$NON-NLS-1$);
@@ -1053,8 +1068,8 @@ public class NMEAParser implements IDataParser {
 				int latitude, longitude;
 				try {
 					if (this.values[0] == 0) {
-						latitude = (int) (Double.valueOf(strValues[2].trim())*10000);
-						latitude = strValues[3].trim().equalsIgnoreCase("N") ? latitude : -1 * latitude; //$NON-NLS-1$
+						latitude = (int) (fields.parseDouble(2)*10000);
+						latitude = fields.equalsIgnoreCase(3, "N") ? latitude : -1 * latitude; //$NON-NLS-1$
 					} 
 					else
 						latitude = this.values[0];
@@ -1064,8 +1079,8 @@ public class NMEAParser implements IDataParser {
 				}
 				try {
 					if (this.values[1] == 0) {
-						longitude = (int) (Double.valueOf(strValues[4].trim())*10000);
-						longitude = strValues[5].trim().equalsIgnoreCase("E") ? longitude : -1 * longitude; //$NON-NLS-1$
+						longitude = (int) (fields.parseDouble(4)*10000);
+						longitude = fields.equalsIgnoreCase(5, "E") ? longitude : -1 * longitude; //$NON-NLS-1$
 					} 
 					else
 						longitude = this.values[1];
@@ -1100,31 +1115,29 @@ public class NMEAParser implements IDataParser {
 	 * <li>         yy        	local zone minutes 0..59    	 								
 	 * <li>         *CC       	checksum
 	 * </ul>
-	 * @param strValues
+	 * @param fields
 	 */
-	void parseZDA(String[] strValues) {
+	void parseZDA(NMEASentence fields) {
 		if (this.date == null) {
-			String strValueDate = strValues[9].trim();
-			this.year = Integer.parseInt(strValueDate.substring(4));
+			this.year = fields.parseInt(9, 4, fields.length(9));
 			this.year = this.year > 50 ? this.year + 1900 : this.year + 2000;
-			this.month = Integer.parseInt(strValueDate.substring(2, 4));
-			this.day = Integer.parseInt(strValueDate.substring(0, 2));
+			this.month = fields.parseInt(9, 2, 4);
+			this.day = fields.parseInt(9, 0, 2);
 		}
-		String strValueTime = strValues[1].trim();
-		if (strValueTime.length() < 9) return;
+		if (fields.length(1) < 9) return;
 		
-		int hour = Integer.parseInt(strValueTime.substring(0, 2)) + this.timeOffsetUTC;
-		int minute = Integer.parseInt(strValueTime.substring(2, 4));
-		int second = Integer.parseInt(strValueTime.substring(4, 6));
+		int hour = fields.parseInt(1, 0, 2) + this.timeOffsetUTC;
+		int minute = fields.parseInt(1, 2, 4);
+		int second = fields.parseInt(1, 4, 6);
 		GregorianCalendar calendar = new GregorianCalendar(this.year, this.month - 1, this.day, hour, minute, second);
 		this.isNmeaSentenceTime = true;
 		if (this.isAutoDstOffset && this.dstOffset == Short.MIN_VALUE) {
 			this.correctDstOffset(calendar);
 		}
-		int indexAfterDot = strValueTime.indexOf(GDE.CHAR_DOT) + 1;
-		long timeStamp = calendar.getTimeInMillis() + (indexAfterDot > 0  && strValueTime.length() >= indexAfterDot + 2 ? Long.parseLong(strValueTime.substring(indexAfterDot, indexAfterDot + 2)) * 10 : 0);
+		int indexAfterDot = fields.indexOf(1, GDE.CHAR_DOT) + 1;
+		long timeStamp = calendar.getTimeInMillis() + (indexAfterDot > 0  && fields.length(1) >= indexAfterDot + 2 ? fields.parseInt(1, indexAfterDot, indexAfterDot + 2) * 10L : 0);
 		if (log.isLoggable(Level.FINER))
-			log.log(Level.FINER, "ZDA " + Integer.parseInt(strValueTime.substring(indexAfterDot, indexAfterDot + 2)) * 10); //$NON-NLS-1$);
+			log.log(Level.FINER, "ZDA " + fields.parseInt(1, indexAfterDot, indexAfterDot + 2) * 10); //$NON-NLS-1$);
 		
 		if (log.isLoggable(Level.FINE)) 
 			log.log(Level.FINE, "ZDA " + new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss.SSS").format(timeStamp)); //$NON-NLS-1$);
@@ -1156,13 +1169,13 @@ public class NMEAParser implements IDataParser {
 	 * <li>         V            Arrival alarm  A = arrived, V = not arrived	
 	 * <li>         *20          checksum
 	 * </ul>
-	 * @param strValues
+	 * @param fields
 	 */
-	void parseRMB(String[] strValues) {
-		if (strValues[1].equals("A")) { //$NON-NLS-1$
+	void parseRMB(NMEASentence fields) {
+		if (fields.equals(1, "A")) { //$NON-NLS-1$
 			int velocity;
 			try {
-				velocity = this.values[7] == 0 ? (int) (Double.parseDouble(strValues[12].trim()) * 1852.0) : this.values[7];
+				velocity = this.values[7] == 0 ? (int) (fields.parseDouble(12) * 1852.0) : this.values[7];
 			}
 			catch (Exception e) {
 				velocity = this.values[7];
@@ -1571,37 +1584,39 @@ public class NMEAParser implements IDataParser {
 	 * 23: temperature intern [°C]
 	 * 24: servo impuls in [us]
 	 * 25: servo impuls out [us]
-	 * @param strValues
+	 * @param fields
 	 * @param inOutMapping
 	 * @param indexBalance
 	 * @param checkTime true will check if actual sentence has newer time compared to the one worked with before
 	 */
-	void parseUNILOG2(String[] strValues, int[] inOutMapping, int indexBalance, boolean checkTime) {
+	void parseUNILOG2(NMEASentence fields, int[] inOutMapping, int indexBalance, boolean checkTime) {
 		if (checkTime) {
-			String[] strValueDate = strValues[1].trim().split(GDE.STRING_DASH);
-			if (this.date == null || Integer.parseInt(strValueDate[2]) > this.day) {
-				this.year = Integer.parseInt(strValueDate[0]);
-				this.month = Integer.parseInt(strValueDate[1]);
-				this.day = Integer.parseInt(strValueDate[2]);
-			}
-			String[] strValueTime = strValues[2].trim().split(GDE.STRING_COLON);
-			int hour = Integer.parseInt(strValueTime[0]) + this.timeOffsetUTC;
-			int minute = Integer.parseInt(strValueTime[1]);
+			if (this.date == null || fields.parseInt(1, GDE.CHAR_DASH, 2) > this.day) {
+				this.year = fields.parseInt(1, GDE.CHAR_DASH, 0);
+				this.month = fields.parseInt(1, GDE.CHAR_DASH, 1);
+				this.day = fields.parseInt(1, GDE.CHAR_DASH, 2);
+			}
+			int hour = fields.parseInt(2, GDE.CHAR_COLON, 0) + this.timeOffsetUTC;
+			int minute = fields.parseInt(2, GDE.CHAR_COLON, 1);
+			int secondStart = fields.tokenStart(2, GDE.CHAR_COLON, 2);
+			int secondEnd = fields.tokenEnd(2, GDE.CHAR_COLON, secondStart);
+			int indexDot = fields.indexOf(2, GDE.CHAR_DOT, secondStart);
+			if (indexDot >= secondEnd) indexDot = -1;
 			int second = 0;
-			if (strValueTime[2].contains(GDE.STRING_DOT)) {
-				second = Integer.parseInt(strValueTime[2].substring(0, strValueTime[2].indexOf(GDE.CHAR_DOT)));
+			if (indexDot >= 0) {
+				second = fields.parseInt(2, secondStart, indexDot);
 			}
 			else {
-				second = Integer.parseInt(strValueTime[2]);
+				second = fields.parseInt(2, secondStart, secondEnd);
 			}
 			GregorianCalendar calendar = new GregorianCalendar(this.year, this.month - 1, this.day, hour, minute, second);
 			if (this.isAutoDstOffset && this.dstOffset == Short.MIN_VALUE) {
 				this.correctDstOffset(calendar);
 			}
-			int indexAfterDot = strValueTime[2].indexOf(GDE.CHAR_DOT) + 1;
-			long timeStamp = calendar.getTimeInMillis() + (indexAfterDot > 0  && strValueTime[2].length() >= indexAfterDot + 2 ? Long.parseLong(strValueTime[2].substring(indexAfterDot, indexAfterDot + 2)) * 10 : 0);
+			int indexAfterDot = (indexDot >= 0 ? indexDot - secondStart : -1) + 1;
+			long timeStamp = calendar.getTimeInMillis() + (indexAfterDot > 0  && secondEnd - secondStart >= indexAfterDot + 2 ? fields.parseInt(2, secondStart + indexAfterDot, secondStart + indexAfterDot + 2) * 10L : 0);
 			if (log.isLoggable(Level.FINER))
-				log.log(Level.FINER, "UNILOG2 " + Integer.parseInt(strValueTime[2].substring(indexAfterDot, indexAfterDot + 2)) * 10); //$NON-NLS-1$);
+				log.log(Level.FINER, "UNILOG2 " + fields.parseInt(2, secondStart + indexAfterDot, secondStart + indexAfterDot + 2) * 10); //$NON-NLS-1$);
 			if (this.lastTimeStamp < timeStamp) {
 				this.time_ms = (int) (this.lastTimeStamp == 0 ? 0 : this.time_ms + (timeStamp - this.lastTimeStamp));
 				this.lastTimeStamp = timeStamp;
@@ -1622,11 +1637,11 @@ public class NMEAParser implements IDataParser {
 		//UniLog2      { -1,  -1,  -1,  -1, 	1, 		2, 15,  16,   4,  13,   0,   3,   5,  18,  19,  20,   7,   8,   9,  10,  11,  12,  20,  21,  22,  23};
 		//GPS-Logger   { -1,  -1,  -1,  -1,  17,  18,  -1,  -1,  20,  29,  -1,  19,  21,  30,  31,  32,  23,  24,  25,  26,  27,  28,  -1,  32,  -1,  -1};
 		//GPS-Logger2/3{ -1,  -1,  -1,  -1,  26,  27,  -1,  -1,  29,  38,  -1,  28,  30,  39,  40,  41,  32,  33,  34,  35,  36,  37,  -1,  42,  -1,  -1};
-		for (int i = 4; i < strValues.length; i++) {
+		for (int i = 4; i < fields.getFieldCount(); i++) {
 			try {
 				if (inOutMapping[i] >= 0) {
-					String tmpValue = strValues[i].trim();
-					this.values[inOutMapping[i]] = (int) (tmpValue.indexOf(GDE.CHAR_STAR) > 1 ? Double.parseDouble(tmpValue.substring(0, tmpValue.indexOf(GDE.CHAR_STAR))) * 1000.0 : Double.parseDouble(tmpValue) * 1000.0);
+					int indexStar = fields.indexOf(i, GDE.CHAR_STAR);
+					this.values[inOutMapping[i]] = (int) (fields.parseDouble(i, 0, indexStar > 1 ? indexStar : fields.length(i)) * 1000.0);
 					if (i >= 16 && i <= 21 && this.values[inOutMapping[i]] > 0) {
 						maxVotage = this.values[inOutMapping[i]] > maxVotage ? this.values[inOutMapping[i]] : maxVotage;
 						minVotage = this.values[inOutMapping[i]] < minVotage ? this.values[inOutMapping[i]] : minVotage;
@@ -0,0 +1,419 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Cursor over a single NMEA sentence held in a reusable single byte character buffer, NMEA sentences are ASCII.
+ * The sentence is split into fields by remembering the field boundaries only, values are decoded in place.
+ * Field numbering and count are identical to String.split(separator), trailing empty fields are dropped.
+ * All parse methods return the same values and throw the same exceptions as the String based equivalent named in their comment.
+ * @author Winfried Brügmann
+ */
+public class NMEASentence {
+
+	private final static int			MAX_INT_DIGITS			= 9;
+
+	private final char						separator;
+	private byte[]								bytes								= new byte[256];
+	private int										length							= 0;
+	private int[]									fieldStarts					= new int[64];
+	private int[]									fieldEnds						= new int[64];
+	private int										fieldCount					= 0;
+
+	/**
+	 * @param separator the field separator character, e.g. ','
+	 */
+	public NMEASentence(char separator) {
+		this.separator = separator;
+	}
+
+	/**
+	 * copy the sentence into the buffer and split it into fields
+	 * @param sentence
+	 * @return this sentence
+	 */
+	public NMEASentence set(String sentence) {
+		this.length = sentence.length();
+		if (this.length > this.bytes.length) this.bytes = new byte[Math.max(this.length, this.bytes.length * 2)];
+		for (int i = 0; i < this.length; i++) {
+			char c = sentence.charAt(i);
+			this.bytes[i] = (byte) (c <= 0xFF ? c : '?'); // like getBytes(ISO_8859_1)
+		}
+		split();
+		return this;
+	}
+
+	private void split() {
+		int count = 0;
+		int start = 0;
+		for (int i = 0; i < this.length; i++) {
+			if (charAt(i) == this.separator) {
+				count = addField(count, start, i);
+				start = i + 1;
+			}
+		}
+		count = addField(count, start, this.length);
+		while (count > 1 && this.fieldStarts[count - 1] == this.fieldEnds[count - 1]) {
+			--count; // like String.split trailing empty fields are removed
+		}
+		this.fieldCount = count;
+	}
+
+	private int addField(int index, int start, int end) {
+		if (index == this.fieldStarts.length) {
+			this.fieldStarts = Arrays.copyOf(this.fieldStarts, index * 2);
+			this.fieldEnds = Arrays.copyOf(this.fieldEnds, index * 2);
+		}
+		this.fieldStarts[index] = start;
+		this.fieldEnds[index] = end;
+		return index + 1;
+	}
+
+	/**
+	 * @return the number of fields, equals String.split(separator).length
+	 */
+	public int getFieldCount() {
+		return this.fieldCount;
+	}
+
+	/**
+	 * @return the length of the complete sentence
+	 */
+	public int length() {
+		return this.length;
+	}
+
+	/**
+	 * @return the sentence length without trailing white space, equals sentence.trim().length() for a sentence starting with the leader
+	 */
+	public int trimmedLength() {
+		int end = this.length;
+		while (end > 0 && charAt(end - 1) <= ' ') {
+			--end;
+		}
+		return end;
+	}
+
+	/**
+	 * @return the index of the first occurrence of the character within the complete sentence or -1
+	 */
+	public int indexOf(char c) {
+		for (int i = 0; i < this.length; i++) {
+			if (charAt(i) == c) return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the exclusive or of the sentence characters from inclusive to exclusive, equals Checksum.XOR(substring(from, to).toCharArray())
+	 */
+	public int xor(int from, int to) {
+		int value = 0;
+		for (int i = from; i < to; i++) {
+			value ^= charAt(i);
+		}
+		return value;
+	}
+
+	/**
+	 * @return the hexadecimal number of the sentence characters from inclusive to exclusive, equals Integer.parseInt(substring(from, to), 16)
+	 * @throws NumberFormatException
+	 */
+	public int parseHex(int from, int to) {
+		if (from == to || to - from > 7) return Integer.parseInt(substring(from, to), 16);
+		int value = 0;
+		for (int i = from; i < to; i++) {
+			int digit = Character.digit(charAt(i), 16);
+			if (digit < 0) return Integer.parseInt(substring(from, to), 16);
+			value = (value << 4) + digit;
+		}
+		return value;
+	}
+
+	/**
+	 * @return the characters of the complete sentence from inclusive to exclusive
+	 */
+	public String substring(int from, int to) {
+		return new String(this.bytes, from, to - from, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * @return true if the field 0 without the leading character equals the name, e.g. "$GPRMC" matches "GPRMC"
+	 */
+	public boolean isSignature(String name) {
+		int start = this.fieldStarts[0] + 1;
+		int fieldLength = this.fieldEnds[0] - start;
+		if (fieldLength != name.length()) return false;
+		for (int i = 0; i < fieldLength; i++) {
+			if (charAt(start + i) != name.charAt(i)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return the field as it is, equals strValues[field]
+	 */
+	public String getString(int field) {
+		checkField(field);
+		return new String(this.bytes, this.fieldStarts[field], this.fieldEnds[field] - this.fieldStarts[field], StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * @return true if the field equals the value, equals strValues[field].equals(value)
+	 */
+	public boolean equals(int field, String value) {
+		checkField(field);
+		int start = this.fieldStarts[field];
+		int fieldLength = this.fieldEnds[field] - start;
+		if (fieldLength != value.length()) return false;
+		for (int i = 0; i < fieldLength; i++) {
+			if (charAt(start + i) != value.charAt(i)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return true if the field equals the decimal number, equals strValues[field].equals(GDE.STRING_EMPTY + value)
+	 */
+	public boolean equals(int field, int value) {
+		checkField(field);
+		int start = this.fieldStarts[field];
+		int i = this.fieldEnds[field];
+		long remainder = value;
+		if (remainder < 0) {
+			if (i - start < 2 || charAt(start) != '-') return false;
+			remainder = -remainder;
+			++start;
+		}
+		do {
+			if (i == start || charAt(--i) != (char) ('0' + remainder % 10)) return false;
+			remainder /= 10;
+		}
+		while (remainder > 0);
+		return i == start;
+	}
+
+	/**
+	 * @return true if the trimmed field equals the value ignoring case, equals strValues[field].trim().equalsIgnoreCase(value)
+	 */
+	public boolean equalsIgnoreCase(int field, String value) {
+		int start = trimStart(field);
+		int fieldLength = trimEnd(field) - start;
+		if (fieldLength != value.length()) return false;
+		for (int i = 0; i < fieldLength; i++) {
+			char c1 = charAt(start + i);
+			char c2 = value.charAt(i);
+			if (c1 != c2 && Character.toUpperCase(c1) != Character.toUpperCase(c2) && Character.toLowerCase(c1) != Character.toLowerCase(c2)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return the length of the trimmed field, equals strValues[field].trim().length()
+	 */
+	public int length(int field) {
+		return trimEnd(field) - trimStart(field);
+	}
+
+	/**
+	 * @return the index of the character within the trimmed field or -1, equals strValues[field].trim().indexOf(c)
+	 */
+	public int indexOf(int field, char c) {
+		int start = trimStart(field);
+		int end = trimEnd(field);
+		for (int i = start; i < end; i++) {
+			if (charAt(i) == c) return i - start;
+		}
+		return -1;
+	}
+
+	/**
+	 * @param fromIndex index within the trimmed field to start the search
+	 * @return the index of the character within the trimmed field or -1, equals strValues[field].trim().indexOf(c, fromIndex)
+	 */
+	public int indexOf(int field, char c, int fromIndex) {
+		int start = trimStart(field);
+		int end = trimEnd(field);
+		for (int i = start + Math.max(0, fromIndex); i < end; i++) {
+			if (charAt(i) == c) return i - start;
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the start index of the token within the trimmed field, the token is strValues[field].trim().split(delimiter)[token]
+	 * @throws ArrayIndexOutOfBoundsException if the split does not deliver the token
+	 */
+	public int tokenStart(int field, char delimiter, int token) {
+		int length = length(field);
+		int position = 0;
+		for (int i = 0; i < token; i++) {
+			int index = indexOf(field, delimiter, position);
+			if (index < 0) throw new ArrayIndexOutOfBoundsException("Index " + token + " out of bounds for length " + (i + 1)); //$NON-NLS-1$ //$NON-NLS-2$
+			position = index + 1;
+		}
+		if (length > 0) { // String.split removes trailing empty tokens
+			boolean isTrailingEmpty = true;
+			int start = trimStart(field);
+			for (int i = start + position; i < start + length && isTrailingEmpty; i++) {
+				isTrailingEmpty = charAt(i) == delimiter;
+			}
+			if (isTrailingEmpty) throw new ArrayIndexOutOfBoundsException("Index " + token + " out of bounds for length " + token); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return position;
+	}
+
+	/**
+	 * @return the end index of the token starting at the given index within the trimmed field, exclusive
+	 */
+	public int tokenEnd(int field, char delimiter, int tokenStart) {
+		int index = indexOf(field, delimiter, tokenStart);
+		return index < 0 ? length(field) : index;
+	}
+
+	/**
+	 * @return true if the trimmed field contains the character, equals strValues[field].trim().contains(String.valueOf(c))
+	 */
+	public boolean contains(int field, char c) {
+		return indexOf(field, c) >= 0;
+	}
+
+	/**
+	 * @return the field as integer, equals Integer.parseInt(strValues[field])
+	 * @throws NumberFormatException
+	 */
+	public int parseInt(int field) {
+		checkField(field);
+		return parseInt(this.fieldStarts[field], this.fieldEnds[field]);
+	}
+
+	/**
+	 * @return the trimmed field as integer, equals Integer.parseInt(strValues[field].trim())
+	 * @throws NumberFormatException
+	 */
+	public int parseTrimmedInt(int field) {
+		return parseInt(trimStart(field), trimEnd(field));
+	}
+
+	/**
+	 * @param from index within the trimmed field, inclusive
+	 * @param to index within the trimmed field, exclusive
+	 * @return the part of the trimmed field as integer, equals Integer.parseInt(strValues[field].trim().substring(from, to))
+	 * @throws NumberFormatException
+	 * @throws StringIndexOutOfBoundsException
+	 */
+	public int parseInt(int field, int from, int to) {
+		int start = trimStart(field);
+		checkRange(from, to, trimEnd(field) - start);
+		return parseInt(start + from, start + to);
+	}
+
+	/**
+	 * @return the token of the trimmed field as integer, equals Integer.parseInt(strValues[field].trim().split(delimiter)[token])
+	 * @throws NumberFormatException
+	 * @throws ArrayIndexOutOfBoundsException
+	 */
+	public int parseInt(int field, char delimiter, int token) {
+		int from = tokenStart(field, delimiter, token);
+		return parseInt(field, from, tokenEnd(field, delimiter, from));
+	}
+
+	/**
+	 * @return the trimmed field as double, equals Double.parseDouble(strValues[field].trim())
+	 * @throws NumberFormatException
+	 */
+	public double parseDouble(int field) {
+		return parseDouble(trimStart(field), trimEnd(field));
+	}
+
+	/**
+	 * @param from index within the trimmed field, inclusive
+	 * @param to index within the trimmed field, exclusive
+	 * @return the part of the trimmed field as double, equals Double.parseDouble(strValues[field].trim().substring(from, to))
+	 * @throws NumberFormatException
+	 * @throws StringIndexOutOfBoundsException
+	 */
+	public double parseDouble(int field, int from, int to) {
+		int start = trimStart(field);
+		checkRange(from, to, trimEnd(field) - start);
+		return parseDouble(start + from, start + to);
+	}
+
+	private int trimStart(int field) {
+		checkField(field);
+		int start = this.fieldStarts[field];
+		int end = this.fieldEnds[field];
+		while (start < end && charAt(start) <= ' ') {
+			++start;
+		}
+		return start;
+	}
+
+	private int trimEnd(int field) {
+		checkField(field);
+		int start = this.fieldStarts[field];
+		int end = this.fieldEnds[field];
+		while (end > start && charAt(end - 1) <= ' ') {
+			--end;
+		}
+		return end;
+	}
+
+	private void checkField(int field) {
+		if (field < 0 || field >= this.fieldCount) throw new ArrayIndexOutOfBoundsException("Index " + field + " out of bounds for length " + this.fieldCount); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static void checkRange(int from, int to, int length) {
+		if (from < 0 || to > length || from > to) throw new StringIndexOutOfBoundsException("begin " + from + ", end " + to + ", length " + length); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * parse plain decimal digits with optional sign in place, anything else is delegated to Integer.parseInt
+	 */
+	private int parseInt(int from, int to) {
+		int i = from;
+		boolean isNegative = false;
+		if (i < to && (charAt(i) == '-' || charAt(i) == '+')) {
+			isNegative = charAt(i) == '-';
+			++i;
+		}
+		if (i == to || to - i > MAX_INT_DIGITS) return Integer.parseInt(new String(this.bytes, from, to - from, StandardCharsets.ISO_8859_1));
+		int value = 0;
+		for (; i < to; i++) {
+			char c = charAt(i);
+			if (c < '0' || c > '9') return Integer.parseInt(new String(this.bytes, from, to - from, StandardCharsets.ISO_8859_1));
+			value = value * 10 + (c - '0');
+		}
+		return isNegative ? -value : value;
+	}
+
+	/**
+	 * parse in place by the shared decimal parser, anything which is no plain decimal number is delegated to Double.parseDouble
+	 */
+	private double parseDouble(int from, int to) {
+		return DecimalParser.parseDouble(this.bytes, from, to, false);
+	}
+
+	private char charAt(int index) {
+		return (char) (this.bytes[index] & 0xFF);
+	}
+}
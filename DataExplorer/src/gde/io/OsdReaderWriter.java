@@ -31,7 +31,6 @@ import java.io.RandomAccessFile;
 import java.io.UnsupportedEncodingException;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -47,6 +46,7 @@ import gde.data.Channel;
 import gde.data.Channels;
 import gde.data.Record;
 import gde.data.RecordSet;
+import gde.data.RecordSetMemoryGovernor;
 import gde.device.ChannelTypes;
 import gde.device.IDevice;
 import gde.device.MeasurementType;
@@ -54,6 +54,9 @@ import gde.exception.DataInconsitsentException;
 import gde.exception.GDEInternalException;
 import gde.exception.NotSupportedFileFormatException;
 import gde.log.Level;
+import gde.log.MetricEvents.FileLoad;
+import gde.log.MetricEvents.RecordSetDecode;
+import gde.log.Metrics;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
 import gde.ui.DataExplorer;
@@ -282,6 +285,7 @@ public class OsdReaderWriter {
 
 	private static RecordSet read(String filePath, RecordSetSelector recordSetSelector) throws FileNotFoundException, IOException, NotSupportedFileFormatException, DataInconsitsentException {
 		filePath = filePath.replace(GDE.CHAR_FILE_SEPARATOR_WINDOWS, GDE.CHAR_FILE_SEPARATOR_UNIX);
+		FileLoad fileLoad = FileLoad.start(OsdReaderWriter.class.getSimpleName(), new File(filePath));
 		ZipInputStream zip_input = new ZipInputStream(new FileInputStream(new File(filePath)));
 		ZipEntry zip_entry = zip_input.getNextEntry();
 		FileInputStream file_input = null;
@@ -391,12 +395,12 @@ public class OsdReaderWriter {
 					// take the matching record set or take the first one
 					if (unreadDataPointer > -1) unreadDataPointer = skipData(data_in, recordSetDataPointer, unreadDataPointer);
 
-					long startTime = new Date().getTime();
+					RecordSetDecode event = RecordSetDecode.start(OsdReaderWriter.class.getSimpleName(), recordSetName);
 					byte[] buffer = new byte[recordSet.getFileDataBytesSize()];
 					data_in.readFully(buffer);
 					recordSet.getDevice().addDataBufferAsRawDataPoints(recordSet, buffer, recordDataSize, GDE.isWithUi());
 					recordSet.updateVisibleAndDisplayableRecordsForTable();
-					if (log.isLoggable(Level.TIME)) log.log(Level.TIME, "read time = " + StringHelper.getFormatedTime("mm:ss:SSS", (new Date().getTime() - startTime)));
+					event.stop(recordDataSize);
 
 					if (application.getMenuToolBar() != null) displayRecordSet(filePath, header.get(GDE.FILE_COMMENT), channelConfig, recordSetName);
 				}
@@ -424,6 +428,7 @@ public class OsdReaderWriter {
 			data_in = null;
 			file_input = null;
 			zip_input = null;
+			fileLoad.stop();
 		}
 	}
 
@@ -615,6 +620,7 @@ public class OsdReaderWriter {
 			IDevice activeDevice = OsdReaderWriter.application.getActiveDevice();
 			boolean isObjectOriented = OsdReaderWriter.application.isObjectoriented();
 			int filePointer = 0;
+			RecordSetMemoryGovernor.getInstance().suspend(); // all record sets need their data until written
 			try {
 				// before do anything make sure all data is loaded, if data comes from another file
 				activeChannel.checkAndLoadData();
@@ -727,7 +733,7 @@ public class OsdReaderWriter {
 					}
 				}
 				// check if all involved record sets have data (if loaded from file it might be possible that some record set lack of its data)
-				long startTime = new Date().getTime();
+				long startNanoTime = System.nanoTime();
 				for (int i = 0; i < activeChannel.size(); ++i) {
 					//if ChannelTypes.TYPE_OUTLET only record sets associated to that channel goes into one file
 					//if ChannelTypes.TYPE_CONFIG all record sets with different configurations goes into one file
@@ -789,9 +795,10 @@ public class OsdReaderWriter {
 						}
 					}
 				}
-				if (log.isLoggable(Level.TIME)) log.log(Level.TIME, "write time = " + StringHelper.getFormatedTime("ss:SSS", (new Date().getTime() - startTime)));
+				Metrics.timer("file.write." + OsdReaderWriter.class.getSimpleName()).recordSince(startNanoTime); //$NON-NLS-1$
 			}
 			finally {
+				RecordSetMemoryGovernor.getInstance().resume(activeChannel);
 				data_out.flush();
 				file_out.closeEntry();
 				data_out.close();
@@ -827,7 +834,7 @@ public class OsdReaderWriter {
 		try {
 			long recordSetFileDataPointer = recordSet.getFileDataPointer();
 			int recordFileDataSize = recordSet.getFileDataSize();
-			long startTime = new Date().getTime();
+			RecordSetDecode event = RecordSetDecode.start(OsdReaderWriter.class.getSimpleName(), recordSet.getName());
 			int dataSizeRecord = GDE.SIZE_BYTES_INTEGER * recordFileDataSize;
 			int dataSizeRecords = dataSizeRecord * recordSet.getNoneCalculationRecordNames().length;
 			int dataSizeRecordsTimeStamp = dataSizeRecord + dataSizeRecords;
@@ -847,7 +854,7 @@ public class OsdReaderWriter {
 			}
 			recordSet.getDevice().addDataBufferAsRawDataPoints(recordSet, buffer, recordFileDataSize, doUpdateProgressBar);
 			recordSet.updateVisibleAndDisplayableRecordsForTable();
-			if (log.isLoggable(Level.TIME)) log.log(Level.TIME, "read time = " + StringHelper.getFormatedTime("ss:SSS", (new Date().getTime() - startTime)));
+			event.stop(recordFileDataSize);
 		}
 		catch (FileNotFoundException e) {
 			log.log(Level.SEVERE, e.getMessage(), e);
@@ -0,0 +1,279 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.log;
+
+import java.io.File;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder events of the hot paths, each timed event adds its duration to the {@link Metrics} timer of the same name.
+ * The events are recorded if the JVM runs with a flight recording, e.g. -XX:StartFlightRecording:filename=gde.jfr
+ * @author Winfried Brügmann
+ */
+public final class MetricEvents {
+
+	public final static String	FILE_LOAD					= "file.load";					//$NON-NLS-1$
+	public final static String	RECORD_SET_DECODE	= "recordset.decode";		//$NON-NLS-1$
+	public final static String	VAULT_BUILD				= "vault.build";				//$NON-NLS-1$
+	public final static String	CACHE_HIT					= "cache.hit";					//$NON-NLS-1$
+	public final static String	CACHE_MISS				= "cache.miss";					//$NON-NLS-1$
+	public final static String	CURVE_REDRAW			= "curve.redraw";				//$NON-NLS-1$
+	public final static String	SERIAL_FRAME			= "serial.frame";				//$NON-NLS-1$
+
+	private MetricEvents() {
+		// static access only
+	}
+
+	/**
+	 * the duration between start and stop is recorded as event and as metrics timer
+	 */
+	@Category({ "DataExplorer" })
+	static abstract class TimedEvent extends Event {
+		transient long startNanoTime;
+
+		void start() {
+			this.startNanoTime = System.nanoTime();
+			begin();
+		}
+
+		abstract String getMetricName();
+
+		/**
+		 * @return the System.nanoTime() at the event start, e.g. for timing intermediate steps
+		 */
+		public long getStartNanoTime() {
+			return this.startNanoTime;
+		}
+
+		/**
+		 * end the event, commit it if enabled and record the duration
+		 * @return the elapsed nanoseconds
+		 */
+		public long stop() {
+			end();
+			long elapsedNanos = Metrics.timer(getMetricName()).recordSince(this.startNanoTime);
+			if (shouldCommit()) commit();
+			return elapsedNanos;
+		}
+	}
+
+	@Name("gde.FileLoad")
+	@Label("File Load")
+	@Description("Read a log file into record sets")
+	public static final class FileLoad extends TimedEvent {
+		@Label("Reader")
+		String	reader;
+		@Label("File Path")
+		String	filePath;
+		@Label("File Size")
+		@DataAmount
+		long		fileSize;
+
+		/**
+		 * @param reader the simple name of the reader class, the metrics timer name is extended by the reader name
+		 * @param file
+		 * @return the started event
+		 */
+		public static FileLoad start(String reader, File file) {
+			FileLoad event = new FileLoad();
+			event.reader = reader;
+			event.filePath = file.getPath();
+			event.fileSize = file.length();
+			event.start();
+			return event;
+		}
+
+		@Override
+		String getMetricName() {
+			return FILE_LOAD + GDE_DOT + this.reader;
+		}
+	}
+
+	@Name("gde.RecordSetDecode")
+	@Label("Record Set Decode")
+	@Description("Decode the data of one record set")
+	public static final class RecordSetDecode extends TimedEvent {
+		@Label("Reader")
+		String	reader;
+		@Label("Record Set")
+		String	recordSetName;
+		@Label("Data Points")
+		int			dataPoints;
+
+		public static RecordSetDecode start(String reader, String recordSetName) {
+			RecordSetDecode event = new RecordSetDecode();
+			event.reader = reader;
+			event.recordSetName = recordSetName;
+			event.start();
+			return event;
+		}
+
+		/**
+		 * @param recordDataSize the number of decoded data points per record
+		 * @return the elapsed nanoseconds
+		 */
+		public long stop(int recordDataSize) {
+			this.dataPoints = recordDataSize;
+			return stop();
+		}
+
+		@Override
+		String getMetricName() {
+			return RECORD_SET_DECODE + GDE_DOT + this.reader;
+		}
+	}
+
+	@Name("gde.VaultBuild")
+	@Label("Vault Build")
+	@Description("Histo vault screening step")
+	public static final class VaultBuild extends TimedEvent {
+		@Label("Step")
+		String	step;
+		@Label("Vaults")
+		int			vaults;
+		@Label("Record Set Bytes")
+		@DataAmount
+		long		recordSetBytes;
+
+		/**
+		 * @param step e.g. "cache" or "files"
+		 */
+		public static VaultBuild start(String step) {
+			VaultBuild event = new VaultBuild();
+			event.step = step;
+			event.start();
+			return event;
+		}
+
+		/**
+		 * @param vaultCount the number of vaults processed in this step
+		 * @param bytes the log record set bytes represented by the vaults
+		 * @return the elapsed nanoseconds
+		 */
+		public long stop(int vaultCount, long bytes) {
+			this.vaults = vaultCount;
+			this.recordSetBytes = bytes;
+			Metrics.counter(getMetricName()).add(vaultCount);
+			return stop();
+		}
+
+		@Override
+		String getMetricName() {
+			return VAULT_BUILD + GDE_DOT + this.step;
+		}
+	}
+
+	@Name("gde.CacheAccess")
+	@Label("Cache Access")
+	@Description("Lookup of a cached item")
+	@Category({ "DataExplorer" })
+	public static final class CacheAccess extends Event {
+		@Label("Cache")
+		String	cache;
+		@Label("Hit")
+		boolean	hit;
+
+		/**
+		 * count the access and commit an instant event
+		 * @param cache the cache name, e.g. "vault"
+		 * @param isHit
+		 */
+		public static void record(String cache, boolean isHit) {
+			Metrics.counter((isHit ? CACHE_HIT : CACHE_MISS) + GDE_DOT + cache).increment();
+			CacheAccess event = new CacheAccess();
+			if (event.isEnabled()) {
+				event.cache = cache;
+				event.hit = isHit;
+				event.commit();
+			}
+		}
+	}
+
+	@Name("gde.CurveRedraw")
+	@Label("Curve Redraw")
+	@Description("Draw the curves of a graphics window")
+	public static final class CurveRedraw extends TimedEvent {
+		@Label("Window")
+		String	window;
+		@Label("Records")
+		int			records;
+
+		public static CurveRedraw start(String window) {
+			CurveRedraw event = new CurveRedraw();
+			event.window = window;
+			event.start();
+			return event;
+		}
+
+		/**
+		 * @param recordCount the number of drawn curves
+		 * @return the elapsed nanoseconds
+		 */
+		public long stop(int recordCount) {
+			this.records = recordCount;
+			return stop();
+		}
+
+		@Override
+		String getMetricName() {
+			return CURVE_REDRAW + GDE_DOT + this.window;
+		}
+	}
+
+	@Name("gde.SerialFrame")
+	@Label("Serial Frame")
+	@Description("Receive a data frame from a serial port")
+	public static final class SerialFrame extends TimedEvent {
+		@Label("Port")
+		String	port;
+		@Label("Frame Size")
+		@DataAmount
+		int			bytes;
+
+		public static SerialFrame start(String port) {
+			SerialFrame event = new SerialFrame();
+			event.port = port;
+			event.start();
+			return event;
+		}
+
+		/**
+		 * @param frameSize the number of received bytes
+		 * @return the elapsed nanoseconds
+		 */
+		public long stop(int frameSize) {
+			this.bytes = frameSize;
+			Metrics.histogram(SERIAL_FRAME + ".bytes").record(frameSize); //$NON-NLS-1$
+			return stop();
+		}
+
+		@Override
+		String getMetricName() {
+			return SERIAL_FRAME;
+		}
+	}
+
+	private final static String GDE_DOT = "."; //$NON-NLS-1$
+}
@@ -0,0 +1,216 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.log;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+
+/**
+ * Application wide counters, timers and histograms of the hot paths, e.g. file load, vault build or curve redraw.
+ * The values are aggregated in memory since application start and may be exported as text snapshot
+ * together with a snapshot of running flight recordings which contain the {@link MetricEvents}.
+ * @author Winfried Brügmann
+ */
+public final class Metrics {
+	final static Logger														log					= Logger.getLogger(Metrics.class.getName());
+
+	public final static String										FILE_PREFIX	= "gde_metrics_";																//$NON-NLS-1$
+
+	private final static Map<String, Counter>			counters		= new ConcurrentSkipListMap<>();
+	private final static Map<String, Histogram>		histograms	= new ConcurrentSkipListMap<>();
+	private final static Map<String, Timer>				timers			= new ConcurrentHashMap<>();
+
+	private Metrics() {
+		// static access only
+	}
+
+	/**
+	 * a monotonic counter, e.g. number of cache hits
+	 */
+	public static final class Counter {
+		private final LongAdder value = new LongAdder();
+
+		public void increment() {
+			this.value.increment();
+		}
+
+		public void add(long delta) {
+			this.value.add(delta);
+		}
+
+		public long get() {
+			return this.value.sum();
+		}
+	}
+
+	/**
+	 * distribution of positive values in power of two buckets, e.g. frame sizes in bytes
+	 */
+	public static class Histogram {
+		private final AtomicLongArray	buckets	= new AtomicLongArray(Long.SIZE);
+		private final LongAdder				count		= new LongAdder();
+		private final LongAdder				sum			= new LongAdder();
+		private final AtomicLong			max			= new AtomicLong();
+
+		public void record(long value) {
+			value = Math.max(0, value);
+			this.buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(value) - (value == 0 ? 0 : 1));
+			this.count.increment();
+			this.sum.add(value);
+			this.max.accumulateAndGet(value, Math::max);
+		}
+
+		public long getCount() {
+			return this.count.sum();
+		}
+
+		public long getSum() {
+			return this.sum.sum();
+		}
+
+		public long getMax() {
+			return this.max.get();
+		}
+
+		public double getMean() {
+			long tmpCount = getCount();
+			return tmpCount > 0 ? (double) getSum() / tmpCount : 0.;
+		}
+
+		/**
+		 * @param probability e.g. 0.95
+		 * @return the upper bound of the bucket which holds the quantile
+		 */
+		public long getQuantile(double probability) {
+			long rank = (long) Math.ceil(getCount() * probability);
+			long cumulated = 0;
+			for (int i = 0; i < Long.SIZE; i++) {
+				cumulated += this.buckets.get(i);
+				if (cumulated >= rank && cumulated > 0) return Math.min(i < Long.SIZE - 2 ? (2L << i) - 1 : Long.MAX_VALUE, getMax());
+			}
+			return getMax();
+		}
+	}
+
+	/**
+	 * histogram of durations in nanoseconds
+	 */
+	public static final class Timer extends Histogram {
+
+		/**
+		 * @param startNanoTime the System.nanoTime() at the start of the measured operation
+		 * @return the elapsed nanoseconds
+		 */
+		public long recordSince(long startNanoTime) {
+			long elapsedNanos = System.nanoTime() - startNanoTime;
+			record(elapsedNanos);
+			return elapsedNanos;
+		}
+	}
+
+	public static Counter counter(String name) {
+		return counters.computeIfAbsent(name, k -> new Counter());
+	}
+
+	public static Histogram histogram(String name) {
+		return histograms.computeIfAbsent(name, k -> new Histogram());
+	}
+
+	public static Timer timer(String name) {
+		return timers.computeIfAbsent(name, k -> new Timer());
+	}
+
+	/**
+	 * drop all values, e.g. before reproducing an issue
+	 */
+	public static void reset() {
+		counters.clear();
+		histograms.clear();
+		timers.clear();
+	}
+
+	/**
+	 * @return the formatted table of all metrics, timers in milliseconds
+	 */
+	public static String getSnapshot() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%-40s %10s %12s %10s %10s %10s%n", "timer [ms]", "count", "total", "mean", "p95", "max")); //$NON-NLS-1$
+		for (String name : new ConcurrentSkipListMap<>(timers).keySet()) {
+			Timer timer = timers.get(name);
+			sb.append(String.format("%-40s %,10d %,12.1f %,10.3f %,10.3f %,10.3f%n", name, timer.getCount(), timer.getSum() / 1.e6, timer.getMean() / 1.e6, timer.getQuantile(.95) / 1.e6,
+					timer.getMax() / 1.e6));
+		}
+		if (!histograms.isEmpty()) {
+			sb.append(String.format("%n%-40s %10s %12s %10s %10s %10s%n", "histogram", "count", "total", "mean", "p95", "max")); //$NON-NLS-1$
+			for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+				Histogram histogram = entry.getValue();
+				sb.append(String.format("%-40s %,10d %,12d %,10.1f %,10d %,10d%n", entry.getKey(), histogram.getCount(), histogram.getSum(), histogram.getMean(), histogram.getQuantile(.95),
+						histogram.getMax()));
+			}
+		}
+		if (!counters.isEmpty()) {
+			sb.append(String.format("%n%-40s %10s%n", "counter", "value")); //$NON-NLS-1$
+			for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+				sb.append(String.format("%-40s %,10d%n", entry.getKey(), entry.getValue().get()));
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * write the metrics snapshot and, if a flight recording is running, a snapshot of the recording into the directory
+	 * @param directory
+	 * @return the written files
+	 * @throws IOException
+	 */
+	public static List<Path> exportSnapshot(Path directory) throws IOException {
+		List<Path> files = new ArrayList<>();
+		String timeStamp = new SimpleDateFormat("yyyy-MM-dd_HHmmss").format(new Date()); //$NON-NLS-1$
+		Path metricsPath = directory.resolve(FILE_PREFIX + timeStamp + ".txt"); //$NON-NLS-1$
+		Files.write(metricsPath, getSnapshot().getBytes(StandardCharsets.UTF_8));
+		files.add(metricsPath);
+
+		if (FlightRecorder.isAvailable() && !FlightRecorder.getFlightRecorder().getRecordings().isEmpty()) {
+			try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+				if (snapshot.getSize() > 0) {
+					Path recordingPath = directory.resolve(FILE_PREFIX + timeStamp + ".jfr"); //$NON-NLS-1$
+					snapshot.dump(recordingPath);
+					files.add(recordingPath);
+				}
+			}
+		}
+		log.log(Level.TIME, "metrics exported to " + files); //$NON-NLS-1$
+		return files;
+	}
+}
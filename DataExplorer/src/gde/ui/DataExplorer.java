@@ -101,8 +101,10 @@ import gde.histo.ui.HistoSummaryWindow;
 import gde.io.OsdReaderWriter;
 import gde.log.Level;
 import gde.log.LogFormatter;
+import gde.log.Metrics;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
+import gde.ui.RefreshScheduler.RefreshTarget;
 import gde.ui.dialog.AboutDialog;
 import gde.ui.dialog.DeviceSelectionDialog;
 import gde.ui.dialog.FontSizeDialog;
@@ -234,6 +236,11 @@ public class DataExplorer extends Composite {
 	 */
 	private boolean								isUpdateAllTabs										= true;
 
+	/**
+	 * coalesce window updates requested by non UI threads, e.g. during live gathering
+	 */
+	final RefreshScheduler				refreshScheduler									= new RefreshScheduler();
+
 	/**
 	 * main application class constructor
 	 */
@@ -255,6 +262,30 @@ public class DataExplorer extends Composite {
 		COLOR_BACKGROUND = isDarkTheme ? SWTResourceManager.getColor(SWT.COLOR_DARK_GRAY) : SWTResourceManager.getColor(SWT.COLOR_WIDGET_BACKGROUND);
 		COLOR_FOREGROUND = isDarkTheme ? SWTResourceManager.getColor(SWT.COLOR_DARK_GRAY) : SWTResourceManager.getColor(SWT.COLOR_WIDGET_FOREGROUND);
 
+		this.refreshScheduler.register(RefreshTarget.GRAPHICS, () -> updateGraphicsWindow(false), () -> true);
+		this.refreshScheduler.register(RefreshTarget.GRAPHICS_CURVE_SELECTOR, () -> updateGraphicsWindow(true), () -> true);
+		this.refreshScheduler.register(RefreshTarget.STATISTICS, this::updateStatisticsData, () -> isTabItemSelected(this.statisticsTabItem));
+		this.refreshScheduler.register(RefreshTarget.DIGITAL, this::updateDigitalWindow, () -> isTabItemSelected(this.digitalTabItem));
+		this.refreshScheduler.register(RefreshTarget.DIGITAL_CHILDS, this::updateDigitalWindowChilds, () -> isTabItemSelected(this.digitalTabItem));
+		this.refreshScheduler.register(RefreshTarget.ANALOG, this::updateAnalogWindow, () -> isTabItemSelected(this.analogTabItem));
+		this.refreshScheduler.register(RefreshTarget.ANALOG_CHILDS, this::updateAnalogWindowChilds, () -> isTabItemSelected(this.analogTabItem));
+		this.refreshScheduler.register(RefreshTarget.CELL_VOLTAGE, this::updateCellVoltageWindow, () -> isTabItemSelected(this.cellVoltageTabItem));
+		this.refreshScheduler.register(RefreshTarget.CELL_VOLTAGE_CHILDS, this::updateCellVoltageChilds, () -> isTabItemSelected(this.cellVoltageTabItem));
+	}
+
+	/**
+	 * @param tabItem
+	 * @return true if the tab item exists and is the selected one of the display tab folder
+	 */
+	private boolean isTabItemSelected(CTabItem tabItem) {
+		return tabItem != null && !tabItem.isDisposed() && this.displayTab != null && this.displayTab.getSelection() == tabItem;
+	}
+
+	/**
+	 * @return the scheduler which coalesces window updates requested by non UI threads
+	 */
+	public RefreshScheduler getRefreshScheduler() {
+		return this.refreshScheduler;
 	}
 
 	/**
@@ -660,6 +691,7 @@ public class DataExplorer extends Composite {
 
 					// finally save application settings
 					DataExplorer.application.settings.store();
+					if (log.isLoggable(Level.TIME)) log.logp(Level.TIME, $CLASS_NAME, "widgetDisposed", "metrics\n" + Metrics.getSnapshot()); //$NON-NLS-1$ //$NON-NLS-2$
 				}
 			});
 			this.menuCoolBar.addControlListener(new ControlAdapter() {
@@ -756,6 +788,7 @@ public class DataExplorer extends Composite {
 					int tabPreviousIndex = DataExplorer.this.tabSelectedIndex;
 					int tabSelectionIndex = tabFolder.getSelectionIndex();
 					DataExplorer.this.tabSelectedIndex = tabFolder.getSelectionIndex();
+					DataExplorer.this.refreshScheduler.refreshStale();
 					if (DataExplorer.this.histoExplorer.isPresent()) {
 						try {
 							if (log.isLoggable(Level.FINER))
@@ -970,12 +1003,7 @@ public class DataExplorer extends Composite {
 			if (Thread.currentThread().threadId() == DataExplorer.application.getThreadId()) {
 				this.statisticsTabItem.updateStatisticsData(true);
 			} else {
-				GDE.display.asyncExec(new Runnable() {
-					@Override
-					public void run() {
-						DataExplorer.this.statisticsTabItem.updateStatisticsData(true);
-					}
-				});
+				this.refreshScheduler.request(RefreshTarget.STATISTICS);
 			}
 		}
 	}
@@ -1049,12 +1077,7 @@ public class DataExplorer extends Composite {
 			if (Thread.currentThread().threadId() == DataExplorer.application.getThreadId()) {
 				this.digitalTabItem.update(true);
 			} else {
-				GDE.display.asyncExec(new Runnable() {
-					@Override
-					public void run() {
-						DataExplorer.this.digitalTabItem.update(true);
-					}
-				});
+				this.refreshScheduler.request(RefreshTarget.DIGITAL);
 			}
 		}
 	}
@@ -1067,12 +1090,7 @@ public class DataExplorer extends Composite {
 			if (Thread.currentThread().threadId() == DataExplorer.application.getThreadId()) {
 				this.digitalTabItem.updateChilds();
 			} else {
-				GDE.display.asyncExec(new Runnable() {
-					@Override
-					public void run() {
-						DataExplorer.this.digitalTabItem.updateChilds();
-					}
-				});
+				this.refreshScheduler.request(RefreshTarget.DIGITAL_CHILDS);
 			}
 		}
 	}
@@ -1085,12 +1103,7 @@ public class DataExplorer extends Composite {
 			if (Thread.currentThread().threadId() == DataExplorer.application.getThreadId()) {
 				this.analogTabItem.update(true);
 			} else {
-				GDE.display.asyncExec(new Runnable() {
-					@Override
-					public void run() {
-						DataExplorer.this.analogTabItem.update(true);
-					}
-				});
+				this.refreshScheduler.request(RefreshTarget.ANALOG);
 			}
 		}
 	}
@@ -1103,12 +1116,7 @@ public class DataExplorer extends Composite {
 			if (Thread.currentThread().threadId() == DataExplorer.application.getThreadId()) {
 				this.analogTabItem.updateChilds();
 			} else {
-				GDE.display.asyncExec(new Runnable() {
-					@Override
-					public void run() {
-						DataExplorer.this.analogTabItem.updateChilds();
-					}
-				});
+				this.refreshScheduler.request(RefreshTarget.ANALOG_CHILDS);
 			}
 		}
 	}
@@ -1129,12 +1137,7 @@ public class DataExplorer extends Composite {
 			if (Thread.currentThread().threadId() == DataExplorer.application.getThreadId()) {
 				this.cellVoltageTabItem.getCellVoltageMainComposite().redraw();
 			} else {
-				GDE.display.asyncExec(new Runnable() {
-					@Override
-					public void run() {
-						DataExplorer.this.cellVoltageTabItem.getCellVoltageMainComposite().redraw();
-					}
-				});
+				this.refreshScheduler.request(RefreshTarget.CELL_VOLTAGE);
 			}
 		}
 	}
@@ -1147,12 +1150,7 @@ public class DataExplorer extends Composite {
 			if (Thread.currentThread().threadId() == DataExplorer.application.getThreadId()) {
 				this.cellVoltageTabItem.updateChilds();
 			} else {
-				GDE.display.asyncExec(new Runnable() {
-					@Override
-					public void run() {
-						DataExplorer.this.cellVoltageTabItem.updateChilds();
-					}
-				});
+				this.refreshScheduler.request(RefreshTarget.CELL_VOLTAGE_CHILDS);
 			}
 		}
 	}
@@ -2090,23 +2088,7 @@ public class DataExplorer extends Composite {
 				}
 			}
 		} else {
-			GDE.display.asyncExec(new Runnable() {
-				@Override
-				public void run() {
-					if (!DataExplorer.this.graphicsTabItem.isActiveCurveSelectorContextMenu()) {
-						int tabSelectionIndex = DataExplorer.this.displayTab.getSelectionIndex();
-						if (tabSelectionIndex == 0) {
-							DataExplorer.this.graphicsTabItem.redrawGraphics(refreshCurveSelector);
-						} else if ((DataExplorer.this.displayTab.getItem(tabSelectionIndex) instanceof GraphicsWindow) && DataExplorer.this.isWindowVisible(GraphicsType.COMPARE)) {
-							DataExplorer.this.compareTabItem.redrawGraphics(refreshCurveSelector);
-						} else if ((DataExplorer.this.displayTab.getItem(tabSelectionIndex) instanceof GraphicsWindow) && DataExplorer.this.isWindowVisible(GraphicsType.UTIL)) {
-							DataExplorer.this.utilGraphicsTabItem.redrawGraphics(refreshCurveSelector);
-						} else {
-							DataExplorer.this.histoExplorer.ifPresent(h -> h.updateGraphicsWindow(refreshCurveSelector));
-						}
-					}
-				}
-			});
+			this.refreshScheduler.request(refreshCurveSelector ? RefreshTarget.GRAPHICS_CURVE_SELECTOR : RefreshTarget.GRAPHICS);
 		}
 	}
 
@@ -0,0 +1,242 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.ui;
+
+import java.util.EnumMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Logger;
+
+import gde.GDE;
+import gde.data.IngestQueue;
+import gde.log.Level;
+
+/**
+ * Coalesces window update requests posted by gatherer threads during live data gathering.
+ * Instead of posting one asyncExec per received frame and window, requesters mark a target dirty.
+ * A single flush runnable is executed on the display thread at most with the configured frame rate.
+ * Targets not visible at flush time are kept stale and refreshed by {@link #refreshStale()} when their tab gets selected.
+ * Pending live gathering points of requesting ingest queues are applied to their record sets right before the windows get updated.
+ * @author Winfried Brügmann
+ */
+public class RefreshScheduler {
+	final static String	$CLASS_NAME	= RefreshScheduler.class.getName();
+	final static Logger	log					= Logger.getLogger($CLASS_NAME);
+
+	/**
+	 * windows which might be updated by non UI threads, the order defines the flush sequence
+	 */
+	public enum RefreshTarget {
+		GRAPHICS(null), GRAPHICS_CURVE_SELECTOR(GRAPHICS), STATISTICS(null), DIGITAL_CHILDS(null), DIGITAL(DIGITAL_CHILDS), ANALOG_CHILDS(null), ANALOG(ANALOG_CHILDS), CELL_VOLTAGE(null), CELL_VOLTAGE_CHILDS(null);
+
+		public static final RefreshTarget[] VALUES = values(); // use this to avoid cloning if the index value is used
+
+		/**
+		 * the target whose update is fully covered by this target's update
+		 */
+		private final RefreshTarget superseded;
+
+		private RefreshTarget(RefreshTarget superseded) {
+			this.superseded = superseded;
+		}
+
+		int bit() {
+			return 1 << ordinal();
+		}
+	};
+
+	public final static int													DEFAULT_FRAMES_PER_SECOND	= 20;
+
+	private final EnumMap<RefreshTarget, Runnable>				actions										= new EnumMap<>(RefreshTarget.class);
+	private final EnumMap<RefreshTarget, BooleanSupplier>	visibilities							= new EnumMap<>(RefreshTarget.class);
+
+	private final AtomicInteger											dirtyMask									= new AtomicInteger();
+	private final AtomicInteger											staleMask									= new AtomicInteger();
+	private final AtomicBoolean											isScheduled								= new AtomicBoolean();
+	private final Runnable													flushRunnable							= this::flush;
+	private final ConcurrentLinkedQueue<IngestQueue>	pendingDrains							= new ConcurrentLinkedQueue<>();
+
+	private volatile int														minFrameMillis						= 1000 / DEFAULT_FRAMES_PER_SECOND;
+	private long																		lastFlushMillis						= 0;																// UI thread only
+
+	private final AtomicLong												requestCount							= new AtomicLong();
+	private final AtomicLong												coalescedCount						= new AtomicLong();
+	private final AtomicLong												skippedInvisibleCount			= new AtomicLong();
+	private final AtomicLong												flushCount								= new AtomicLong();
+	private final AtomicLong												flushNanos								= new AtomicLong();
+
+	/**
+	 * register the update action for the target.
+	 * @param target
+	 * @param action is executed on the display thread
+	 * @param visibility is evaluated on the display thread, a target not visible will be refreshed on tab selection
+	 */
+	public void register(RefreshTarget target, Runnable action, BooleanSupplier visibility) {
+		this.actions.put(target, action);
+		this.visibilities.put(target, visibility);
+	}
+
+	/**
+	 * mark the target dirty and schedule a flush if not yet done.
+	 * Subsequent requests for a target already dirty are merged into the pending flush.
+	 * @param target
+	 */
+	public void request(RefreshTarget target) {
+		this.requestCount.incrementAndGet();
+		int bit = target.bit();
+		int previous = this.dirtyMask.getAndUpdate(m -> m | bit);
+		if ((previous & bit) != 0) this.coalescedCount.incrementAndGet();
+
+		schedule();
+	}
+
+	/**
+	 * enqueue the ingest queue for draining its pending points into the record set with the next flush.
+	 * The queue is drained immediately if there is no display.
+	 * @param ingestQueue
+	 */
+	public void requestDrain(IngestQueue ingestQueue) {
+		this.pendingDrains.offer(ingestQueue);
+		if (!schedule() && this.pendingDrains.remove(ingestQueue)) ingestQueue.drainRequested();
+	}
+
+	/**
+	 * schedule a flush if not yet done
+	 * @return false if there is no display to schedule on
+	 */
+	private boolean schedule() {
+		if (this.isScheduled.compareAndSet(false, true)) {
+			if (GDE.display == null || GDE.display.isDisposed()) {
+				this.isScheduled.set(false);
+				return false;
+			}
+			GDE.display.asyncExec(new Runnable() {
+				@Override
+				public void run() {
+					long waitMillis = RefreshScheduler.this.lastFlushMillis + RefreshScheduler.this.minFrameMillis - System.currentTimeMillis();
+					if (waitMillis > 0)
+						GDE.display.timerExec((int) waitMillis, RefreshScheduler.this.flushRunnable);
+					else
+						flush();
+				}
+			});
+		}
+		return true;
+	}
+
+	/**
+	 * execute the dirty targets, runs on the display thread.
+	 */
+	private void flush() {
+		long startNanos = System.nanoTime();
+		this.isScheduled.set(false); // requests arriving from now on will schedule a new flush
+		for (IngestQueue ingestQueue; (ingestQueue = this.pendingDrains.poll()) != null;) {
+			ingestQueue.drainRequested();
+		}
+		int mask = this.dirtyMask.getAndSet(0);
+		for (RefreshTarget target : RefreshTarget.VALUES) {
+			if ((mask & target.bit()) != 0 && target.superseded != null) mask &= ~target.superseded.bit();
+		}
+		for (RefreshTarget target : RefreshTarget.VALUES) {
+			if ((mask & target.bit()) == 0) continue;
+
+			Runnable action = this.actions.get(target);
+			if (action == null) continue;
+			if (this.visibilities.get(target).getAsBoolean()) {
+				this.staleMask.getAndUpdate(m -> m & ~target.bit());
+				try {
+					action.run();
+				} catch (RuntimeException e) {
+					log.log(Level.WARNING, target + GDE.STRING_MESSAGE_CONCAT + e.getMessage(), e);
+				}
+			} else {
+				this.staleMask.getAndUpdate(m -> m | target.bit());
+				this.skippedInvisibleCount.incrementAndGet();
+			}
+		}
+		this.lastFlushMillis = System.currentTimeMillis();
+		this.flushNanos.addAndGet(System.nanoTime() - startNanos);
+		if (this.flushCount.incrementAndGet() % 1000 == 0 && log.isLoggable(Level.FINE)) log.log(Level.FINE, this.toString());
+	}
+
+	/**
+	 * request all targets which were skipped because not visible, call this after tab selection changes.
+	 */
+	public void refreshStale() {
+		int mask = this.staleMask.getAndSet(0);
+		for (RefreshTarget target : RefreshTarget.VALUES) {
+			if ((mask & target.bit()) != 0) request(target);
+		}
+	}
+
+	/**
+	 * drop all pending requests, e.g. if the windows are going to be cleaned anyway
+	 */
+	public void clear() {
+		this.dirtyMask.set(0);
+		this.staleMask.set(0);
+	}
+
+	/**
+	 * @param framesPerSecond is the maximum rate the windows get updated with
+	 */
+	public void setMaxFramesPerSecond(int framesPerSecond) {
+		this.minFrameMillis = 1000 / Math.max(1, framesPerSecond);
+	}
+
+	/**
+	 * @return the number of targets waiting for the next flush
+	 */
+	public int getQueueDepth() {
+		return Integer.bitCount(this.dirtyMask.get());
+	}
+
+	/**
+	 * @return the number of requests merged into an already pending request
+	 */
+	public long getCoalescedCount() {
+		return this.coalescedCount.get();
+	}
+
+	/**
+	 * @return the number of target updates skipped because the target was not visible
+	 */
+	public long getSkippedInvisibleCount() {
+		return this.skippedInvisibleCount.get();
+	}
+
+	public long getRequestCount() {
+		return this.requestCount.get();
+	}
+
+	public long getFlushCount() {
+		return this.flushCount.get();
+	}
+
+	@Override
+	public String toString() {
+		long flushes = this.flushCount.get();
+		return String.format("RefreshScheduler [requests=%d, coalesced=%d, skippedInvisible=%d, flushes=%d, avgFlushMicros=%d, queueDepth=%d]", //$NON-NLS-1$
+				this.requestCount.get(), this.coalescedCount.get(), this.skippedInvisibleCount.get(), flushes, flushes > 0 ? this.flushNanos.get() / flushes / 1000 : 0, getQueueDepth());
+	}
+
+}
@@ -54,6 +54,7 @@ import gde.histo.config.HistoGraphicsTemplate;
 import gde.histo.recordings.TrailRecordSet;
 import gde.io.FileHandler;
 import gde.log.Level;
+import gde.log.Metrics;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
 import gde.ui.DataExplorer;
@@ -81,7 +82,7 @@ public class MenuBar {
 	MenuItem										historyFileMenuItem;
 	MenuItem										toolBoxDeviceMenuItem, portMenuItem;
 	MenuItem										aboutMenuItem;
-	MenuItem										contentsMenuItem, webCheckMenuItem;
+	MenuItem										contentsMenuItem, webCheckMenuItem, metricsMenuItem;
 	Menu												helpMenu;
 	MenuItem										helpMenuItem;
 	private MenuItem						recordCommentMenuItem;
@@ -1127,6 +1128,24 @@ public class MenuBar {
 						}
 					});
 				}
+				{
+					this.metricsMenuItem = new MenuItem(this.helpMenu, SWT.PUSH);
+					this.metricsMenuItem.setText(Messages.getString(MessageIds.GDE_MSGT0988));
+					this.metricsMenuItem.addSelectionListener(new SelectionAdapter() {
+						@Override
+						public void widgetSelected(SelectionEvent evt) {
+							if (log.isLoggable(Level.FINEST)) log.log(Level.FINEST, "metricsMenuItem.widgetSelected, event=" + evt); //$NON-NLS-1$
+							try {
+								List<Path> files = Metrics.exportSnapshot(Paths.get(GDE.APPL_HOME_PATH, Settings.LOG_PATH));
+								MenuBar.this.application.openMessageDialog(Messages.getString(MessageIds.GDE_MSGT0989, new Object[] { files }));
+							}
+							catch (Exception e) {
+								log.log(Level.WARNING, e.getMessage(), e);
+								MenuBar.this.application.openMessageDialog(e.getClass().getSimpleName() + GDE.STRING_MESSAGE_CONCAT + e.getMessage());
+							}
+						}
+					});
+				}
 				if (!GDE.IS_MAC) {
 					{
 						this.aboutMenuItem = new MenuItem(this.helpMenu, SWT.PUSH);
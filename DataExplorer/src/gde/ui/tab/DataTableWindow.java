@@ -60,6 +60,7 @@ import gde.GDE;
 import gde.config.Settings;
 import gde.data.Channel;
 import gde.data.Channels;
+import gde.data.DataTableModel;
 import gde.data.Record;
 import gde.data.RecordSet;
 import gde.device.DataTypes;
@@ -100,6 +101,7 @@ public class DataTableWindow extends CTabItem {
 	final Menu									popupmenu;
 	final TabAreaContextMenu		contextMenu;
 	boolean											isAbsoluteDateTime				= false;
+	DataTableModel							dataTableModel;																	// formatted rows of the active record set
 
 	public DataTableWindow(CTabFolder dataTab, int style, int position) {
 		super(dataTab, style, position);
@@ -364,7 +366,11 @@ public class DataTableWindow extends CTabItem {
 					if (activeRecordSet != null && activeRecordSet.getRecordDataSize(false) > 0) {
 						TableItem item = (TableItem) event.item;
 						int index = DataTableWindow.this.dataTable.indexOf(item);
-						item.setText(activeRecordSet.getDataTableRow(index, DataTableWindow.this.isAbsoluteDateTime));
+						if (DataTableWindow.this.dataTableModel == null || !DataTableWindow.this.dataTableModel.isModelFor(activeRecordSet, DataTableWindow.this.isAbsoluteDateTime)) {
+							invalidateDataTableModel();
+							DataTableWindow.this.dataTableModel = new DataTableModel(activeRecordSet, DataTableWindow.this.isAbsoluteDateTime, GDE.display::asyncExec);
+						}
+						item.setText(DataTableWindow.this.dataTableModel.getRow(index));
 					}
 				}
 			}
@@ -454,6 +460,7 @@ public class DataTableWindow extends CTabItem {
 	public void setHeader() {
 		// clean old header
 		this.dataTable.removeAll();
+		invalidateDataTableModel();
 		TableColumn[] columns = this.dataTable.getColumns();
 		for (TableColumn tableColumn : columns) {
 			tableColumn.dispose();
@@ -544,6 +551,17 @@ public class DataTableWindow extends CTabItem {
 	 */
 	public synchronized void cleanTable() {
 		if (this.dataTable != null && !this.dataTable.isDisposed()) this.dataTable.removeAll();
+		invalidateDataTableModel();
+	}
+
+	/**
+	 * drop the formatted rows, e.g. after changing columns or data
+	 */
+	void invalidateDataTableModel() {
+		if (this.dataTableModel != null) {
+			this.dataTableModel.invalidate();
+			this.dataTableModel = null;
+		}
 	}
 
 	/**
@@ -594,6 +612,7 @@ public class DataTableWindow extends CTabItem {
 		Record editRecord = DataTableWindow.this.application.getActiveRecordSet().get(recordName);
 		if (editRecord != null && StringHelper.verifyTypedInput(DataTypes.DOUBLE, row.getText(column))) {
 			editRecord.set(DataTableWindow.this.dataTable.indexOf(DataTableWindow.this.cursor.getRow()), (int) (Double.valueOf(row.getText(column).replace(',', '.')) * 1000));
+			invalidateDataTableModel();
 			return true;
 		}
 		return false;
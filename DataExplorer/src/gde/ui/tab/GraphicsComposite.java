@@ -19,7 +19,6 @@
 package gde.ui.tab;
 
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Properties;
@@ -67,6 +66,9 @@ import gde.data.Record;
 import gde.data.RecordSet;
 import gde.device.IDevice;
 import gde.log.Level;
+import gde.log.MetricEvents;
+import gde.log.MetricEvents.CurveRedraw;
+import gde.log.Metrics;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
 import gde.ui.DataExplorer;
@@ -78,7 +80,6 @@ import gde.utils.GraphicsUtils;
 import gde.utils.LocalizedDateTime;
 import gde.utils.LocalizedDateTime.DateTimePattern;
 import gde.utils.MathUtils;
-import gde.utils.StringHelper;
 import gde.utils.TimeLine;
 
 /**
@@ -185,6 +186,13 @@ public class GraphicsComposite extends Composite {
 	int												lastXPositionMeasure		= Integer.MAX_VALUE;
 	int												lastXPositionDelta			= Integer.MAX_VALUE;
 
+	// incremental live gathering update, curve segments get appended to the canvas image as long as the layout is unchanged
+	String										liveLayoutKey						= null;
+	int[]											liveLastDrawnIndices		= new int[0];
+	int[]											liveXScaleFactors				= new int[0];
+	long											fullRedrawCount					= 0;
+	long											incrementalRedrawCount	= 0;
+
 	GraphicsComposite(final SashForm useParent, GraphicsType useGraphicsType) {
 		super(useParent, SWT.NONE);
 		SWTResourceManager.registerResourceUser(this);
@@ -917,7 +925,7 @@ public class GraphicsComposite extends Composite {
 		boolean isCurveGridEnabled = recordSet.getValueGridType() > 0;
 
 		// draw each record using sorted record set names
-		long startTime = new Date().getTime();
+		CurveRedraw curveRedraw = CurveRedraw.start(this.graphicsType.name());
 		boolean isDrawScaleInRecordColor = this.settings.isDrawScaleInRecordColor();
 		boolean isDrawNameInRecordColor = this.settings.isDrawNameInRecordColor();
 		boolean isDrawNumbersInRecordColor = this.settings.isDrawNumbersInRecordColor();
@@ -960,7 +968,7 @@ public class GraphicsComposite extends Composite {
 			gc.drawText(strStartTime, 10, yPosition - point.y / 2);
 			if (log.isLoggable(Level.FINER)) log.log(Level.FINER, strStartTime);
 		}
-		if (log.isLoggable(Level.TIME)) log.log(Level.TIME, "draw time = " + StringHelper.getFormatedTime("ss:SSS", (new Date().getTime() - startTime)));
+		curveRedraw.stop(recordSet.getVisibleAndDisplayableRecords().size());
 	}
 
 	/**
@@ -1021,6 +1029,8 @@ public class GraphicsComposite extends Composite {
 	 * updates the graphics canvas, while repeatable redraw calls it optimized to the required area
 	 */
 	synchronized void doRedrawGraphics() {
+		long startNanos = System.nanoTime();
+		this.liveLayoutKey = null;
 		this.graphicsHeader.notifyListeners(SWT.Paint, new Event());
 
 		if (log.isLoggable(Level.FINE)) log.log(Level.FINE, "this.graphicCanvas.redraw(); // do full update where required");
@@ -1037,30 +1047,12 @@ public class GraphicsComposite extends Composite {
 				this.canvasImageGC.fillRectangle(this.canvasBounds);
 				this.canvasImageGC.setFont(SWTResourceManager.getFont(GDE.WIDGET_FONT_NAME, GDE.WIDGET_FONT_SIZE, SWT.NORMAL));
 
-				RecordSet recordSet = null;
-				switch (this.graphicsType) {
-				case COMPARE:
-					if (this.application.isWithCompareSet()) {
-						recordSet = this.application.getCompareSet();
-					}
-					break;
-	
-				case UTIL:
-					if (this.application.isWithUtilitySet()) {
-						recordSet = this.application.getUtilitySet();
-					}
-					break;
-	
-				default: // TYPE_NORMAL
-					if (this.channels.getActiveChannel() != null && this.channels.getActiveChannel().getActiveRecordSet() != null) {
-						recordSet = this.channels.getActiveChannel().getActiveRecordSet();
-					}
-					break;
-				}
+				RecordSet recordSet = getDisplayRecordSet();
 				if (recordSet != null && recordSet.realSize() > 0) {
 					drawCurves(recordSet, this.canvasBounds, this.canvasImageGC);
 					//changed curve selection may change the scale end values
 					recordSet.syncScaleOfSyncableRecords();
+					if (isLiveUpdateable(recordSet)) captureLiveLayout(recordSet);
 				}
 				this.canvasImageGC.dispose();
 			}
@@ -1071,6 +1063,136 @@ public class GraphicsComposite extends Composite {
 		this.graphicCanvas.redraw(); // do full update where required
 		
 		this.recordSetComment.redraw();
+		++this.fullRedrawCount;
+		Metrics.timer(MetricEvents.CURVE_REDRAW + ".full").recordSince(startNanos); //$NON-NLS-1$
+	}
+
+	/**
+	 * updates the graphics canvas during live gathering by appending the new curve segments to the canvas image.
+	 * Falls back to a full redraw if the layout has been changed, e.g. time scale extended, scales changed, window resized, zoom or scope mode.
+	 */
+	synchronized void doUpdateGraphics() {
+		long startNanos = System.nanoTime();
+		RecordSet recordSet = getDisplayRecordSet();
+		if (recordSet == null || this.liveLayoutKey == null || this.canvasImage == null || this.canvasImage.isDisposed() || !isLiveUpdateable(recordSet)
+				|| !this.canvasBounds.equals(this.graphicCanvas.getClientArea()) || !this.liveLayoutKey.equals(getLiveLayoutKey(recordSet))) {
+			doRedrawGraphics();
+			return;
+		}
+
+		int x0 = this.curveAreaBounds.x;
+		int y0 = this.curveAreaBounds.y + this.curveAreaBounds.height;
+		int xMin = Integer.MAX_VALUE, xMax = Integer.MIN_VALUE;
+		GC gc = new GC(this.canvasImage);
+		try {
+			gc.setClipping(x0 - 1, this.curveAreaBounds.y - 1, this.curveAreaBounds.width + 2, this.curveAreaBounds.height + 2);
+			synchronized (recordSet) {
+				for (Record actualRecord : recordSet.getRecordsSortedForDisplay()) {
+					if (!actualRecord.isVisible() || !actualRecord.isDisplayable()) continue;
+					int ordinal = actualRecord.getOrdinal();
+					int xScaleFactor = this.liveXScaleFactors[ordinal];
+					if ((int) (actualRecord.realSize() / (this.curveAreaBounds.width * 2.2)) >= 2 * xScaleFactor) { // too many points drawn per pixel, recalculate the scale factor
+						gc.dispose();
+						gc = null;
+						doRedrawGraphics();
+						return;
+					}
+					int lastDrawnIndex = this.liveLastDrawnIndices[ordinal];
+					int newLastDrawnIndex = CurveUtils.drawCurveSegments(actualRecord, gc, x0, y0, lastDrawnIndex, xScaleFactor);
+					if (newLastDrawnIndex > lastDrawnIndex) {
+						xMin = Math.min(xMin, actualRecord.getDisplayPoint(lastDrawnIndex, x0, y0).x);
+						xMax = Math.max(xMax, actualRecord.getDisplayPoint(newLastDrawnIndex, x0, y0).x);
+						this.liveLastDrawnIndices[ordinal] = newLastDrawnIndex;
+					}
+				}
+			}
+		}
+		catch (RuntimeException e) {
+			log.log(Level.SEVERE, e.getMessage(), e);
+		}
+		finally {
+			if (gc != null) gc.dispose();
+		}
+		if (xMax >= xMin) this.graphicCanvas.redraw(xMin - 2, this.curveAreaBounds.y - 1, xMax - xMin + 5, this.curveAreaBounds.height + 2, false);
+
+		++this.incrementalRedrawCount;
+		Metrics.timer(MetricEvents.CURVE_REDRAW + ".incremental").recordSince(startNanos); //$NON-NLS-1$
+	}
+
+	/**
+	 * @return the record set to be displayed according the graphics type
+	 */
+	private RecordSet getDisplayRecordSet() {
+		RecordSet recordSet = null;
+		switch (this.graphicsType) {
+		case COMPARE:
+			if (this.application.isWithCompareSet()) {
+				recordSet = this.application.getCompareSet();
+			}
+			break;
+
+		case UTIL:
+			if (this.application.isWithUtilitySet()) {
+				recordSet = this.application.getUtilitySet();
+			}
+			break;
+
+		default: // TYPE_NORMAL
+			if (this.channels.getActiveChannel() != null && this.channels.getActiveChannel().getActiveRecordSet() != null) {
+				recordSet = this.channels.getActiveChannel().getActiveRecordSet();
+			}
+			break;
+		}
+		return recordSet;
+	}
+
+	private int getDisplayRecordSetSize() {
+		RecordSet recordSet = getDisplayRecordSet();
+		return recordSet != null ? recordSet.realSize() : 0;
+	}
+
+	/**
+	 * @return true if new data points of the record set might be appended to the canvas image without full redraw
+	 */
+	private boolean isLiveUpdateable(RecordSet recordSet) {
+		return this.graphicsType == GraphicsType.NORMAL && recordSet.isLiveGathering() && !recordSet.isCompareSet() && !recordSet.isZoomMode() && !this.isScopeMode
+				&& recordSet.realSize() > 0;
+	}
+
+	/**
+	 * remember the drawn data point indices and the layout the curves were drawn with
+	 */
+	private void captureLiveLayout(RecordSet recordSet) {
+		this.liveLayoutKey = getLiveLayoutKey(recordSet);
+		if (this.liveLastDrawnIndices.length != recordSet.size()) {
+			this.liveLastDrawnIndices = new int[recordSet.size()];
+			this.liveXScaleFactors = new int[recordSet.size()];
+		}
+		for (int i = 0; i < recordSet.size(); i++) {
+			Record actualRecord = recordSet.get(i);
+			int xScaleFactor = CurveUtils.getXScaleFactor(actualRecord.realSize(), this.curveAreaBounds.width);
+			this.liveXScaleFactors[actualRecord.getOrdinal()] = xScaleFactor;
+			this.liveLastDrawnIndices[actualRecord.getOrdinal()] = actualRecord.realSize() > 0 ? ((actualRecord.realSize() - 1) / xScaleFactor) * xScaleFactor : 0;
+		}
+	}
+
+	/**
+	 * @return a key of all properties which require a full redraw if changed, record set, time scale, grid, curve scales and curve appearance
+	 */
+	private String getLiveLayoutKey(RecordSet recordSet) {
+		StringBuilder sb = new StringBuilder().append(recordSet.getName()).append(GDE.CHAR_COMMA).append(System.identityHashCode(recordSet)).append(this.canvasBounds).append(this.curveAreaBounds);
+		sb.append(recordSet.get(0).getDrawTimeWidth_ms()).append(GDE.CHAR_COMMA).append(recordSet.getTimeGridType()).append(GDE.CHAR_COMMA).append(recordSet.getValueGridType()).append(GDE.CHAR_COMMA)
+				.append(recordSet.getValueGridRecordOrdinal());
+		for (Record actualRecord : recordSet.getRecordsSortedForDisplay()) {
+			boolean isActualRecordEnabled = actualRecord.isVisible() && actualRecord.isDisplayable();
+			sb.append(GDE.CHAR_SEMICOLON).append(actualRecord.getOrdinal()).append(isActualRecordEnabled).append(actualRecord.isScaleVisible());
+			if (isActualRecordEnabled || actualRecord.isScaleVisible()) {
+				sb.append(actualRecord.getRGB()).append(actualRecord.getLineWidth()).append(actualRecord.getLineStyle()).append(actualRecord.isPositionLeft()).append(actualRecord.isRoundOut())
+						.append(actualRecord.isStartpointZero()).append(actualRecord.isStartEndDefined()).append(GDE.CHAR_COMMA).append(actualRecord.getMinValue()).append(GDE.CHAR_COMMA)
+						.append(actualRecord.getMaxValue()).append(GDE.CHAR_COMMA).append(actualRecord.getSyncMinValue()).append(GDE.CHAR_COMMA).append(actualRecord.getSyncMaxValue());
+			}
+		}
+		return sb.toString();
 	}
 
 	public void notifySelected() {
@@ -137,7 +137,10 @@ public class GraphicsWindow extends CTabItem {
 	 */
 	public void redrawGraphics(final boolean redrawCurveSelector) {
 		if (Thread.currentThread().threadId() == this.application.getThreadId()) {
-			this.graphicsComposite.doRedrawGraphics();
+			if (redrawCurveSelector)
+				this.graphicsComposite.doRedrawGraphics();
+			else
+				this.graphicsComposite.doUpdateGraphics();
 			this.graphicsComposite.updateCaptions();
 			if (redrawCurveSelector) this.curveSelectorComposite.doUpdateCurveSelectorTable();
 		}
@@ -145,7 +148,10 @@ public class GraphicsWindow extends CTabItem {
 			GDE.display.asyncExec(new Runnable() {
 				@Override
 				public void run() {
-					GraphicsWindow.this.graphicsComposite.doRedrawGraphics();
+					if (redrawCurveSelector)
+						GraphicsWindow.this.graphicsComposite.doRedrawGraphics();
+					else
+						GraphicsWindow.this.graphicsComposite.doUpdateGraphics();
 					GraphicsWindow.this.graphicsComposite.updateCaptions();
 					if (redrawCurveSelector) GraphicsWindow.this.curveSelectorComposite.doUpdateCurveSelectorTable();
 				}
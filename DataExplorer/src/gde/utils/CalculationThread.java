@@ -19,17 +19,25 @@
 package gde.utils;
 
 import gde.log.Level;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
+import gde.data.Record;
 import gde.data.RecordSet;
 import gde.device.MeasurementPropertyTypes;
 import gde.ui.DataExplorer;
 
 /**
- * This abstract thread implementation calculates the slop of the height curve using several algorithm
+ * This abstract calculation task calculates the slop of the height curve using several algorithm.
+ * The tasks run on a shared executor instead of a new thread per recalculation, the thread like methods are kept for the devices.
  * @author Winfried Brügmann
  */
-public abstract class CalculationThread extends Thread {
+public abstract class CalculationThread implements Runnable {
 	private final static Logger											log					= Logger.getLogger(CalculationThread.class.getName());
 
 	public static final String REGRESSION_TYPE 					= MeasurementPropertyTypes.REGRESSION_TYPE.value();
@@ -41,7 +49,16 @@ public abstract class CalculationThread extends Thread {
 	protected String												sourceRecordKey, targetRecordKey;
 	protected int														calcInterval_sec = 10;
 	protected final DataExplorer	application;
-	protected boolean												threadStop	= false;
+	protected volatile boolean							threadStop	= false;
+	private volatile Future<?>							future;
+
+	private final static AtomicInteger			threadCount	= new AtomicInteger();
+	private final static ExecutorService		executor		= Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors() / 2), r -> {
+		Thread thread = new Thread(r, "calculation-" + threadCount.incrementAndGet()); //$NON-NLS-1$
+		thread.setDaemon(true);
+		thread.setPriority(Thread.MAX_PRIORITY);
+		return thread;
+	});
 
 	/**
 	 * constructor where calculation required parameters are given as parameter
@@ -51,14 +68,43 @@ public abstract class CalculationThread extends Thread {
 	 * @param calcIntervalSec
 	 */
 	public CalculationThread(RecordSet currentRecordSet, String inRecordKey, String outRecordKey, int calcIntervalSec) {
-		super("calculation");
 		this.recordSet = currentRecordSet;
 		this.sourceRecordKey = inRecordKey;
 		this.targetRecordKey = outRecordKey;
 		this.calcInterval_sec = calcIntervalSec;
 		this.application = DataExplorer.getInstance();
 		log.log(Level.FINER, this.getClass().getSimpleName() + " instanciated");
-		this.setPriority(Thread.MAX_PRIORITY);
+	}
+
+	/**
+	 * submit the calculation to the shared executor
+	 */
+	public void start() {
+		this.future = executor.submit(this);
+	}
+
+	/**
+	 * @return true if the calculation was started and is not finished
+	 */
+	public boolean isAlive() {
+		Future<?> tmpFuture = this.future;
+		return tmpFuture != null && !tmpFuture.isDone();
+	}
+
+	/**
+	 * wait for the calculation to be finished
+	 * @throws InterruptedException
+	 */
+	public void join() throws InterruptedException {
+		Future<?> tmpFuture = this.future;
+		if (tmpFuture != null) {
+			try {
+				tmpFuture.get();
+			}
+			catch (ExecutionException e) {
+				log.log(Level.SEVERE, e.getCause().getMessage(), e.getCause());
+			}
+		}
 	}
 
 	/**
@@ -67,6 +113,38 @@ public abstract class CalculationThread extends Thread {
 	@Override
 	public abstract void run();
 
+	/**
+	 * calculate the slope record from the height record with the sliding window regression and update the UI
+	 * @param type
+	 */
+	protected void calculateSlope(SlopeRegression.Type type) {
+		if (this.recordSet == null || this.sourceRecordKey == null || this.targetRecordKey == null) {
+			log.log(Level.WARNING, "Slope can not be calculated -> recordSet == null || sourceRecordKey == null || targetRecordKey == null"); //$NON-NLS-1$
+			return;
+		}
+		synchronized (CalculationThread.REGRESSION_INTERVAL_SEC) {
+			log.log(Level.FINE, "start data calculation for record = " + this.targetRecordKey); //$NON-NLS-1$
+
+			Record recordHeight = this.recordSet.get(this.sourceRecordKey);
+			Record record = this.recordSet.get(this.targetRecordKey);
+			if (record != null && !this.threadStop && recordHeight.getMaxTime_ms() * 1000 > this.calcInterval_sec) {
+				SlopeRegression regression = new SlopeRegression(type, recordHeight.getAverageTimeStep_ms() / 1000, this.calcInterval_sec);
+				regression.update(recordHeight, record);
+				log.log(Level.FINE, "numberDataPoints = " + recordHeight.realSize() + " slopeCount = " + regression.getSlopeCount()); //$NON-NLS-1$ //$NON-NLS-2$
+
+				if (this.recordSet.get(this.sourceRecordKey) != null && this.recordSet.get(this.sourceRecordKey).isDisplayable()) record.setDisplayable(true); // depending record influence
+				if (this.application.getActiveRecordSet() != null && this.recordSet.getName().equals(this.application.getActiveRecordSet().getName()) && record.isVisible()) {
+					this.application.updateGraphicsWindow();
+				}
+			}
+
+			this.application.updateCurveSelectorTable();
+			this.application.updateStatisticsData();
+			this.application.updateDataTable(this.recordSet.getName(), true);
+			log.log(Level.FINE, "finished data calculation for record = " + this.targetRecordKey); //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * @param newRecordSet the recordSet to set
 	 */
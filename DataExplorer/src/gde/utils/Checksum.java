@@ -66,22 +66,12 @@ public class Checksum {
 	}
 	
 	/**
-	 * calculate CRC16
+	 * calculate CRC16, bitwise definition of the CCITT polynomial, same result as {@link #CRC16CCITT(byte[], int)}
 	 * @param bytes byte array to compute CRC16
 	 * @return 16-bit CRC, unsigned
 	 */
 	public static short CRC16(byte[] bytes, int initValue) {
-		int crc = initValue; // initial value
-		int polynomial = 0x1021; // 0001 0000 0010 0001  (0, 5, 12) 
-		for (byte b : bytes) {
-			for (int i = 0; i < 8; i++) {
-				boolean bit = ((b >> (7 - i) & 1) == 1);
-				boolean c15 = ((crc >> 15 & 1) == 1);
-				crc <<= 1;
-				if (c15 ^ bit) crc ^= polynomial;
-			}
-		}
-		return (short) (crc &= 0xffff);
+		return (short) updateCRC16CCITT(initValue & 0xffff, bytes, 0, bytes.length);
 	}
 
 
@@ -91,6 +81,10 @@ public class Checksum {
 	private static final int	poly			= 0x1021;			/* x16 + x12 + x5 + 1 generator polynomial */
 	/* 0x8408 used in European X.25 */
 	private static int[] crcTable	= new int[256];
+	/**
+	 * lookup tables to process 4 bytes per step, crcTables[k][i] is the CRC of byte i followed by k zero bytes
+	 */
+	private static final int[][]	crcTables	= new int[4][];
 	static {
 		// initialize lookup table
 		for (int i = 0; i < 256; i++) {
@@ -108,6 +102,35 @@ public class Checksum {
 			}
 			crcTable[i] = fcs;
 		}
+		crcTables[0] = crcTable;
+		for (int k = 1; k < crcTables.length; k++) {
+			crcTables[k] = new int[256];
+			for (int i = 0; i < 256; i++) {
+				int fcs = crcTables[k - 1][i];
+				crcTables[k][i] = (crcTable[fcs >>> 8] ^ (fcs << 8)) & 0xffff;
+			}
+		}
+	}
+
+	/**
+	 * continue a CRC16 CCITT calculation with the given bytes, e.g. to validate a frame in place of the receive buffer
+	 * or to calculate the CRC of data received in several chunks
+	 * @param crc the CRC of the preceding bytes or the initial value
+	 * @param b byte array to compute CRC on
+	 * @param offset index of the first byte
+	 * @param length number of bytes
+	 * @return 16-bit CRC, unsigned
+	 */
+	public static int updateCRC16CCITT(int crc, byte[] b, int offset, int length) {
+		final int[] t0 = crcTables[0], t1 = crcTables[1], t2 = crcTables[2], t3 = crcTables[3];
+		int i = offset;
+		for (int end4 = offset + (length & ~3); i < end4; i += 4) {
+			crc = t3[((crc >>> 8) ^ b[i]) & 0xff] ^ t2[(crc ^ b[i + 1]) & 0xff] ^ t1[b[i + 2] & 0xff] ^ t0[b[i + 3] & 0xff];
+		}
+		for (int end = offset + length; i < end; i++) {
+			crc = (t0[(b[i] ^ (crc >>> 8)) & 0xff] ^ (crc << 8)) & 0xffff;
+		}
+		return crc;
 	}
 
 	/**
@@ -116,11 +139,7 @@ public class Checksum {
 	 * @return 16-bit CRC, unsigned
 	 */
 	public static short CRC16CCITT(byte[] b, int initValue) {
-		int crc = initValue;
-		for (int i = 0; i < b.length; i++) {
-			crc = (crcTable[(b[i] ^ (crc >>> 8)) & 0xff] ^ (crc << 8)) & 0xffff;
-		}
-		return (short) crc;
+		return (short) updateCRC16CCITT(initValue & 0xffff, b, 0, b.length);
 	}
 
 	/**
@@ -142,11 +161,50 @@ public class Checksum {
 	 * @return 16-bit CRC, unsigned
 	 */
 	public static short CRC16CCITT(byte[] b, int startIndex, int length) {
-		int crc = 0;
-		for (int i = startIndex; i < length+startIndex; i++) {
-			crc = (crcTable[(b[i] ^ (crc >>> 8)) & 0xff] ^ (crc << 8)) & 0xffff;
+		return (short) updateCRC16CCITT(0, b, startIndex, length);
+	}
+
+	/**
+	 * incremental CRC16 with CCITT method, the bytes may be passed in several chunks directly from the receive buffers
+	 */
+	public static final class CRC16CCITTChecksum implements java.util.zip.Checksum {
+		private final int	initValue;
+		private int				crc;
+
+		public CRC16CCITTChecksum() {
+			this(0);
+		}
+
+		/**
+		 * @param initValue initial CRC value
+		 */
+		public CRC16CCITTChecksum(int initValue) {
+			this.initValue = initValue & 0xffff;
+			this.crc = this.initValue;
+		}
+
+		@Override
+		public void update(int b) {
+			this.crc = (crcTable[(b ^ (this.crc >>> 8)) & 0xff] ^ (this.crc << 8)) & 0xffff;
+		}
+
+		@Override
+		public void update(byte[] b, int off, int len) {
+			this.crc = updateCRC16CCITT(this.crc, b, off, len);
+		}
+
+		/**
+		 * @return 16-bit CRC, unsigned
+		 */
+		@Override
+		public long getValue() {
+			return this.crc;
+		}
+
+		@Override
+		public void reset() {
+			this.crc = this.initValue;
 		}
-		return (short) crc;
 	}
 	
 	/**
@@ -155,12 +213,19 @@ public class Checksum {
 	 * @return 32-bit CRC, signed
 	 */
 	public static int CRC32(byte[] b) {
-		// create a new CRC-calculating object
+		return CRC32(b, 0, b.length);
+	}
+
+	/**
+	 * calculate CRC-32 with Java method, the JDK implementation is table driven resp. uses the CPU's CRC instructions
+	 * @param b byte array to compute CRC on
+	 * @param offset index of the first byte
+	 * @param length number of bytes
+	 * @return 32-bit CRC, signed
+	 */
+	public static int CRC32(byte[] b, int offset, int length) {
 		CRC32 crc = new CRC32();
-		// loop, calculating CRC for each byte of the string
-		for (int i = 0; i < b.length; i++) {
-			crc.update(b[i]);
-		}
+		crc.update(b, offset, length);
 		return (int) crc.getValue();
 	}
 
@@ -188,6 +253,21 @@ public class Checksum {
 		return (byte) value;
 	}
 
+	/**
+	 * calculate OR bit operation of ASCII characters without copying them into a byte array
+	 * @param s character sequence to compute
+	 * @param offset index of the first character
+	 * @param length number of characters
+	 * @return 8-bit result
+	 */
+	public static byte OR(CharSequence s, int offset, int length) {
+		int value = 0;
+		for (int i = offset; i < offset + length; i++) {
+			value = value | (byte) s.charAt(i);
+		}
+		return (byte) value;
+	}
+
 	/**
 	 * calculate OR bit operation
 	 * @param a byte array to compute
@@ -240,6 +320,36 @@ public class Checksum {
 		return value;
 	}
 
+	/**
+	 * calculate XOR bit operation
+	 * @param b byte array to compute
+	 * @param offset index of the first byte
+	 * @param length number of bytes
+	 * @return 8-bit result
+	 */
+	public static int XOR(byte[] b, int offset, int length) {
+		int value = 0;
+		for (int i = offset; i < offset + length; i++) {
+			value ^= b[i];
+		}
+		return value;
+	}
+
+	/**
+	 * calculate XOR bit operation of ASCII characters without copying them into a byte array
+	 * @param s character sequence to compute
+	 * @param offset index of the first character
+	 * @param length number of characters
+	 * @return 8-bit result
+	 */
+	public static int XOR(CharSequence s, int offset, int length) {
+		int value = 0;
+		for (int i = offset; i < offset + length; i++) {
+			value ^= (byte) s.charAt(i);
+		}
+		return value;
+	}
+
 	/**
 	 * calculate XOR bit operation
 	 * @param a integer array to compute
@@ -279,6 +389,21 @@ public class Checksum {
 		return value;
 	}
 
+	/**
+	 * calculate AND bit operation of ASCII characters without copying them into a byte array
+	 * @param s character sequence to compute
+	 * @param offset index of the first character
+	 * @param length number of characters
+	 * @return 8-bit result
+	 */
+	public static byte AND(CharSequence s, int offset, int length) {
+		int value = 0xFF;
+		for (int i = offset; i < offset + length; i++) {
+			value = value & (byte) s.charAt(i);
+		}
+		return (byte) value;
+	}
+
 	/**
 	 * calculate AND bit operation
 	 * @param a integer array to compute
@@ -334,6 +459,21 @@ public class Checksum {
 		return value;
 	}
 
+	/**
+	 * calculate ADD operation of ASCII characters without copying them into a byte array
+	 * @param s character sequence to compute
+	 * @param offset index of the first character
+	 * @param length number of characters
+	 * @return 16-bit result
+	 */
+	public static int ADD(CharSequence s, int offset, int length) {
+		int value = 0;
+		for (int i = offset; i < offset + length; i++) {
+			value = value + (s.charAt(i) & 0xFF);
+		}
+		return value;
+	}
+
 	/**
 	 * calculate ADD operation
 	 * @param a integer array to compute
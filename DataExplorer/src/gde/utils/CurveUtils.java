@@ -230,13 +230,7 @@ public class CurveUtils {
 		double displayableTime_ms = record.getDrawTimeWidth_ms();
 		if (log.isLoggable(Level.FINE)) log.log(Level.FINE, "displayableSize = " + displayableSize + " displayableTime_ms = " + displayableTime_ms); //$NON-NLS-1$ //$NON-NLS-2$
 
-		// calculate xScale for curves with much to many data points, it makes no sense to draw all the small lines on the same part of the screen
-		int xScaleFactor = (int)(displayableSize / (width * 2.2));
-		xScaleFactor = xScaleFactor > 0 ? xScaleFactor : 1; //check for curves with less points than draw area width
-		while (displayableSize % xScaleFactor > 3 && xScaleFactor > 1) {
-			--xScaleFactor;
-		}
-		//xScaleFactor+=2;
+		int xScaleFactor = getXScaleFactor(displayableSize, width);
 		// calculate scale factor to fit time into draw bounds display pixel based
 		double xTimeFactor = width / displayableTime_ms; // * (xScaleFactor - 0.44);
 		if (log.isLoggable(Level.FINE)) log.log(Level.FINE, "xTimeFactor = " + xTimeFactor + " xScaleFactor = " + xScaleFactor + " : " + (xTimeFactor * xScaleFactor)); //$NON-NLS-1$ //$NON-NLS-2$
@@ -292,8 +286,10 @@ public class CurveUtils {
 					oldPoint = newPoint; // remember the last draw point for next drawLine operation
 				}
 				//draw the last point with possible interpolated values if it does not match a measurement point at time value
-				newPoint = record.getDisplayEndPoint(width);
-				gc.drawLine(oldPoint.x, oldPoint.y, newPoint.x, newPoint.y);
+				if (!parent.isLiveGathering()) { // live time axis might exceed the last measurement point
+					newPoint = record.getDisplayEndPoint(width);
+					gc.drawLine(oldPoint.x, oldPoint.y, newPoint.x, newPoint.y);
+				}
 			}
 			else {
 				for (int j = 0; j <= displayableSize && displayableSize > 1; j += xScaleFactor) {
@@ -304,8 +300,10 @@ public class CurveUtils {
 					oldPoint = newPoint; // remember the last draw point for next drawLine operation
 				}
 				//draw the last point with possible interpolated values if it does not match a measurement point at time value
-				newPoint = record.getDisplayEndPoint(width);
-				gc.drawLine(oldPoint.x, oldPoint.y, newPoint.x, newPoint.y);
+				if (!parent.isLiveGathering()) { // live time axis might exceed the last measurement point
+					newPoint = record.getDisplayEndPoint(width);
+					gc.drawLine(oldPoint.x, oldPoint.y, newPoint.x, newPoint.y);
+				}
 			}
 		}
 		catch (RuntimeException e) {
@@ -313,4 +311,55 @@ public class CurveUtils {
 		}
 		if (log.isLoggable(Level.FINEST)) log.log(Level.FINEST, sb.toString());
 	}
+
+	/**
+	 * calculate xScale for curves with much to many data points, it makes no sense to draw all the small lines on the same part of the screen
+	 * @param displayableSize is the number of data points to be drawn
+	 * @param width of the curve area
+	 * @return the index increment used to draw the curve
+	 */
+	public static int getXScaleFactor(int displayableSize, int width) {
+		int xScaleFactor = (int)(displayableSize / (width * 2.2));
+		xScaleFactor = xScaleFactor > 0 ? xScaleFactor : 1; //check for curves with less points than draw area width
+		while (displayableSize % xScaleFactor > 3 && xScaleFactor > 1) {
+			--xScaleFactor;
+		}
+		return xScaleFactor;
+	}
+
+	/**
+	 * append the curve segments from the last drawn index up to the last data point using the given graphics context (GC).
+	 * The display scale factors must be unchanged since the curve was drawn by {@link #drawCurve(Record, GC, int, int, int, int, boolean)}.
+	 * Does not support compare sets, zoom or scope mode.
+	 * @param record
+	 * @param gc
+	 * @param x0
+	 * @param y0
+	 * @param lastDrawnIndex is the data point index the curve has been drawn to
+	 * @param xScaleFactor is the index increment used to draw the curve
+	 * @return the index of the last data point drawn which is the start for the next segments to append
+	 */
+	public static int drawCurveSegments(Record record, GC gc, int x0, int y0, int lastDrawnIndex, int xScaleFactor) {
+		int displayableSize = record.realSize();
+		if (lastDrawnIndex + xScaleFactor >= displayableSize) return lastDrawnIndex;
+
+		gc.setForeground(SWTResourceManager.getColor(record.getRGB()));
+		gc.setLineWidth(record.getLineWidth());
+		gc.setLineStyle(record.getLineStyle());
+
+		int j = lastDrawnIndex;
+		try {
+			boolean isGPSCoordinate = record.getDevice().isGPSCoordinates(record);
+			Point oldPoint = isGPSCoordinate ? record.getGPSDisplayPoint(j, x0, y0) : record.getDisplayPoint(j, x0, y0);
+			for (j += xScaleFactor; j < displayableSize; j += xScaleFactor) {
+				Point newPoint = isGPSCoordinate ? record.getGPSDisplayPoint(j, x0, y0) : record.getDisplayPoint(j, x0, y0);
+				gc.drawLine(oldPoint.x, oldPoint.y, newPoint.x, newPoint.y);
+				oldPoint = newPoint;
+			}
+		}
+		catch (RuntimeException e) {
+			log.log(Level.SEVERE, e.getMessage(), e);
+		}
+		return j - xScaleFactor;
+	}
 }
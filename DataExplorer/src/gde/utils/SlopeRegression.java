@@ -0,0 +1,239 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.utils;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import gde.data.Record;
+import gde.log.Level;
+
+/**
+ * Streaming slope calculation of the height curve with running sums over a sliding window of data points.
+ * The interval windows start every third data point, each window result is the slope value for three target points.
+ * The sums of the heights and the position weighted heights are updated per added point,
+ * which replaces the re-summing of the full interval for each window.
+ * The time related sums are constant for a given interval and are calculated once.
+ * @author Winfried Brügmann
+ */
+public final class SlopeRegression {
+	private final static Logger	log							= Logger.getLogger(SlopeRegression.class.getName());
+
+	/**
+	 * fix number of points where the calculation will result in slope values, rest is overlap
+	 */
+	public final static int			POINT_INTERVAL	= 3;
+
+	public enum Type {
+		/**
+		 * linear regression, good for calculating average slope between selected curve points
+		 */
+		LINEAR,
+		/**
+		 * quasi linear regression, none critical regarding time interval and no phase shift
+		 */
+		CURVE
+	}
+
+	private final Type		type;
+	private final double	timeStep_sec;
+	private final int			timeStepsPerInterval;
+	private final int			frontPadding;
+	private final double	ssXX;
+
+	private final int[]		window;
+	private int						windowSize;
+	private long					sumY;
+	private long					sumIY;
+	private int						pointCount;
+	private boolean				isPending;
+	private int						pendingSlope;
+	private int						slope;
+	private int						slopeCount;
+	private int						targetSize;
+
+	/**
+	 * @param type
+	 * @param timeStep_sec the average time step of the height record
+	 * @param calcInterval_sec the regression interval
+	 */
+	public SlopeRegression(Type type, double timeStep_sec, int calcInterval_sec) {
+		this.type = type;
+		this.timeStep_sec = timeStep_sec;
+		int steps = (int) (calcInterval_sec / timeStep_sec); // 4000ms/50ms/point -> 80 points per interval
+		this.timeStepsPerInterval = steps <= 4 ? 4 : steps;
+		this.window = new int[this.timeStepsPerInterval];
+
+		double avgX, tmpSsXX = 0.0;
+		if (type == Type.LINEAR) {
+			this.frontPadding = (this.timeStepsPerInterval + 1 - POINT_INTERVAL) / 5 * 4; // |-----..-----|
+			avgX = timeStep_sec;
+			for (int i = 1; i <= this.timeStepsPerInterval; i++) {
+				tmpSsXX += ((timeStep_sec * i) - avgX) * ((timeStep_sec * i) - avgX);
+			}
+		}
+		else {
+			this.frontPadding = Math.max(0, (this.timeStepsPerInterval / 5 * 4) - POINT_INTERVAL);
+			avgX = 0.;
+			for (int i = 0; i < this.timeStepsPerInterval; i++) {
+				avgX += 1 / timeStep_sec * i;
+			}
+			avgX = avgX / this.timeStepsPerInterval;
+			for (int i = 1; i <= this.timeStepsPerInterval; i++) {
+				tmpSsXX += ((1 / timeStep_sec * i) - avgX) * ((1 / timeStep_sec * i) - avgX);
+			}
+		}
+		this.ssXX = tmpSsXX / this.timeStepsPerInterval;
+		log.log(Level.FINE, "timeStepsPerInterval = " + this.timeStepsPerInterval + " frontPadding = " + this.frontPadding + " avgX = " + avgX + " ssXX = " + this.ssXX); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	/**
+	 * restart with an empty window
+	 */
+	public void reset() {
+		this.windowSize = 0;
+		this.sumY = this.sumIY = 0;
+		this.pointCount = 0;
+		this.isPending = false;
+		this.slopeCount = 0;
+		this.targetSize = 0;
+	}
+
+	/**
+	 * add the next height point, a window result is released if the data point three points after the window end has arrived
+	 * @param height the raw height value
+	 * @return true if a new slope value is available
+	 */
+	public boolean add(int height) {
+		final int n = this.timeStepsPerInterval;
+		final int index = this.pointCount++;
+		if (this.windowSize < n) {
+			this.sumIY += (long) (this.windowSize + 1) * height;
+			this.sumY += height;
+			++this.windowSize;
+		}
+		else { // shift the window by one point, all weights decrease by one
+			this.sumIY = this.sumIY - this.sumY + (long) n * height;
+			this.sumY = this.sumY - this.window[index % n] + height;
+		}
+		this.window[index % n] = height;
+
+		if (index >= n && (index - n) % POINT_INTERVAL == 0) {
+			boolean isReleased = this.isPending;
+			if (isReleased) {
+				this.slope = this.pendingSlope;
+				++this.slopeCount;
+			}
+			this.pendingSlope = calculateSlope();
+			this.isPending = true;
+			return isReleased;
+		}
+		return false;
+	}
+
+	/**
+	 * (xi - avgX)*(yi - avgY) summed up is sum(xi*yi) - avgY*sum(xi), hence independent of avgX
+	 */
+	private int calculateSlope() {
+		final int n = this.timeStepsPerInterval;
+		double sumXiYi_avgY = this.sumIY - this.sumY * (n + 1) / 2.;
+		if (this.type == Type.LINEAR) {
+			double ssXY = this.timeStep_sec * sumXiYi_avgY / n;
+			return (int) (ssXY / this.ssXX * 4); // slope = ssXY / ssXX;
+		}
+		else {
+			double ssXY = 1 / this.timeStep_sec * sumXiYi_avgY / n;
+			return (int) (ssXY / this.ssXX / this.timeStep_sec / this.timeStep_sec);
+		}
+	}
+
+	/**
+	 * @return the slope value released by the last {@link #add(int)} call
+	 */
+	public int getSlope() {
+		return this.slope;
+	}
+
+	/**
+	 * @return the number of released slope values
+	 */
+	public int getSlopeCount() {
+		return this.slopeCount;
+	}
+
+	public int getFrontPadding() {
+		return this.frontPadding;
+	}
+
+	public int getTimeStepsPerInterval() {
+		return this.timeStepsPerInterval;
+	}
+
+	/**
+	 * calculate the slope values of all height points
+	 * @param heights
+	 * @param size the number of height points
+	 * @return the slope points, front padding and the points without slope value are zero
+	 */
+	public int[] calculate(int[] heights, int size) {
+		reset();
+		int[] slopes = new int[this.frontPadding + size];
+		int slopeIndex = this.frontPadding;
+		for (int i = 0; i < size; i++) {
+			if (add(heights[i])) {
+				for (int j = 0; j < POINT_INTERVAL; j++) {
+					slopes[slopeIndex++] = this.slope;
+				}
+			}
+		}
+		this.targetSize = Math.max(size, slopeIndex);
+		return Arrays.copyOf(slopes, this.targetSize);
+	}
+
+	/**
+	 * calculate the slope points for the height points added since the previous update, e.g. while gathering live data.
+	 * The target record is recalculated completely if it was modified or the height record was reduced.
+	 * @param heightRecord
+	 * @param slopeRecord the target record, its size equals the height record size or the slope points end
+	 */
+	public synchronized void update(Record heightRecord, Record slopeRecord) {
+		int size = heightRecord.realSize();
+		if (size < this.pointCount || slopeRecord.realSize() != this.targetSize) {
+			reset();
+			slopeRecord.clear();
+		}
+		final int fromSlopeCount = this.slopeCount;
+		final int fromIndex = this.pointCount == 0 ? 0 : this.frontPadding + fromSlopeCount * POINT_INTERVAL;
+		int[] heights = heightRecord.getRawPoints(this.pointCount, size);
+
+		int[] slopes = new int[heights.length / POINT_INTERVAL + 1];
+		for (int height : heights) {
+			if (add(height)) slopes[this.slopeCount - fromSlopeCount - 1] = this.slope;
+		}
+
+		int slopeEnd = this.frontPadding + this.slopeCount * POINT_INTERVAL;
+		int newTargetSize = Math.max(size, slopeEnd);
+		int[] points = new int[newTargetSize - fromIndex];
+		for (int i = Math.max(fromIndex, this.frontPadding); i < slopeEnd; i++) {
+			points[i - fromIndex] = slopes[(i - this.frontPadding) / POINT_INTERVAL - fromSlopeCount];
+		}
+		slopeRecord.setRawPoints(fromIndex, points);
+		this.targetSize = newTargetSize;
+	}
+}
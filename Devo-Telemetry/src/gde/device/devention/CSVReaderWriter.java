@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
@@ -44,12 +45,12 @@ import gde.data.Record;
 import gde.data.RecordSet;
 import gde.device.DeviceConfiguration;
 import gde.device.IDevice;
-import gde.device.InputTypes;
 import gde.device.MeasurementType;
 import gde.exception.DataInconsitsentException;
 import gde.exception.DataTypeException;
 import gde.exception.MissMatchDeviceException;
 import gde.exception.NotSupportedFileFormatException;
+import gde.io.CSVTokenizer;
 import gde.log.Level;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
@@ -211,8 +212,7 @@ public class CSVReaderWriter {
 		String startLine = null;
 		RecordSet recordSet = null;
 		long inputFileSize = new File(filePath).length();
-		int progressLineLength = Math.abs(CSVReaderWriter.application.getActiveDevice().getDataBlockSize(InputTypes.FILE_IO));
-		BufferedReader reader; // to read the data
+		CSVTokenizer tokenizer = null; // to read the data
 		IDevice device = CSVReaderWriter.application.getActiveDevice();
 		Channel activeChannel = null;
 		lastTimeStamp	= 0;
@@ -237,8 +237,9 @@ public class CSVReaderWriter {
 				fileHeader = CSVReaderWriter.evaluateType(separator, fileHeader, (DeviceConfiguration) device);
 				CSVReaderWriter.log.log(Level.FINE, "device name check ok, channel/configuration ok"); //$NON-NLS-1$
 
-				reader = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), "ISO-8859-1")); //$NON-NLS-1$
-				while (!(line.toLowerCase().startsWith("timer")) && ((line = reader.readLine()) != null)) {
+				tokenizer = new CSVTokenizer(new FileInputStream(filePath), separator);
+				while (!(line.toLowerCase().startsWith("timer")) && tokenizer.nextLine()) {
+					line = tokenizer.getLine();
 					// read until Timer1,Timer2,Volt1,Volt2,Temp1(C),TELEM_0,AIL,ELE,THR,RUD,AUX4,AUX5,RUD_DR0,RUD_DR1,ELE_DR0,ELE_DR1,AIL_DR0,AIL_DR1,GEAR0,GEAR1,MIX0,MIX1,MIX2,FMODE0,FMODE1,FMODE2,Channel1,Channel2,Channel3,Channel4,Channel5,Channel6,Channel7,Channel8,Channel9,Channel10,Virt1,Virt2,Latitude,Longitude,Altitude(m),Velocity(m/s),GPSTime
 				}
 
@@ -280,7 +281,8 @@ public class CSVReaderWriter {
 				int offsetTimerEntries = Integer.valueOf(fileHeader.get(CSVReaderWriter.OFFSET_TIMER)).intValue();
 				int gpsTimeRecordOrdinal = recordSet.getRecordOrdinalOfDataType(Record.DataType.GPS_TIME);
 				if (gpsTimeRecordOrdinal >= 0) {
-					while ((line = reader.readLine()) != null) {
+					while (tokenizer.nextLine()) {
+						line = tokenizer.getLine();
 						if (Integer.valueOf(line.split(GDE.STRING_EMPTY + separator)[0].replace(GDE.STRING_COLON, GDE.STRING_EMPTY)).intValue() == 0) {
 							startLine = line;
 						}
@@ -324,15 +326,13 @@ public class CSVReaderWriter {
 					parseLineAddPoints(recordSet, offsetTimerEntries, updateRecordNames, points, (i==0 ? startLine : line), GDE.STRING_EMPTY + separator);
 					++lineNumber;
 				}
-				while ((line = reader.readLine()) != null) {
-					++lineNumber;
-					String[] dataStr = line.split(GDE.STRING_EMPTY + separator);
-					String data = dataStr[0].trim().replace(',', '.');
-					if (data.contains(GDE.STRING_COLON)) {
-						int minuteAdd = Integer.parseInt(data.substring(0, 2));
-						int secondAdd = Integer.parseInt(data.substring(3, 5));
+				while (tokenizer.nextLine()) {
+					if (tokenizer.contains(0, GDE.CHAR_COLON)) {
+						int minuteAdd = tokenizer.getDigits(0, 0, 2);
+						int secondAdd = tokenizer.getDigits(0, 3, 2);
 						GregorianCalendar calendar = new GregorianCalendar(year, month - 1, day, hour, minute+minuteAdd, second+secondAdd);
-						long timeStamp = calendar.getTimeInMillis() + (data.contains(GDE.STRING_DOT) ? Integer.parseInt(data.substring(data.lastIndexOf(GDE.CHAR_DOT) + 1)) : 0);
+						int millisIndex = Math.max(tokenizer.lastIndexOf(0, GDE.CHAR_DOT), tokenizer.lastIndexOf(0, GDE.CHAR_COMMA));
+						long timeStamp = calendar.getTimeInMillis() + (millisIndex >= 0 ? tokenizer.getDigits(0, millisIndex + 1, tokenizer.getLength(0) - millisIndex - 1) : 0);
 
 						if (lastTimeStamp <= timeStamp) {
 							time_ms = (int) (lastTimeStamp == 0 ? 0 : time_ms + (timeStamp - lastTimeStamp));
@@ -344,12 +344,11 @@ public class CSVReaderWriter {
 					}
 					else
 						// decimal time value
-						time_ms = Integer.valueOf(data).intValue();
+						time_ms = tokenizer.getInt(0);
 
-					parseLineAddPoints(recordSet, offsetTimerEntries, updateRecordNames, points, line, GDE.STRING_EMPTY + separator);
+					parseLineAddPoints(recordSet, offsetTimerEntries, updateRecordNames, points, tokenizer);
 
-					progressLineLength = progressLineLength > line.length() ? progressLineLength : line.length();
-					int progress = (int) (lineNumber*100/(inputFileSize/progressLineLength));
+					int progress = (int) (tokenizer.getBytesConsumed() * 100 / inputFileSize);
 					if (progress <= 90 && progress > GDE.getUiNotification().getProgressPercentage() && progress % 10 == 0) 	{
 						GDE.getUiNotification().setProgress(progress);
 						try {
@@ -370,8 +369,8 @@ public class CSVReaderWriter {
 				if (GDE.isWithUi()) activeChannel.switchRecordSet(recordSetName);
 				//				activeChannel.get(recordSetName).checkAllDisplayable(); // raw import needs calculation of passive records
 
-				reader.close();
-				reader = null;
+				tokenizer.close();
+				tokenizer = null;
 			}
 		}
 		catch (UnsupportedEncodingException e) {
@@ -387,6 +386,7 @@ public class CSVReaderWriter {
 			throw new IOException(Messages.getString(MessageIds.GDE_MSGW0012, new Object[] { filePath }));
 		}
 		finally {
+			if (tokenizer != null) tokenizer.close();
 			GDE.getUiNotification().setProgress(100);
 			GDE.getUiNotification().setStatusMessage(GDE.STRING_EMPTY);
 			if (GDE.isWithUi()) {
@@ -399,12 +399,22 @@ public class CSVReaderWriter {
 	}
 
 	protected static void parseLineAddPoints(RecordSet recordSet, int offsetTimer, String[] updateRecordNames, int[] points, String line, String separator) throws DataInconsitsentException {
-		String[] dataStr = line.split(separator);
-		String strValue = dataStr[0].trim();
-		int minuteAdd = Integer.parseInt(strValue.substring(0, 2));
-		int secondAdd = Integer.parseInt(strValue.substring(3, 5));
+		byte[] bytes = line.getBytes(StandardCharsets.ISO_8859_1);
+		CSVTokenizer tokenizer = new CSVTokenizer(bytes, 0, bytes.length, separator.charAt(0));
+		try {
+			if (tokenizer.nextLine()) parseLineAddPoints(recordSet, offsetTimer, updateRecordNames, points, tokenizer);
+		}
+		catch (IOException e) {
+			// byte array input only
+		}
+	}
+
+	protected static void parseLineAddPoints(RecordSet recordSet, int offsetTimer, String[] updateRecordNames, int[] points, CSVTokenizer tokenizer) throws DataInconsitsentException {
+		int minuteAdd = tokenizer.getDigits(0, 0, 2);
+		int secondAdd = tokenizer.getDigits(0, 3, 2);
 		GregorianCalendar calendar = new GregorianCalendar(year, month - 1, day, hour, minute+minuteAdd, second+secondAdd);
-		long timeStamp = calendar.getTimeInMillis() + (strValue.contains(GDE.STRING_DOT) ? Integer.parseInt(strValue.substring(strValue.lastIndexOf(GDE.CHAR_DOT) + 1)) : 0);
+		int millisIndex = tokenizer.lastIndexOf(0, GDE.CHAR_DOT);
+		long timeStamp = calendar.getTimeInMillis() + (millisIndex >= 0 ? tokenizer.getDigits(0, millisIndex + 1, tokenizer.getLength(0) - millisIndex - 1) : 0);
 		int time_ms = 0;
 
 		if (lastTimeStamp <= timeStamp) {
@@ -417,16 +427,11 @@ public class CSVReaderWriter {
 			return; //time doesn't change, do not add points
 
 		for (int i = 0; i < updateRecordNames.length; i++) { // only iterate over record names found in file
-			try {
-				strValue = dataStr[i + offsetTimer].trim();
-			}
-			catch (Exception e) {
-				strValue = "0";
-				CSVReaderWriter.log.log(Level.WARNING, String.format("Check line = %s", line));
-			}
+			String strValue;
 			switch (recordSet.get(i).getDataType()) {
 			case GPS_LONGITUDE:
 			case GPS_LATITUDE:
+				strValue = getFieldValue(tokenizer, i + offsetTimer);
 				int latLong = Integer.valueOf(strValue.replace(GDE.STRING_BLANK, GDE.STRING_EMPTY).replace(GDE.STRING_DOT, GDE.STRING_EMPTY));
 				int grad = latLong / 10000000;
 				int minuten = (latLong - (grad * 10000000)) / 100000;
@@ -434,6 +439,7 @@ public class CSVReaderWriter {
 				points[i] = (int) ((grad + ((minuten + seconds/60.0)/100.0)) * 1000000.0);
 				break;
 			case GPS_TIME:
+				strValue = getFieldValue(tokenizer, i + offsetTimer);
 				int hourNew = Integer.valueOf(strValue.substring(0, 2));
 				int minuteNew = Integer.parseInt(strValue.substring(3, 5));
 				int secondNew = Integer.parseInt(strValue.substring(6, 8));
@@ -444,7 +450,7 @@ public class CSVReaderWriter {
 
 			default:
 				try {
-					points[i] = Double.valueOf(Double.valueOf(strValue) * 1000.0).intValue();
+					points[i] = i + offsetTimer < tokenizer.getFieldCount() ? (int) (tokenizer.getDouble(i + offsetTimer) * 1000.0) : 0;
 				}
 				catch (NumberFormatException e) {
 					points[i] = 0;
@@ -455,6 +461,15 @@ public class CSVReaderWriter {
 		recordSet.addPoints(points, (minuteAdd * 60 + secondAdd) * 1000);
 	}
 
+	/**
+	 * @return the trimmed field value or "0" if the line does not contain the field
+	 */
+	private static String getFieldValue(CSVTokenizer tokenizer, int field) {
+		if (field < tokenizer.getFieldCount()) return tokenizer.getString(field);
+		CSVReaderWriter.log.log(Level.WARNING, String.format("Check line = %s", tokenizer.getLine()));
+		return "0";
+	}
+
 	/**
 	 * write data CVS file
 	 * @throws Exception
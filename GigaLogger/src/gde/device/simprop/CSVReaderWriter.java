@@ -45,12 +45,12 @@ import gde.data.Channels;
 import gde.data.Record;
 import gde.data.RecordSet;
 import gde.device.IDevice;
-import gde.device.InputTypes;
 import gde.device.MeasurementType;
 import gde.exception.DataInconsitsentException;
 import gde.exception.DataTypeException;
 import gde.exception.MissMatchDeviceException;
 import gde.exception.NotSupportedFileFormatException;
+import gde.io.CSVTokenizer;
 import gde.log.Level;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
@@ -152,9 +152,8 @@ public class CSVReaderWriter {
 			DataTypeException {
 		String line = GDE.STRING_STAR;
 		RecordSet recordSet = null;
-		int progressLineLength = Math.abs(CSVReaderWriter.application.getActiveDevice().getDataBlockSize(InputTypes.FILE_IO));
 		long inputFileSize = new File(filePath).length();
-		BufferedReader reader; // to read the data
+		CSVTokenizer tokenizer = null; // to read the data
 		IDevice device = CSVReaderWriter.application.getActiveDevice();
 		Channel activeChannel = null;
 		boolean isParsingError = false, isParsingErrorLine = false;
@@ -178,8 +177,8 @@ public class CSVReaderWriter {
 
 				CSVReaderWriter.log.log(java.util.logging.Level.FINE, "device name check ok, channel/configuration ok"); //$NON-NLS-1$
 
-				reader = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), "ISO-8859-1")); //$NON-NLS-1$
-				reader.readLine();					// Std:Min:Sek;MSB A00;    ; ;MSB A01;    ; ;MSB A02;
+				tokenizer = new CSVTokenizer(new FileInputStream(filePath), separator);
+				tokenizer.nextLine();					// Std:Min:Sek;MSB A00;    ; ;MSB A01;    ; ;MSB A02;
 
 				if (GDE.isWithUi()) {
 					CSVReaderWriter.channels.switchChannel(activeChannel.getNumber(), GDE.STRING_EMPTY);
@@ -239,18 +238,16 @@ public class CSVReaderWriter {
 				String[] updateRecordNames = recordNames;
 				int[] points = new int[updateRecordNames.length];
 				int lineNumber = 1;
-				while ((line = reader.readLine()) != null) {
+				while (tokenizer.nextLine()) {
 					++lineNumber;
 					isParsingErrorLine = false;
-					String[] dataStr = line.split(GDE.STRING_EMPTY + separator);
-					String data = dataStr[0].trim().replace(',', '.');
-					String data_alarm = dataStr[0].trim().replace(',', '.');
-					if (data.contains(GDE.STRING_COLON)) {
-						int hour = Integer.parseInt(data.substring(0, 3));
-						int minute = Integer.parseInt(data.substring(4, 6));
-						int second = Integer.parseInt(data.substring(7, 9));
+					if (tokenizer.contains(0, GDE.CHAR_COLON)) {
+						int hour = tokenizer.getDigits(0, 0, 3);
+						int minute = tokenizer.getDigits(0, 4, 2);
+						int second = tokenizer.getDigits(0, 7, 2);
 						GregorianCalendar calendar = new GregorianCalendar(year, month - 1, day, hour, minute, second);
-						long timeStamp = calendar.getTimeInMillis() + (data.contains(GDE.STRING_DOT) ? Integer.parseInt(data.substring(data.lastIndexOf(GDE.CHAR_DOT) + 1)) : 0);
+						int millisIndex = Math.max(tokenizer.lastIndexOf(0, GDE.CHAR_DOT), tokenizer.lastIndexOf(0, GDE.CHAR_COMMA));
+						long timeStamp = calendar.getTimeInMillis() + (millisIndex >= 0 ? tokenizer.getDigits(0, millisIndex + 1, tokenizer.getLength(0) - millisIndex - 1) : 0);
 
 						if (lastTimeStamp < timeStamp) {
 							time_ms = (int) (lastTimeStamp == 0 ? 0 : time_ms + (timeStamp - lastTimeStamp));
@@ -262,56 +259,42 @@ public class CSVReaderWriter {
 					}
 					else
 						// decimal time value
-						time_ms = Double.valueOf(Double.valueOf(data).doubleValue() * 1000).intValue();
+						time_ms = (int) (tokenizer.getDouble(0) * 1000);
 
 					for (int i=0, j=1; i < updateRecordNames.length; i+=2,j+=3) { // only iterate over record names found in file
+						boolean isLineComplete = j + 2 < tokenizer.getFieldCount();
+						if (!isLineComplete) CSVReaderWriter.log.log(java.util.logging.Level.WARNING, String.format("Check line = %s", tokenizer.getLine()));
+						boolean isDataAvailable = !isLineComplete || !tokenizer.isBlank(j);
+						boolean isAlarmAvailable = isLineComplete && !tokenizer.isBlank(j + 2) && !(tokenizer.getLength(j + 2) == 1 && tokenizer.charAt(j + 2, 0) == GDE.CHAR_DASH);
 						try {
-							//System.out.println(dataStr[j]);
-							data = dataStr[j].trim().replace(',', '.').replace(GDE.STRING_BLANK, GDE.STRING_EMPTY);
-							data_alarm = dataStr[j+2].trim().replace(',', '.').replace(GDE.STRING_BLANK, GDE.STRING_EMPTY);
-							//System.out.println(dataStr[j+2]);
-						}
-						catch (Exception e) {
-							data = "0";
-							data_alarm = "-";
-							CSVReaderWriter.log.log(java.util.logging.Level.WARNING, String.format("Check line = %s", line));
-						}
-						switch (recordSet.get(i).getDataType()) {
-						case GPS_LONGITUDE:
-						case GPS_LATITUDE:
-							try {
-								if (data.length() > 0) {
-									points[i] = Double.valueOf(Double.valueOf(data) * 1000000.0).intValue();
+							switch (recordSet.get(i).getDataType()) {
+							case GPS_LONGITUDE:
+							case GPS_LATITUDE:
+								if (isDataAvailable) {
+									points[i] = isLineComplete ? (int) (tokenizer.getDouble(j) * 1000000.0) : 0;
 								}
-							}
-							catch (NumberFormatException e) {
-								if (!isParsingErrorLine) CSVReaderWriter.log.log(java.util.logging.Level.WARNING, Messages.getString(gde.device.simprop.MessageIds.GDE_MSGW3500, new Object[] { lineNumber, line }));
-								GDE.getUiNotification().setStatusMessage(Messages.getString(gde.device.simprop.MessageIds.GDE_MSGW3500, new Object[] { lineNumber, line }), SWT.COLOR_RED);
-								isParsingError = isParsingErrorLine = true;
-							}
-							break;
+								break;
 
-						default:
-							try {
-								if (data.length() > 0) {
-									points[i] = Double.valueOf(Double.valueOf(data) * 1000.0).intValue();
+							default:
+								if (isDataAvailable) {
+									points[i] = isLineComplete ? (int) (tokenizer.getDouble(j) * 1000.0) : 0;
 								}
-								if (data_alarm.length() > 0 && !data_alarm.equals("-")) {
-									points[i+1] = Double.valueOf(Double.valueOf(data) * 1000.0).intValue();
+								if (isAlarmAvailable) {
+									points[i+1] = (int) (tokenizer.getDouble(j) * 1000.0);
 								}
+								break;
 							}
-							catch (NumberFormatException e) {
-								if (!isParsingErrorLine) CSVReaderWriter.log.log(java.util.logging.Level.WARNING, Messages.getString(gde.device.simprop.MessageIds.GDE_MSGW3500, new Object[] { lineNumber, line }));
-								GDE.getUiNotification().setStatusMessage(Messages.getString(gde.device.simprop.MessageIds.GDE_MSGW3500, new Object[] { lineNumber, line }), SWT.COLOR_RED);
-								isParsingError = isParsingErrorLine = true;
-							}
-							break;
+						}
+						catch (NumberFormatException e) {
+							line = tokenizer.getLine();
+							if (!isParsingErrorLine) CSVReaderWriter.log.log(java.util.logging.Level.WARNING, Messages.getString(gde.device.simprop.MessageIds.GDE_MSGW3500, new Object[] { lineNumber, line }));
+							GDE.getUiNotification().setStatusMessage(Messages.getString(gde.device.simprop.MessageIds.GDE_MSGW3500, new Object[] { lineNumber, line }), SWT.COLOR_RED);
+							isParsingError = isParsingErrorLine = true;
 						}
 					}
 					recordSet.addPoints(points, time_ms);
 
-					progressLineLength = progressLineLength > line.length() ? progressLineLength : line.length();
-					int progress = (int) (lineNumber*100/(inputFileSize/progressLineLength));
+					int progress = (int) (tokenizer.getBytesConsumed() * 100 / inputFileSize);
 					if (progress <= 90 && progress > GDE.getUiNotification().getProgressPercentage() && progress % 10 == 0) 	{
 						GDE.getUiNotification().setProgress(progress);
 						try {
@@ -332,8 +315,8 @@ public class CSVReaderWriter {
 				if (GDE.isWithUi()) activeChannel.switchRecordSet(recordSetName);
 				//activeChannel.get(recordSetName).checkAllDisplayable(); // raw import needs calculation of passive records
 
-				reader.close();
-				reader = null;
+				tokenizer.close();
+				tokenizer = null;
 			}
 		}
 		catch (UnsupportedEncodingException e) {
@@ -349,6 +332,7 @@ public class CSVReaderWriter {
 			throw new IOException(Messages.getString(MessageIds.GDE_MSGW0012, new Object[] { filePath }));
 		}
 		finally {
+			if (tokenizer != null) tokenizer.close();
 			GDE.getUiNotification().setProgress(100);
 			GDE.getUiNotification().setStatusMessage(isParsingError ? Messages.getString(gde.device.simprop.MessageIds.GDE_MSGW3501) : GDE.STRING_EMPTY, SWT.COLOR_RED);
 			if (GDE.isWithUi()) {
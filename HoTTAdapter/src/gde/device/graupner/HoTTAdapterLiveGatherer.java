@@ -329,32 +329,32 @@ public class HoTTAdapterLiveGatherer extends Thread {
 							this.dataBuffer = HoTTAdapterLiveGatherer.this.serialPort.getData(false);
 						WaitTimer.delay(HoTTAdapter.QUERY_GAP_MS);
 						if (checkSignature(this.dataBuffer, HoTTAdapter.SENSOR_TYPE_RECEIVER_19200)) {
-							recordSetReceiver.addPoints(this.device.convertDataBytes(pointsReceiver, HoTTAdapterLiveGatherer.this.serialPort.getData(true)), System.nanoTime() / 1000000 - startTime);
+							recordSetReceiver.getIngestQueue().addPoints(this.device.convertDataBytes(pointsReceiver, HoTTAdapterLiveGatherer.this.serialPort.getData(true)), System.nanoTime() / 1000000 - startTime);
 							switchRecordSetDisplay(HoTTAdapter.Sensor.RECEIVER, recordSetNumber, recordSetNameExtend);
 						}
 						else if (checkSignature(this.dataBuffer, HoTTAdapter.SENSOR_TYPE_ELECTRIC_19200)) {
 							this.serialPort.setSensorType(HoTTAdapter.SENSOR_TYPE_ELECTRIC_19200);
-							recordSetElectric.addPoints(this.device.convertDataBytes(pointsElectric, HoTTAdapterLiveGatherer.this.serialPort.getData(true)), System.nanoTime() / 1000000 - startTime);
+							recordSetElectric.getIngestQueue().addPoints(this.device.convertDataBytes(pointsElectric, HoTTAdapterLiveGatherer.this.serialPort.getData(true)), System.nanoTime() / 1000000 - startTime);
 							switchRecordSetDisplay(HoTTAdapter.Sensor.EAM, recordSetNumber, recordSetNameExtend);
 						}
 						else if (checkSignature(this.dataBuffer, HoTTAdapter.SENSOR_TYPE_GENERAL_19200)) {
 							this.serialPort.setSensorType(HoTTAdapter.SENSOR_TYPE_GENERAL_19200);
-							recordSetGeneral.addPoints(this.device.convertDataBytes(pointsGeneral, HoTTAdapterLiveGatherer.this.serialPort.getData(true)), System.nanoTime() / 1000000 - startTime);
+							recordSetGeneral.getIngestQueue().addPoints(this.device.convertDataBytes(pointsGeneral, HoTTAdapterLiveGatherer.this.serialPort.getData(true)), System.nanoTime() / 1000000 - startTime);
 							switchRecordSetDisplay(HoTTAdapter.Sensor.GAM, recordSetNumber, recordSetNameExtend);
 						}
 						else if (checkSignature(this.dataBuffer, HoTTAdapter.SENSOR_TYPE_SPEED_CONTROL_19200)) {
 							this.serialPort.setSensorType(HoTTAdapter.SENSOR_TYPE_SPEED_CONTROL_19200);
-							recordSetMotorDriver.addPoints(this.device.convertDataBytes(pointsMotorDriver, HoTTAdapterLiveGatherer.this.serialPort.getData(true)), System.nanoTime() / 1000000 - startTime);
+							recordSetMotorDriver.getIngestQueue().addPoints(this.device.convertDataBytes(pointsMotorDriver, HoTTAdapterLiveGatherer.this.serialPort.getData(true)), System.nanoTime() / 1000000 - startTime);
 							switchRecordSetDisplay(HoTTAdapter.Sensor.ESC, recordSetNumber, recordSetNameExtend);
 						}
 						else if (checkSignature(this.dataBuffer, HoTTAdapter.SENSOR_TYPE_GPS_19200)) {
 							this.serialPort.setSensorType(HoTTAdapter.SENSOR_TYPE_GPS_19200);
-							recordSetGPS.addPoints(this.device.convertDataBytes(pointsGPS, HoTTAdapterLiveGatherer.this.serialPort.getData(true)), System.nanoTime() / 1000000 - startTime);
+							recordSetGPS.getIngestQueue().addPoints(this.device.convertDataBytes(pointsGPS, HoTTAdapterLiveGatherer.this.serialPort.getData(true)), System.nanoTime() / 1000000 - startTime);
 							switchRecordSetDisplay(HoTTAdapter.Sensor.GPS, recordSetNumber, recordSetNameExtend);
 						}
 						else if (checkSignature(this.dataBuffer, HoTTAdapter.SENSOR_TYPE_VARIO_19200)) {
 							this.serialPort.setSensorType(HoTTAdapter.SENSOR_TYPE_VARIO_19200);
-							recordSetVario.addPoints(this.device.convertDataBytes(pointsVario, HoTTAdapterLiveGatherer.this.serialPort.getData(true)), System.nanoTime() / 1000000 - startTime);
+							recordSetVario.getIngestQueue().addPoints(this.device.convertDataBytes(pointsVario, HoTTAdapterLiveGatherer.this.serialPort.getData(true)), System.nanoTime() / 1000000 - startTime);
 							switchRecordSetDisplay(HoTTAdapter.Sensor.VARIO, recordSetNumber, recordSetNameExtend);
 						}
 
@@ -367,7 +367,7 @@ public class HoTTAdapterLiveGatherer extends Thread {
 								this.serialPort.setSensorType(HoTTAdapter.SENSOR_TYPE_RECEIVER_19200);
 								HoTTAdapterLiveGatherer.this.serialPort.getData(true);
 								WaitTimer.delay(HoTTAdapter.QUERY_GAP_MS);
-								recordSetReceiver.addPoints(this.device.convertDataBytes(pointsReceiver, HoTTAdapterLiveGatherer.this.serialPort.getData(true)), System.nanoTime() / 1000000 - startTime);
+								recordSetReceiver.getIngestQueue().addPoints(this.device.convertDataBytes(pointsReceiver, HoTTAdapterLiveGatherer.this.serialPort.getData(true)), System.nanoTime() / 1000000 - startTime);
 							}
 							catch (TimeOutException e) {
 								// ignore and go ahead gathering sensor data
@@ -380,9 +380,9 @@ public class HoTTAdapterLiveGatherer extends Thread {
 								HoTTAdapterLiveGatherer.this.serialPort.getData(true);
 								WaitTimer.delay(HoTTAdapter.QUERY_GAP_MS);
 								byte[] data = HoTTAdapterLiveGatherer.this.serialPort.getData(true);
-								recordSetElectric.addPoints(this.device.convertDataBytes(pointsElectric, data), System.nanoTime() / 1000000 - startTime);
+								recordSetElectric.getIngestQueue().addPoints(this.device.convertDataBytes(pointsElectric, data), System.nanoTime() / 1000000 - startTime);
 								data[1] = HoTTAdapter.SENSOR_TYPE_RECEIVER_19200;
-								recordSetReceiver.addPoints(this.device.convertDataBytes(pointsReceiver, data), System.nanoTime() / 1000000 - startTime);
+								recordSetReceiver.getIngestQueue().addPoints(this.device.convertDataBytes(pointsReceiver, data), System.nanoTime() / 1000000 - startTime);
 							}
 							catch (TimeOutException e) {
 								// ignore and go ahead gathering sensor data
@@ -395,9 +395,9 @@ public class HoTTAdapterLiveGatherer extends Thread {
 								HoTTAdapterLiveGatherer.this.serialPort.getData(true);
 								WaitTimer.delay(HoTTAdapter.QUERY_GAP_MS);
 								byte[] data = HoTTAdapterLiveGatherer.this.serialPort.getData(true);
-								recordSetGeneral.addPoints(this.device.convertDataBytes(pointsGeneral, data), System.nanoTime() / 1000000 - startTime);
+								recordSetGeneral.getIngestQueue().addPoints(this.device.convertDataBytes(pointsGeneral, data), System.nanoTime() / 1000000 - startTime);
 								data[1] = HoTTAdapter.SENSOR_TYPE_RECEIVER_19200;
-								recordSetReceiver.addPoints(this.device.convertDataBytes(pointsReceiver, data), System.nanoTime() / 1000000 - startTime);
+								recordSetReceiver.getIngestQueue().addPoints(this.device.convertDataBytes(pointsReceiver, data), System.nanoTime() / 1000000 - startTime);
 							}
 							catch (TimeOutException e) {
 								// ignore and go ahead gathering sensor data
@@ -410,9 +410,9 @@ public class HoTTAdapterLiveGatherer extends Thread {
 								HoTTAdapterLiveGatherer.this.serialPort.getData(true);
 								WaitTimer.delay(HoTTAdapter.QUERY_GAP_MS);
 								byte[] data = HoTTAdapterLiveGatherer.this.serialPort.getData(true);
-								recordSetMotorDriver.addPoints(this.device.convertDataBytes(pointsMotorDriver, data), System.nanoTime() / 1000000 - startTime);
+								recordSetMotorDriver.getIngestQueue().addPoints(this.device.convertDataBytes(pointsMotorDriver, data), System.nanoTime() / 1000000 - startTime);
 								data[1] = HoTTAdapter.SENSOR_TYPE_RECEIVER_19200;
-								recordSetReceiver.addPoints(this.device.convertDataBytes(pointsReceiver, data), System.nanoTime() / 1000000 - startTime);
+								recordSetReceiver.getIngestQueue().addPoints(this.device.convertDataBytes(pointsReceiver, data), System.nanoTime() / 1000000 - startTime);
 							}
 							catch (TimeOutException e) {
 								// ignore and go ahead gathering sensor data
@@ -425,9 +425,9 @@ public class HoTTAdapterLiveGatherer extends Thread {
 								HoTTAdapterLiveGatherer.this.serialPort.getData(true);
 								WaitTimer.delay(HoTTAdapter.QUERY_GAP_MS);
 								byte[] data = HoTTAdapterLiveGatherer.this.serialPort.getData(true);
-								recordSetGPS.addPoints(this.device.convertDataBytes(pointsGPS, data), System.nanoTime() / 1000000 - startTime);
+								recordSetGPS.getIngestQueue().addPoints(this.device.convertDataBytes(pointsGPS, data), System.nanoTime() / 1000000 - startTime);
 								data[1] = HoTTAdapter.SENSOR_TYPE_RECEIVER_19200;
-								recordSetReceiver.addPoints(this.device.convertDataBytes(pointsReceiver, data), System.nanoTime() / 1000000 - startTime);
+								recordSetReceiver.getIngestQueue().addPoints(this.device.convertDataBytes(pointsReceiver, data), System.nanoTime() / 1000000 - startTime);
 								
 								if (!isGPSdetected) {
 									HoTTAdapter.updateGpsTypeDependent(pointsGPS[23]/1000, device, recordSetGPS, -1); //-1 -> suppress time stamp update
@@ -445,9 +445,9 @@ public class HoTTAdapterLiveGatherer extends Thread {
 								HoTTAdapterLiveGatherer.this.serialPort.getData(true);
 								WaitTimer.delay(HoTTAdapter.QUERY_GAP_MS);
 								byte[] data = HoTTAdapterLiveGatherer.this.serialPort.getData(true);
-								recordSetVario.addPoints(this.device.convertDataBytes(pointsVario, data), System.nanoTime() / 1000000 - startTime);
+								recordSetVario.getIngestQueue().addPoints(this.device.convertDataBytes(pointsVario, data), System.nanoTime() / 1000000 - startTime);
 								data[1] = HoTTAdapter.SENSOR_TYPE_RECEIVER_19200;
-								recordSetReceiver.addPoints(this.device.convertDataBytes(pointsReceiver, data), System.nanoTime() / 1000000 - startTime);
+								recordSetReceiver.getIngestQueue().addPoints(this.device.convertDataBytes(pointsReceiver, data), System.nanoTime() / 1000000 - startTime);
 							}
 							catch (TimeOutException e) {
 								// ignore and go ahead gathering sensor data
@@ -465,7 +465,7 @@ public class HoTTAdapterLiveGatherer extends Thread {
 								Thread.sleep(HoTTAdapter.QUERY_GAP_MS);
 							}
 							this.serialPort.getDataDBM(true, this.dataBuffer);
-							recordSetReceiver.addPoints(this.device.convertDataBytes(pointsReceiver, this.dataBuffer), System.nanoTime() / 1000000 - startTime);
+							recordSetReceiver.getIngestQueue().addPoints(this.device.convertDataBytes(pointsReceiver, this.dataBuffer), System.nanoTime() / 1000000 - startTime);
 							Thread.sleep(HoTTAdapter.QUERY_GAP_MS);
 						}
 						catch (TimeOutException e) {
@@ -478,7 +478,7 @@ public class HoTTAdapterLiveGatherer extends Thread {
 								for (int i = 0; i < 2 && !this.serialPort.isCheckSumOK(4, (this.dataBuffer = this.serialPort.getData())); ++i) {
 									Thread.sleep(HoTTAdapter.QUERY_GAP_MS);
 								}
-								recordSetChannels.addPoints(this.device.convertDataBytes(pointsChannels, this.dataBuffer), System.nanoTime() / 1000000 - startTime);
+								recordSetChannels.getIngestQueue().addPoints(this.device.convertDataBytes(pointsChannels, this.dataBuffer), System.nanoTime() / 1000000 - startTime);
 								Thread.sleep(HoTTAdapter.QUERY_GAP_MS);
 							}
 							catch (TimeOutException e) {
@@ -553,7 +553,7 @@ public class HoTTAdapterLiveGatherer extends Thread {
 								Thread.sleep(HoTTAdapter.QUERY_GAP_MS);
 							}
 							this.serialPort.getDataDBM(false, this.dataBuffer);
-							recordSetElectric.addPoints(this.device.convertDataBytes(pointsElectric, this.dataBuffer), System.nanoTime() / 1000000 - startTime);
+							recordSetElectric.getIngestQueue().addPoints(this.device.convertDataBytes(pointsElectric, this.dataBuffer), System.nanoTime() / 1000000 - startTime);
 						}
 						catch (TimeOutException e) {
 							// ignore and go ahead gathering sensor data
@@ -567,7 +567,7 @@ public class HoTTAdapterLiveGatherer extends Thread {
 								Thread.sleep(HoTTAdapter.QUERY_GAP_MS);
 							}
 							this.serialPort.getDataDBM(false, this.dataBuffer);
-							recordSetGeneral.addPoints(this.device.convertDataBytes(pointsGeneral, this.dataBuffer), System.nanoTime() / 1000000 - startTime);
+							recordSetGeneral.getIngestQueue().addPoints(this.device.convertDataBytes(pointsGeneral, this.dataBuffer), System.nanoTime() / 1000000 - startTime);
 						}
 						catch (TimeOutException e) {
 							// ignore and go ahead gathering sensor data
@@ -581,7 +581,7 @@ public class HoTTAdapterLiveGatherer extends Thread {
 								Thread.sleep(HoTTAdapter.QUERY_GAP_MS);
 							}
 							this.serialPort.getDataDBM(false, this.dataBuffer);
-							recordSetMotorDriver.addPoints(this.device.convertDataBytes(pointsMotorDriver, this.dataBuffer), System.nanoTime() / 1000000 - startTime);
+							recordSetMotorDriver.getIngestQueue().addPoints(this.device.convertDataBytes(pointsMotorDriver, this.dataBuffer), System.nanoTime() / 1000000 - startTime);
 						}
 						catch (TimeOutException e) {
 							// ignore and go ahead gathering sensor data
@@ -595,7 +595,7 @@ public class HoTTAdapterLiveGatherer extends Thread {
 								Thread.sleep(HoTTAdapter.QUERY_GAP_MS);
 							}
 							this.serialPort.getDataDBM(false, this.dataBuffer);
-							recordSetGPS.addPoints(this.device.convertDataBytes(pointsGPS, this.dataBuffer), System.nanoTime() / 1000000 - startTime);
+							recordSetGPS.getIngestQueue().addPoints(this.device.convertDataBytes(pointsGPS, this.dataBuffer), System.nanoTime() / 1000000 - startTime);
 							
 							if (!isGPSdetected) {
 								HoTTAdapter.updateGpsTypeDependent(pointsGPS[23]/1000, device, recordSetGPS, -1); //-1 -> suppress time stamp update
@@ -614,7 +614,7 @@ public class HoTTAdapterLiveGatherer extends Thread {
 								Thread.sleep(HoTTAdapter.QUERY_GAP_MS);
 							}
 							this.serialPort.getDataDBM(false, this.dataBuffer);
-							recordSetVario.addPoints(this.device.convertDataBytes(pointsVario, this.dataBuffer), System.nanoTime() / 1000000 - startTime);
+							recordSetVario.getIngestQueue().addPoints(this.device.convertDataBytes(pointsVario, this.dataBuffer), System.nanoTime() / 1000000 - startTime);
 						}
 						catch (TimeOutException e) {
 							// ignore and go ahead gathering sensor data
@@ -707,6 +707,7 @@ public class HoTTAdapterLiveGatherer extends Thread {
 	public void finalizeRecordSet(RecordSet recordSet) {
 		this.serialPort.isInterruptedByUser = true;
 		this.serialPort.close();
+		recordSet.closeIngestQueue();
 		this.device.updateVisibilityStatus(recordSet, false);
 		this.device.makeInActiveDisplayable(recordSet);
 		this.application.updateStatisticsData();
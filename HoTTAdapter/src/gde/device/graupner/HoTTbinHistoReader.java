@@ -199,33 +199,18 @@ public class HoTTbinHistoReader {
 
 	/**
 	 * read file.
-	 * provide data in a tmpRecordSet.
+	 * provide data in a tmpRecordSet, the file is read in one single pass.
 	 */
 	protected void read(Supplier<InputStream> inputStream, boolean isSdFormat) throws IOException, DataTypeException, DataInconsitsentException {
 		try (BufferedInputStream in = new BufferedInputStream(inputStream.get()); //
 				InputStream data_in = isSdFormat //
 						? new SdLogInputStream(in, truss.getVault().getLogFileLength(), new SdLogFormat(HoTTbinReaderX.headerSize, HoTTbinReaderX.footerSize, 64)) //
 						: in; ) {
-			int initializeBlockLimit = initializeSamplingFactor * (HoTTbinReader.LOG_RECORD_SCAN_START + HoTTbinReader.NUMBER_LOG_RECORDS_TO_SCAN);
-			int readLimitMark = initializeBlockLimit * HoTTbinHistoReader.DATA_BLOCK_SIZE + 1;
+			int teachingBlocks = initializeSamplingFactor * (HoTTbinReader.LOG_RECORD_SCAN_START + HoTTbinReader.NUMBER_LOG_RECORDS_TO_SCAN);
 			if (detectedSensors.size() <= 2) {
-				data_in.mark(readLimitMark); // reduces # of overscan records from 57 to 23 (to 38 with 1500 blocks)
-				int activeChannelNumber = analyzer.getActiveChannel().getNumber();
-				int[]	points = new int[analyzer.getActiveDevice().getNumberOfMeasurements(activeChannelNumber)];
-				UniversalSampler initSampler = UniversalSampler.createSampler(activeChannelNumber, points, HoTTbinHistoReader.RECORD_TIMESPAN_MS, analyzer);
-				readSingle(data_in, initializeBlockLimit, initSampler);
-				data_in.reset();
-				UniversalSampler sampler = UniversalSampler.createSampler(activeChannelNumber, initSampler.getMaxPoints(), initSampler.getMinPoints(), HoTTbinHistoReader.RECORD_TIMESPAN_MS, analyzer);
-				readSingle(data_in, -1, sampler);
+				readSingle(data_in, teachingBlocks);
 			} else {
-				data_in.mark(readLimitMark);
-				int activeChannelNumber = analyzer.getActiveChannel().getNumber();
-				int[]	points = new int[analyzer.getActiveDevice().getNumberOfMeasurements(activeChannelNumber)];
-				UniversalSampler initSampler = UniversalSampler.createSampler(activeChannelNumber, points, HoTTbinHistoReader.RECORD_TIMESPAN_MS, analyzer);
-				readMultiple(data_in, initializeBlockLimit, initSampler);
-				data_in.reset();
-				UniversalSampler sampler = UniversalSampler.createSampler(activeChannelNumber, initSampler.getMaxPoints(), initSampler.getMinPoints(), HoTTbinHistoReader.RECORD_TIMESPAN_MS, analyzer);
-				readMultiple(data_in, -1, sampler);
+				readMultiple(data_in, teachingBlocks);
 			}
 		}
 	}
@@ -235,8 +220,8 @@ public class HoTTbinHistoReader {
 	 * allocates only one single recordset for the active channel, so HoTTAdapter.isChannelsChannelEnabled does not take any effect.
 	 * no progress bar support and no channel data modifications.
 	 */
-	protected void readSingle(InputStream data_in, int initializeBlocks, UniversalSampler histoRandomSample) throws DataInconsitsentException, IOException {
-		int[]	points = histoRandomSample.getPoints();
+	protected void readSingle(InputStream data_in, int teachingBlocks) throws DataInconsitsentException, IOException {
+		int[]	points = new int[analyzer.getActiveDevice().getNumberOfMeasurements(analyzer.getActiveChannel().getNumber())];
 		byte[] buf = new byte[HoTTbinHistoReader.DATA_BLOCK_SIZE];
 		byte[] buf0 = new byte[30];
 		byte[] buf1 = new byte[30];
@@ -267,28 +252,28 @@ public class HoTTbinHistoReader {
 			throw new UnsupportedOperationException();
 		}
 
-		Procedure pointsAdder = initializeBlocks <= 0 //
-				? () -> {
-					readTimer.invoke();
-					boolean isValidSample = histoRandomSample.capturePoints(timeSteps_ms[BinParser.TIMESTEP_INDEX]);
-					reviewTimer.invoke();
-					if (isValidSample) {
-						try {
-							tmpRecordSet.addPoints(histoRandomSample.getSamplePoints(), histoRandomSample.getSampleTimeStep_ms());
-						} catch (DataInconsitsentException e) {
-							throw ThrowableUtils.rethrow(e);
-						}
-						addTimer.invoke();
-						pickTimer.invoke();
-					}
-				} : () -> histoRandomSample.capturePoints(timeSteps_ms[BinParser.TIMESTEP_INDEX]);
+		truss.openReadings(analyzer.getActiveChannel().getNumber(), points, RECORD_TIMESPAN_MS, (samplePoints, sampleTimeStep_ms) -> {
+			reviewTimer.invoke();
+			tmpRecordSet.addPoints(samplePoints, sampleTimeStep_ms);
+			addTimer.invoke();
+			pickTimer.invoke();
+		});
+		Procedure pointsAdder = () -> {
+			readTimer.invoke();
+			try {
+				truss.addReading(timeSteps_ms[BinParser.TIMESTEP_INDEX]);
+			} catch (DataInconsitsentException e) {
+				throw ThrowableUtils.rethrow(e);
+			}
+		};
 		initTimer.invoke();
 
 		// read all the data blocks from the file, parse only for the active channel
-		boolean doFullRead = initializeBlocks <= 0;
 		boolean doDataSkip = detectedSensors.size() == 1 && !isChannelsChannelEnabled;
-		int datablocksLimit = (doFullRead ? (int) truss.getVault().getLogFileLength() / HoTTbinHistoReader.DATA_BLOCK_SIZE : initializeBlocks) / (doDataSkip ? 10 : 1);
+		int datablocksLimit = (int) truss.getVault().getLogFileLength() / HoTTbinHistoReader.DATA_BLOCK_SIZE / (doDataSkip ? 10 : 1);
+		int teachingLimit = teachingBlocks / (doDataSkip ? 10 : 1);
 		for (int i = 0; i < datablocksLimit; i++) {
+			if (i == teachingLimit) truss.endTeaching();
 			// if (log.isLoggable(Level.TIME))
 			// log.log(Level.TIME, String.format("markpos: %,9d i: %,9d ", data_in.markpos, i));
 			data_in.read(buf);
@@ -407,34 +392,32 @@ public class HoTTbinHistoReader {
 				isTextModusSignaled = true;
 			}
 		}
-		if (doFullRead) {
-			PackageLoss lostPackages = null;
-			if (binParser instanceof RcvBinParser) {
-				((RcvBinParser) binParser).finalUpdateLossStatistics();
-				lostPackages = ((RcvBinParser) binParser).getLostPackages();
-			}
-			Integer[] scores = getScores(lostPackages, histoRandomSample,  truss.getVault());
-			HoTTAdapter device = (HoTTAdapter) analyzer.getActiveDevice();
-			device.calculateInactiveRecords(tmpRecordSet);
-			device.updateVisibilityStatus(tmpRecordSet, true);
-			truss.promoteTruss(tmpRecordSet, scores);
-			finishTimer.invoke();
-			writeFinalLog(isTextModusSignaled, lostPackages, histoRandomSample, truss.getVault());
-			// reduce memory consumption in advance to the garbage collection
-			tmpRecordSet.cleanup();
+		UniversalSampler histoRandomSample = truss.closeReadings();
+		PackageLoss lostPackages = null;
+		if (binParser instanceof RcvBinParser) {
+			((RcvBinParser) binParser).finalUpdateLossStatistics();
+			lostPackages = ((RcvBinParser) binParser).getLostPackages();
 		}
-		log.log(Level.FINER, " > ends <  doFullRead=", doFullRead); //$NON-NLS-1$
+		Integer[] scores = getScores(lostPackages, histoRandomSample,  truss.getVault());
+		HoTTAdapter device = (HoTTAdapter) analyzer.getActiveDevice();
+		device.calculateInactiveRecords(tmpRecordSet);
+		device.updateVisibilityStatus(tmpRecordSet, true);
+		truss.promoteTruss(tmpRecordSet, scores);
+		finishTimer.invoke();
+		writeFinalLog(isTextModusSignaled, lostPackages, histoRandomSample, truss.getVault());
+		// reduce memory consumption in advance to the garbage collection
+		tmpRecordSet.cleanup();
+		log.log(Level.FINER, " > ends <  readings=", histoRandomSample.getReadingCount()); //$NON-NLS-1$
 	}
 
 	/**
-	 * read log data according to version 0 either in initialize mode for learning min/max values or in fully functional read mode.
+	 * read log data according to version 0 in one single pass, the readings of the first data blocks teach the sampler the min/max values.
 	 * reads only sample records and allocates only one single recordset for the active channel, so HoTTAdapter.isChannelsChannelEnabled does not take effect.
 	 * no progress bar support and no channel data modifications.
-	 * @param initializeBlocks if this number is greater than zero, the min/max values are initialized
-	 * @param histoRandomSample is the random sampler which might use the minMax values from a previous run and thus reduces oversampling
+	 * @param teachingBlocks is the number of data blocks which teach the sampler the max/min values and thus reduce oversampling
 	 */
-	protected void readMultiple(InputStream data_in, int initializeBlocks, UniversalSampler histoRandomSample) throws IOException, DataInconsitsentException {
-		int[]	points = histoRandomSample.getPoints();
+	protected void readMultiple(InputStream data_in, int teachingBlocks) throws IOException, DataInconsitsentException {
+		int[]	points = new int[analyzer.getActiveDevice().getNumberOfMeasurements(analyzer.getActiveChannel().getNumber())];
 		byte[] buf = new byte[HoTTbinHistoReader.DATA_BLOCK_SIZE];
 		byte[] buf0 = new byte[30];
 		byte[] buf1 = new byte[30];
@@ -467,27 +450,26 @@ public class HoTTbinHistoReader {
 			throw new UnsupportedOperationException();
 		}
 
-		Procedure pointsAdder = initializeBlocks <= 0 //
-				? () -> {
-					readTimer.invoke();
-					boolean isValidSample = histoRandomSample.capturePoints(timeSteps_ms[BinParser.TIMESTEP_INDEX]);
-					reviewTimer.invoke();
-					if (isValidSample) {
-						try {
-							tmpRecordSet.addPoints(histoRandomSample.getSamplePoints(), histoRandomSample.getSampleTimeStep_ms());
-						} catch (DataInconsitsentException e) {
-							throw ThrowableUtils.rethrow(e);
-						}
-						addTimer.invoke();
-						pickTimer.invoke();
-					}
-				} : () -> histoRandomSample.capturePoints(timeSteps_ms[BinParser.TIMESTEP_INDEX]);
+		truss.openReadings(analyzer.getActiveChannel().getNumber(), points, RECORD_TIMESPAN_MS, (samplePoints, sampleTimeStep_ms) -> {
+			reviewTimer.invoke();
+			tmpRecordSet.addPoints(samplePoints, sampleTimeStep_ms);
+			addTimer.invoke();
+			pickTimer.invoke();
+		});
+		Procedure pointsAdder = () -> {
+			readTimer.invoke();
+			try {
+				truss.addReading(timeSteps_ms[BinParser.TIMESTEP_INDEX]);
+			} catch (DataInconsitsentException e) {
+				throw ThrowableUtils.rethrow(e);
+			}
+		};
 		initTimer.invoke();
 
 		// read all the data blocks from the file, parse only for the active channel
-		boolean doFullRead = initializeBlocks <= 0;
-		int datablocksLimit = (doFullRead ? (int) truss.getVault().getLogFileLength() / HoTTbinHistoReader.DATA_BLOCK_SIZE : initializeBlocks);
+		int datablocksLimit = (int) truss.getVault().getLogFileLength() / HoTTbinHistoReader.DATA_BLOCK_SIZE;
 		for (int i = 0; i < datablocksLimit; i++) {
+			if (i == teachingBlocks) truss.endTeaching();
 			data_in.read(buf);
 			if (log.isLoggable(Level.FINEST) && i % 10 == 0) {
 				log.log(Level.FINEST, StringHelper.fourDigitsRunningNumber(buf.length));
@@ -613,21 +595,20 @@ public class HoTTbinHistoReader {
 				isTextModusSignaled = true;
 			}
 		}
-		if (doFullRead) {
-			if (binParser instanceof RcvBinParser)
-				((RcvBinParser) binParser).finalUpdateLossStatistics();
-			PackageLoss lostPackages  = binParser instanceof RcvBinParser ? ((RcvBinParser) binParser).getLostPackages() : null;
-			Integer[] scores = getScores(lostPackages, histoRandomSample,  truss.getVault());
-			HoTTAdapter device = (HoTTAdapter) analyzer.getActiveDevice();
-			device.calculateInactiveRecords(tmpRecordSet);
-			device.updateVisibilityStatus(tmpRecordSet, true);
-			truss.promoteTruss(tmpRecordSet, scores);
-			finishTimer.invoke();
-			writeFinalLog(isTextModusSignaled, lostPackages, histoRandomSample, truss.getVault());
-			// reduce memory consumption in advance to the garbage collection
-			tmpRecordSet.cleanup();
-		}
-		log.log(Level.FINER, " > ends <  doFullRead=", doFullRead); //$NON-NLS-1$
+		UniversalSampler histoRandomSample = truss.closeReadings();
+		if (binParser instanceof RcvBinParser)
+			((RcvBinParser) binParser).finalUpdateLossStatistics();
+		PackageLoss lostPackages  = binParser instanceof RcvBinParser ? ((RcvBinParser) binParser).getLostPackages() : null;
+		Integer[] scores = getScores(lostPackages, histoRandomSample,  truss.getVault());
+		HoTTAdapter device = (HoTTAdapter) analyzer.getActiveDevice();
+		device.calculateInactiveRecords(tmpRecordSet);
+		device.updateVisibilityStatus(tmpRecordSet, true);
+		truss.promoteTruss(tmpRecordSet, scores);
+		finishTimer.invoke();
+		writeFinalLog(isTextModusSignaled, lostPackages, histoRandomSample, truss.getVault());
+		// reduce memory consumption in advance to the garbage collection
+		tmpRecordSet.cleanup();
+		log.log(Level.FINER, " > ends <  readings=", histoRandomSample.getReadingCount()); //$NON-NLS-1$
 	}
 
 	/**
@@ -108,20 +108,19 @@ public class HoTTbinHistoReader2 extends HoTTbinHistoReader {
 	}
 
 	/**
-	 * read log data according to version 0 either in initialize mode for learning min/max values or in fully functional read mode.
+	 * read log data according to version 0 in one single pass, the readings of the first data blocks teach the sampler the min/max values.
 	 * reads only sample records and allocates only one single record set.
 	 * no progress bar support and no channel data modifications.
 	 * @param data_in
-	 * @param initializeBlocks if this number is greater than zero, the min/max values are initialized
-	 * @param histoRandomSample is the random sampler which might use the minMax values from a previous run and thus reduces oversampling
+	 * @param teachingBlocks is the number of data blocks which teach the sampler the max/min values and thus reduce oversampling
 	 */
 	@Override
-	protected void readSingle(InputStream data_in, int initializeBlocks, UniversalSampler histoRandomSample) throws DataInconsitsentException, IOException {
+	protected void readSingle(InputStream data_in, int teachingBlocks) throws DataInconsitsentException, IOException {
 		HoTTAdapter2 device = (HoTTAdapter2) analyzer.getActiveDevice();
 		boolean isReceiverData = false;
 		boolean isSensorData = false;
 		boolean[] isResetMinMax = new boolean[] {false, false, false, false, false}; //ESC, EAM, GAM, GPS, Vario
-		int[]	points = histoRandomSample.getPoints();
+		int[]	points = new int[analyzer.getActiveDevice().getNumberOfMeasurements(analyzer.getActiveChannel().getNumber())];
 		byte[] buf = new byte[HoTTbinHistoReader.DATA_BLOCK_SIZE];
 		byte[] buf0 = new byte[30];
 		byte[] buf1 = new byte[30];
@@ -153,87 +152,85 @@ public class HoTTbinHistoReader2 extends HoTTbinHistoReader {
 			escBinParser = Sensor.ESC.createBinParser2(pickerParameters, points, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
 		}
 
-		Procedure pointsAdder = initializeBlocks <= 0 //
-				? () -> {
-					readTimer.invoke();
-					boolean isValidSample = histoRandomSample.capturePoints(timeSteps_ms[BinParser.TIMESTEP_INDEX]);
-					reviewTimer.invoke();
-					if (isValidSample) {
-						try {
-							int[] histoRandomSamplePoints = histoRandomSample.getSamplePoints();
-							
-							// 10=Altitude, 11=Climb 1, 12=Climb 3, 13=Climb 10 14=EventVario 15=misc Vario_1 16=misc Vario_2 17=misc Vario_3 18=misc Vario_4 19=misc Vario_5
-							if (!isResetMinMax[4]) {
-								for (int j=10; j<19; ++j) {
-									tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
-								}
-								isResetMinMax[4] = true;
-							}
-							// 20=Latitude, 21=Longitude, 22=Velocity, 23=Distance, 24=Direction, 25=TripDistance 26=NumSatellites 27=GPS-Fix 28=EventGPS
-							// 29=HomeDirection 30=Roll 31=Pitch 32=Yaw 33=GyroX 34=GyroY 35=GyroZ 36=Vibration 37=Version	
-							if (!isResetMinMax[3] && histoRandomSamplePoints[27] >= 3000  && histoRandomSamplePoints[20] != 0 && histoRandomSamplePoints[21] != 0) {
-								for (int j=20; j<37; ++j) {
-									tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
-								}
-								isResetMinMax[3] = true;
-							}
-							// 38=Voltage G, 39=Current G, 40=Capacity G, 41=Power G, 42=Balance G, 43=CellVoltage G1, 44=CellVoltage G2 .... 48=CellVoltage G6,
-							// 49=Revolution G, 50=FuelLevel, 51=Voltage G1, 52=Voltage G2, 53=Temperature G1, 54=Temperature G2 55=Speed G, 56=LowestCellVoltage,
-							// 57=LowestCellNumber, 58=Pressure, 59=Event G
-							if (!isResetMinMax[2] && histoRandomSamplePoints[38] != 0) {
-								for (int j=38; j<59; ++j) {
-									tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
-								}
-								isResetMinMax[2] = true;
-							}
-							// 60=Voltage E, 61=Current E, 62=Capacity E, 63=Power E, 64=Balance E, 65=CellVoltage E1, 66=CellVoltage E2 .... 78=CellVoltage E14,
-							// 79=Voltage E1, 80=Voltage E2, 81=Temperature E1, 82=Temperature E2 83=Revolution E 84=MotorTime 85=Speed 86=Event E
-							// 87=VoltageM, 88=CurrentM, 89=CapacityM, 90=PowerM, 91=RevolutionM, 92=TemperatureM 1, 93=TemperatureM 2 94=Voltage_min, 95=Current_max,
-							// 96=Revolution_max, 97=Temperature1_max, 98=Temperature2_max 99=Event M
-							if (!isResetMinMax[1] && histoRandomSamplePoints[60] != 0) {
-								for (int j=60; j<99; ++j) {
-									tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
-								}
-								isResetMinMax[1] = true;
-							}
-							if (isChannelsChannelEnabled) {
-								// 107=VoltageM, 108=CurrentM, 109=CapacityM, 110=PowerM, 111=RevolutionM, 112=TemperatureM 1, 113=TemperatureM 2 114=Voltage_min, 115=Current_max,
-								// 116=Revolution_max, 117=Temperature1_max, 118=Temperature2_max 119=Event M
-								// 120=Speed 121=Speed_max 122=PWM 123=Throttle 124=VoltageBEC 125=VoltageBEC_max 125=CurrentBEC 127=TemperatureBEC 128=TemperatureCap 
-								// 129=Timing(empty) 130=Temperature_aux 131=Gear 132=YGEGenExt 133=MotStatEscNr 134=misc ESC_15 135=VersionESC
-								if (!isResetMinMax[0] && histoRandomSamplePoints[107] != 0) {
-									for (int j=107; j<135; ++j) {
-										tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
-									}
-									isResetMinMax[0] = true;
-								}
-							} else {
-								// 87=VoltageM, 88=CurrentM, 89=CapacityM, 90=PowerM, 91=RevolutionM, 92=TemperatureM 1, 93=TemperatureM 2 94=Voltage_min, 95=Current_max,
-								// 96=Revolution_max, 97=Temperature1_max, 98=Temperature2_max 99=Event M
-								// 100=Speed 101=Speed_max 102=PWM 103=Throttle 104=VoltageBEC 105=VoltageBEC_max 106=CurrentBEC 107=TemperatureBEC 108=TemperatureCap 
-								// 109=Timing(empty) 110=Temperature_aux 111=Gear 112=YGEGenExt 113=MotStatEscNr 114=misc ESC_15 115=VersionESC
-								if (!isResetMinMax[0] && histoRandomSamplePoints[87] != 0) {
-									for (int j=87; j<115; ++j) {
-										tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
-									}
-									isResetMinMax[0] = true;
-								}
-							}
-
-							tmpRecordSet.addPoints(histoRandomSamplePoints, histoRandomSample.getSampleTimeStep_ms());
-						} catch (DataInconsitsentException e) {
-							throw ThrowableUtils.rethrow(e);
-						}
-						addTimer.invoke();
-						pickTimer.invoke();
+		truss.openReadings(analyzer.getActiveChannel().getNumber(), points, RECORD_TIMESPAN_MS, (histoRandomSamplePoints, sampleTimeStep_ms) -> {
+			reviewTimer.invoke();
+			// 10=Altitude, 11=Climb 1, 12=Climb 3, 13=Climb 10 14=EventVario 15=misc Vario_1 16=misc Vario_2 17=misc Vario_3 18=misc Vario_4 19=misc Vario_5
+			if (!isResetMinMax[4]) {
+				for (int j=10; j<19; ++j) {
+					tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
+				}
+				isResetMinMax[4] = true;
+			}
+			// 20=Latitude, 21=Longitude, 22=Velocity, 23=Distance, 24=Direction, 25=TripDistance 26=NumSatellites 27=GPS-Fix 28=EventGPS
+			// 29=HomeDirection 30=Roll 31=Pitch 32=Yaw 33=GyroX 34=GyroY 35=GyroZ 36=Vibration 37=Version	
+			if (!isResetMinMax[3] && histoRandomSamplePoints[27] >= 3000  && histoRandomSamplePoints[20] != 0 && histoRandomSamplePoints[21] != 0) {
+				for (int j=20; j<37; ++j) {
+					tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
+				}
+				isResetMinMax[3] = true;
+			}
+			// 38=Voltage G, 39=Current G, 40=Capacity G, 41=Power G, 42=Balance G, 43=CellVoltage G1, 44=CellVoltage G2 .... 48=CellVoltage G6,
+			// 49=Revolution G, 50=FuelLevel, 51=Voltage G1, 52=Voltage G2, 53=Temperature G1, 54=Temperature G2 55=Speed G, 56=LowestCellVoltage,
+			// 57=LowestCellNumber, 58=Pressure, 59=Event G
+			if (!isResetMinMax[2] && histoRandomSamplePoints[38] != 0) {
+				for (int j=38; j<59; ++j) {
+					tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
+				}
+				isResetMinMax[2] = true;
+			}
+			// 60=Voltage E, 61=Current E, 62=Capacity E, 63=Power E, 64=Balance E, 65=CellVoltage E1, 66=CellVoltage E2 .... 78=CellVoltage E14,
+			// 79=Voltage E1, 80=Voltage E2, 81=Temperature E1, 82=Temperature E2 83=Revolution E 84=MotorTime 85=Speed 86=Event E
+			// 87=VoltageM, 88=CurrentM, 89=CapacityM, 90=PowerM, 91=RevolutionM, 92=TemperatureM 1, 93=TemperatureM 2 94=Voltage_min, 95=Current_max,
+			// 96=Revolution_max, 97=Temperature1_max, 98=Temperature2_max 99=Event M
+			if (!isResetMinMax[1] && histoRandomSamplePoints[60] != 0) {
+				for (int j=60; j<99; ++j) {
+					tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
+				}
+				isResetMinMax[1] = true;
+			}
+			if (isChannelsChannelEnabled) {
+				// 107=VoltageM, 108=CurrentM, 109=CapacityM, 110=PowerM, 111=RevolutionM, 112=TemperatureM 1, 113=TemperatureM 2 114=Voltage_min, 115=Current_max,
+				// 116=Revolution_max, 117=Temperature1_max, 118=Temperature2_max 119=Event M
+				// 120=Speed 121=Speed_max 122=PWM 123=Throttle 124=VoltageBEC 125=VoltageBEC_max 125=CurrentBEC 127=TemperatureBEC 128=TemperatureCap 
+				// 129=Timing(empty) 130=Temperature_aux 131=Gear 132=YGEGenExt 133=MotStatEscNr 134=misc ESC_15 135=VersionESC
+				if (!isResetMinMax[0] && histoRandomSamplePoints[107] != 0) {
+					for (int j=107; j<135; ++j) {
+						tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
 					}
-				} : () -> histoRandomSample.capturePoints(timeSteps_ms[BinParser.TIMESTEP_INDEX]);
+					isResetMinMax[0] = true;
+				}
+			} else {
+				// 87=VoltageM, 88=CurrentM, 89=CapacityM, 90=PowerM, 91=RevolutionM, 92=TemperatureM 1, 93=TemperatureM 2 94=Voltage_min, 95=Current_max,
+				// 96=Revolution_max, 97=Temperature1_max, 98=Temperature2_max 99=Event M
+				// 100=Speed 101=Speed_max 102=PWM 103=Throttle 104=VoltageBEC 105=VoltageBEC_max 106=CurrentBEC 107=TemperatureBEC 108=TemperatureCap 
+				// 109=Timing(empty) 110=Temperature_aux 111=Gear 112=YGEGenExt 113=MotStatEscNr 114=misc ESC_15 115=VersionESC
+				if (!isResetMinMax[0] && histoRandomSamplePoints[87] != 0) {
+					for (int j=87; j<115; ++j) {
+						tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
+					}
+					isResetMinMax[0] = true;
+				}
+			}
+
+			tmpRecordSet.addPoints(histoRandomSamplePoints, sampleTimeStep_ms);
+			addTimer.invoke();
+			pickTimer.invoke();
+		});
+		Procedure pointsAdder = () -> {
+			readTimer.invoke();
+			try {
+				truss.addReading(timeSteps_ms[BinParser.TIMESTEP_INDEX]);
+			} catch (DataInconsitsentException e) {
+				throw ThrowableUtils.rethrow(e);
+			}
+		};
 
 		// read all the data blocks from the file, parse only for the active channel
-		boolean doFullRead = initializeBlocks <= 0;
 		boolean doDataSkip = detectedSensors.size() == 1 && !isChannelsChannelEnabled;
-		int datablocksLimit = (doFullRead ? (int) truss.getVault().getLogFileLength() / HoTTbinHistoReader.DATA_BLOCK_SIZE : initializeBlocks) / (doDataSkip ? 10 : 1);
+		int datablocksLimit = (int) truss.getVault().getLogFileLength() / HoTTbinHistoReader.DATA_BLOCK_SIZE / (doDataSkip ? 10 : 1);
+		int teachingLimit = teachingBlocks / (doDataSkip ? 10 : 1);
 		for (int i = 0; i < datablocksLimit; i++) {
+			if (i == teachingLimit) truss.endTeaching();
 			data_in.read(buf);
 			if (log.isLoggable(Level.FINE) && i % 10 == 0) {
 				log.log(Level.FINE, StringHelper.fourDigitsRunningNumber(buf.length));
@@ -360,36 +357,34 @@ public class HoTTbinHistoReader2 extends HoTTbinHistoReader {
 				isTextModusSignaled = true;
 			}
 		}
-		if (doFullRead) {
-			((RcvBinParser) rcvBinParser).finalUpdateLossStatistics();
-			PackageLoss lostPackages  = ((RcvBinParser) rcvBinParser).getLostPackages();
-			Integer[] scores = getScores(lostPackages, histoRandomSample,  truss.getVault());
-			device.calculateInactiveRecords(tmpRecordSet);
-			device.updateVisibilityStatus(tmpRecordSet, true);
-			truss.promoteTruss(tmpRecordSet, scores);
-			finishTimer.invoke();
-			writeFinalLog(isTextModusSignaled, lostPackages, histoRandomSample, truss.getVault());
-			// reduce memory consumption in advance to the garbage collection
-			tmpRecordSet.cleanup();
-		}
-		log.log(Level.FINER, " > ends <  doFullRead=", doFullRead); //$NON-NLS-1$
+		UniversalSampler histoRandomSample = truss.closeReadings();
+		((RcvBinParser) rcvBinParser).finalUpdateLossStatistics();
+		PackageLoss lostPackages  = ((RcvBinParser) rcvBinParser).getLostPackages();
+		Integer[] scores = getScores(lostPackages, histoRandomSample,  truss.getVault());
+		device.calculateInactiveRecords(tmpRecordSet);
+		device.updateVisibilityStatus(tmpRecordSet, true);
+		truss.promoteTruss(tmpRecordSet, scores);
+		finishTimer.invoke();
+		writeFinalLog(isTextModusSignaled, lostPackages, histoRandomSample, truss.getVault());
+		// reduce memory consumption in advance to the garbage collection
+		tmpRecordSet.cleanup();
+		log.log(Level.FINER, " > ends <  readings=", histoRandomSample.getReadingCount()); //$NON-NLS-1$
 	}
 
 	/**
-	 * read log data according to version 0 either in initialize mode for learning min/max values or in fully functional read mode.
+	 * read log data according to version 0 in one single pass, the readings of the first data blocks teach the sampler the min/max values.
 	 * reads only sample records and allocates only one single recordset, so HoTTAdapter.isChannelsChannelEnabled does not take effect.
 	 * no progress bar support and no channel data modifications.
 	 * @param data_in
-	 * @param initializeBlocks if this number is greater than zero, the min/max values are initialized
-	 * @param histoRandomSample is the random sampler which might use the minMax values from a previous run and thus reduces oversampling
+	 * @param teachingBlocks is the number of data blocks which teach the sampler the max/min values and thus reduce oversampling
 	 */
 	@Override
-	protected void readMultiple(InputStream data_in, int initializeBlocks, UniversalSampler histoRandomSample) throws IOException, DataInconsitsentException {
+	protected void readMultiple(InputStream data_in, int teachingBlocks) throws IOException, DataInconsitsentException {
 		HoTTAdapter2 device = (HoTTAdapter2) analyzer.getActiveDevice();
 		boolean isReceiverData = false;
 		boolean isJustMigrated = false;
 		boolean[] isResetMinMax = new boolean[] {false, false, false, false, false}; //ESC, EAM, GAM, GPS, Vario
-		int[]	points = histoRandomSample.getPoints();
+		int[]	points = new int[analyzer.getActiveDevice().getNumberOfMeasurements(analyzer.getActiveChannel().getNumber())];
 		byte[] buf = new byte[HoTTbinHistoReader.DATA_BLOCK_SIZE];
 		byte[] buf0 = new byte[30];
 		byte[] buf1 = new byte[30];
@@ -437,87 +432,83 @@ public class HoTTbinHistoReader2 extends HoTTbinHistoReader {
 			migrationJobs.clear();
 		};
 
-		Procedure pointsAdder = initializeBlocks <= 0 //
-				? () -> {
-					readTimer.invoke();
-					boolean isValidSample = histoRandomSample.capturePoints(timeSteps_ms[BinParser.TIMESTEP_INDEX]);
-					reviewTimer.invoke();
-					if (isValidSample) {
-						try {
-							int[] histoRandomSamplePoints = histoRandomSample.getSamplePoints();
-							
-							// 10=Altitude, 11=Climb 1, 12=Climb 3, 13=Climb 10 14=EventVario 15=misc Vario_1 16=misc Vario_2 17=misc Vario_3 18=misc Vario_4 19=misc Vario_5
-							if (!isResetMinMax[4]) {
-								for (int j=10; j<19; ++j) {
-									tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
-								}
-								isResetMinMax[4] = true;
-							}
-							// 20=Latitude, 21=Longitude, 22=Velocity, 23=Distance, 24=Direction, 25=TripDistance 26=NumSatellites 27=GPS-Fix 28=EventGPS
-							// 29=HomeDirection 30=Roll 31=Pitch 32=Yaw 33=GyroX 34=GyroY 35=GyroZ 36=Vibration 37=Version	
-							if (!isResetMinMax[3] && histoRandomSamplePoints[27] >= 3000  && histoRandomSamplePoints[20] != 0 && histoRandomSamplePoints[21] != 0) {
-								for (int j=20; j<37; ++j) {
-									tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
-								}
-								isResetMinMax[3] = true;
-							}
-							// 38=Voltage G, 39=Current G, 40=Capacity G, 41=Power G, 42=Balance G, 43=CellVoltage G1, 44=CellVoltage G2 .... 48=CellVoltage G6,
-							// 49=Revolution G, 50=FuelLevel, 51=Voltage G1, 52=Voltage G2, 53=Temperature G1, 54=Temperature G2 55=Speed G, 56=LowestCellVoltage,
-							// 57=LowestCellNumber, 58=Pressure, 59=Event G
-							if (!isResetMinMax[2] && histoRandomSamplePoints[38] != 0) {
-								for (int j=38; j<59; ++j) {
-									tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
-								}
-								isResetMinMax[2] = true;
-							}
-							// 60=Voltage E, 61=Current E, 62=Capacity E, 63=Power E, 64=Balance E, 65=CellVoltage E1, 66=CellVoltage E2 .... 78=CellVoltage E14,
-							// 79=Voltage E1, 80=Voltage E2, 81=Temperature E1, 82=Temperature E2 83=Revolution E 84=MotorTime 85=Speed 86=Event E
-							// 87=VoltageM, 88=CurrentM, 89=CapacityM, 90=PowerM, 91=RevolutionM, 92=TemperatureM 1, 93=TemperatureM 2 94=Voltage_min, 95=Current_max,
-							// 96=Revolution_max, 97=Temperature1_max, 98=Temperature2_max 99=Event M
-							if (!isResetMinMax[1] && histoRandomSamplePoints[60] != 0) {
-								for (int j=60; j<99; ++j) {
-									tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
-								}
-								isResetMinMax[1] = true;
-							}
-							if (isChannelsChannelEnabled) {
-								// 107=VoltageM, 108=CurrentM, 109=CapacityM, 110=PowerM, 111=RevolutionM, 112=TemperatureM 1, 113=TemperatureM 2 114=Voltage_min, 115=Current_max,
-								// 116=Revolution_max, 117=Temperature1_max, 118=Temperature2_max 119=Event M
-								// 120=Speed 121=Speed_max 122=PWM 123=Throttle 124=VoltageBEC 125=VoltageBEC_max 125=CurrentBEC 127=TemperatureBEC 128=TemperatureCap 
-								// 129=Timing(empty) 130=Temperature_aux 131=Gear 132=YGEGenExt 133=MotStatEscNr 134=misc ESC_15 135=VersionESC
-								if (!isResetMinMax[0] && histoRandomSamplePoints[107] != 0) {
-									for (int j=107; j<135; ++j) {
-										tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
-									}
-									isResetMinMax[0] = true;
-								}
-							} else {
-								// 87=VoltageM, 88=CurrentM, 89=CapacityM, 90=PowerM, 91=RevolutionM, 92=TemperatureM 1, 93=TemperatureM 2 94=Voltage_min, 95=Current_max,
-								// 96=Revolution_max, 97=Temperature1_max, 98=Temperature2_max 99=Event M
-								// 100=Speed 101=Speed_max 102=PWM 103=Throttle 104=VoltageBEC 105=VoltageBEC_max 106=CurrentBEC 107=TemperatureBEC 108=TemperatureCap 
-								// 109=Timing(empty) 110=Temperature_aux 111=Gear 112=YGEGenExt 113=MotStatEscNr 114=misc ESC_15 115=VersionESC
-								if (!isResetMinMax[0] && histoRandomSamplePoints[87] != 0) {
-									for (int j=87; j<115; ++j) {
-										tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
-									}
-									isResetMinMax[0] = true;
-								}
-							}
-
-							tmpRecordSet.addPoints(histoRandomSamplePoints, histoRandomSample.getSampleTimeStep_ms());
-						} catch (DataInconsitsentException e) {
-							throw ThrowableUtils.rethrow(e);
-						}
-						addTimer.invoke();
-						pickTimer.invoke();
+		truss.openReadings(analyzer.getActiveChannel().getNumber(), points, RECORD_TIMESPAN_MS, (histoRandomSamplePoints, sampleTimeStep_ms) -> {
+			reviewTimer.invoke();
+			// 10=Altitude, 11=Climb 1, 12=Climb 3, 13=Climb 10 14=EventVario 15=misc Vario_1 16=misc Vario_2 17=misc Vario_3 18=misc Vario_4 19=misc Vario_5
+			if (!isResetMinMax[4]) {
+				for (int j=10; j<19; ++j) {
+					tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
+				}
+				isResetMinMax[4] = true;
+			}
+			// 20=Latitude, 21=Longitude, 22=Velocity, 23=Distance, 24=Direction, 25=TripDistance 26=NumSatellites 27=GPS-Fix 28=EventGPS
+			// 29=HomeDirection 30=Roll 31=Pitch 32=Yaw 33=GyroX 34=GyroY 35=GyroZ 36=Vibration 37=Version	
+			if (!isResetMinMax[3] && histoRandomSamplePoints[27] >= 3000  && histoRandomSamplePoints[20] != 0 && histoRandomSamplePoints[21] != 0) {
+				for (int j=20; j<37; ++j) {
+					tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
+				}
+				isResetMinMax[3] = true;
+			}
+			// 38=Voltage G, 39=Current G, 40=Capacity G, 41=Power G, 42=Balance G, 43=CellVoltage G1, 44=CellVoltage G2 .... 48=CellVoltage G6,
+			// 49=Revolution G, 50=FuelLevel, 51=Voltage G1, 52=Voltage G2, 53=Temperature G1, 54=Temperature G2 55=Speed G, 56=LowestCellVoltage,
+			// 57=LowestCellNumber, 58=Pressure, 59=Event G
+			if (!isResetMinMax[2] && histoRandomSamplePoints[38] != 0) {
+				for (int j=38; j<59; ++j) {
+					tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
+				}
+				isResetMinMax[2] = true;
+			}
+			// 60=Voltage E, 61=Current E, 62=Capacity E, 63=Power E, 64=Balance E, 65=CellVoltage E1, 66=CellVoltage E2 .... 78=CellVoltage E14,
+			// 79=Voltage E1, 80=Voltage E2, 81=Temperature E1, 82=Temperature E2 83=Revolution E 84=MotorTime 85=Speed 86=Event E
+			// 87=VoltageM, 88=CurrentM, 89=CapacityM, 90=PowerM, 91=RevolutionM, 92=TemperatureM 1, 93=TemperatureM 2 94=Voltage_min, 95=Current_max,
+			// 96=Revolution_max, 97=Temperature1_max, 98=Temperature2_max 99=Event M
+			if (!isResetMinMax[1] && histoRandomSamplePoints[60] != 0) {
+				for (int j=60; j<99; ++j) {
+					tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
+				}
+				isResetMinMax[1] = true;
+			}
+			if (isChannelsChannelEnabled) {
+				// 107=VoltageM, 108=CurrentM, 109=CapacityM, 110=PowerM, 111=RevolutionM, 112=TemperatureM 1, 113=TemperatureM 2 114=Voltage_min, 115=Current_max,
+				// 116=Revolution_max, 117=Temperature1_max, 118=Temperature2_max 119=Event M
+				// 120=Speed 121=Speed_max 122=PWM 123=Throttle 124=VoltageBEC 125=VoltageBEC_max 125=CurrentBEC 127=TemperatureBEC 128=TemperatureCap 
+				// 129=Timing(empty) 130=Temperature_aux 131=Gear 132=YGEGenExt 133=MotStatEscNr 134=misc ESC_15 135=VersionESC
+				if (!isResetMinMax[0] && histoRandomSamplePoints[107] != 0) {
+					for (int j=107; j<135; ++j) {
+						tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
 					}
-				} : () -> histoRandomSample.capturePoints(timeSteps_ms[BinParser.TIMESTEP_INDEX]);
+					isResetMinMax[0] = true;
+				}
+			} else {
+				// 87=VoltageM, 88=CurrentM, 89=CapacityM, 90=PowerM, 91=RevolutionM, 92=TemperatureM 1, 93=TemperatureM 2 94=Voltage_min, 95=Current_max,
+				// 96=Revolution_max, 97=Temperature1_max, 98=Temperature2_max 99=Event M
+				// 100=Speed 101=Speed_max 102=PWM 103=Throttle 104=VoltageBEC 105=VoltageBEC_max 106=CurrentBEC 107=TemperatureBEC 108=TemperatureCap 
+				// 109=Timing(empty) 110=Temperature_aux 111=Gear 112=YGEGenExt 113=MotStatEscNr 114=misc ESC_15 115=VersionESC
+				if (!isResetMinMax[0] && histoRandomSamplePoints[87] != 0) {
+					for (int j=87; j<115; ++j) {
+						tmpRecordSet.get(j).setMinMax(histoRandomSamplePoints[j], histoRandomSamplePoints[j]);
+					}
+					isResetMinMax[0] = true;
+				}
+			}
+
+			tmpRecordSet.addPoints(histoRandomSamplePoints, sampleTimeStep_ms);
+			addTimer.invoke();
+			pickTimer.invoke();
+		});
+		Procedure pointsAdder = () -> {
+			readTimer.invoke();
+			try {
+				truss.addReading(timeSteps_ms[BinParser.TIMESTEP_INDEX]);
+			} catch (DataInconsitsentException e) {
+				throw ThrowableUtils.rethrow(e);
+			}
+		};
 		initTimer.invoke();
 
 		// read all the data blocks from the file, parse only for the active channel
-		boolean doFullRead = initializeBlocks <= 0;
-		int initializeBlockLimit = initializeBlocks > 0 ? initializeBlocks : Integer.MAX_VALUE;
-		for (int i = 0; i < initializeBlockLimit && i < truss.getVault().getLogFileLength() / HoTTbinHistoReader.DATA_BLOCK_SIZE; i++) {
+		for (int i = 0; i < truss.getVault().getLogFileLength() / HoTTbinHistoReader.DATA_BLOCK_SIZE; i++) {
+			if (i == teachingBlocks) truss.endTeaching();
 			data_in.read(buf);
 			if (log.isLoggable(Level.FINEST)) log.log(Level.FINEST, StringHelper.byte2Hex4CharString(buf, buf.length));
 
@@ -677,19 +668,18 @@ public class HoTTbinHistoReader2 extends HoTTbinHistoReader {
 			}
 		}
 
-		if (doFullRead) {
-			((RcvBinParser) rcvBinParser).finalUpdateLossStatistics();
-			PackageLoss lostPackages  = ((RcvBinParser) rcvBinParser).getLostPackages();
-			Integer[] scores = getScores(lostPackages, histoRandomSample,  truss.getVault());
-			device.calculateInactiveRecords(tmpRecordSet);
-			device.updateVisibilityStatus(tmpRecordSet, true);
-			truss.promoteTruss(tmpRecordSet, scores);
-			finishTimer.invoke();
-			writeFinalLog(isTextModusSignaled, lostPackages, histoRandomSample, truss.getVault());
-			// reduce memory consumption in advance to the garbage collection
-			tmpRecordSet.cleanup();
-		}
-		log.log(Level.FINER, " > ends <  doFullRead=", doFullRead); //$NON-NLS-1$
+		UniversalSampler histoRandomSample = truss.closeReadings();
+		((RcvBinParser) rcvBinParser).finalUpdateLossStatistics();
+		PackageLoss lostPackages  = ((RcvBinParser) rcvBinParser).getLostPackages();
+		Integer[] scores = getScores(lostPackages, histoRandomSample,  truss.getVault());
+		device.calculateInactiveRecords(tmpRecordSet);
+		device.updateVisibilityStatus(tmpRecordSet, true);
+		truss.promoteTruss(tmpRecordSet, scores);
+		finishTimer.invoke();
+		writeFinalLog(isTextModusSignaled, lostPackages, histoRandomSample, truss.getVault());
+		// reduce memory consumption in advance to the garbage collection
+		tmpRecordSet.cleanup();
+		log.log(Level.FINER, " > ends <  readings=", histoRandomSample.getReadingCount()); //$NON-NLS-1$
 	}
 
 }
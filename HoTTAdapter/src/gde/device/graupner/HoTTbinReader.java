@@ -56,6 +56,7 @@ import gde.exception.DataInconsitsentException;
 import gde.exception.DataTypeException;
 import gde.io.DataParser;
 import gde.log.Level;
+import gde.log.MetricEvents.FileLoad;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
 import gde.ui.DataExplorer;
@@ -693,7 +694,7 @@ public class HoTTbinReader {
 	 */
 	static void readSingle(File file, HashMap<String, String> header) throws IOException, DataInconsitsentException {
 		final String $METHOD_NAME = "readSingle";
-		long startTime = System.nanoTime() / 1000000;
+		FileLoad fileLoad = FileLoad.start(HoTTbinReader.class.getSimpleName(), file);
 		FileInputStream file_input = new FileInputStream(file);
 		DataInputStream data_in = new DataInputStream(file_input);
 		long fileSize = file.length();
@@ -1027,8 +1028,7 @@ public class HoTTbinReader {
 					+ Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGI2404, new Object[] {	((RcvBinParser) HoTTbinReader.rcvBinParser).getLossTotal(), ((RcvBinParser) HoTTbinReader.rcvBinParser).getLostPackages().lossTotal, packageLossPercentage, ((RcvBinParser) HoTTbinReader.rcvBinParser).getLostPackages().getStatistics() }) 
 					+ String.format(" - Sensor: %s", HoTTbinReader2.detectedSensors.toString()));
 			HoTTbinReader.log.logp(Level.WARNING, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, "skipped number receiver data due to package loss = " + ((RcvBinParser) HoTTbinReader.rcvBinParser).getLostPackages().lossTotal); //$NON-NLS-1$
-			HoTTbinReader.log.logp(Level.TIME, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, "read time = " //$NON-NLS-1$
-					+ StringHelper.getFormatedTime("mm:ss:SSS", (System.nanoTime() / 1000000 - startTime))); //$NON-NLS-1$
+			fileLoad.stop();
 
 			if (GDE.isWithUi()) {
 				for (RecordSet recordSet : HoTTbinReader.recordSets.values()) {
@@ -1101,7 +1101,7 @@ public class HoTTbinReader {
 	 */
 	static void readMultiple(File file, HashMap<String, String> header) throws IOException, DataInconsitsentException {
 		final String $METHOD_NAME = "readMultiple";
-		long startTime = System.nanoTime() / 1000000;
+		FileLoad fileLoad = FileLoad.start(HoTTbinReader.class.getSimpleName(), file);
 		FileInputStream file_input = new FileInputStream(file);
 		DataInputStream data_in = new DataInputStream(file_input);
 		long fileSize = file.length();
@@ -1444,8 +1444,7 @@ public class HoTTbinReader {
 					+ Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGI2404, new Object[] {	((RcvBinParser) HoTTbinReader.rcvBinParser).getLossTotal(), ((RcvBinParser) HoTTbinReader.rcvBinParser).getLostPackages().lossTotal, packageLossPercentage, ((RcvBinParser) HoTTbinReader.rcvBinParser).getLostPackages().getStatistics() }) 
 					+ String.format(" - Sensor: %s", HoTTbinReader2.detectedSensors.toString()));
 			HoTTbinReader.log.logp(Level.WARNING, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, "skipped number receiver data due to package loss = " + ((RcvBinParser) HoTTbinReader.rcvBinParser).getLostPackages().lossTotal); //$NON-NLS-1$
-			HoTTbinReader.log.logp(Level.TIME, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, "read time = " //$NON-NLS-1$
-					+ StringHelper.getFormatedTime("mm:ss:SSS", (System.nanoTime() / 1000000 - startTime))); //$NON-NLS-1$
+			fileLoad.stop();
 
 			if (GDE.isWithUi()) {
 				for (RecordSet recordSet : HoTTbinReader.recordSets.values()) {
@@ -38,6 +38,7 @@ import gde.device.graupner.HoTTAdapter.Sensor;
 import gde.exception.DataInconsitsentException;
 import gde.io.DataParser;
 import gde.log.Level;
+import gde.log.MetricEvents.FileLoad;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
 import gde.ui.menu.MenuToolBar;
@@ -80,7 +81,7 @@ public class HoTTbinReader2 extends HoTTbinReader {
 	 * @throws DataInconsitsentException
 	 */
 	static void readSingle(File file, HashMap<String, String> header) throws IOException, DataInconsitsentException {
-		long startTime = System.nanoTime() / 1000000;
+		FileLoad fileLoad = FileLoad.start(HoTTbinReader2.class.getSimpleName(), file);
 		FileInputStream file_input = new FileInputStream(file);
 		DataInputStream data_in = new DataInputStream(file_input);
 		long fileSize = file.length();
@@ -380,7 +381,7 @@ public class HoTTbinReader2 extends HoTTbinReader {
 									: ""));
 
 			HoTTbinReader2.log.log(Level.WARNING, "skipped number receiver data due to package loss = " + ((RcvBinParser) HoTTbinReader2.rcvBinParser).getLostPackages().lossTotal); //$NON-NLS-1$
-			HoTTbinReader2.log.log(Level.TIME, "read time = " + StringHelper.getFormatedTime("mm:ss:SSS", (System.nanoTime() / 1000000 - startTime))); //$NON-NLS-1$ //$NON-NLS-2$
+			fileLoad.stop();
 
 			if (GDE.isWithUi()) {
 				GDE.getUiNotification().setProgress(99);
@@ -409,7 +410,7 @@ public class HoTTbinReader2 extends HoTTbinReader {
 	 * @throws DataInconsitsentException
 	 */
 	static void readMultiple(File file, HashMap<String, String> header) throws IOException, DataInconsitsentException {
-		long startTime = System.nanoTime() / 1000000;
+		FileLoad fileLoad = FileLoad.start(HoTTbinReader2.class.getSimpleName(), file);
 		FileInputStream file_input = new FileInputStream(file);
 		DataInputStream data_in = new DataInputStream(file_input);
 		long fileSize = file.length();
@@ -702,7 +703,7 @@ public class HoTTbinReader2 extends HoTTbinReader {
 							? String.format(" - %s = %s", Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGT2419), Sensor.fromOrdinal(pickerParameters.altitudeClimbSensorSelection).name())
 									: ""));
 			HoTTbinReader2.log.log(Level.WARNING, "skipped number receiver data due to package loss = " + ((RcvBinParser) HoTTbinReader2.rcvBinParser).getLossTotal()); //$NON-NLS-1$
-			HoTTbinReader2.log.log(Level.TIME, "read time = " + StringHelper.getFormatedTime("mm:ss:SSS", (System.nanoTime() / 1000000 - startTime))); //$NON-NLS-1$ //$NON-NLS-2$
+			fileLoad.stop();
 			
 			if (menuToolBar != null) {
 				GDE.getUiNotification().setProgress(99);
@@ -34,6 +34,7 @@ import gde.exception.DataInconsitsentException;
 import gde.exception.DataTypeException;
 import gde.io.DataParser;
 import gde.log.Level;
+import gde.log.MetricEvents.FileLoad;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
 import gde.ui.menu.MenuToolBar;
@@ -125,7 +126,7 @@ public class HoTTbinReaderX extends HoTTbinReader {
 	*/
 	static void readSingle(File file) throws IOException, DataInconsitsentException {
 		final String $METHOD_NAME = "readSingle";
-		long startTime = System.nanoTime() / 1000000;
+		FileLoad fileLoad = FileLoad.start(HoTTbinReaderX.class.getSimpleName(), file);
 		FileInputStream file_input = new FileInputStream(file);
 		DataInputStream data_in = new DataInputStream(file_input);
 		long fileSize = file.length();
@@ -371,7 +372,7 @@ public class HoTTbinReaderX extends HoTTbinReader {
 										String.format("%2dm %02ds %03d", HoTTbinReaderX.buf[HoTTbinReaderX.buf.length - 7], HoTTbinReaderX.buf[HoTTbinReaderX.buf.length - 6], HoTTbinReaderX.buf[HoTTbinReaderX.buf.length - 5]),
 										String.format("%2dm %02ds %03d", HoTTbinReaderX.buf[HoTTbinReaderX.buf.length - 4], HoTTbinReaderX.buf[HoTTbinReaderX.buf.length - 3], HoTTbinReaderX.buf[HoTTbinReaderX.buf.length - 2]) }) + sb.toString());
 			}
-			HoTTbinReaderX.logx.logp(Level.TIME, HoTTbinReaderX.$CLASS_NAMEX, $METHOD_NAME, "read time = " + StringHelper.getFormatedTime("mm:ss:SSS", (System.nanoTime() / 1000000 - startTime))); //$NON-NLS-1$ //$NON-NLS-2$
+			fileLoad.stop();
 
 			if (menuToolBar != null) {
 				for (RecordSet recordSet : HoTTbinReader.recordSets.values()) {
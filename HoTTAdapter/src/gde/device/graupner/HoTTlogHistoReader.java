@@ -205,7 +205,7 @@ public class HoTTlogHistoReader {
 
 	/**
 	 * read file.
-	 * provide data in a tmpRecordSet.
+	 * provide data in a tmpRecordSet, the file is read in one single pass.
 	 */
 	protected void read(Supplier<InputStream> inputStream) throws IOException, DataTypeException, DataInconsitsentException {
 		try (BufferedInputStream in = new BufferedInputStream(inputStream.get()); //
@@ -213,16 +213,7 @@ public class HoTTlogHistoReader {
 			if (logDataOffset != data_in.skip(logDataOffset)) {
 				log.log(Level.WARNING, "skipping logDataOffset failed");
 			}
-			int initializeBlockLimit = initializeSamplingFactor * HoTTbinReader.NUMBER_LOG_RECORDS_TO_SCAN / 5;
-			int readLimitMark = (initializeBlockLimit + 1) * dataBlockSize + 1;
-			data_in.mark(readLimitMark); // reduces # of overscan records
-			int activeChannelNumber = analyzer.getActiveChannel().getNumber();
-			int[]	points = new int[analyzer.getActiveDevice().getNumberOfMeasurements(activeChannelNumber)];
-			UniversalSampler initSampler = UniversalSampler.createSampler(activeChannelNumber, points, HoTTlogHistoReader.RECORD_TIMESPAN_MS, analyzer);
-			read(data_in, initializeBlockLimit, initSampler);
-			data_in.reset();
-			UniversalSampler sampler = UniversalSampler.createSampler(activeChannelNumber, initSampler.getMaxPoints(), initSampler.getMinPoints(), HoTTlogHistoReader.RECORD_TIMESPAN_MS, analyzer);
-			read(data_in, -1, sampler);
+			read(data_in, initializeSamplingFactor * HoTTbinReader.NUMBER_LOG_RECORDS_TO_SCAN / 5);
 		}
 	}
 
@@ -231,8 +222,8 @@ public class HoTTlogHistoReader {
 	 * allocates only one single recordset for the active channel, so HoTTAdapter.isChannelsChannelEnabled does not take any effect.
 	 * no progress bar support and no channel data modifications.
 	 */
-	protected void read(InputStream data_in, int initializeBlocks, UniversalSampler histoRandomSample) throws DataInconsitsentException, IOException {
-		int[]	points = histoRandomSample.getPoints();
+	protected void read(InputStream data_in, int teachingBlocks) throws DataInconsitsentException, IOException {
+		int[]	points = new int[analyzer.getActiveDevice().getNumberOfMeasurements(analyzer.getActiveChannel().getNumber())];
 		byte[] buf = new byte[this.dataBlockSize];
 		long[] timeSteps_ms = new long[] { 0 };
 		boolean	isTextModusSignaled	= false;
@@ -256,29 +247,28 @@ public class HoTTlogHistoReader {
 			throw new UnsupportedOperationException();
 		}
 
-		Procedure pointsAdder = initializeBlocks <= 0 //
-				? () -> {
-					readTimer.invoke();
-					boolean isValidSample = histoRandomSample.capturePoints(timeSteps_ms[LogParser.TIMESTEP_INDEX]);
-					reviewTimer.invoke();
-					if (isValidSample) {
-						try {
-							tmpRecordSet.addPoints(histoRandomSample.getSamplePoints(), histoRandomSample.getSampleTimeStep_ms());
-						} catch (DataInconsitsentException e) {
-							throw ThrowableUtils.rethrow(e);
-						}
-						addTimer.invoke();
-						pickTimer.invoke();
-					}
-				} : () -> histoRandomSample.capturePoints(timeSteps_ms[LogParser.TIMESTEP_INDEX]);
+		truss.openReadings(analyzer.getActiveChannel().getNumber(), points, RECORD_TIMESPAN_MS, (samplePoints, sampleTimeStep_ms) -> {
+			reviewTimer.invoke();
+			tmpRecordSet.addPoints(samplePoints, sampleTimeStep_ms);
+			addTimer.invoke();
+			pickTimer.invoke();
+		});
+		Procedure pointsAdder = () -> {
+			readTimer.invoke();
+			try {
+				truss.addReading(timeSteps_ms[LogParser.TIMESTEP_INDEX]);
+			} catch (DataInconsitsentException e) {
+				throw ThrowableUtils.rethrow(e);
+			}
+		};
 		initTimer.invoke();
 
 		// read all the data blocks from the file, parse only for the active channel
-		boolean doFullRead = initializeBlocks <= 0;
 		//boolean doDataSkip = detectedSensors.size() == 1 && !isChannelsChannelEnabled;
-		int datablocksLimit = doFullRead ? (int) this.logEntryCount : initializeBlocks;
+		int datablocksLimit = (int) this.logEntryCount;
 		int i = 0;
 		for (; i < datablocksLimit; i++) { //skip log entries before transmitter active
+			if (i == teachingBlocks) truss.endTeaching();
 			if (buf.length != data_in.read(buf))
 				log.log(Level.WARNING, "reading buf failed 1");
 			if (isASCII) { //convert ASCII log data to hex
@@ -292,6 +282,7 @@ public class HoTTlogHistoReader {
 		}
 		
 		for (; i < datablocksLimit; i++) {
+			if (i == teachingBlocks) truss.endTeaching();
 			// if (log.isLoggable(Level.TIME))
 			// log.log(Level.TIME, String.format("markpos: %,9d i: %,9d ", data_in.markpos, i));
 			if (buf.length != data_in.read(buf)) 
@@ -367,23 +358,22 @@ public class HoTTlogHistoReader {
 				timeSteps_ms[LogParser.TIMESTEP_INDEX] += RECORD_TIMESPAN_MS;
 			}
 		}
-		if (doFullRead) {
-			PackageLoss lostPackages  = null;
-			if (logParser instanceof RcvLogParser) {
-				((RcvLogParser) logParser).finalUpdateLossStatistics();
-				lostPackages  = ((RcvLogParser) logParser).getLostPackages();
-			}
-			Integer[] scores = getScores(lostPackages, histoRandomSample,  truss.getVault());
-			HoTTAdapter device = (HoTTAdapter) analyzer.getActiveDevice();
-			device.calculateInactiveRecords(tmpRecordSet);
-			device.updateVisibilityStatus(tmpRecordSet, true);
-			truss.promoteTruss(tmpRecordSet, scores);
-			finishTimer.invoke();
-			writeFinalLog(isTextModusSignaled, lostPackages, histoRandomSample, truss.getVault());
-			// reduce memory consumption in advance to the garbage collection
-			tmpRecordSet.cleanup();
+		UniversalSampler histoRandomSample = truss.closeReadings();
+		PackageLoss lostPackages  = null;
+		if (logParser instanceof RcvLogParser) {
+			((RcvLogParser) logParser).finalUpdateLossStatistics();
+			lostPackages  = ((RcvLogParser) logParser).getLostPackages();
 		}
-		log.log(Level.FINER, " > ends <  doFullRead=", doFullRead); //$NON-NLS-1$
+		Integer[] scores = getScores(lostPackages, histoRandomSample,  truss.getVault());
+		HoTTAdapter device = (HoTTAdapter) analyzer.getActiveDevice();
+		device.calculateInactiveRecords(tmpRecordSet);
+		device.updateVisibilityStatus(tmpRecordSet, true);
+		truss.promoteTruss(tmpRecordSet, scores);
+		finishTimer.invoke();
+		writeFinalLog(isTextModusSignaled, lostPackages, histoRandomSample, truss.getVault());
+		// reduce memory consumption in advance to the garbage collection
+		tmpRecordSet.cleanup();
+		log.log(Level.FINER, " > ends <  readings=", histoRandomSample.getReadingCount()); //$NON-NLS-1$
 	}
 
 	/**
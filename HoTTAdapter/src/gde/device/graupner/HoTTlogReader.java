@@ -36,6 +36,7 @@ import gde.device.graupner.HoTTAdapter.Sensor;
 import gde.exception.DataInconsitsentException;
 import gde.io.DataParser;
 import gde.log.Level;
+import gde.log.MetricEvents.FileLoad;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
 import gde.ui.menu.MenuToolBar;
@@ -72,7 +73,7 @@ public class HoTTlogReader extends HoTTbinReader {
 		HoTTlogReader.detectedSensors = Sensor.getSetFromDetected(fileInfoHeader.get(HoTTAdapter.DETECTED_SENSOR));
 
 		final File file = new File(fileInfoHeader.get(HoTTAdapter.FILE_PATH));
-		long startTime = System.nanoTime() / 1000000;
+		FileLoad fileLoad = FileLoad.start(HoTTlogReader.class.getSimpleName(), file);
 		FileInputStream file_input = new FileInputStream(file);
 		DataInputStream data_in = new DataInputStream(file_input);
 		HoTTAdapter device = (HoTTAdapter) HoTTlogReader.application.getActiveDevice();
@@ -453,8 +454,7 @@ public class HoTTlogReader extends HoTTbinReader {
 					+ Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGI2404, new Object[] { HoTTlogReader.rcvLogParser.getLossTotal(), HoTTlogReader.rcvLogParser.getLostPackages().lossTotal, packageLossPercentage, HoTTlogReader.rcvLogParser.getLostPackages().getStatistics() })
 					+ String.format(" - Sensor: %s", HoTTlogReader.detectedSensors.toString()));
 			HoTTbinReader.log.logp(Level.WARNING, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, "skipped number receiver data due to package loss = " + HoTTlogReader.rcvLogParser.getLostPackages().lossTotal); //$NON-NLS-1$
-			HoTTbinReader.log.logp(Level.TIME, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, "read time = " //$NON-NLS-1$
-					+ StringHelper.getFormatedTime("mm:ss:SSS", (System.nanoTime() / 1000000 - startTime))); //$NON-NLS-1$
+			fileLoad.stop();
 
 			if (GDE.isWithUi()) {
 				for (RecordSet recordSet : HoTTbinReader.recordSets.values()) {
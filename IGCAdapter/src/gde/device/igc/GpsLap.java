@@ -18,11 +18,15 @@
 ****************************************************************************************/
 package gde.device.igc;
 
-import java.util.HashMap;
+/**
+ * Albatross/GPS-Triangle lap statistics
+ */
+public class GpsLap {
 
-public class GpsLap extends HashMap<String, String>{
-
-	private static final long serialVersionUID = -415113738338117060L;
+	private int			alt;
+	private int			altGainLos;
+	private double	index;
+	private double	time;
 
 	/**
 	 * LISTAT:LAP:{"alt":74,"altGainLos":-163,"index":118.03,"time":100.62}
@@ -30,7 +34,6 @@ public class GpsLap extends HashMap<String, String>{
 	 * @param lapInput "alt":106,"altGainLos":-88,"index":155,"time":120.07
 	 */
 	public GpsLap(String lapInput) {
-		super();
 		add(lapInput);
 	}
 	
@@ -40,31 +43,44 @@ public class GpsLap extends HashMap<String, String>{
 	 * @param input "alt":106,"altGainLos":-88,"index":155,"time":120.07
 	 */
 	public void add(String input) {
-		String[] entries = input.substring(input.indexOf('{')+1, input.length()-1).split(",");
-		for (String entry : entries) {
-			String[] value = entry.split(":");
-			if (value.length == 2) this.put(value[0].substring(1, value[0].length()-1), value[1]);
-		}
+		GpsStatScanner.scan(input, (key, value) -> {
+			switch (key) {
+			case "alt":
+				this.alt = Integer.parseInt(value);
+				break;
+			case "altGainLos":
+				this.altGainLos = Integer.parseInt(value);
+				break;
+			case "index":
+				this.index = Double.parseDouble(value);
+				break;
+			case "time":
+				this.time = Double.parseDouble(value);
+				break;
+			default:
+				break;
+			}
+		});
 	}
 
 	public int getAlt() {
-		return Integer.parseInt(this.get("alt"));
+		return this.alt;
 	}
 
 	public int getAltGainLos() {
-		return Integer.parseInt(this.get("altGainLos"));
+		return this.altGainLos;
 	}
 
 	public double getIndex() {
-		return Double.parseDouble(this.get("index"));
+		return this.index;
 	}
 
 	public double getTime() {
-		return Double.parseDouble(this.get("time"));
+		return this.time;
 	}
 
 	public int getIntTime() {		
-		return Double.valueOf(this.get("time")).intValue();
+		return (int) this.time;
 	}
 	
 	public String getFormatedTime(int time) {
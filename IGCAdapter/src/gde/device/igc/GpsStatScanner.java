@@ -0,0 +1,83 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.device.igc;
+
+import java.util.logging.Logger;
+
+import gde.log.Level;
+
+/**
+ * Scanner of the flat JSON like key/value entries of Albatross and GPS-Triangle statistics L records,
+ * the entries are located by char offsets instead of splitting the line.
+ * LISTAT:LAP:{"alt":74,"altGainLos":-163,"index":118.03,"time":100.62}
+ * @author Winfried Brügmann
+ */
+final class GpsStatScanner {
+	final static Logger	log	= Logger.getLogger(GpsStatScanner.class.getName());
+
+	/**
+	 * receives the entries of a statistics line
+	 */
+	@FunctionalInterface
+	interface EntryConsumer {
+		/**
+		 * @param key entry name without quotes
+		 * @param value entry value, quotes of string values are removed
+		 * @throws NumberFormatException
+		 */
+		void accept(String key, String value);
+	}
+
+	private GpsStatScanner() {
+	}
+
+	/**
+	 * scan the entries enclosed by the first '{' and the last '}' of the line, entries with a value which can not be parsed are skipped
+	 * @param input LSTAT{"laps":2,"lapsStats":[],"scoringCode":"0000","taskHeight":200}
+	 * @param consumer
+	 */
+	static void scan(String input, EntryConsumer consumer) {
+		int index = input.indexOf('{') + 1;
+		int end = input.lastIndexOf('}');
+		if (end < index) end = input.length();
+		while (index < end) {
+			int keyStart = input.indexOf('"', index);
+			if (keyStart < 0 || keyStart >= end) break;
+			int keyEnd = input.indexOf('"', keyStart + 1);
+			if (keyEnd < 0 || keyEnd + 1 >= end) break;
+			int valueEnd = input.indexOf(',', keyEnd + 1);
+			if (valueEnd < 0 || valueEnd > end) valueEnd = end;
+			if (input.charAt(keyEnd + 1) == ':') {
+				int valueStart = keyEnd + 2, valueStop = valueEnd;
+				if (valueStop - valueStart >= 2 && input.charAt(valueStart) == '"' && input.charAt(valueStop - 1) == '"') {
+					++valueStart;
+					--valueStop;
+				}
+				String key = input.substring(keyStart + 1, keyEnd);
+				try {
+					consumer.accept(key, input.substring(valueStart, valueStop));
+				}
+				catch (NumberFormatException e) {
+					log.log(Level.WARNING, String.format("%s value %s -> %s", key, input.substring(valueStart, valueStop), input)); //$NON-NLS-1$
+				}
+			}
+			index = valueEnd + 1;
+		}
+	}
+}
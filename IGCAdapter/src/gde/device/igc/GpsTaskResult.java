@@ -18,18 +18,41 @@
 ****************************************************************************************/
 package gde.device.igc;
 
-import java.util.HashMap;
 import java.util.Vector;
 
 import gde.utils.StringHelper;
 
-public class GpsTaskResult extends HashMap<String, String> {
+/**
+ * Albatross/GPS-Triangle task statistics, the LRCE_GPS_TRIANGLE entries are mapped to the equivalent LSTAT entries
+ */
+public class GpsTaskResult {
 	//LISTAT{"allTrianglesAvgSpeed":3.63,"averageTriangleTime":266.06,"currentTime":1653484985032,"distanceCovered":0.0,"flightStart":1653484452960,"laps":2,"lapsStats":[],"lastStartAltitude":77.0,"lastStartCrossing":1653484985080,"lastTriangleAvgSpeed":2.34,"lastTriangleIndex":505.41,"lastTriangleTime":412.05,"scoringCode":"0000","signatureValid":false,"startAltitude":194.0,"startEntryAlti":194.0,"startEntrySpeed":25.672728,"startPenaltyPoints":94,"taskHeight":200,"taskLength":200,"timeElapsedSeconds":532,"triangleAlt":-29.0,"zoneEntered":false}
 
-	private static final long serialVersionUID = 3386446540799897163L;
-	
-	private Vector<GpsLap> gpsLaps = new Vector<>();
-	
+	private Vector<GpsLap>	gpsLaps										= new Vector<>();
+
+	private double					allTrianglesAvgSpeed;
+	private double					averageTriangleTime;
+	private boolean					hasAverageTriangleTime		= false;
+	private long						currentTime;
+	private double					distanceCovered;
+	private long						flightStart;
+	private int							laps;
+	private double					lastStartAltitude;
+	private long						lastStartCrossing;
+	private double					lastTriangleAvgSpeed;
+	private double					lastTriangleIndex;
+	private double					lastTriangleTime;
+	private int							scoringCode;
+	private boolean					signatureValid;
+	private double					startAltitude;
+	private double					startEntryAlti;
+	private double					startEntrySpeed;
+	private int							startPenaltyPoints;
+	private int							taskHeight;
+	private int							taskLength;
+	private int							timeElapsedSeconds;
+	private double					triangleAlt;
+	private boolean					zoneEntered;
 	
 	public GpsTaskResult() {
 		super();
@@ -51,51 +74,113 @@ public class GpsTaskResult extends HashMap<String, String> {
 	 * @param input "allTrianglesAvgSpeed":3.63,"averageTriangleTime":266.06,"currentTime":1653484985032,"distanceCovered":0.0,"flightStart":1653484452960,"laps":2,"lapsStats":[],"lastStartAltitude":77.0,"lastStartCrossing":1653484985080,"lastTriangleAvgSpeed":2.34,"lastTriangleIndex":505.41,"lastTriangleTime":412.05,"scoringCode":"0000","signatureValid":false,"startAltitude":194.0,"startEntryAlti":194.0,"startEntrySpeed":25.672728,"startPenaltyPoints":94,"taskHeight":200,"taskLength":200,"timeElapsedSeconds":532,"triangleAlt":-29.0,"zoneEntered":false
 	 */
 	public void add(String input) {
-		String[] entries = input.substring(input.indexOf('{')+1, input.length()-1).split(",");
-		for (String entry : entries) {
-			String[] value = entry.split(":");
-			if (value.length == 2) this.put(value[0].substring(1, value[0].length()-1), value[1]);
-		}
+		GpsStatScanner.scan(input, (key, value) -> {
+			switch (key) {
+			case "allTrianglesAvgSpeed":
+			case "speed":
+				this.allTrianglesAvgSpeed = Double.parseDouble(value);
+				break;
+			case "averageTriangleTime":
+				this.averageTriangleTime = Double.parseDouble(value);
+				this.hasAverageTriangleTime = true;
+				break;
+			case "currentTime":
+				this.currentTime = Long.parseLong(value);
+				break;
+			case "distanceCovered":
+				this.distanceCovered = Double.parseDouble(value);
+				break;
+			case "flightStart":
+			case "startTime":
+				this.flightStart = Long.parseLong(value);
+				break;
+			case "laps":
+				this.laps = Integer.parseInt(value);
+				break;
+			case "lastStartAltitude":
+				this.lastStartAltitude = Double.parseDouble(value);
+				break;
+			case "lastStartCrossing":
+				this.lastStartCrossing = Long.parseLong(value);
+				break;
+			case "lastTriangleAvgSpeed":
+				this.lastTriangleAvgSpeed = Double.parseDouble(value);
+				break;
+			case "lastTriangleIndex":
+				this.lastTriangleIndex = Double.parseDouble(value);
+				break;
+			case "lastTriangleTime":
+				this.lastTriangleTime = Double.parseDouble(value);
+				break;
+			case "scoringCode":
+				this.scoringCode = Integer.parseInt(value);
+				break;
+			case "signatureValid":
+				this.signatureValid = Boolean.parseBoolean(value);
+				break;
+			case "startAltitude":
+				this.startAltitude = Double.parseDouble(value);
+				break;
+			case "startEntryAlti":
+				this.startEntryAlti = Double.parseDouble(value);
+				break;
+			case "startAlt":
+				this.startAltitude = this.startEntryAlti = Double.parseDouble(value);
+				break;
+			case "startEntrySpeed":
+			case "startSpeed":
+				this.startEntrySpeed = Double.parseDouble(value);
+				break;
+			case "startPenaltyPoints":
+			case "penaltyPoints":
+				this.startPenaltyPoints = Integer.parseInt(value);
+				break;
+			case "taskHeight":
+				this.taskHeight = Integer.parseInt(value);
+				break;
+			case "taskLength":
+			case "taskLen":
+				this.taskLength = Integer.parseInt(value);
+				break;
+			case "timeElapsedSeconds":
+			case "flightTime":
+				this.timeElapsedSeconds = Integer.parseInt(value);
+				break;
+			case "triangleAlt":
+				this.triangleAlt = Double.parseDouble(value);
+				break;
+			case "zoneEntered":
+			case "penaltyZoneHit":
+				this.zoneEntered = Boolean.parseBoolean(value);
+				break;
+			default:
+				break;
+			}
+		});
 	}
 
 	public double getAllTrianglesAvgSpeed() {
-		if (this.get("allTrianglesAvgSpeed") != null)
-			return Double.parseDouble(this.get("allTrianglesAvgSpeed"));
-		else if (this.get("speed") != null)
-			return Double.parseDouble(this.get("speed"));
-		return 0.0;
+		return this.allTrianglesAvgSpeed;
 	}
 
 	public int getAverageTriangleTime() {
-		if (this.get("averageTriangleTime") != null)
-			return Double.valueOf(this.get("averageTriangleTime")).intValue();
-		return 0;
+		return (int) this.averageTriangleTime;
 	}
 
 	public long getCurrentTime() {
-		if (this.get("currentTime") != null)
-			return Long.parseLong(this.get("currentTime"));
-		return 0L;
+		return this.currentTime;
 	}
 
 	public double getDistanceCovered() {
-		if (this.get("distanceCovered") != null)
-			return Double.parseDouble(this.get("distanceCovered"));
-		return 0.0;
+		return this.distanceCovered;
 	}
 
 	public long getFlightStart() {
-		if (this.get("flightStart") != null)
-			return Long.parseLong(this.get("flightStart"));
-		else if (this.get("startTime") != null)
-			return Long.parseLong(this.get("startTime"));
-		return 0L;
+		return this.flightStart;
 	}
 
 	public int getLaps() {
-		if (this.get("laps") != null)
-			return Integer.parseInt(this.get("laps"));
-		return 0;
+		return this.laps;
 	}
 
 	public Vector<GpsLap> getLapsStats() {
@@ -107,108 +192,67 @@ public class GpsTaskResult extends HashMap<String, String> {
 	}
 
 	public double getLastStartAltitude() {
-		if (this.get("lastStartAltitude") != null)
-			return Double.parseDouble(this.get("lastStartAltitude"));
-		return 0.0;
+		return this.lastStartAltitude;
 	}
 
 	public long getLastStartCrossing() {
-		if (this.get("lastStartCrossing") != null)
-			return Long.parseLong(this.get("lastStartCrossing"));
-		return 0L;
+		return this.lastStartCrossing;
 	}
 
 	public double getLastTriangleAvgSpeed() {
-		if (this.get("lastTriangleAvgSpeed") != null)
-			return Double.parseDouble(this.get("lastTriangleAvgSpeed"));
-		return 0.0;
+		return this.lastTriangleAvgSpeed;
 	}
 
 	public double getLastTriangleIndex() {
-		if (this.get("lastTriangleIndex") != null)
-			return Double.parseDouble(this.get("lastTriangleIndex"));
-		return 0.0;
+		return this.lastTriangleIndex;
 	}
 
 	public double getLastTriangleTime() {
-		if (this.get("lastTriangleTime") != null)
-			return Double.parseDouble(this.get("lastTriangleTime"));
-		return 0.0;
+		return this.lastTriangleTime;
 	}
 
 	public int getScoringCode() {
-		if (this.get("scoringCode") != null)
-			return Integer.parseInt(this.get("scoringCode"));
-		return 0;
+		return this.scoringCode;
 	}
 
 	public double getStartAltitude() {
-		if (this.get("startAltitude") != null)
-			return Double.parseDouble(this.get("startAltitude"));
-		else if (this.get("startAlt") != null)
-			return Double.parseDouble(this.get("startAlt"));
-		return 0.0;
+		return this.startAltitude;
 	}
 
 	public double getStartEntryAlti() {
-		if (this.get("startEntryAlti") != null)
-			return Double.parseDouble(this.get("startEntryAlti"));
-		else if (this.get("startAlt") != null)
-			return Double.parseDouble(this.get("startAlt"));
-		return 0.0;
+		return this.startEntryAlti;
 	}
 
 	public double getStartEntrySpeed() {
-		if (this.get("startEntrySpeed") != null)
-			return Double.parseDouble(this.get("startEntrySpeed"));
-		else if (this.get("startSpeed") != null)
-			return Double.parseDouble(this.get("startSpeed"));
-		return 0.0;
+		return this.startEntrySpeed;
 	}
 
 	public boolean getSignatureValid() {
-		return Boolean.parseBoolean(this.get("signatureValid"));
+		return this.signatureValid;
 	}
 
 	public int getStartPenaltyPoints() {
-		if (this.get("startPenaltyPoints") != null)
-			return Integer.parseInt(this.get("startPenaltyPoints"));
-		else if (this.get("penaltyPoints") != null)
-			return Integer.parseInt(this.get("penaltyPoints"));
-		return 0;
+		return this.startPenaltyPoints;
 	}
 
 	public int getTaskHeight() {
-		return Integer.parseInt(this.get("taskHeight"));
+		return this.taskHeight;
 	}
 
 	public int getTaskLength() {
-		if (this.get("taskLength") != null)
-			return Integer.parseInt(this.get("taskLength"));
-		else if (this.get("taskLen") != null)
-			return Integer.parseInt(this.get("taskLen"));
-		return 0;
+		return this.taskLength;
 	}
 
 	public int getTimeElapsedSeconds() {
-		if (this.get("timeElapsedSeconds") != null)
-			return Integer.parseInt(this.get("timeElapsedSeconds"));
-		else if (this.get("flightTime") != null)
-			return Integer.parseInt(this.get("flightTime"));
-		else 
-			return 0;
+		return this.timeElapsedSeconds;
 	}
 
 	public double getTriangleAlt() {
-		return Double.parseDouble(this.get("triangleAlt"));
+		return this.triangleAlt;
 	}
 
 	public boolean getZoneEntered() {
-		if (this.get("zoneEntered") != null)
-			return Boolean.parseBoolean(this.get("zoneEntered"));
-		else if (this.get("penaltyZoneHit") != null)
-			return Boolean.parseBoolean(this.get("penaltyZoneHit"));
-		return false;
+		return this.zoneEntered;
 	}
 	
 	public String getFormatedTime(int time) {
@@ -221,7 +265,7 @@ public class GpsTaskResult extends HashMap<String, String> {
 		sb.append(String.format("Task: %s  Date Time: %s  Duration: %s [mm:ss]\n", taskType, StringHelper.getFormatedTime("yyyy-MM-dd, HH:mm:ss", getFlightStart()), getFormatedTime(getTimeElapsedSeconds())));
 		sb.append(String.format("Start Alt/Speed: %3.0f m/%6.2f km/h  Penalty: %d  SavetyZoneHit: %b\n", getStartEntryAlti(), getStartEntrySpeed()*3.6, getStartPenaltyPoints(), getZoneEntered()));
 		if (getLaps() > 0) {
-			if (this.get("averageTriangleTime") != null)
+			if (this.hasAverageTriangleTime)
 				sb.append(String.format("Laps: %2d  AvgSpeed: %5.2f km/h  AvgLapTime: %s\n", getLaps(), getAllTrianglesAvgSpeed() * 3.6, getFormatedTime(getAverageTriangleTime())));
 			else
 				sb.append(String.format("Laps: %2d  AvgSpeed: %5.2f km/h  AvgLapTime: %s\n", getLaps(), getAllTrianglesAvgSpeed() * 3.6, getFormatedTime(getTimeElapsedSeconds() / getLaps())));
@@ -63,6 +63,35 @@ public class IGCReaderWriter {
 	final static DataExplorer				application		= DataExplorer.getInstance();
 	final static Channels						channels			= Channels.getInstance();
 
+	/**
+	 * names and max deviation between consecutive B records of the IgcRecordDecoder position fields
+	 */
+	final static String[]						POSITION_NAMES						= new String[] { "latitude", "longitude", "altBaro", "altGPS" };	//$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	final static int[]							POSITION_DEVIATION_LIMITS	= new int[] { 30, 35, 30, 30 };
+
+	/**
+	 * local time stamps of the record time fields, the calendar is evaluated once per hour instead of once per record
+	 */
+	static final class RecordClock {
+		private int		year, month, day, hour	= -1;
+		private long	hourTimeStamp;
+
+		/**
+		 * @param month 1..12
+		 * @return the time stamp in ms, same as new GregorianCalendar(year, month - 1, day, hour, minute, second).getTimeInMillis()
+		 */
+		long getTimeStamp(int year, int month, int day, int hour, int minute, int second) {
+			if (hour != this.hour || day != this.day || month != this.month || year != this.year) {
+				this.hourTimeStamp = new GregorianCalendar(year, month - 1, day, hour, 0, 0).getTimeInMillis();
+				this.year = year;
+				this.month = month;
+				this.day = day;
+				this.hour = hour;
+			}
+			return this.hourTimeStamp + minute * 60000L + second * 1000L;
+		}
+	}
+
 	final public static char[]	igcShortDate			= new char[] { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K', 'L', 'M', 'N', 'O', 'P', 'Q', 'R',
 			'S', 'T', 'U', 'V', 'W', 'X', 'Y', 'Z' };
 
@@ -131,11 +160,12 @@ public class IGCReaderWriter {
 		StringBuilder error = new StringBuilder();
 		StringBuilder albatrossTask = new StringBuilder();
 		StringBuilder gpsTriangleRelated = new StringBuilder();
-		String date = "000000", time; //16 02 40
+		String date = "000000";
 		int hour, minute, second;
 		int year, month, day;
-		int latitude, longitude, altBaro, altGPS;
-		int lastLatitude = 0, lastLongitude = 0, lastAltBaro = 0, lastAltGPS = 0;
+		int[] position = new int[IgcRecordDecoder.FIELD_COUNT];
+		int[] lastPosition = new int[IgcRecordDecoder.FIELD_COUNT];
+		RecordClock clock = new RecordClock();
 		int values[] = new int[device.getNumberOfMeasurements(1)-2]; //climb and speed will be calculated
 		File inputFile = new File(filePath);
 		String dllID = "XXX";
@@ -271,19 +301,17 @@ public class IGCReaderWriter {
 					throw new DevicePropertiesInconsistenceException("Error");
 				}
 
-				time = line.substring(1, 7);//16 02 40
-				while (Integer.parseInt(time) == 0) { 
+				while (IgcRecordDecoder.getSecondsOfDay(line) == 0) { //16 02 40
 					log.log(Level.WARNING, String.format("time entry B record zero, line %d", lineNumber));
 					line = reader.readLine();
 					++lineNumber;
-					time = line.substring(1, 7);
 				}
-				hour = Integer.parseInt(time.substring(0, 2));
-				minute = Integer.parseInt(time.substring(2, 4));
-				second = Integer.parseInt(time.substring(4, 6));
-				startTimeStamp = new GregorianCalendar(year, month - 1, day, hour, minute, second).getTimeInMillis();
+				hour = IgcRecordDecoder.getHour(line);
+				minute = IgcRecordDecoder.getMinute(line);
+				second = IgcRecordDecoder.getSecond(line);
+				startTimeStamp = clock.getTimeStamp(year, month, day, hour, minute, second);
 				if (bTimeStepExtension != null) {
-					startTimeStamp += Long.parseLong(line.substring(bTimeStepExtension.start, bTimeStepExtension.end));
+					startTimeStamp += IgcRecordDecoder.parseLong(line, bTimeStepExtension.start, bTimeStepExtension.end);
 				}
 					
 
@@ -291,16 +319,16 @@ public class IGCReaderWriter {
 				do {
 					lastLine = line = line.trim();
 					++lineNumber;					
-					if (line.length() >= 35 && line.startsWith(device.getDataBlockLeader())) {
-						time = line.substring(1, 7); //16 02 40
-						if (hour == 23 && hour > Integer.parseInt(time.substring(0, 2))) 
+					if (line.length() >= IgcRecordDecoder.B_RECORD_LENGTH && line.startsWith(device.getDataBlockLeader())) {
+						int recordHour = IgcRecordDecoder.getHour(line); //16 02 40
+						if (hour == 23 && hour > recordHour) 
 							++day; // switch to next day if 12 -> 0 0r 23 -> 0
-						hour = Integer.parseInt(time.substring(0, 2));
-						minute = Integer.parseInt(time.substring(2, 4));
-						second = Integer.parseInt(time.substring(4, 6));
-						actualTimeStamp = new GregorianCalendar(year, month - 1, day, hour, minute, second).getTimeInMillis();
+						hour = recordHour;
+						minute = IgcRecordDecoder.getMinute(line);
+						second = IgcRecordDecoder.getSecond(line);
+						actualTimeStamp = clock.getTimeStamp(year, month, day, hour, minute, second);
 						if (bTimeStepExtension != null) {
-							actualTimeStamp += Long.parseLong(line.substring(bTimeStepExtension.start, bTimeStepExtension.end));
+							actualTimeStamp += IgcRecordDecoder.parseLong(line, bTimeStepExtension.start, bTimeStepExtension.end);
 						}
 						
 
@@ -388,50 +416,19 @@ public class IGCReaderWriter {
 								}
 							}
 
-							try {
-								latitude = Integer.valueOf(line.substring(7, 14));
-								latitude = line.substring(14, 15).equalsIgnoreCase("N") ? latitude : -1 * latitude; //$NON-NLS-1$
-								if (lastLatitude != 0 && Math.abs(lastLatitude - latitude) > 30)
-									log.log(Level.WARNING, String.format(Locale.getDefault(), "High latitude\t deviation at line %d %s %2d", lineNumber-1, line.substring(1, 7), latitude - lastLatitude));
-								lastLatitude = latitude;
-							}
-							catch (Exception e) {
-								latitude = values[0];
-							}
-							try {
-								longitude = Integer.valueOf(line.substring(15, 23));
-								longitude = line.substring(23, 24).equalsIgnoreCase("E") ? longitude : -1 * longitude; //$NON-NLS-1$
-								if (lastLongitude != 0 && Math.abs(lastLongitude - longitude) > 35)
-									log.log(Level.WARNING, String.format(Locale.getDefault(), "High longitude\t deviation at line %d %s %2d", lineNumber-1, line.substring(1, 7), longitude - lastLongitude));
-								lastLongitude = longitude;
-							}
-							catch (Exception e) {
-								longitude = values[1];
-							}
-							try {
-								altBaro = Integer.valueOf(line.substring(25, 30));
-								if (lastAltBaro != 0 && Math.abs(lastAltBaro - altBaro) > 30) {
-									log.log(Level.WARNING, String.format(Locale.getDefault(), "High altBaro\t deviation at line %d %s %2d", lineNumber-1, line.substring(1, 7), altBaro - lastAltBaro));
+							// a field which can not be decoded keeps its previous value
+							int decoded = IgcRecordDecoder.decodePosition(line, position);
+							for (int j = 0; j < IgcRecordDecoder.FIELD_COUNT; j++) {
+								if ((decoded & (1 << j)) != 0) {
+									if (lastPosition[j] != 0 && Math.abs(lastPosition[j] - position[j]) > POSITION_DEVIATION_LIMITS[j])
+										log.log(Level.WARNING, String.format(Locale.getDefault(), "High %s\t deviation at line %d %s %2d", POSITION_NAMES[j], lineNumber-1, line.substring(1, 7), position[j] - lastPosition[j]));
+									lastPosition[j] = position[j];
 								}
-								lastAltBaro = altBaro;
-							}
-							catch (Exception e) {
-								altBaro = values[2];
-							}
-							try {
-								altGPS = Integer.valueOf(line.substring(31, 35));
-								if (lastAltGPS != 0 && Math.abs(lastAltGPS - altGPS) > 30) {
-									log.log(Level.WARNING, String.format(Locale.getDefault(), "High altGPS\t deviation at line %d %s %2d", lineNumber-1, line.substring(1, 7), altGPS - lastAltGPS));
-								}
-								lastAltGPS = altGPS;
-							}
-							catch (Exception e) {
-								altGPS = values[3];
 							}
-							values[0] = latitude * 10; // 5 digits after the decimal point only
-							values[1] = longitude * 10;
-							values[2] = altBaro * 1000;
-							values[3] = altGPS * 1000;
+							values[0] = position[IgcRecordDecoder.LATITUDE] * 10; // 5 digits after the decimal point only
+							values[1] = position[IgcRecordDecoder.LONGITUDE] * 10;
+							values[2] = position[IgcRecordDecoder.ALT_BARO] * 1000;
+							values[3] = position[IgcRecordDecoder.ALT_GPS] * 1000;
 
 							for (int i = 0; i < bExtensions.size() && i+4 < values.length; i++) {
 								values[i + 4] = bExtensions.get(i).getValue(line);
@@ -448,13 +445,12 @@ public class IGCReaderWriter {
 					}
 					else if (line.startsWith("K")) {
 						log.log(Level.FINE, "K RECORD - Data extensioni = " + line);
-						time = line.substring(1, 7); //16 02 40
-						hour = Integer.parseInt(time.substring(0, 2));
-						minute = Integer.parseInt(time.substring(2, 4));
-						second = Integer.parseInt(time.substring(4, 6));
-						actualTimeStamp = new GregorianCalendar(year, month - 1, day, hour, minute, second).getTimeInMillis();
+						hour = IgcRecordDecoder.getHour(line); //16 02 40
+						minute = IgcRecordDecoder.getMinute(line);
+						second = IgcRecordDecoder.getSecond(line);
+						actualTimeStamp = clock.getTimeStamp(year, month, day, hour, minute, second);
 						if (kTimeStepExtension != null) {
-							actualTimeStamp += Long.parseLong(line.substring(kTimeStepExtension.start, kTimeStepExtension.end));
+							actualTimeStamp += IgcRecordDecoder.parseLong(line, kTimeStepExtension.start, kTimeStepExtension.end);
 						}
 
 						for (int i = 0; i < kExtensions.size() && i+4+bExtensions.size() < values.length; i++) {
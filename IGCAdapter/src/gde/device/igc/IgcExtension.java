@@ -35,10 +35,10 @@ public class IgcExtension {
 
 	public int getValue(final String fRecord) {
 		try {
-			return Integer.parseInt(fRecord.substring(this.start, this.end)) * 1000;
+			return IgcRecordDecoder.parseInt(fRecord, this.start, this.end) * 1000;
 		}
-		catch (StringIndexOutOfBoundsException e) {
-			return Integer.parseInt(fRecord.substring(this.start, this.end-1)) * 1000;
+		catch (IndexOutOfBoundsException e) {
+			return IgcRecordDecoder.parseInt(fRecord, this.start, this.end-1) * 1000;
 		}
 		catch (NumberFormatException e) {
 			return 0;
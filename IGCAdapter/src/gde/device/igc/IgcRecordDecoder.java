@@ -0,0 +1,145 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.device.igc;
+
+/**
+ * Fixed column decoder of IGC B and K records, the fields are parsed from their char offsets within the line without creating sub strings.
+ * B160240 5407121N 00249342W A 00280 00421
+ * 1234567 89012345 678901234 5 67890 12345
+ * @author Winfried Brügmann
+ */
+public final class IgcRecordDecoder {
+
+	/**
+	 * index of the B record position fields
+	 */
+	public static final int	LATITUDE				= 0;
+	public static final int	LONGITUDE				= 1;
+	public static final int	ALT_BARO				= 2;
+	public static final int	ALT_GPS					= 3;
+	public static final int	FIELD_COUNT			= 4;
+
+	/**
+	 * minimal length of a B record without extensions
+	 */
+	public static final int	B_RECORD_LENGTH	= 35;
+
+	private IgcRecordDecoder() {
+	}
+
+	/**
+	 * @param line B or K record
+	 * @return the hour of the UTC time field HHMMSS
+	 * @throws NumberFormatException
+	 */
+	public static int getHour(CharSequence line) {
+		return parseInt(line, 1, 3);
+	}
+
+	/**
+	 * @param line B or K record
+	 * @return the minute of the UTC time field HHMMSS
+	 * @throws NumberFormatException
+	 */
+	public static int getMinute(CharSequence line) {
+		return parseInt(line, 3, 5);
+	}
+
+	/**
+	 * @param line B or K record
+	 * @return the second of the UTC time field HHMMSS
+	 * @throws NumberFormatException
+	 */
+	public static int getSecond(CharSequence line) {
+		return parseInt(line, 5, 7);
+	}
+
+	/**
+	 * @param line B or K record
+	 * @return the UTC time field HHMMSS as seconds of the day
+	 * @throws NumberFormatException
+	 */
+	public static int getSecondsOfDay(CharSequence line) {
+		return getHour(line) * 3600 + getMinute(line) * 60 + getSecond(line);
+	}
+
+	/**
+	 * decode latitude, longitude, pressure altitude and GNSS altitude of a B record into the fields array,
+	 * a field which can not be parsed keeps its previous value
+	 * @param line B record
+	 * @param fields receives the decoded values at the field indices, latitude and longitude are signed by their hemisphere
+	 * @return the bit mask (1 << field index) of the fields decoded from the line
+	 */
+	public static int decodePosition(CharSequence line, int[] fields) {
+		int decoded = 0;
+		try {
+			int latitude = parseInt(line, 7, 14);
+			fields[LATITUDE] = Character.toUpperCase(line.charAt(14)) == 'N' ? latitude : -latitude;
+			decoded |= 1 << LATITUDE;
+		}
+		catch (NumberFormatException | IndexOutOfBoundsException e) {
+			// keep the previous latitude
+		}
+		try {
+			int longitude = parseInt(line, 15, 23);
+			fields[LONGITUDE] = Character.toUpperCase(line.charAt(23)) == 'E' ? longitude : -longitude;
+			decoded |= 1 << LONGITUDE;
+		}
+		catch (NumberFormatException | IndexOutOfBoundsException e) {
+			// keep the previous longitude
+		}
+		try {
+			fields[ALT_BARO] = parseInt(line, 25, 30);
+			decoded |= 1 << ALT_BARO;
+		}
+		catch (NumberFormatException | IndexOutOfBoundsException e) {
+			// keep the previous pressure altitude
+		}
+		try {
+			fields[ALT_GPS] = parseInt(line, 31, 35);
+			decoded |= 1 << ALT_GPS;
+		}
+		catch (NumberFormatException | IndexOutOfBoundsException e) {
+			// keep the previous GNSS altitude
+		}
+		return decoded;
+	}
+
+	/**
+	 * @param line
+	 * @param start index of the first char
+	 * @param end index after the last char
+	 * @return the decimal value of the chars, same as Integer.parseInt(line.substring(start, end))
+	 * @throws NumberFormatException
+	 */
+	public static int parseInt(CharSequence line, int start, int end) {
+		return Integer.parseInt(line, start, end, 10);
+	}
+
+	/**
+	 * @param line
+	 * @param start index of the first char
+	 * @param end index after the last char
+	 * @return the decimal value of the chars, same as Long.parseLong(line.substring(start, end))
+	 * @throws NumberFormatException
+	 */
+	public static long parseLong(CharSequence line, int start, int end) {
+		return Long.parseLong(line, start, end, 10);
+	}
+}
@@ -26,9 +26,11 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 package cz.vutbr.fit.gja.proj.utils;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
@@ -42,14 +44,11 @@ import java.util.Vector;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
 
 import org.eclipse.swt.SWT;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 import gde.GDE;
 import gde.device.jeti.MessageIds;
@@ -865,74 +864,74 @@ public class TelemetryData {
 	}
 
 	/**
-	 * It uploads a jml file that is based on XML
+	 * It uploads a jml file that is based on XML, the file is streamed element by element.
+	 * The attribute descriptions of a data storage precede its entities as written by the Jeti devices.
 	 * @param filename
 	 * @return true|false true means successful
 	 */
 	boolean loadJML(String filename) {
 		try {
 			File file = new File(filename);
+			long inputFileSize = Math.max(1, file.length());
 
-			DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-			DocumentBuilder db = dbf.newDocumentBuilder();
-			Document doc = db.parse(file);
-			doc.getDocumentElement().normalize();
-
-			NodeList sensors = doc.getElementsByTagName("dataStorage"); //$NON-NLS-1$
-
-			for (int s = 0; s < sensors.getLength(); s++) {
-				Node sensor = sensors.item(s);
-
-				if (sensor.getNodeType() == Node.ELEMENT_NODE) {
-					Element fstElmnt = (Element) sensor;
-					long ID = Long.parseLong(fstElmnt.getAttribute("dataStorageID")); //$NON-NLS-1$
-					//introduce new sensor
-					TelemetrySensor tel = new TelemetrySensor(ID, "-"); //$NON-NLS-1$
-					this.data.add(tel);
-					//go through the attributes
-					NodeList elements = fstElmnt.getElementsByTagName("attrDescription"); //$NON-NLS-1$
-					for (int i = 0; i < elements.getLength(); i++) {
-						Node var = elements.item(i);
-						if (var.getNodeType() == Node.ELEMENT_NODE) {
-							Element varElem = (Element) var;
-							int varId = Integer.parseInt(varElem.getAttribute("attrID")); //$NON-NLS-1$
-							String name = varElem.getAttribute("name"); //$NON-NLS-1$
-							String unit = varElem.getAttribute("units"); //$NON-NLS-1$
-							TelemetryVar telvar = new TelemetryVar(varId, name, unit);
-							//introduce the telemetry variable
-							tel.addVariable(telvar);
+			XMLInputFactory xif = XMLInputFactory.newInstance();
+			xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+			try (FileInputStream fis = new FileInputStream(file); InputStream in = new BufferedInputStream(fis, 1 << 16)) {
+				XMLStreamReader reader = xif.createXMLStreamReader(in);
+				try {
+					long ID = 0;
+					TelemetrySensor tel = null;
+					String id = null;
+					while (reader.hasNext()) {
+						int event = reader.next();
+						if (event == XMLStreamConstants.START_ELEMENT) {
+							String elementName = reader.getLocalName();
+							if (elementName.equals("dataStorage")) { //$NON-NLS-1$
+								ID = Long.parseLong(getAttribute(reader, "dataStorageID")); //$NON-NLS-1$
+								id = String.valueOf(ID);
+								//introduce new sensor
+								tel = new TelemetrySensor(ID, "-"); //$NON-NLS-1$
+								this.data.add(tel);
+							}
+							else if (tel != null && elementName.equals("attrDescription")) { //$NON-NLS-1$
+								int varId = Integer.parseInt(getAttribute(reader, "attrID")); //$NON-NLS-1$
+								String name = getAttribute(reader, "name"); //$NON-NLS-1$
+								String unit = getAttribute(reader, "units"); //$NON-NLS-1$
+								TelemetryVar telvar = new TelemetryVar(varId, name, unit);
+								//introduce the telemetry variable
+								tel.addVariable(telvar);
+							}
+							else if (tel != null && elementName.equals("entity")) { //$NON-NLS-1$
+								//going through the data for the given clue
+								String plainData[] = getAttribute(reader, "plainData").split(";"); //$NON-NLS-1$ //$NON-NLS-2$
+								if (plainData.length > 1) {
+									//timestamp, ID, plain data
+									String rowData[] = new String[plainData.length + 1];
+									rowData[0] = plainData[0];
+									rowData[1] = id;
+									System.arraycopy(plainData, 1, rowData, 2, plainData.length - 1);
+									parseLineParams(rowData);
+								}
+							}
 						}
-					}
-
-					//going through the data for the given clue
-					elements = fstElmnt.getElementsByTagName("entity"); //$NON-NLS-1$
-					for (int i = 0; i < elements.getLength(); i++) {
-						Node var = elements.item(i);
-						if (var.getNodeType() == Node.ELEMENT_NODE) {
-							Element varElem = (Element) var;
-							String row = String.valueOf(ID) + ";" + varElem.getAttribute("plainData"); //$NON-NLS-1$ //$NON-NLS-2$
-							String rowData[] = row.split(";"); //$NON-NLS-1$
-							if (rowData.length > 2) {
-								//Shuffle ID and timestamp
-								String tmp = rowData[1];
-								rowData[1] = rowData[0];
-								rowData[0] = tmp;
-								parseLineParams(rowData);
+						else if (event == XMLStreamConstants.END_ELEMENT && reader.getLocalName().equals("dataStorage")) { //$NON-NLS-1$
+							tel = null;
+							int progress = (int) (fis.getChannel().position() * 90 / inputFileSize);
+							if (progress <= 90 && progress > GDE.getUiNotification().getProgressPercentage() && progress % 10 == 0) {
+								GDE.getUiNotification().setProgress(progress);
+								try {
+									Thread.sleep(2);
+								}
+								catch (Exception e) {
+									// ignore
+								}
 							}
 						}
 					}
 				}
-				int progress = s * 100 / (sensors.getLength() * 2 / 3);
-				if (progress <= 90 && progress > GDE.getUiNotification().getProgressPercentage() && progress % 10 == 0) {
-					GDE.getUiNotification().setProgress(progress);
-					try {
-						Thread.sleep(2);
-					}
-					catch (Exception e) {
-						// ignore
-					}
+				finally {
+					reader.close();
 				}
-
 			}
 			return true;
 		}
@@ -945,6 +944,14 @@ public class TelemetryData {
 		}
 	}
 
+	/**
+	 * @return the attribute value or an empty string like the DOM element if the attribute does not exist
+	 */
+	private static String getAttribute(XMLStreamReader reader, String name) {
+		String value = reader.getAttributeValue(null, name);
+		return value != null ? value : GDE.STRING_EMPTY;
+	}
+
 	/**
 	 * uploads a CSV file. 
 	 * @return info on success
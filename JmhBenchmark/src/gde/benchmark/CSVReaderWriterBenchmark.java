@@ -0,0 +1,77 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.benchmark;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gde.GDE;
+import gde.data.RecordSet;
+import gde.io.CSVReaderWriter;
+
+/**
+ * Import a CSV file which is exported from an OSD fixture during the trial setup.
+ * @author Winfried Brügmann
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CSVReaderWriterBenchmark {
+
+	@Param({ "HoTTAdapter2/2019-08-23_AllInOne.osd" })
+	String	osdFile;
+
+	@Param({ "false", "true" })
+	boolean	isRaw;
+
+	Path		csvPath;
+
+	@Setup(Level.Trial)
+	public void setup(DataExplorerState env) throws Exception {
+		RecordSet recordSet = env.readOsd(env.getDataPath(this.osdFile));
+		this.csvPath = env.getTmpPath("CSVReaderWriterBenchmark" + (this.isRaw ? "_raw" : "_abs") + GDE.FILE_ENDING_DOT_CSV);
+		CSVReaderWriter.write(';', recordSet.getName(), this.csvPath.toString(), this.isRaw, this.isRaw ? "ISO-8859-1" : "UTF-8");
+	}
+
+	@Setup(Level.Invocation)
+	public void resetChannels(DataExplorerState env) {
+		env.resetChannels();
+	}
+
+	@Benchmark
+	public RecordSet read() throws Exception {
+		return CSVReaderWriter.read(';', this.csvPath.toString(), " csv", this.isRaw);
+	}
+}
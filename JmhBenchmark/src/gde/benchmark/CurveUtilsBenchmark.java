@@ -0,0 +1,166 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import gde.GDE;
+import gde.data.Record;
+import gde.data.RecordSet;
+import gde.exception.DataInconsitsentException;
+import gde.utils.CurveUtils;
+
+/**
+ * Draw the curves of all displayable records of an OSD fixture record set into an offscreen image.
+ * The fixture data points are repeated up to the record length, the full redraw is compared with appending the curve segments
+ * of the latest data points as the live gathering does.
+ * @author Winfried Brügmann
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CurveUtilsBenchmark {
+	final static int	X0					= 60;
+	final static int	Y_MAX				= 10;
+
+	@Param({ "HoTTAdapter2/2019-08-23_AllInOne.osd" })
+	String						osdFile;
+
+	@Param({ "1024" })
+	int								imageWidth;
+
+	@Param({ "768" })
+	int								imageHeight;
+
+	@Param({ "1000", "10000", "100000" })
+	int								recordLength;
+
+	/**
+	 * number of data points appended since the last live update
+	 */
+	@Param({ "10" })
+	int								appendLength;
+
+	RecordSet					recordSet;
+	Image							image;
+	GC								gc;
+	int								width, height, y0;
+	int[]							xScaleFactors;
+	int[]							lastDrawnIndices;
+
+	@Setup(Level.Trial)
+	public void setup(DataExplorerState env) throws Exception {
+		this.recordSet = createRecordSet(env.readOsd(env.getDataPath(this.osdFile)), this.recordLength);
+		this.image = new Image(GDE.display, this.imageWidth, this.imageHeight);
+		this.gc = new GC(this.image);
+		this.width = this.imageWidth - 2 * X0;
+		this.y0 = this.imageHeight - 50;
+		this.height = this.y0 - Y_MAX;
+		this.recordSet.setDrawAreaBounds(new Rectangle(X0, this.y0 - this.height, this.width, this.height));
+		this.recordSet.updateSyncRecordScale();
+		for (Record record : this.recordSet.getRecordsSortedForDisplay()) {
+			CurveUtils.drawScale(record, this.gc, X0, this.y0, this.width, this.height, X0, true, true, true, false);
+		}
+		drawCurves(); // sets the display scale factors the appended segments rely on
+
+		this.xScaleFactors = new int[this.recordSet.size()];
+		this.lastDrawnIndices = new int[this.recordSet.size()];
+		for (int i = 0; i < this.recordSet.size(); i++) {
+			int realSize = this.recordSet.get(i).realSize();
+			this.xScaleFactors[i] = CurveUtils.getXScaleFactor(realSize, this.width);
+			this.lastDrawnIndices[i] = Math.max(0, ((realSize - 1 - this.appendLength) / this.xScaleFactors[i]) * this.xScaleFactors[i]);
+		}
+	}
+
+	/**
+	 * @return a record set with the fixture data points repeated up to the record length
+	 */
+	static RecordSet createRecordSet(RecordSet fixture, int recordLength) throws DataInconsitsentException {
+		RecordSet recordSet = RecordSet.createRecordSet(fixture.getName(), fixture.getDevice(), fixture.getChannelConfigNumber(), true, false, false);
+		for (int i = 0; i < recordSet.size(); i++) {
+			recordSet.get(i).setVisible(fixture.get(i).isVisible());
+			recordSet.get(i).setDisplayable(fixture.get(i).isDisplayable());
+		}
+		int fixtureLength = fixture.getRecordDataSize(true);
+		double timeStep_ms = fixture.getAverageTimeStep_ms();
+		int[] points = new int[recordSet.size()];
+		for (int j = 0; j < recordLength; j++) {
+			for (int i = 0; i < points.length; i++) {
+				Record record = fixture.get(i);
+				points[i] = record.realSize() > 0 ? record.realGet(j % fixtureLength) : 0;
+			}
+			if (recordSet.isTimeStepConstant())
+				recordSet.addPoints(points);
+			else
+				recordSet.addPoints(points, j * timeStep_ms);
+		}
+		return recordSet;
+	}
+
+	@TearDown(Level.Trial)
+	public void dispose() {
+		this.gc.dispose();
+		this.image.dispose();
+	}
+
+	/**
+	 * full redraw of all curves
+	 */
+	@Benchmark
+	public void drawCurves() {
+		for (Record record : this.recordSet.getRecordsSortedForDisplay()) {
+			if (record.isVisible() && record.isDisplayable()) {
+				CurveUtils.drawCurve(record, this.gc, X0, this.y0, this.width, this.height, false);
+			}
+		}
+	}
+
+	/**
+	 * live update which appends the curve segments of the latest data points
+	 */
+	@Benchmark
+	public void drawCurveSegments() {
+		for (Record record : this.recordSet.getRecordsSortedForDisplay()) {
+			if (record.isVisible() && record.isDisplayable()) {
+				int ordinal = record.getOrdinal();
+				CurveUtils.drawCurveSegments(record, this.gc, X0, this.y0, this.lastDrawnIndices[ordinal], this.xScaleFactors[ordinal]);
+			}
+		}
+	}
+}
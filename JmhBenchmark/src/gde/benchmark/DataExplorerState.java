@@ -0,0 +1,189 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.benchmark;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.TreeMap;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import gde.Analyzer;
+import gde.GDE;
+import gde.TestAnalyzer;
+import gde.config.ExportService;
+import gde.config.Settings;
+import gde.data.Channel;
+import gde.data.Channels;
+import gde.data.RecordSet;
+import gde.device.DeviceConfiguration;
+import gde.device.IDevice;
+import gde.io.OsdReaderWriter;
+
+/**
+ * Application environment shared by the benchmarks of one trial, set up like the JunitMiscTest TestSuperClass.
+ * The fixtures are taken from the DataFilesTestSamples directory given by the system property gde.benchmark.data.
+ * SWT requires the display thread, hence the benchmarks must run with a single thread (JMH default).
+ * @author Winfried Brügmann
+ */
+@State(Scope.Benchmark)
+public class DataExplorerState {
+	final static Logger										log								= Logger.getLogger(DataExplorerState.class.getName());
+
+	public final static String						DATA_PATH					= "gde.benchmark.data";
+	public final static String						TMP_PATH					= "gde.benchmark.tmp";
+
+	TestAnalyzer													analyzer;
+	Channels															channels;
+	Settings															settings;
+	TreeMap<String, DeviceConfiguration>	deviceConfigurations;
+	final HashMap<String, IDevice>				devices						= new HashMap<String, IDevice>();
+
+	@Setup
+	public void initialize() throws Exception {
+		this.settings = Settings.getInstance();
+		if (GDE.display == null) {
+			GDE.display = Display.getDefault();
+			GDE.shell = new Shell(GDE.display);
+		}
+
+		// keep the benchmark output clean from application logging
+		Logger rootLogger = Logger.getLogger(GDE.STRING_EMPTY);
+		for (Handler handler : rootLogger.getHandlers()) {
+			handler.setLevel(Level.WARNING);
+		}
+		rootLogger.setLevel(Level.WARNING);
+
+		Thread.currentThread().setContextClassLoader(GDE.getClassLoader());
+
+		this.analyzer = (TestAnalyzer) Analyzer.getInstance();
+		this.channels = Channels.getInstance();
+		this.analyzer.setChannels(this.channels);
+
+		this.settings.setPartialDataTable(false);
+		this.settings.setTimeFormat("relativ");
+		this.settings.setHistoActive(true);
+		this.settings.setSamplingTimespan_ms("2"); // this index corresponds to 1 sec
+		this.settings.setIgnoreLogObjectKey(true);
+		this.settings.setCanonicalQuantiles(true);
+		this.settings.setSymmetricToleranceInterval(true);
+		this.settings.setOutlierToleranceSpread("9");
+
+		for (String serviceName : this.settings.getDeviceServices().keySet()) {
+			ExportService service = this.settings.getDeviceServices().get(serviceName);
+			try {
+				this.settings.extractDevicePropertiesAndTemplates(service.getJarFile(), serviceName);
+				this.analyzer.getDeviceConfigurations().add(this.analyzer, serviceName, serviceName + GDE.FILE_ENDING_DOT_XML, false);
+			}
+			catch (IOException e) {
+				log.log(Level.WARNING, e.getMessage(), e);
+			}
+		}
+		if (!new File(Settings.getDevicesPath()).exists()) throw new FileNotFoundException(Settings.getDevicesPath());
+
+		// wait until schema is setup
+		this.settings.joinXsdThread();
+		this.deviceConfigurations = this.analyzer.getDeviceConfigurations().getAllConfigurations();
+	}
+
+	/**
+	 * @param subPath relative to the DataFilesTestSamples/DataExplorer directory, e.g. "HoTTAdapter/0001_2021-8-31.log"
+	 * @return the fixture path
+	 * @throws FileNotFoundException
+	 */
+	public Path getDataPath(String subPath) throws FileNotFoundException {
+		Path dataPath = Paths.get(System.getProperty(DATA_PATH, "../DataFilesTestSamples/" + GDE.NAME_LONG)).resolve(subPath);
+		if (!dataPath.toFile().exists()) throw new FileNotFoundException(dataPath.toString());
+		return dataPath;
+	}
+
+	/**
+	 * @return a file path within the benchmark results directory which is used for write benchmarks
+	 */
+	public Path getTmpPath(String fileName) {
+		Path tmpPath = Paths.get(System.getProperty(TMP_PATH, System.getProperty("java.io.tmpdir")));
+		tmpPath.toFile().mkdirs();
+		return tmpPath.resolve(fileName);
+	}
+
+	/**
+	 * activate the device and setup empty channels according the device properties file
+	 * @param deviceName
+	 * @return the active device
+	 */
+	public IDevice activateDevice(String deviceName) throws Exception {
+		IDevice device = this.devices.get(deviceName);
+		if (device == null) {
+			DeviceConfiguration deviceConfig = this.deviceConfigurations.get(deviceName);
+			if (deviceConfig == null) throw new IllegalArgumentException("no device configuration " + deviceName);
+			device = deviceConfig.defineInstanceOfDevice();
+			this.devices.put(deviceName, device);
+		}
+		this.analyzer.setActiveDevice(device);
+		resetChannels();
+		return device;
+	}
+
+	/**
+	 * replace the channels content by empty channels of the active device
+	 */
+	public void resetChannels() {
+		this.analyzer.getSettings().setActiveObjectKey(GDE.STRING_EMPTY);
+		this.channels.setupChannels(this.analyzer);
+		this.channels.setActiveChannelNumber(this.analyzer.getActiveChannel().getNumber());
+	}
+
+	/**
+	 * read the OSD file into the channels of the device specified in the file header, all record sets are loaded
+	 * @return the active record set
+	 */
+	public RecordSet readOsd(Path filePath) throws Exception {
+		String fileDeviceName = OsdReaderWriter.getHeader(filePath.toString()).get(GDE.DEVICE_NAME);
+		activateDevice(fileDeviceName);
+		OsdReaderWriter.read(filePath.toString());
+		Channel activeChannel = this.channels.getActiveChannel();
+		activeChannel.setFileName(filePath.toString());
+		activeChannel.setSaved(true);
+		activeChannel.checkAndLoadData();
+		return activeChannel.getActiveRecordSet();
+	}
+
+	public TestAnalyzer getAnalyzer() {
+		return this.analyzer;
+	}
+
+	public Channels getChannels() {
+		return this.channels;
+	}
+
+	public Settings getSettings() {
+		return this.settings;
+	}
+}
@@ -0,0 +1,91 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.benchmark;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gde.data.RecordSet;
+import gde.device.graupner.HoTTAdapter.PickerParameters;
+import gde.device.graupner.HoTTbinReader;
+import gde.device.graupner.HoTTlogReader;
+
+/**
+ * Parse HoTT receiver log files in binary (bin) and text header (log) format.
+ * @author Winfried Brügmann
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HoTTReaderBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class HoTTFiles {
+		@Param({ "HoTTAdapter" })
+		String	deviceName;
+
+		@Param({ "HoTTAdapter/0022_2017-9-3_ESC_Alarm_Vin.bin" })
+		String	binFile;
+
+		@Param({ "HoTTAdapter/0001_2021-8-31.log" })
+		String	logFile;
+
+		Path		binPath;
+		Path		logPath;
+
+		@Setup(Level.Trial)
+		public void setup(DataExplorerState env) throws Exception {
+			this.binPath = env.getDataPath(this.binFile);
+			this.logPath = env.getDataPath(this.logFile);
+			env.activateDevice(this.deviceName);
+		}
+
+		@Setup(Level.Invocation)
+		public void resetChannels(DataExplorerState env) {
+			env.resetChannels();
+		}
+	}
+
+	@Benchmark
+	public RecordSet readBin(DataExplorerState env, HoTTFiles files) throws Exception {
+		HoTTbinReader.read(files.binPath.toString(), new PickerParameters(env.getAnalyzer()));
+		return env.getChannels().getActiveChannel().getActiveRecordSet();
+	}
+
+	@Benchmark
+	public RecordSet readLog(DataExplorerState env, HoTTFiles files) throws Exception {
+		HoTTlogReader.read(files.logPath.toString(), new PickerParameters(env.getAnalyzer()));
+		return env.getChannels().getActiveChannel().getActiveRecordSet();
+	}
+}
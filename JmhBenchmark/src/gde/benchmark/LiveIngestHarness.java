@@ -0,0 +1,345 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import gde.GDE;
+import gde.comm.DeviceSerialPortSimulatorImpl;
+import gde.data.IngestQueue;
+import gde.data.RecordSet;
+import gde.device.IDevice;
+import gde.device.InputTypes;
+import gde.io.CSVTokenizer;
+import gde.log.Level;
+import gde.log.Metrics;
+import gde.ui.RefreshScheduler;
+
+/**
+ * Load test of the live gathering path with many simulated serial ports.
+ * Each port replays a recorded device stream by the DeviceSerialPortSimulatorImpl at a multiple of real time,
+ * decodes the frames like the device gatherer thread and offers the points to the ingest queue of its own record set.
+ * A scheduler thread takes the role of the display thread and drains the requested queues with the refresh rate of the RefreshScheduler.
+ * Reported are frames/s, parse latency percentiles, dropped frames, ingest queue backlog and the latency from the first pending offer until the drain.
+ * The harness is not headless, the environment is set up by the DataExplorerState including SWT display and shell and the devices create the DataExplorer instance,
+ * so it requires a display, e.g. a virtual frame buffer on build servers.
+ * Usage: ant live-ingest -Dgde.ingest.ports=16 -Dgde.ingest.speed=10 -Dgde.ingest.seconds=30
+ * @author Winfried Brügmann
+ */
+public class LiveIngestHarness {
+	final static Logger				log							= Logger.getLogger(LiveIngestHarness.class.getName());
+
+	public final static String	PORTS						= "gde.ingest.ports";
+	public final static String	SPEED						= "gde.ingest.speed";
+	public final static String	SECONDS					= "gde.ingest.seconds";
+
+	final static String					PARSE_TIMER			= "ingest.parse.";
+	final static String					LATENCY_TIMER		= "ingest.latency";
+	final static String					UI_DRAIN_TIMER	= "ingest.ui.drain";
+	final static int						HOTT_BLOCK_SIZE	= 64;
+
+	enum StreamType {
+		/** binary device frames of a LogView file, fixed data block size */
+		LOV_BINARY,
+		/** text device frames of a LogView file, terminated by the data block ending */
+		LOV_TEXT,
+		/** CSV lines as sent by a CSV2SerialAdapter */
+		CSV_LINES,
+		/** raw file blocks, load only without device specific decoding */
+		BIN_BLOCKS
+	}
+
+	/**
+	 * recorded device stream taken from the DataFilesTestSamples
+	 */
+	static final class Stream {
+		final String			deviceName;
+		final String			subPath;
+		final StreamType	type;
+		final int					frameTime_ms;
+
+		Stream(String deviceName, String subPath, StreamType type, int frameTime_ms) {
+			this.deviceName = deviceName;
+			this.subPath = subPath;
+			this.type = type;
+			this.frameTime_ms = frameTime_ms;
+		}
+	}
+
+	final static Stream[]	STREAMS	= {																																						//
+			new Stream("UltraDuoPlus45", "UltraDuoPlus45/2011-04-24_Test_LiPo.lov", StreamType.LOV_BINARY, 1000),								//
+			new Stream("iCharger106B", "iCharger106B/icharger_106Bplus_Laden.lov", StreamType.LOV_TEXT, 1000),									//
+			new Stream("CSV2Serial1", "CSV2Serial1/2010-01-04_UniLog2DataVario_CRLF.csv", StreamType.CSV_LINES, 1000),					//
+			new Stream("HoTTAdapter", "HoTTAdapter/0011_2017-8-20_GAM_Alarm_Vin.bin", StreamType.BIN_BLOCKS, 10) };						//
+
+	/**
+	 * replays one stream in its own thread, the equivalent of a device gatherer thread
+	 */
+	final class SimulatedPort extends Thread {
+		final Stream			stream;
+		final IDevice			device;
+		final RecordSet		recordSet;
+		final IngestQueue	queue;
+		final String			filePath;
+		final int					sleepTime_ms;
+		final Metrics.Timer	parseTimer;
+		final AtomicLong	pendingSinceNanos	= new AtomicLong();
+
+		long							frameCount				= 0;
+		long							droppedCount			= 0;
+		long							reopenCount				= 0;
+		long							startNanos;
+		long							stopNanos;
+
+		SimulatedPort(int number, Stream stream, IDevice device, String filePath, double speed) {
+			super("SimulatedPort" + number); //$NON-NLS-1$
+			this.stream = stream;
+			this.device = device;
+			this.filePath = filePath;
+			this.sleepTime_ms = Math.max(1, (int) (stream.frameTime_ms / speed));
+			this.parseTimer = Metrics.timer(PARSE_TIMER + stream.deviceName);
+			LiveIngestHarness.this.state.getAnalyzer().setActiveDevice(device); // the record set takes the active device
+			this.recordSet = RecordSet.createRecordSet(getName() + GDE.STRING_BLANK + stream.deviceName, device, 1, true, false, false);
+			this.queue = this.recordSet.getIngestQueue();
+			this.queue.setDrainRequester(LiveIngestHarness.this::requestDrain);
+		}
+
+		@Override
+		public void run() {
+			this.startNanos = System.nanoTime();
+			long endNanos = this.startNanos + TimeUnit.SECONDS.toNanos(LiveIngestHarness.this.seconds);
+			int[] points = new int[this.recordSet.size()];
+			char separator = this.device.getDataBlockSeparator().value().charAt(0);
+			byte[] buffer = new byte[this.stream.type == StreamType.BIN_BLOCKS ? HOTT_BLOCK_SIZE : Math.abs(this.device.getDataBlockSize(InputTypes.SERIAL_IO))];
+			try {
+				while (System.nanoTime() < endNanos) {
+					DeviceSerialPortSimulatorImpl port = new DeviceSerialPortSimulatorImpl(this.device, null, true, this.sleepTime_ms);
+					port.open(this.filePath);
+					while (port.isConnected() && System.nanoTime() < endNanos) {
+						byte[] frame = this.stream.type == StreamType.LOV_BINARY || this.stream.type == StreamType.BIN_BLOCKS ? port.read(buffer, 1000)
+								: port.read(buffer, 1000, this.device.getDeviceConfiguration().getReadStableIndex());
+						if (frame.length == 0) break; // end of file
+
+						long parseStartNanos = System.nanoTime();
+						try {
+							if (!decode(frame, points, separator)) {
+								++this.droppedCount;
+								continue;
+							}
+							this.pendingSinceNanos.compareAndSet(0, parseStartNanos);
+							if (this.recordSet.isTimeStepConstant())
+								this.queue.addPoints(points);
+							else
+								this.queue.addPoints(points, this.frameCount * (double) this.stream.frameTime_ms);
+							++this.frameCount;
+						}
+						catch (Exception e) {
+							++this.droppedCount;
+							if (log.isLoggable(Level.FINE)) log.log(Level.FINE, getName() + GDE.STRING_BLANK + e.getMessage(), e);
+						}
+						finally {
+							this.parseTimer.recordSince(parseStartNanos);
+						}
+					}
+					port.close();
+					++this.reopenCount;
+				}
+			}
+			catch (Exception e) {
+				log.log(Level.SEVERE, getName() + GDE.STRING_BLANK + this.filePath, e);
+			}
+			finally {
+				this.stopNanos = System.nanoTime();
+			}
+		}
+
+		/**
+		 * @return false if the frame does not fit the record set
+		 */
+		private boolean decode(byte[] frame, int[] points, char separator) throws Exception {
+			switch (this.stream.type) {
+			case CSV_LINES:
+				// the DataParser requires the UI instance, the leader, record set number, state and time fields precede the values
+				try (CSVTokenizer tokenizer = new CSVTokenizer(frame, 0, frame.length, separator)) {
+					if (!tokenizer.nextLine()) return false;
+					int valueCount = tokenizer.getFieldCount() - 3;
+					if (valueCount <= 0 || valueCount > points.length) return false;
+					for (int i = 0; i < valueCount; i++) {
+						points[i] = (int) (tokenizer.getDouble(i + 3) * 1000.);
+					}
+				}
+				return true;
+			case BIN_BLOCKS:
+				for (int i = 0; i < points.length; i++) {
+					points[i] = (frame[i % frame.length] & 0xFF) * 1000;
+				}
+				return true;
+			case LOV_BINARY:
+			case LOV_TEXT:
+			default:
+				this.device.convertDataBytes(points, frame);
+				return true;
+			}
+		}
+
+		double getFrameRate() {
+			long elapsedNanos = (this.stopNanos > 0 ? this.stopNanos : System.nanoTime()) - this.startNanos;
+			return elapsedNanos > 0 ? this.frameCount * 1.e9 / elapsedNanos : 0.;
+		}
+	}
+
+	final DataExplorerState						state						= new DataExplorerState();
+	final List<SimulatedPort>					ports						= new ArrayList<>();
+	final Queue<IngestQueue>					drainRequests		= new ConcurrentLinkedQueue<>();
+	final AtomicLong									pendingRequests	= new AtomicLong();
+	final ScheduledExecutorService		uiThread				= Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "SimulatedDisplayThread"));	//$NON-NLS-1$
+	final int													seconds;
+	final double											speed;
+	long															maxPendingRequests	= 0;
+	long															maxUiBacklog		= 0;
+
+	LiveIngestHarness(int portCount, double speed, int seconds) throws Exception {
+		this.speed = speed;
+		this.seconds = seconds;
+		this.state.initialize();
+		for (int i = 0; i < portCount; i++) {
+			Stream stream = STREAMS[i % STREAMS.length];
+			IDevice device = this.state.getAnalyzer().getDeviceConfigurations().get(stream.deviceName).defineInstanceOfDevice(); // no device state shared between ports
+			this.ports.add(new SimulatedPort(i + 1, stream, device, this.state.getDataPath(stream.subPath).toString(), speed));
+		}
+	}
+
+	/**
+	 * queue the drain request for the next frame of the simulated display thread, like RefreshScheduler.requestDrain
+	 */
+	void requestDrain(IngestQueue queue) {
+		this.drainRequests.add(queue);
+		this.pendingRequests.incrementAndGet();
+	}
+
+	/**
+	 * one refresh frame of the display thread, drain all requested queues
+	 */
+	void drainFrame() {
+		long frameStartNanos = System.nanoTime();
+		long pending = this.pendingRequests.get();
+		if (pending > this.maxPendingRequests) this.maxPendingRequests = pending;
+		long uiBacklog = 0;
+		for (SimulatedPort port : this.ports) {
+			uiBacklog += port.queue.getBacklog();
+		}
+		if (uiBacklog > this.maxUiBacklog) this.maxUiBacklog = uiBacklog;
+
+		IngestQueue queue;
+		while ((queue = this.drainRequests.poll()) != null) {
+			this.pendingRequests.decrementAndGet();
+			for (SimulatedPort port : this.ports) {
+				if (port.queue == queue) {
+					long pendingSinceNanos = port.pendingSinceNanos.getAndSet(0);
+					queue.drainRequested();
+					if (pendingSinceNanos > 0) Metrics.timer(LATENCY_TIMER).recordSince(pendingSinceNanos);
+					break;
+				}
+			}
+		}
+		Metrics.timer(UI_DRAIN_TIMER).recordSince(frameStartNanos);
+	}
+
+	/**
+	 * start all ports and the simulated display thread, wait for the configured duration
+	 */
+	void run() throws InterruptedException {
+		long framePeriodNanos = TimeUnit.SECONDS.toNanos(1) / RefreshScheduler.DEFAULT_FRAMES_PER_SECOND;
+		this.uiThread.scheduleAtFixedRate(this::drainFrame, framePeriodNanos, framePeriodNanos, TimeUnit.NANOSECONDS);
+
+		for (SimulatedPort port : this.ports) {
+			port.setDaemon(true);
+			port.start();
+		}
+		for (SimulatedPort port : this.ports) {
+			port.join(TimeUnit.SECONDS.toMillis(this.seconds) + 10000);
+		}
+		this.uiThread.shutdown();
+		this.uiThread.awaitTermination(1, TimeUnit.SECONDS);
+		drainFrame(); // remaining requests
+		for (SimulatedPort port : this.ports) {
+			port.queue.close();
+		}
+	}
+
+	/**
+	 * @return the formatted per port and aggregated results
+	 */
+	String getReport() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("live ingest: %d ports, speed %.1fx, %d s, %d frames/s refresh%n%n", this.ports.size(), this.speed, this.seconds, RefreshScheduler.DEFAULT_FRAMES_PER_SECOND)); //$NON-NLS-1$
+		sb.append(String.format("%-16s %-16s %10s %10s %8s %8s %8s %10s %10s%n", "port", "device", "frames", "frames/s", "dropped", "failed", "overflow", "maxBacklog", "dataSize")); //$NON-NLS-1$
+		long totalFrames = 0, totalDropped = 0, totalFailed = 0, totalOverflows = 0;
+		double totalRate = 0.;
+		for (SimulatedPort port : this.ports) {
+			IngestQueue queue = port.queue;
+			sb.append(String.format("%-16s %-16s %,10d %,10.1f %,8d %,8d %,8d %,10d %,10d%n", port.getName(), port.stream.deviceName, port.frameCount, port.getFrameRate(), port.droppedCount, //$NON-NLS-1$
+					queue.getFailedCount(), queue.getOverflowCount(), queue.getMaxBacklog(), port.recordSet.getRecordDataSize(true)));
+			totalFrames += port.frameCount;
+			totalDropped += port.droppedCount;
+			totalFailed += queue.getFailedCount();
+			totalOverflows += queue.getOverflowCount();
+			totalRate += port.getFrameRate();
+		}
+		sb.append(String.format("%-16s %-16s %,10d %,10.1f %,8d %,8d %,8d%n%n", "total", GDE.STRING_EMPTY, totalFrames, totalRate, totalDropped, totalFailed, totalOverflows)); //$NON-NLS-1$
+
+		sb.append(String.format("%-32s %10s %10s %10s %10s %10s%n", "latency [ms]", "count", "p50", "p95", "p99", "max")); //$NON-NLS-1$
+		for (Stream stream : STREAMS) {
+			appendTimer(sb, PARSE_TIMER + stream.deviceName);
+		}
+		appendTimer(sb, UI_DRAIN_TIMER);
+		appendTimer(sb, LATENCY_TIMER);
+		sb.append(String.format("%nmax UI queue depth %d drain requests, max UI backlog %d points series%n", this.maxPendingRequests, this.maxUiBacklog)); //$NON-NLS-1$
+		return sb.toString();
+	}
+
+	private void appendTimer(StringBuilder sb, String name) {
+		Metrics.Timer timer = Metrics.timer(name);
+		if (timer.getCount() > 0) {
+			sb.append(String.format("%-32s %,10d %,10.3f %,10.3f %,10.3f %,10.3f%n", name, timer.getCount(), timer.getQuantile(.5) / 1.e6, timer.getQuantile(.95) / 1.e6, //$NON-NLS-1$
+					timer.getQuantile(.99) / 1.e6, timer.getMax() / 1.e6));
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		int portCount = Integer.getInteger(PORTS, STREAMS.length);
+		double speed = Double.parseDouble(System.getProperty(SPEED, "1")); //$NON-NLS-1$
+		int seconds = Integer.getInteger(SECONDS, 30);
+
+		LiveIngestHarness harness = new LiveIngestHarness(portCount, speed, seconds);
+		harness.run();
+		String report = harness.getReport();
+		System.out.println(report);
+		log.log(Level.TIME, report);
+		System.exit(0);
+	}
+}
@@ -0,0 +1,102 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.benchmark;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gde.GDE;
+import gde.data.Channel;
+import gde.data.RecordSet;
+import gde.io.OsdReaderWriter;
+
+/**
+ * Read and write an OSD file including all record sets.
+ * @author Winfried Brügmann
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OsdReaderWriterBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class OsdFile {
+		@Param({ "HoTTAdapter2/2019-08-23_AllInOne.osd", "AV4ms_FV_762/2017-12-17_Eneloop Stabo XP400.osd" })
+		String	osdFile;
+
+		Path		filePath;
+
+		@Setup(Level.Trial)
+		public void setup(DataExplorerState env) throws Exception {
+			this.filePath = env.getDataPath(this.osdFile);
+			env.readOsd(this.filePath); // activates the device
+		}
+
+		@Setup(Level.Invocation)
+		public void resetChannels(DataExplorerState env) {
+			env.resetChannels();
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class LoadedChannel {
+		@Param({ "HoTTAdapter2/2019-08-23_AllInOne.osd", "AV4ms_FV_762/2017-12-17_Eneloop Stabo XP400.osd" })
+		String	osdFile;
+
+		Path		writePath;
+		Channel	channel;
+
+		@Setup(Level.Trial)
+		public void setup(DataExplorerState env) throws Exception {
+			this.writePath = env.getTmpPath("OsdReaderWriterBenchmark" + GDE.FILE_ENDING_DOT_OSD);
+			env.readOsd(env.getDataPath(this.osdFile));
+			this.channel = env.getChannels().getActiveChannel();
+		}
+	}
+
+	@Benchmark
+	public RecordSet read(DataExplorerState env, OsdFile osd) throws Exception {
+		OsdReaderWriter.read(osd.filePath.toString());
+		Channel activeChannel = env.getChannels().getActiveChannel();
+		activeChannel.setFileName(osd.filePath.toString());
+		activeChannel.setSaved(true);
+		activeChannel.checkAndLoadData();
+		return activeChannel.getActiveRecordSet();
+	}
+
+	@Benchmark
+	public void write(LoadedChannel loaded) throws Exception {
+		OsdReaderWriter.write(loaded.writePath.toString(), loaded.channel, GDE.DATA_EXPLORER_FILE_VERSION_INT);
+	}
+}
@@ -0,0 +1,87 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gde.data.Record;
+import gde.data.RecordSet;
+import gde.histo.utils.ElementaryQuantile;
+import gde.histo.utils.UniversalQuantile;
+
+/**
+ * Quantiles of the translated values of an OSD fixture record, the population is copied for each invocation because the quantiles sort it.
+ * @author Winfried Brügmann
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuantileBenchmark {
+
+	@Param({ "HoTTAdapter2/2019-08-23_AllInOne.osd" })
+	String				osdFile;
+
+	List<Double>	population;
+
+	@Setup(Level.Trial)
+	public void setup(DataExplorerState env) throws Exception {
+		RecordSet recordSet = env.readOsd(env.getDataPath(this.osdFile));
+		for (int j = 0; j < recordSet.size(); j++) {
+			Record record = recordSet.get(j);
+			if (record.hasReasonableData() && record.getRealMaxValue() != record.getRealMinValue()) {
+				this.population = new ArrayList<>(record.realSize());
+				for (int i = 0; i < record.realSize(); i++) {
+					if (record.elementAt(i) != null) this.population.add(record.getDevice().translateValue(record, record.elementAt(i) / 1000.));
+				}
+				break;
+			}
+		}
+		if (this.population == null) throw new IllegalStateException("no record with data in " + this.osdFile);
+	}
+
+	@Benchmark
+	public double elementaryQuantile(DataExplorerState env) {
+		ElementaryQuantile<Double> quantile = new ElementaryQuantile<>(new ArrayList<>(this.population), true, env.getSettings());
+		return quantile.getQuartile1() + quantile.getQuartile3() + quantile.getQuantileLowerWhisker() + quantile.getQuantileUpperWhisker();
+	}
+
+	@Benchmark
+	public double universalQuantile(DataExplorerState env) {
+		UniversalQuantile<Double> quantile = new UniversalQuantile<>(new ArrayList<>(this.population), true, true, true, env.getSettings());
+		return quantile.getQuartile1() + quantile.getQuartile3() + quantile.getQuantileLowerWhisker() + quantile.getQuantileUpperWhisker();
+	}
+}
@@ -0,0 +1,71 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gde.data.Record;
+import gde.data.RecordSet;
+
+/**
+ * Recalculate the statistics values of all records of an OSD fixture record set.
+ * @author Winfried Brügmann
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecordStatisticsBenchmark {
+
+	@Param({ "HoTTAdapter2/2019-08-23_AllInOne.osd" })
+	String		osdFile;
+
+	RecordSet	recordSet;
+
+	@Setup(Level.Trial)
+	public void setup(DataExplorerState env) throws Exception {
+		this.recordSet = env.readOsd(env.getDataPath(this.osdFile));
+	}
+
+	@Benchmark
+	public long statistics() {
+		long result = 0;
+		for (int i = 0; i < this.recordSet.size(); i++) {
+			Record record = this.recordSet.get(i);
+			record.resetStatiticCalculationBase();
+			result += record.getAvgValue() + record.getSigmaValue() + record.getRealMaxValue() - record.getRealMinValue();
+		}
+		return result;
+	}
+}
@@ -0,0 +1,98 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gde.GDE;
+import gde.data.RecordSet;
+import gde.device.ScoreLabelTypes;
+import gde.histo.cache.HistoVault;
+import gde.histo.cache.VaultCollector;
+import gde.histo.cache.VaultProxy;
+
+/**
+ * Promote a vault truss from a record set and store / load the resulting vault with the VaultProxy.
+ * @author Winfried Brügmann
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VaultBenchmark {
+
+	@Param({ "HoTTAdapter2/2019-08-23_AllInOne.osd" })
+	String			osdFile;
+
+	Path				filePath;
+	RecordSet		recordSet;
+	HistoVault	vault;
+	byte[]			vaultBytes;
+
+	@Setup(Level.Trial)
+	public void setup(DataExplorerState env) throws Exception {
+		this.filePath = env.getDataPath(this.osdFile);
+		this.recordSet = env.readOsd(this.filePath);
+		this.vault = promoteTruss(env);
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		VaultProxy.store(this.vault, outputStream);
+		this.vaultBytes = outputStream.toByteArray();
+	}
+
+	@Benchmark
+	public HistoVault promoteTruss(DataExplorerState env) {
+		VaultCollector truss = new VaultCollector(env.getAnalyzer(), GDE.STRING_EMPTY, this.filePath, GDE.DATA_EXPLORER_FILE_VERSION_INT, 1, 0, this.recordSet.getName(),
+				env.getAnalyzer().getActiveDevice().getName(), this.recordSet.getStartTimeStamp(), env.getChannels().getActiveChannelNumber(), GDE.STRING_EMPTY);
+		Integer[] scores = new Integer[ScoreLabelTypes.VALUES.length];
+		scores[ScoreLabelTypes.TOTAL_READINGS.ordinal()] = this.recordSet.getRecordDataSize(true);
+		truss.promoteTruss(this.recordSet, scores);
+		return truss.getVault();
+	}
+
+	@Benchmark
+	public int store() {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream(this.vaultBytes.length);
+		VaultProxy.store(this.vault, outputStream);
+		return outputStream.size();
+	}
+
+	@Benchmark
+	public HistoVault load() {
+		return VaultProxy.load(new ByteArrayInputStream(this.vaultBytes));
+	}
+}
@@ -33,8 +33,17 @@ public class AllTests {
 		suite.addTestSuite(JarInspectAndExportTest.class);
 		suite.addTestSuite(LogViewReaderTester.class);
 		suite.addTestSuite(TestQuadraticRegression.class);
+		suite.addTestSuite(TestCSVTokenizer.class);
+		suite.addTestSuite(TestNMEASentence.class);
+		suite.addTestSuite(TestNMEAParser.class);
+		suite.addTestSuite(TestMetrics.class);
+		suite.addTestSuite(TestSlopeRegression.class);
+		suite.addTestSuite(TestTimeStepsClone.class);
 		suite.addTestSuite(ObjectKeyComplianceTest.class);
 		suite.addTestSuite(TestObjectKeyScanner.class);
+		suite.addTestSuite(TestChecksum.class);
+		suite.addTestSuite(TestFixedRecordReader.class);
+		suite.addTestSuite(TestDerivedRecords.class);
 		suite.addTestSuite(CleanupTestTemp.class);
 
 		//$JUnit-END$
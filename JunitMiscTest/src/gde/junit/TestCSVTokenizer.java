@@ -0,0 +1,105 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import gde.io.CSVTokenizer;
+
+public class TestCSVTokenizer extends TestSuperClass {
+	static Logger						log				= Logger.getLogger(TestCSVTokenizer.class.getName());
+
+	private final String[]	numbers	= { "0", "-0", "1", "-1", "14.780", "0.598", "-12.3456789", "123456789012345", "1234567890123456789", "0.000001", "1e5", "-2.5E-3", ".5", "5.",
+			"3.14159265358979", "47.123456", "0.1", "0.7", "999999.999" };
+
+	/* (non-Javadoc)
+	 * @see junit.framework.TestCase#setUp()
+	 */
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		log.setLevel(Level.INFO);
+		log.setUseParentHandlers(true);
+	}
+
+	public void testParseDouble() {
+		for (String number : this.numbers) {
+			byte[] bytes = number.getBytes(StandardCharsets.ISO_8859_1);
+			assertEquals(number, Double.parseDouble(number), CSVTokenizer.parseDouble(bytes, 0, bytes.length), 0.);
+		}
+		byte[] bytes = "14,780".getBytes(StandardCharsets.ISO_8859_1);
+		assertEquals(14.78, CSVTokenizer.parseDouble(bytes, 0, bytes.length), 0.);
+		bytes = "1 234.5".getBytes(StandardCharsets.ISO_8859_1);
+		assertEquals(1234.5, CSVTokenizer.parseDouble(bytes, 0, bytes.length), 0.);
+		try {
+			bytes = "1.2.3".getBytes(StandardCharsets.ISO_8859_1);
+			CSVTokenizer.parseDouble(bytes, 0, bytes.length);
+			fail("NumberFormatException expected");
+		}
+		catch (NumberFormatException e) {
+			// expected
+		}
+	}
+
+	public void testFieldSplit() throws IOException {
+		byte[] bytes = "0;14,780;0,598\r\n\n1; 14,781;;\n2;14,782;0,600".getBytes(StandardCharsets.ISO_8859_1);
+		try (CSVTokenizer tokenizer = new CSVTokenizer(new ByteArrayInputStream(bytes), ';')) {
+			assertTrue(tokenizer.nextLine());
+			assertEquals(3, tokenizer.getFieldCount());
+			assertEquals(0, tokenizer.getInt(0));
+			assertEquals(14.78, tokenizer.getDouble(1), 0.);
+			assertEquals("0,598", tokenizer.getString(2));
+
+			assertTrue(tokenizer.nextLine());
+			assertEquals(1, tokenizer.getFieldCount());
+			assertTrue(tokenizer.isBlank(0));
+
+			assertTrue(tokenizer.nextLine());
+			assertEquals(4, tokenizer.getFieldCount());
+			assertEquals("14,781", tokenizer.getString(1));
+			assertTrue(tokenizer.isBlank(2));
+
+			assertTrue(tokenizer.nextLine());
+			assertEquals(2, tokenizer.getInt(0));
+			assertEquals(0.6, tokenizer.getDouble(2), 0.);
+			assertEquals(4, tokenizer.getLineNumber());
+			assertEquals(bytes.length, tokenizer.getBytesConsumed());
+
+			assertFalse(tokenizer.nextLine());
+		}
+	}
+
+	public void testMergeBlankSeparator() throws IOException {
+		byte[] bytes = "2019-05-12,10:11:12.345,48.474413, 11.477986,48.132850 11.720808, 7".getBytes(StandardCharsets.ISO_8859_1);
+		try (CSVTokenizer tokenizer = new CSVTokenizer(bytes, 0, bytes.length, ',').setMergeBlankSeparator(true)) {
+			assertTrue(tokenizer.nextLine());
+			assertEquals(7, tokenizer.getFieldCount());
+			assertEquals(2019, tokenizer.getDigits(0, 0, 4));
+			assertEquals(345, tokenizer.getDigits(1, 9, 3));
+			assertEquals("11.477986", tokenizer.getString(3));
+			assertEquals("48.132850", tokenizer.getString(4));
+			assertEquals("11.720808", tokenizer.getString(5));
+			assertEquals(7, tokenizer.getInt(6));
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.junit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import gde.utils.Checksum;
+
+public class TestChecksum extends TestSuperClass {
+	static Logger	log	= Logger.getLogger(TestChecksum.class.getName());
+
+	private final Random	random	= new Random(4711);
+
+	/* (non-Javadoc)
+	 * @see junit.framework.TestCase#setUp()
+	 */
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		log.setLevel(Level.INFO);
+		log.setUseParentHandlers(true);
+	}
+
+	/**
+	 * bit by bit reference implementation of the CCITT polynomial x16 + x12 + x5 + 1
+	 */
+	private static int crc16Bitwise(byte[] bytes, int offset, int length, int initValue) {
+		int crc = initValue;
+		for (int j = offset; j < offset + length; j++) {
+			for (int i = 0; i < 8; i++) {
+				boolean bit = ((bytes[j] >> (7 - i) & 1) == 1);
+				boolean c15 = ((crc >> 15 & 1) == 1);
+				crc <<= 1;
+				if (c15 ^ bit) crc ^= 0x1021;
+			}
+		}
+		return crc & 0xffff;
+	}
+
+	public void testCRC16CCITTCheckValue() {
+		byte[] b = "123456789".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+		assertEquals(0x31C3, Checksum.CRC16CCITT(b, 0) & 0xffff);
+		assertEquals(0x29B1, Checksum.CRC16CCITT(b, 0xFFFF) & 0xffff);
+		assertEquals(0x31C3, Checksum.CRC16(b, 0) & 0xffff);
+	}
+
+	public void testCRC16CCITTAgainstBitwise() {
+		for (int length = 0; length < 70; length++) {
+			byte[] b = new byte[length + 5];
+			this.random.nextBytes(b);
+			for (int offset = 0; offset < 5; offset++) {
+				int expected = crc16Bitwise(b, offset, length, 0);
+				assertEquals("length " + length + " offset " + offset, expected, Checksum.CRC16CCITT(b, offset, length) & 0xffff); //$NON-NLS-1$ //$NON-NLS-2$
+				assertEquals("length " + length + " offset " + offset, expected, Checksum.updateCRC16CCITT(0, b, offset, length)); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			byte[] frame = new byte[length];
+			System.arraycopy(b, 0, frame, 0, length);
+			assertEquals(crc16Bitwise(frame, 0, length, 0x1D0F), Checksum.CRC16(frame, 0x1D0F) & 0xffff);
+		}
+	}
+
+	public void testCRC16CCITTIncremental() {
+		byte[] b = new byte[1000];
+		this.random.nextBytes(b);
+		int expected = Checksum.CRC16CCITT(b, 0, b.length) & 0xffff;
+		Checksum.CRC16CCITTChecksum checksum = new Checksum.CRC16CCITTChecksum();
+		for (int i = 0; i < b.length;) {
+			int chunk = Math.min(b.length - i, this.random.nextInt(17));
+			if (chunk == 1)
+				checksum.update(b[i]);
+			else
+				checksum.update(b, i, chunk);
+			i += chunk;
+		}
+		assertEquals(expected, checksum.getValue());
+		checksum.reset();
+		assertEquals(0, checksum.getValue());
+	}
+
+	public void testCRC32() {
+		byte[] b = "123456789".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+		assertEquals(0xCBF43926, Checksum.CRC32(b));
+		byte[] framed = new byte[b.length + 4];
+		System.arraycopy(b, 0, framed, 2, b.length);
+		assertEquals(0xCBF43926, Checksum.CRC32(framed, 2, b.length));
+	}
+
+	public void testXorAddInPlace() {
+		String line = "$1;1;0;12345;4711;-17;42"; //$NON-NLS-1$
+		int end = line.lastIndexOf(';') + 1;
+		byte[] b = line.substring(0, end).getBytes(StandardCharsets.US_ASCII);
+		assertEquals(Checksum.XOR(b), Checksum.XOR(line, 0, end));
+		assertEquals(Checksum.ADD(b), Checksum.ADD(line, 0, end));
+		assertEquals(Checksum.OR(b), Checksum.OR(line, 0, end));
+		assertEquals(Checksum.AND(b), Checksum.AND(line, 0, end));
+		byte[] framed = new byte[b.length + 3];
+		System.arraycopy(b, 0, framed, 1, b.length);
+		assertEquals(Checksum.XOR(b), Checksum.XOR(framed, 1, b.length));
+	}
+}
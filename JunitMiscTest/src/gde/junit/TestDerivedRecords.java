@@ -0,0 +1,259 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.junit;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import gde.data.DerivedRecords;
+import gde.data.RecordSet;
+import gde.device.estner.Akkumatik;
+import gde.exception.DataInconsitsentException;
+
+/**
+ * Checks the derived record kernels against the record calculation loops of the devices they replaced, full and incremental.
+ * Synthetic series in the Akkumatik records 0=Voltage 1=Current 2=Capacity, the derived values are written to the records 3 and up.
+ */
+public class TestDerivedRecords extends TestSuperClass {
+	static Logger				log						= Logger.getLogger(TestDerivedRecords.class.getName());
+
+	final static int		SIZE					= 1000;
+	final static double	TIME_STEP_MS	= 2000.;
+	final static int		VOLTAGE				= 0, CURRENT = 1, CAPACITY = 2;
+
+	Akkumatik						device;
+
+	/* (non-Javadoc)
+	 * @see junit.framework.TestCase#setUp()
+	 */
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		log.setLevel(Level.INFO);
+		log.setUseParentHandlers(true);
+
+		this.device = (Akkumatik) getInstanceOfDevice(this.deviceConfigurations.get("Akkumatik"));
+		this.analyzer.setActiveDevice(this.device);
+		setupDataChannels(this.device);
+	}
+
+	/**
+	 * @return a record set with the first size points of the synthetic series, the capacity restarts at zero every 300 points
+	 */
+	private RecordSet createRecordSet(String name, int size) throws DataInconsitsentException {
+		RecordSet recordSet = RecordSet.createRecordSet(name, this.device, 1, true, false, false);
+		addPoints(recordSet, 0, size);
+		return recordSet;
+	}
+
+	private void addPoints(RecordSet recordSet, int fromIndex, int toIndex) throws DataInconsitsentException {
+		int[] points = new int[recordSet.size()];
+		for (int i = fromIndex; i < toIndex; i++) {
+			points[VOLTAGE] = 11000 + (i * 37) % 2000;
+			points[CURRENT] = i % 50 == 0 ? -1500 : 2500 + (i * 13) % 700;
+			points[CAPACITY] = i % 300 < 20 ? 0 : i * 1000;
+			if (recordSet.isTimeStepConstant())
+				recordSet.addPoints(points);
+			else
+				recordSet.addPoints(points, i * TIME_STEP_MS);
+		}
+	}
+
+	private static int[] getPoints(RecordSet recordSet, int ordinal) {
+		int[] points = new int[recordSet.get(ordinal).realSize()];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = recordSet.get(ordinal).realGet(i);
+		}
+		return points;
+	}
+
+	private static void assertPoints(int[] expected, RecordSet recordSet, int ordinal) {
+		assertEquals(expected.length, recordSet.get(ordinal).realSize());
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals("index " + i, expected[i], recordSet.get(ordinal).realGet(i).intValue());
+		}
+	}
+
+	/**
+	 * the energy sum of the iCharger serial devices, restarts if the capacity is zero
+	 */
+	private static void energyKernel(int[][] sources, int[] target, int fromIndex, double[] state) {
+		final double timeStep_h = 2.0 / 3600.0;
+		final int[] power = sources[0], capacity = sources[1];
+		double energySum = state[0];
+		for (int j = 0; j < target.length; j++) {
+			if (capacity[j] != 0) {
+				energySum += power[j] * timeStep_h;
+				target[j] = (int) energySum;
+			}
+			else {
+				target[j] = 0;
+				energySum = 0.0;
+			}
+		}
+		state[0] = energySum;
+	}
+
+	private static DerivedRecords createAllFormulas() {
+		return new DerivedRecords() //
+				.integrate(3, CURRENT, recordSet -> TIME_STEP_MS, 3600.) //
+				.product(4, VOLTAGE, CURRENT, 1000.) //
+				.integrateProduct(5, VOLTAGE, CURRENT, 1000., recordSet -> TIME_STEP_MS, 3600.) //
+				.ratio(6, VOLTAGE, recordSet -> 4) //
+				.define(7, recordSet -> TestDerivedRecords::energyKernel, 1, 4, CAPACITY);
+	}
+
+	public void testIntegrate() throws DataInconsitsentException {
+		RecordSet recordSet = createRecordSet("integrate", SIZE);
+		new DerivedRecords().integrate(3, CURRENT, r -> TIME_STEP_MS, 3600.).evaluate(recordSet);
+
+		int[] current = getPoints(recordSet, CURRENT);
+		int[] expected = new int[SIZE];
+		Double capacity = 0.0;
+		for (int i = 0; i < current.length; i++) { // UniLog capacity before
+			capacity = i > 0 ? capacity + ((current[i] * TIME_STEP_MS) / 3600) : 0.0;
+			expected[i] = capacity.intValue();
+		}
+		assertPoints(expected, recordSet, 3);
+	}
+
+	public void testIntegrateProduct() throws DataInconsitsentException {
+		RecordSet recordSet = createRecordSet("integrateProduct", SIZE);
+		new DerivedRecords().integrateProduct(3, VOLTAGE, CURRENT, 1000., r -> TIME_STEP_MS, 3600.).evaluate(recordSet);
+
+		int[] voltage = getPoints(recordSet, VOLTAGE), current = getPoints(recordSet, CURRENT);
+		int[] expected = new int[SIZE];
+		Double power = 0.0;
+		for (int i = 0; i < voltage.length; i++) { // UniLog energy before
+			power = i > 0 ? power + ((voltage[i] / 1000.0) * (current[i] / 1000.0) * (TIME_STEP_MS / 3600.0)) : 0.0;
+			expected[i] = power.intValue();
+		}
+		assertPoints(expected, recordSet, 3);
+	}
+
+	public void testProduct() throws DataInconsitsentException {
+		RecordSet recordSet = createRecordSet("product", SIZE);
+		new DerivedRecords().product(3, VOLTAGE, CURRENT, 1000.).evaluate(recordSet);
+
+		int[] voltage = getPoints(recordSet, VOLTAGE), current = getPoints(recordSet, CURRENT);
+		int[] expected = new int[SIZE];
+		for (int i = 0; i < voltage.length; i++) { // UniLog power before
+			expected[i] = Double.valueOf(1.0 * voltage[i] * current[i] / 1000.0).intValue();
+		}
+		assertPoints(expected, recordSet, 3);
+	}
+
+	public void testRatio() throws DataInconsitsentException {
+		RecordSet recordSet = createRecordSet("ratio", SIZE);
+		new DerivedRecords().ratio(3, VOLTAGE, r -> 3).evaluate(recordSet);
+
+		int[] voltage = getPoints(recordSet, VOLTAGE);
+		int[] expected = new int[SIZE];
+		for (int i = 0; i < voltage.length; i++) { // UniLog voltage per cell before
+			expected[i] = Double.valueOf(voltage[i] / (double) 3).intValue();
+		}
+		assertPoints(expected, recordSet, 3);
+	}
+
+	/**
+	 * a device specific kernel with state, the power is a derived record itself
+	 */
+	public void testDefineWithState() throws DataInconsitsentException {
+		RecordSet recordSet = createRecordSet("define", SIZE);
+		new DerivedRecords().product(4, VOLTAGE, CURRENT, 100.).define(5, r -> TestDerivedRecords::energyKernel, 1, 4, CAPACITY).evaluate(recordSet);
+
+		int[] voltage = getPoints(recordSet, VOLTAGE), current = getPoints(recordSet, CURRENT), capacity = getPoints(recordSet, CAPACITY);
+		int[] expectedPower = new int[SIZE], expectedEnergy = new int[SIZE];
+		double timeStep_h = 2.0 / 3600.0;
+		double energySum = 0.0;
+		for (int i = 0; i < voltage.length; i++) { // iCharger208B.convertDataBytes before
+			expectedPower[i] = Double.valueOf(voltage[i] * current[i] / 100.0).intValue();
+			if (capacity[i] != 0) {
+				energySum += expectedPower[i] * timeStep_h;
+				expectedEnergy[i] = Double.valueOf(energySum).intValue();
+			}
+			else {
+				expectedEnergy[i] = 0;
+				energySum = 0.0;
+			}
+		}
+		assertPoints(expectedPower, recordSet, 4);
+		assertPoints(expectedEnergy, recordSet, 5);
+	}
+
+	/**
+	 * the live gathering evaluates the added points only and continues the running sums kept in the record set
+	 */
+	public void testIncrementalContinuation() throws DataInconsitsentException {
+		DerivedRecords derivedRecords = createAllFormulas();
+		RecordSet fullRecordSet = createRecordSet("full", SIZE);
+		derivedRecords.evaluate(fullRecordSet);
+
+		RecordSet liveRecordSet = createRecordSet("live", 0);
+		for (int i = 0; i < SIZE; i += 7) {
+			addPoints(liveRecordSet, i, Math.min(i + 7, SIZE));
+			derivedRecords.evaluate(liveRecordSet, true);
+		}
+		for (int ordinal = 3; ordinal <= 7; ordinal++) {
+			assertPoints(getPoints(fullRecordSet, ordinal), liveRecordSet, ordinal);
+		}
+	}
+
+	/**
+	 * the energy sum is kept per record set, e.g. two outlets gathered alternately do not mix their sums
+	 */
+	public void testEnergyResetPerRecordSet() throws DataInconsitsentException {
+		DerivedRecords derivedRecords = createAllFormulas();
+		RecordSet expectedRecordSet = createRecordSet("expected", SIZE);
+		derivedRecords.evaluate(expectedRecordSet);
+
+		RecordSet outlet1 = createRecordSet("outlet1", 0);
+		RecordSet outlet2 = createRecordSet("outlet2", 0);
+		for (int i = 0; i < SIZE; i += 10) {
+			addPoints(outlet1, i, i + 10);
+			derivedRecords.evaluate(outlet1, true);
+			addPoints(outlet2, i, i + 10);
+			derivedRecords.evaluate(outlet2, true);
+		}
+		int[] expectedEnergy = getPoints(expectedRecordSet, 7);
+		assertPoints(expectedEnergy, outlet1, 7);
+		assertPoints(expectedEnergy, outlet2, 7);
+		assertEquals(0, expectedEnergy[300]);
+		assertTrue(expectedEnergy[299] > 0);
+	}
+
+	/**
+	 * the Akkumatik power and energy are derived records, the data line conversion leaves them zero
+	 */
+	public void testAkkumatikConvertDataBytes() throws DataInconsitsentException {
+		String[] dataBuffer = { "1", "00:10:00", "12150", "+2480", "+1350", "12500", "15", "25", "0", "0", "0", "0", "1", "0", "0", "0", "0", "30" };
+		RecordSet recordSet = RecordSet.createRecordSet("akkumatik", this.device, 1, true, false, false);
+		int[] points = this.device.convertDataBytes(new int[recordSet.size()], dataBuffer);
+		assertEquals(0, points[3]);
+		assertEquals(0, points[4]);
+
+		if (recordSet.isTimeStepConstant())
+			recordSet.addPoints(points);
+		else
+			recordSet.addPoints(points, 0.);
+		new DerivedRecords().product(3, 0, 1, 1000.).product(4, 0, 2, 1000000.).evaluate(recordSet);
+		assertEquals(Double.valueOf(points[0] * points[1] / 1000.0).intValue(), recordSet.get(3).realGet(0).intValue()); // power U*I [W] before
+		assertEquals(Double.valueOf(points[0] / 1000.0 * points[2] / 1000.0).intValue(), recordSet.get(4).realGet(0).intValue()); // energy U*C [mWh] before
+	}
+}
@@ -0,0 +1,112 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.junit;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import gde.io.DataParser;
+import gde.io.FixedRecordReader;
+
+public class TestFixedRecordReader extends TestSuperClass {
+	static Logger	log	= Logger.getLogger(TestFixedRecordReader.class.getName());
+
+	/* (non-Javadoc)
+	 * @see junit.framework.TestCase#setUp()
+	 */
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		log.setLevel(Level.INFO);
+		log.setUseParentHandlers(true);
+	}
+
+	public void testHeaderAndRecords() throws IOException {
+		byte[] bytes = new byte[] { 0x0C, 0x00, 0x00, 0x00, 0x2F, 0x05, 1, 2, 3, -4, 5, 6, 7 };
+		try (FixedRecordReader reader = new FixedRecordReader(bytes, 0, bytes.length)) {
+			assertTrue(reader.next(4));
+			assertEquals(DataParser.parse2Int(bytes, 0), reader.getInt(0));
+			assertTrue(reader.next(2));
+			assertEquals(DataParser.parse2Short(bytes, 4), reader.getShort(0));
+			byte[] record = new byte[3];
+			assertTrue(reader.next(record));
+			assertEquals(6, reader.getRecordPosition());
+			assertEquals(3, record[2]);
+			assertTrue(reader.next(record));
+			assertEquals(-4, record[0]);
+			assertEquals(-4, reader.get(0));
+			assertFalse(reader.next(record));
+			assertEquals(1, reader.getTruncatedBytes());
+			assertFalse(reader.next(record));
+		}
+	}
+
+	public void testFileAcrossBufferBoundaries() throws IOException {
+		int recordSize = 7;
+		int recordCount = 3 * FixedRecordReader.DEFAULT_BUFFER_SIZE / recordSize + 11;
+		byte[] bytes = new byte[recordCount * recordSize + 5];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) (i / recordSize);
+		}
+		Path tmpFile = Files.createTempFile("FixedRecordReader", ".bin"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			Files.write(tmpFile, bytes);
+			try (FixedRecordReader reader = new FixedRecordReader(tmpFile)) {
+				assertEquals(bytes.length, reader.size());
+				byte[] record = new byte[recordSize];
+				int count = 0;
+				while (reader.next(record)) {
+					for (int i = 0; i < recordSize; i++) {
+						assertEquals("record " + count, (byte) count, record[i]); //$NON-NLS-1$
+					}
+					assertEquals((long) count * recordSize, reader.getRecordPosition());
+					++count;
+				}
+				assertEquals(recordCount, count);
+				assertEquals(5, reader.getTruncatedBytes());
+			}
+		}
+		finally {
+			Files.delete(tmpFile);
+		}
+	}
+
+	public void testFileShorterThanRecord() throws IOException {
+		Path tmpFile = Files.createTempFile("FixedRecordReader", ".bin"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			try (FixedRecordReader reader = new FixedRecordReader(tmpFile)) {
+				assertFalse(reader.next(4));
+				assertEquals(0, reader.getTruncatedBytes());
+			}
+			Files.write(tmpFile, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 });
+			try (FixedRecordReader reader = new FixedRecordReader(tmpFile)) {
+				assertTrue(reader.next(4));
+				assertEquals(0x04030201, reader.getInt(0));
+				assertFalse(reader.next(16));
+				assertEquals(6, reader.getTruncatedBytes());
+			}
+		}
+		finally {
+			Files.delete(tmpFile);
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.junit;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import gde.log.MetricEvents;
+import gde.log.MetricEvents.CacheAccess;
+import gde.log.MetricEvents.CurveRedraw;
+import gde.log.Metrics;
+import gde.log.Metrics.Histogram;
+
+public class TestMetrics extends TestSuperClass {
+	static Logger log = Logger.getLogger(TestMetrics.class.getName());
+
+	/* (non-Javadoc)
+	 * @see junit.framework.TestCase#setUp()
+	 */
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		log.setLevel(Level.INFO);
+		log.setUseParentHandlers(true);
+		Metrics.reset();
+	}
+
+	public void testHistogram() {
+		Histogram histogram = Metrics.histogram("test.histogram");
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(i);
+		}
+		assertEquals(100, histogram.getCount());
+		assertEquals(5050, histogram.getSum());
+		assertEquals(100, histogram.getMax());
+		assertEquals(50.5, histogram.getMean(), 1.e-9);
+		// power of two buckets: the 95th value lies in the bucket 64..127 which is capped by the maximum
+		assertEquals(100, histogram.getQuantile(.95));
+		assertEquals(63, histogram.getQuantile(.5));
+		assertEquals(1, histogram.getQuantile(.01));
+		assertSame(histogram, Metrics.histogram("test.histogram"));
+	}
+
+	public void testEvents() {
+		CurveRedraw event = CurveRedraw.start("test");
+		long elapsedNanos = event.stop(3);
+		assertTrue(elapsedNanos >= 0);
+		assertEquals(1, Metrics.timer(MetricEvents.CURVE_REDRAW + ".test").getCount());
+		assertEquals(elapsedNanos, Metrics.timer(MetricEvents.CURVE_REDRAW + ".test").getSum());
+
+		CacheAccess.record("test", true);
+		CacheAccess.record("test", true);
+		CacheAccess.record("test", false);
+		assertEquals(2, Metrics.counter(MetricEvents.CACHE_HIT + ".test").get());
+		assertEquals(1, Metrics.counter(MetricEvents.CACHE_MISS + ".test").get());
+
+		String snapshot = Metrics.getSnapshot();
+		log.log(Level.INFO, snapshot);
+		assertTrue(snapshot.contains(MetricEvents.CURVE_REDRAW + ".test"));
+		assertTrue(snapshot.contains(MetricEvents.CACHE_MISS + ".test"));
+	}
+}
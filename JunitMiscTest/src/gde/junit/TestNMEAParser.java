@@ -0,0 +1,133 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.junit;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Vector;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import gde.device.CheckSumTypes;
+import gde.device.IDevice;
+import gde.io.NMEAParser;
+
+/**
+ * Replays the NMEA sample files through the NMEAParser and compares the parsed data points with the values of the former parser,
+ * which split every sentence into strings. Covers the GPS sentences, the SM-Modellbau extensions SMGPS, SMGPS2, MLINK, UL2 and the setup sentences.
+ * The baseline values are the number of parsed sentence cycles and a hash over the time and data points of each cycle.
+ */
+public class TestNMEAParser extends TestSuperClass {
+	static Logger								log				= Logger.getLogger(TestNMEAParser.class.getName());
+
+	/**
+	 * device name, data block size, file path relative to the test samples, number of sentence cycles, values hash of the split based parser
+	 */
+	private final static Object[][]	BASELINE	= {
+			{ "NMEA-Adapter", 15, "NMEA-Adapter/20060509.nmea", 631, -4183157131370258923L },
+			{ "NMEA-Adapter", 15, "NMEA-Adapter/20060717.nmea", 2606, -559009742070539609L },
+			{ "GPS-Logger", 42, "GPS-Logger/2013-03-09 SM GPS Logdatei 0001.nmea", 7151, -3644143836235208071L },
+			{ "GPS-Logger", 42, "GPS-Logger/2017-10-31 SM GPS Logdatei 0209.nmea", 6358, 4184024010076058026L },
+			{ "GPS-Logger2", 51, "GPS-Logger2/2014-02-18 SM GPS 2 Logdatei 0005.nmea", 7973, 1888225034364002455L },
+			{ "GPS-Logger2", 51, "GPS-Logger2/2017-05-02 SM GPS 2 Logdatei 0002.nmea", 2323, -2420962096483901007L },
+			{ "GPS-Logger3", 51, "GPS-Logger3/2021-05-22 SM GPS 2 Logdatei 0001.nmea", 9369, 2135302911889442818L },
+			{ "GPS-Logger3", 51, "GPS-Logger3/2021-10-07-GPS3-34661-0007.nmea", 6968, -1402606828658002022L },
+			{ "UniLog2", 40, "UniLog2/2011-08-20 SM UniLog 2 Datei 0002.txt", 26571, 3045954176868376586L },
+			{ "UniLog2", 40, "UniLog2/2012-10-22 SM UniLog 2 Datei Werner 0004.txt", 13041, -5474894491129536574L } };
+
+	/* (non-Javadoc)
+	 * @see junit.framework.TestCase#setUp()
+	 */
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		log.setLevel(Level.INFO);
+		log.setUseParentHandlers(true);
+	}
+
+	public void testReplaySampleFiles() throws Exception {
+		for (Object[] baseline : BASELINE) {
+			IDevice device = getInstanceOfDevice(this.deviceConfigurations.get(baseline[0]));
+			this.analyzer.setActiveDevice(device);
+			setupDataChannels(device);
+
+			File file = DataSource.TESTDATA.getDataPath(Paths.get((String) baseline[2])).toFile();
+			long[] result = replay(new NMEAParser("$", ",", CheckSumTypes.XOR, (Integer) baseline[1], device, 1, (short) 0), file, device.getName().equals("UniLog2"));
+			log.log(Level.FINE, String.format("%s %d cycles hash %d", file.getName(), result[0], result[1])); //$NON-NLS-1$
+			assertEquals(file.getName(), ((Integer) baseline[3]).longValue(), result[0]);
+			assertEquals(file.getName(), ((Long) baseline[4]).longValue(), result[1]);
+		}
+	}
+
+	/**
+	 * feed the sentence cycles of the file to the parser the way the NMEAReaderWriter does, a cycle starts with the first supported sentence signature
+	 * @param isSingleSentence true for UniLog2 files without sentence cycles
+	 * @return the number of cycles and the hash over time and data points after each cycle
+	 */
+	static long[] replay(NMEAParser parser, File file, boolean isSingleSentence) throws Exception {
+		long cycles = 0, hash = 0;
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.ISO_8859_1))) {
+			Vector<String> lines = new Vector<String>();
+			String line, signature = null;
+			int lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				++lineNumber;
+				line = line.trim();
+				if (line.length() <= 7 || !line.startsWith("$")) continue;
+
+				if (signature == null) { // setup sentences and unsupported sentences before the first cycle
+					if (line.startsWith("$SETUP") || line.startsWith("$GPSSETUP") || line.startsWith("$UL2SETUP")) {
+						lines.add(line);
+						parser.parse(lines, lineNumber);
+						lines.clear();
+						continue;
+					}
+					int indexSeparator = line.indexOf(',', 2);
+					if (indexSeparator < 0 || !parser.isSupportedSentence(line.substring(1, indexSeparator))) continue;
+					signature = line.substring(0, 6);
+				}
+				else if (isSingleSentence || line.startsWith(signature)) {
+					parser.parse(lines, lineNumber - 1);
+					hash = hash(hash, parser);
+					++cycles;
+					lines.clear();
+				}
+				lines.add(line);
+			}
+			if (!lines.isEmpty()) {
+				parser.parse(lines, lineNumber);
+				hash = hash(hash, parser);
+				++cycles;
+			}
+		}
+		return new long[] { cycles, hash };
+	}
+
+	private static long hash(long hash, NMEAParser parser) {
+		hash = 31 * hash + parser.getTime_ms();
+		for (int value : parser.getValues()) {
+			hash = 31 * hash + value;
+		}
+		return hash;
+	}
+}
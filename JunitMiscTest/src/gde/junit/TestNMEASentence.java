@@ -0,0 +1,99 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.junit;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import gde.io.NMEASentence;
+
+public class TestNMEASentence extends TestSuperClass {
+	static Logger						log				= Logger.getLogger(TestNMEASentence.class.getName());
+
+	private final String[]	sentences	= { "$GPRMC,123519,A,4807.038,N,01131.000,E,022.4,084.4,230394,003.1,W*6A",
+			"$GPGGA,123519,4807.038,N,01131.000,E,1,08,0.9,545.4,M,46.9,M,,*47", "$GPGSA,A,3,04,05,,09,12,,,24,,,,,2.5,1.3,2.1*39",
+			"$GPVTG,054.7,T,034.4,M,005.5,N,010.2,K*48", "$GPGSV,2,1,08,01,40,083,46,02,17,308,41,12,07,344,39,14,22,228,45*75",
+			"$GPRMC,,V,,,,,,,,,,N*53" };
+
+	/* (non-Javadoc)
+	 * @see junit.framework.TestCase#setUp()
+	 */
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		log.setLevel(Level.INFO);
+		log.setUseParentHandlers(true);
+	}
+
+	public void testFieldSplit() {
+		NMEASentence sentence = new NMEASentence(',');
+		for (String line : this.sentences) {
+			String[] strValues = line.split(",");
+			sentence.set(line);
+			assertEquals(line, strValues.length, sentence.getFieldCount());
+			for (int i = 0; i < strValues.length; i++) {
+				assertEquals(line, strValues[i], sentence.getString(i));
+				assertTrue(line, sentence.equals(i, strValues[i]));
+				assertEquals(line, strValues[i].trim().length(), sentence.length(i));
+			}
+			assertTrue(line, sentence.isSignature(strValues[0].substring(1)));
+		}
+	}
+
+	public void testChecksum() {
+		NMEASentence sentence = new NMEASentence(',');
+		for (String line : this.sentences) {
+			sentence.set(line);
+			int checkSum = 0;
+			for (int i = 1; i < line.indexOf('*'); i++) {
+				checkSum ^= line.charAt(i);
+			}
+			assertEquals(line, checkSum, sentence.xor(1, sentence.indexOf('*')));
+			int end = sentence.trimmedLength();
+			assertEquals(line, Integer.parseInt(line.substring(end - 2, end), 16), sentence.parseHex(end - 2, end));
+		}
+	}
+
+	public void testParseNumbers() {
+		NMEASentence sentence = new NMEASentence(',');
+		String[] strValues = this.sentences[1].split(",");
+		sentence.set(this.sentences[1]);
+		assertEquals(Integer.parseInt(strValues[7]), sentence.parseInt(7));
+		assertEquals(Double.parseDouble(strValues[9]), sentence.parseDouble(9), 0.);
+		assertEquals(Double.parseDouble(strValues[2]), sentence.parseDouble(2), 0.);
+		assertEquals(Integer.parseInt(strValues[1].substring(0, 2)), sentence.parseInt(1, 0, 2));
+		assertEquals(Double.parseDouble(strValues[2].substring(2)), sentence.parseDouble(2, 2, strValues[2].length()), 0.);
+		assertTrue(sentence.equals(6, 1));
+		assertFalse(sentence.equals(6, 2));
+		try {
+			sentence.parseInt(13);
+			fail("NumberFormatException expected");
+		}
+		catch (NumberFormatException e) {
+			// expected, empty field
+		}
+		try {
+			sentence.getString(strValues.length);
+			fail("ArrayIndexOutOfBoundsException expected");
+		}
+		catch (ArrayIndexOutOfBoundsException e) {
+			// expected
+		}
+	}
+}
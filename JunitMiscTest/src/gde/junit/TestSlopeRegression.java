@@ -0,0 +1,156 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.junit;
+
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import gde.utils.SlopeRegression;
+import gde.utils.SlopeRegression.Type;
+
+public class TestSlopeRegression extends TestSuperClass {
+	static Logger log = Logger.getLogger(TestSlopeRegression.class.getName());
+
+	/* (non-Javadoc)
+	 * @see junit.framework.TestCase#setUp()
+	 */
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		log.setLevel(Level.INFO);
+		log.setUseParentHandlers(true);
+	}
+
+	public void testLinear() {
+		for (int interval : new int[] { 1, 2, 4, 10 }) {
+			assertSlopes(Type.LINEAR, 0.05, interval, 5000);
+			assertSlopes(Type.LINEAR, 1., interval, 500);
+		}
+	}
+
+	public void testCurve() {
+		for (int interval : new int[] { 1, 2, 4, 10 }) {
+			assertSlopes(Type.CURVE, 0.05, interval, 5000);
+			assertSlopes(Type.CURVE, 1., interval, 500);
+		}
+	}
+
+	public void testShortRecord() {
+		SlopeRegression regression = new SlopeRegression(Type.LINEAR, 0.05, 4);
+		int[] slopes = regression.calculate(new int[10], 10);
+		assertEquals(Math.max(10, regression.getFrontPadding()), slopes.length);
+		assertEquals(0, regression.getSlopeCount());
+	}
+
+	/**
+	 * the streaming add delivers the same values as the calculation over all points
+	 */
+	public void testStreaming() {
+		int[] heights = createHeights(2000, 7);
+		SlopeRegression regression = new SlopeRegression(Type.CURVE, 0.1, 4);
+		int[] slopes = regression.calculate(heights, heights.length);
+
+		regression.reset();
+		int index = regression.getFrontPadding();
+		for (int height : heights) {
+			if (regression.add(height)) {
+				for (int j = 0; j < SlopeRegression.POINT_INTERVAL; j++) {
+					assertEquals(slopes[index++], regression.getSlope());
+				}
+			}
+		}
+	}
+
+	private void assertSlopes(Type type, double timeStep_sec, int calcInterval_sec, int size) {
+		int[] heights = createHeights(size, calcInterval_sec);
+		int[] expected = calculateReference(type, heights, timeStep_sec, calcInterval_sec);
+		int[] slopes = new SlopeRegression(type, timeStep_sec, calcInterval_sec).calculate(heights, heights.length);
+		assertEquals(expected.length, slopes.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(type + " " + calcInterval_sec + "s index " + i, expected[i], slopes[i], 1); // within rounding
+		}
+	}
+
+	private int[] createHeights(int size, long seed) {
+		Random random = new Random(seed);
+		int[] heights = new int[size];
+		for (int i = 0; i < size; i++) {
+			heights[i] = (int) (100000 * Math.sin(i / 200.) + 20000 * Math.sin(i / 13.)) + random.nextInt(2000);
+		}
+		return heights;
+	}
+
+	/**
+	 * the former interval by interval calculation of LinearRegression and QuasiLinearRegression
+	 */
+	private int[] calculateReference(Type type, int[] heights, double timeStep_sec, int calcInterval_sec) {
+		int[] result = new int[heights.length * 2];
+		int size = 0;
+		int timeStepsPerInterval = Double.valueOf(calcInterval_sec / timeStep_sec).intValue();
+		timeStepsPerInterval = timeStepsPerInterval <= 4 ? 4 : timeStepsPerInterval;
+		int pointsPerInterval = timeStepsPerInterval + 1;
+		int pointInterval = 3;
+		int numberDataPoints = heights.length;
+		int startPosition = 0;
+		int frontPadding = type == Type.LINEAR ? (pointsPerInterval - pointInterval) / 5 * 4 : (timeStepsPerInterval / 5 * 4) - pointInterval;
+		int modCounter = (numberDataPoints - (pointsPerInterval - pointInterval)) / pointInterval;
+		for (int i = 0; i < frontPadding; i++) {
+			result[size++] = 0;
+		}
+		double scaleX = type == Type.LINEAR ? timeStep_sec : 1 / timeStep_sec;
+		double avgX = 0;
+		if (type == Type.LINEAR)
+			avgX = timeStep_sec;
+		else {
+			for (int i = 0; i < timeStepsPerInterval; i++) {
+				avgX = avgX + (1 / timeStep_sec * i);
+			}
+			avgX = avgX / timeStepsPerInterval;
+		}
+		double ssXX = 0.0;
+		for (int i = 1; i <= timeStepsPerInterval; i++) {
+			ssXX = ssXX + (((scaleX * i) - avgX) * ((scaleX * i) - avgX));
+		}
+		ssXX = ssXX / timeStepsPerInterval;
+		--modCounter;
+		while (modCounter > 0) {
+			double avgY = 0.0;
+			for (int i = 1; i <= timeStepsPerInterval; i++) {
+				avgY = avgY + heights[i + startPosition];
+			}
+			avgY = avgY / timeStepsPerInterval;
+			double ssXY = 0.0;
+			for (int i = 1; i <= timeStepsPerInterval; i++) {
+				ssXY = ssXY + (((scaleX * i) - avgX) * (heights[i + startPosition] - avgY));
+			}
+			ssXY = ssXY / timeStepsPerInterval;
+			int slope = type == Type.LINEAR ? Double.valueOf(ssXY / ssXX * 4).intValue() : Double.valueOf(ssXY / ssXX / timeStep_sec / timeStep_sec).intValue();
+			for (int i = 0; i < pointInterval; i++) {
+				result[size++] = slope;
+			}
+			startPosition = startPosition + pointInterval;
+			--modCounter;
+		}
+		for (int i = size; i < numberDataPoints; i++) {
+			result[size++] = 0;
+		}
+		return java.util.Arrays.copyOf(result, size);
+	}
+}
@@ -0,0 +1,85 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.junit;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import gde.data.TimeSteps;
+
+public class TestTimeStepsClone extends TestSuperClass {
+	static Logger	log	= Logger.getLogger(TestTimeStepsClone.class.getName());
+
+	/* (non-Javadoc)
+	 * @see junit.framework.TestCase#setUp()
+	 */
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		log.setLevel(Level.INFO);
+		log.setUseParentHandlers(true);
+	}
+
+	private TimeSteps createTimeSteps(int size) {
+		TimeSteps timeSteps = new TimeSteps(-1.0, size);
+		for (int i = 0; i < size; i++) {
+			timeSteps.add(i * 20.5 + (i % 3));
+		}
+		return timeSteps;
+	}
+
+	public void testCutHead() {
+		TimeSteps timeSteps = createTimeSteps(1000);
+		TimeSteps cut = timeSteps.clone(400, true);
+		assertEquals(600, cut.size());
+		for (int i = 0; i < cut.size(); i++) {
+			assertEquals(timeSteps.get(400 + i) - timeSteps.get(400), cut.get(i).longValue());
+		}
+		assertEquals(timeSteps.getStartTimeStamp() + timeSteps.get(400) / 10, cut.getStartTimeStamp());
+	}
+
+	public void testCutTail() {
+		TimeSteps timeSteps = createTimeSteps(1000);
+		TimeSteps cut = timeSteps.clone(250, false);
+		assertEquals(250, cut.size());
+		for (int i = 0; i < cut.size(); i++) {
+			assertEquals(timeSteps.get(i), cut.get(i));
+		}
+		assertEquals(timeSteps.getStartTimeStamp(), cut.getStartTimeStamp());
+
+		cut.add(99999.9);
+		assertEquals(1000, timeSteps.size());
+		assertEquals(251, cut.size());
+	}
+
+	public void testCloneFromBeginning() {
+		TimeSteps timeSteps = createTimeSteps(100);
+		TimeSteps clone = timeSteps.clone(0, true);
+		assertEquals(timeSteps, clone);
+		clone.add(99999.9);
+		assertEquals(100, timeSteps.size());
+	}
+
+	public void testCutConstant() {
+		TimeSteps timeSteps = new TimeSteps(50.0);
+		TimeSteps cut = timeSteps.clone(10, true);
+		assertEquals(timeSteps, cut);
+		assertEquals(50.0, cut.getTime_ms(1), 0.);
+	}
+}
@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -48,12 +49,12 @@ import gde.data.Record;
 import gde.data.RecordSet;
 import gde.device.DeviceConfiguration;
 import gde.device.IDevice;
-import gde.device.InputTypes;
 import gde.device.MeasurementType;
 import gde.exception.DataInconsitsentException;
 import gde.exception.DataTypeException;
 import gde.exception.MissMatchDeviceException;
 import gde.exception.NotSupportedFileFormatException;
+import gde.io.CSVTokenizer;
 import gde.log.Level;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
@@ -257,11 +258,9 @@ public class CSVReaderWriter {
 	 */
 	public static RecordSet read(char separator, String filePath, String recordSetNameExtend) throws NotSupportedFileFormatException, MissMatchDeviceException, IOException, DataInconsitsentException,
 			DataTypeException {
-		String line = GDE.STRING_STAR;
 		RecordSet recordSet = null;
 		long inputFileSize = new File(filePath).length();
-		int progressLineLength = Math.abs(CSVReaderWriter.application.getActiveDevice().getDataBlockSize(InputTypes.FILE_IO));
-		BufferedReader reader; // to read the data
+		CSVTokenizer tokenizer; // to read the data
 		IDevice device = CSVReaderWriter.application.getActiveDevice();
 		Channel activeChannel = null;
 		Vector<String> createdRecordSets = new Vector<>();
@@ -286,11 +285,9 @@ public class CSVReaderWriter {
 				fileHeader = CSVReaderWriter.evaluateType(separator, fileHeader, (DeviceConfiguration) device);
 				CSVReaderWriter.log.log(Level.FINE, "device name check ok, channel/configuration ok"); //$NON-NLS-1$
 
-				reader = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), "ISO-8859-1")); //$NON-NLS-1$
-				int lineNumber = 0;
-				while (!(line.startsWith("Date,Time")) && ((line = reader.readLine()) != null)) {
+				tokenizer = new CSVTokenizer(new FileInputStream(filePath), separator).setMergeBlankSeparator(true); //merge blanks to allow GPS coords ..,48.474413, 11.477986,.. and ..,48.132850 11.720808,..
+				while (tokenizer.nextLine() && !tokenizer.lineStartsWith("Date,Time")) {
 					// read until Date,Time,SWR,RSSI,A1,A2,A3,A4,GPS Date,GPS Time,Long,Lat,Course,GPS Speed(kts),GPS Alt,Baro Alt(m),Vertical Speed,Air Speed(kts),Temp1,Temp2,RPM,Fuel,Cell volts,Cell 1,Cell 2,Cell 3,Cell 4,Cell 5,Cell 6,Cell 7,Cell 8,Cell 9,Cell 10,Cell 11,Cell 12,Current,Consumption,Vfas,AccelX,AccelY,AccelZ,Rud,Ele,Thr,Ail,S1,S2,S3,LS,RS,SA,SB,SC,SD,SE,SF,SG,SH
-					++lineNumber;
 				}
 
 				if (GDE.isWithUi()) {
@@ -347,10 +344,22 @@ public class CSVReaderWriter {
 				String[] updateRecordNames = recordSet.getRecordNames();
 				int[] points = new int[updateRecordNames.length];
 				String[] tmpHeader = fileHeader.get(GDE.CSV_DATA_HEADER).split(""+separator);
-				
-				while ((line = reader.readLine()) != null) {
-					++lineNumber;
-					if (line.startsWith("#")) {
+				// data field index of each record, ignored columns are skipped, the first two fields contain date and time
+				int[] fieldIndices = new int[updateRecordNames.length];
+				List<String> skipIndexList = fileHeader.get(GDE.CSV_DATA_IGNORE_INDEX) != null ? StringHelper.stringToList(fileHeader.get(GDE.CSV_DATA_IGNORE_INDEX), separator) : new ArrayList<String>();
+				for (int i = 0, j = 0; i < updateRecordNames.length; i++, j++) {
+					while (skipIndexList.size() > 0 && j + 2 == Integer.parseInt(skipIndexList.get(0))) {
+						skipIndexList = skipIndexList.subList(1, skipIndexList.size());
+						++j;
+					}
+					fieldIndices[i] = j + 2;
+				}
+				CSVTokenizer dataTokenizer = tokenizer;
+
+				while (tokenizer.nextLine()) {
+					long lineNumber = tokenizer.getLineNumber();
+					if (tokenizer.lineStartsWith("#")) {
+						String line = tokenizer.getLine();
 						if (recordSet.getRecordSetDescription().endsWith(GDE.LINE_SEPARATOR))
 							recordSet.setRecordSetDescription(recordSet.getRecordSetDescription() + line.substring(1) + GDE.LINE_SEPARATOR);
 						else
@@ -358,9 +367,10 @@ public class CSVReaderWriter {
 						continue;
 					}
 					
-					if (line.contains(",,")) { // empty will be used for GPS coordinates as well as for not existing single values
+					dataTokenizer = tokenizer;
+					if (tokenizer.lineContains(",,")) { // empty will be used for GPS coordinates as well as for not existing single values
 						int index = 0;
-						String[] tmpData = line.split(""+separator);
+						String[] tmpData = tokenizer.getLine().split(""+separator);
 						StringBuilder sb = new StringBuilder();
 						for (; index < tmpData.length; ++index) {
 							if (tmpData[index].equals(GDE.STRING_EMPTY)) {
@@ -375,19 +385,18 @@ public class CSVReaderWriter {
 							}
 							sb.append(tmpData[index]).append(separator);
 						}
-						line = sb.toString();
+						byte[] bytes = sb.toString().getBytes(StandardCharsets.ISO_8859_1);
+						dataTokenizer = new CSVTokenizer(bytes, 0, bytes.length, separator).setMergeBlankSeparator(true);
+						dataTokenizer.nextLine();
 					}
-					String[] dataStr = line.replace(", ", ",").split(" |"+separator); //replace(", ", ",") to allow GPS coords ..,48.474413, 11.477986,.. split(" |"+separator) to take ..,48.132850 11.720808,..
-					String data = dataStr[0].trim();
-					int year = Integer.parseInt(data.substring(0, 4));
-					int month = Integer.parseInt(data.substring(5, 7));
-					int day = Integer.parseInt(data.substring(8, 10));
-
-					data = dataStr[1].trim();
-					int hour = Integer.parseInt(data.substring(0, 2));
-					int minute = Integer.parseInt(data.substring(3, 5));
-					int second = Integer.parseInt(data.substring(6, 8));
-					int millis = Integer.parseInt(data.substring(9, 12));
+					int year = dataTokenizer.getDigits(0, 0, 4);
+					int month = dataTokenizer.getDigits(0, 5, 2);
+					int day = dataTokenizer.getDigits(0, 8, 2);
+
+					int hour = dataTokenizer.getDigits(1, 0, 2);
+					int minute = dataTokenizer.getDigits(1, 3, 2);
+					int second = dataTokenizer.getDigits(1, 6, 2);
+					int millis = dataTokenizer.getDigits(1, 9, 3);
 
 					Calendar calendar = new GregorianCalendar(year, month - 1, day, hour, minute, second);
 					long timeStamp = calendar.getTimeInMillis() + millis;
@@ -460,24 +469,14 @@ public class CSVReaderWriter {
 					else
 						continue;
 
-					List<String> skipIndexList = fileHeader.get(GDE.CSV_DATA_IGNORE_INDEX) != null ? StringHelper.stringToList(fileHeader.get(GDE.CSV_DATA_IGNORE_INDEX), separator) : new ArrayList<String>();
-					for (int i = 0, j = 0; i < updateRecordNames.length; i++, j++) { // only iterate over record names found in file
-						while (skipIndexList.size() > 0 && j + 2 == Integer.parseInt(skipIndexList.get(0))) {
-							skipIndexList = skipIndexList.subList(1, skipIndexList.size());
-							++j;
-						}
-						if ((j+2) < dataStr.length) {
-							try {
-								data = dataStr[j + 2].trim().replace(GDE.STRING_BLANK, GDE.STRING_EMPTY);
-								//log.log(Level.OFF, String.format("%s i=%d j=%d %s", recordSet.get(i).getName(), i, j, data));
-							}
-							catch (Exception e) {
-								data = "0";
-								CSVReaderWriter.log.log(Level.WARNING, String.format("Check line = %s position %d", line, j));
-							}
+					for (int i = 0; i < updateRecordNames.length; i++) { // only iterate over record names found in file
+						int field = fieldIndices[i];
+						if (field < dataTokenizer.getFieldCount()) {
+							String data;
 							switch (recordSet.get(i).getDataType()) {
 							case GPS_LONGITUDE:
 							case GPS_LATITUDE:
+								data = dataTokenizer.getString(field).replace(GDE.STRING_BLANK, GDE.STRING_EMPTY);
 								if (data.endsWith(GDE.STRING_MINUS))
 									points[i] = 0;
 								else { //normalize GPS coordinate to enable %9.6f
@@ -509,6 +508,7 @@ public class CSVReaderWriter {
 								break;
 
 							case GPS_TIME:
+								data = dataTokenizer.getString(field).replace(GDE.STRING_BLANK, GDE.STRING_EMPTY);
 								try {
 									if (data.contains(GDE.STRING_DASH) && data.length() == 10) { //Date
 										data = data.trim().replace(GDE.STRING_DASH, GDE.STRING_EMPTY);
@@ -528,9 +528,9 @@ public class CSVReaderWriter {
 								
 							default:
 								try {
-									double value = Double.valueOf(data);
+									double value = dataTokenizer.getDouble(field);
 									if (value <= Integer.MIN_VALUE / 1000 || value >= Integer.MAX_VALUE / 1000)
-										log.log(Level.WARNING, String.format("Check line %d, found misterious value %s", lineNumber, data));
+										log.log(Level.WARNING, String.format("Check line %d, found misterious value %s", lineNumber, dataTokenizer.getString(field)));
 									else
 										points[i] = (int) (value * 1000.0);
 
@@ -547,12 +547,11 @@ public class CSVReaderWriter {
 					}
 					catch (DataInconsitsentException e) {
 						DataExplorer.getInstance().openMessageDialogAsync(e.getMessage() + "\n" + StringHelper.arrayToString(updateRecordNames));
-						if(reader != null) reader.close();
+						tokenizer.close();
 						throw e;
 					}
 
-					progressLineLength = progressLineLength > line.length() ? progressLineLength : line.length();
-					int progress = progressLineLength > 0 && inputFileSize > 0 ? (int) (lineNumber * 100 / (inputFileSize / progressLineLength)) : 50;
+					int progress = inputFileSize > 0 ? (int) (tokenizer.getBytesConsumed() * 100 / inputFileSize) : 50;
 					if (progress <= 90 && progress > GDE.getUiNotification().getProgressPercentage() && progress % 10 == 0) {
 						GDE.getUiNotification().setProgress(progress);
 						try {
@@ -581,8 +580,8 @@ public class CSVReaderWriter {
 				if (GDE.isWithUi() && createdRecordSets.size() > 0) 
 					activeChannel.switchRecordSet(createdRecordSets.firstElement()); //recordSetName);
 
-				reader.close();
-				reader = null;
+				tokenizer.close();
+				tokenizer = null;
 			}
 		}
 		catch (UnsupportedEncodingException e) {
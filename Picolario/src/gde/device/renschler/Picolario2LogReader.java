@@ -18,9 +18,7 @@
 ****************************************************************************************/
 package gde.device.renschler;
 
-import java.io.DataInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.DecimalFormat;
@@ -34,7 +32,7 @@ import gde.data.Channel;
 import gde.data.Channels;
 import gde.data.RecordSet;
 import gde.device.IDevice;
-import gde.io.DataParser;
+import gde.io.FixedRecordReader;
 import gde.log.Level;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
@@ -69,7 +67,7 @@ public class Picolario2LogReader {
 		int lineNumber = 0;
 		String recordSetNameExtend = device.getRecordSetStemNameReplacement();
 		RecordSet recordSet = null;
-		DataInputStream data_in = null;
+		FixedRecordReader data_in = null;
 		int[] points = new int[device.getNumberOfMeasurements(1)];
 		String dateTime = new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss").format(new File(filePath).lastModified()); //$NON-NLS-1$
 		boolean isOutdated = false;
@@ -93,16 +91,17 @@ public class Picolario2LogReader {
 				recordSetName = recordNameExtend.length() > 2 ? recordSetName + GDE.STRING_BLANK_LEFT_BRACKET + recordNameExtend + GDE.STRING_RIGHT_BRACKET : recordSetName;
 
 				long startTime = System.nanoTime() / 1000000;
-				File file = new File(filePath);
-				FileInputStream file_input = new FileInputStream(file);
-				data_in = new DataInputStream(file_input);
-				long fileSize = file.length();
+				data_in = new FixedRecordReader(new File(filePath).toPath());
+				long fileSize = data_in.size();
 				long numReads = 0;
-				byte[] buffer = new byte[4];
-				data_in.read(buffer);
-				String firmware = String.format("%.1f", DataParser.parse2Int(buffer, 0)/10.0);
+				if (!data_in.next(4)) throw new IOException(String.format("%s header truncated", filePath)); //$NON-NLS-1$
+				String firmware = String.format("%.1f", data_in.getInt(0)/10.0);
 				fileSize -= 4;
-				data_in.read(buffer);
+				if (!data_in.next(4)) throw new IOException(String.format("%s header truncated", filePath)); //$NON-NLS-1$
+				byte[] buffer = new byte[4];
+				for (int i = 0; i < buffer.length; i++) {
+					buffer[i] = data_in.get(i);
+				}
 				double dataRate = (buffer[buffer.length-1] & 0x80) == 0 ? 1000.0/40 : 1000.0/33;
 				int numValues = 0;
 				for (int i = 0; i < buffer.length-1; i++) {
@@ -122,13 +121,11 @@ public class Picolario2LogReader {
 //				00 F4 00 0F 	00 00 00 F0 	00 0D 00 00 	00 F2 00 0F
 //				00 F2 00 FF 	00 0E 00 00 	00 F3 00 02 	00 09 00 F5
 //				00 0F 00 FF 	00 F0 00 02 	00 0D 00 F4 	00 00 00 0E
-				buffer = new byte[4];
-				data_in.read(buffer);
-				points[1] = startValues[1] = DataParser.parse2Int(buffer, 0) * 1000; //0x0001826E = 989.26 mbar
+				if (!data_in.next(4)) throw new IOException(String.format("%s header truncated", filePath)); //$NON-NLS-1$
+				points[1] = startValues[1] = data_in.getInt(0) * 1000; //0x0001826E = 989.26 mbar
 				startValues[0] = points[0] =  (int)(44330 * (1 - Math.pow(((points[1] / 100000.0) / 1013.25), 1/5.225)) * 1000); //height calculation
-				buffer = new byte[2];
-				data_in.read(buffer);
-				points[2] = startValues[2] = DataParser.parse2Short(buffer, 0) * 1000; //0x052F = 1327 * 3.8 mV = 5.0 Volt
+				if (!data_in.next(2)) throw new IOException(String.format("%s header truncated", filePath)); //$NON-NLS-1$
+				points[2] = startValues[2] = data_in.getShort(0) * 1000; //0x052F = 1327 * 3.8 mV = 5.0 Volt
 				log.log(Level.FINE, String.format("start pressure = %d; start voltage = %d", startValues[1]/1000, startValues[2]/1000));
 				fileSize -= 4;
 
@@ -166,7 +163,7 @@ public class Picolario2LogReader {
 					values.add(new Integer[] {0,startValues[1]});
 				}
 
-				for (int j = 0; j < integrationSize/2+1 && data_in.read(buffer) > 0; j++) {
+				for (int j = 0; j < integrationSize/2+1 && data_in.next(buffer); j++) {
 					Integer[] valuePoints = new Integer[numValues+1];
 					for (int i = 2; i <= buffer.length; i++) {
 						valuePoints[i] = points[i] += buffer[i-1] * 1000;
@@ -209,7 +206,9 @@ public class Picolario2LogReader {
 					}
 					fileSize -= numValues;
 				}
-				while (data_in.read(buffer) > 0);
+				while (data_in.next(buffer));
+				if (data_in.getTruncatedBytes() > 0)
+					log.log(Level.WARNING, String.format("%s ends with a truncated record of %d bytes", filePath, data_in.getTruncatedBytes())); //$NON-NLS-1$
 
 				data_in.close();
 				data_in = null;
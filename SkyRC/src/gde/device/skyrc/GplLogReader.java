@@ -18,9 +18,7 @@
 ****************************************************************************************/
 package gde.device.skyrc;
 
-import java.io.DataInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.DecimalFormat;
@@ -34,6 +32,7 @@ import gde.data.Channel;
 import gde.data.Channels;
 import gde.data.RecordSet;
 import gde.device.IDevice;
+import gde.io.FixedRecordReader;
 import gde.log.Level;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
@@ -68,7 +67,7 @@ public class GplLogReader {
 		int lineNumber = 0;
 		String recordSetNameExtend = device.getRecordSetStemNameReplacement();
 		RecordSet recordSet = null;
-		DataInputStream data_in = null;
+		FixedRecordReader data_in = null;
 		int[] points = new int[device.getNoneCalculationMeasurementNames(1, device.getMeasurementNames(1)).length];
 		//String dateTime = new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss").format(new File(filePath).lastModified()); //$NON-NLS-1$
 
@@ -90,15 +89,13 @@ public class GplLogReader {
 				recordSetName = recordNameExtend.length() > 2 ? recordSetName + GDE.STRING_BLANK_LEFT_BRACKET + recordNameExtend + GDE.STRING_RIGHT_BRACKET : recordSetName;
 
 				long startTime = System.nanoTime() / 1000000;
-				File file = new File(filePath);
-				FileInputStream file_input = new FileInputStream(file);
-				data_in = new DataInputStream(file_input);
+				data_in = new FixedRecordReader(new File(filePath).toPath());
 				byte[] buffer = new byte[16];
 				
 				boolean isLogData = false;
 				long timeStep_ms = 0;
 				long timeStamp_ms = 0;
-				while (data_in.read(buffer) != -1) {
+				while (data_in.next(buffer)) {
 					if (!isLogData && buffer[0] == beginMarker && buffer[1] == beginMarker && buffer[2] == beginMarker) {
 						//GPS 0=velocity 1=altitudeGPS 2=longitude 3=latitude 4=trip
 						isLogData = true;
@@ -172,6 +169,8 @@ public class GplLogReader {
 						timeStamp_ms += timeStep_ms;
 					}					
 				}
+				if (data_in.getTruncatedBytes() > 0)
+					log.log(Level.WARNING, String.format("%s ends with a truncated record of %d bytes", filePath, data_in.getTruncatedBytes())); //$NON-NLS-1$
 				
 				if (isLogData) { //log ending without endMarker - overflow?
 					if (GDE.isWithUi()) {
@@ -34,6 +34,8 @@ import gde.messages.Messages;
 import gde.ui.DataExplorer;
 import gde.utils.WaitTimer;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import javax.usb.UsbDisconnectedException;
@@ -59,6 +61,7 @@ public class MC3000GathererThread extends Thread {
 	final Channels			channels;
 	final Channel				channel;
 	final int						channelNumber;
+	final Map<Integer, RecordSet>	fedRecordSets	= new HashMap<>();	// record sets fed through the ingest queue per slot channel number
 
 	String							recordSetKey								= Messages.getString(gde.messages.MessageIds.GDE_MSGT0272);
 	boolean							isPortOpenedByLiveGatherer	= false;
@@ -299,6 +302,10 @@ public class MC3000GathererThread extends Thread {
 										this.application.setStatusMessage(""); //$NON-NLS-1$
 
 										// record set does not exist or is out dated, build a new name and create
+										if (recordSet5 != null) {
+											recordSet5.closeIngestQueue(); // the replaced record set gets no more data
+											this.fedRecordSets.remove(5);
+										}
 										recordSetKey5 = slotChannel.getNextRecordSetNumber() + GDE.STRING_RIGHT_PARENTHESIS_BLANK + processName;
 										recordSetKey5 = recordSetKey5.length() <= RecordSet.MAX_NAME_LENGTH ? recordSetKey5 : recordSetKey5.substring(0, RecordSet.MAX_NAME_LENGTH);
 
@@ -317,10 +324,13 @@ public class MC3000GathererThread extends Thread {
 										slotChannel.switchRecordSet(recordSetKey5);
 									}
 								}
-								if (recordSet5 != null) recordSet5.addPoints(points5);
-								
-								if (recordSet5 != null && (recordSet5.get(0).realSize() < 3 || recordSet5.get(0).realSize() % 10 == 0)) {
-									this.device.updateVisibilityStatus(recordSet5, true);
+								if (recordSet5 != null) {
+									recordSet5.getIngestQueue().addPoints(points5);
+									this.fedRecordSets.put(5, recordSet5);
+									long queuedFrames = recordSet5.getIngestQueue().getOfferedCount(); // the record size lags behind until the queue gets drained
+									if (queuedFrames < 3 || queuedFrames % 10 == 0) {
+										this.device.updateVisibilityStatus(recordSet5, true);
+									}
 								}
 							}
 							RecordSet activeRecordSet = this.channels.getActiveChannel().getActiveRecordSet();
@@ -444,6 +454,10 @@ public class MC3000GathererThread extends Thread {
 				this.application.setStatusMessage(""); //$NON-NLS-1$
 
 				// record set does not exist or is out dated, build a new name and create
+				if (recordSet != null) {
+					recordSet.closeIngestQueue(); // the replaced record set of this slot gets no more data
+					this.fedRecordSets.remove(number);
+				}
 				StringBuilder extend = new StringBuilder();
 				if (!this.device.isContinuousRecordSet()) {
 					//Mode LI battery： 		0=CHARGE 1=REFRESH 2=STORAGE   3=DISCHARGE 4=CYCLE
@@ -499,9 +513,11 @@ public class MC3000GathererThread extends Thread {
 				return result;
 			}
 
-			recordSet.addPoints(this.device.convertDataBytes(points, dataBuffer));
+			recordSet.getIngestQueue().addPoints(this.device.convertDataBytes(points, dataBuffer));
+			this.fedRecordSets.put(number, recordSet);
 
-			if (recordSet.get(0).realSize() < 3 || recordSet.get(0).realSize() % 10 == 0) {
+			long queuedFrames = recordSet.getIngestQueue().getOfferedCount(); // the record size lags behind until the queue gets drained
+			if (queuedFrames < 3 || queuedFrames % 10 == 0) {
 				this.device.updateVisibilityStatus(recordSet, true);
 			}
 		}
@@ -539,6 +555,7 @@ public class MC3000GathererThread extends Thread {
 //			this.dialog.checkPortStatus();
 //		}
 
+		closeFedRecordSets();
 		RecordSet recordSet = this.channel.get(this.recordSetKey);
 		if (recordSet != null && recordSet.getRecordDataSize(true) > 5) { // some other exception while program execution, record set has data points
 			finalizeRecordSet(false);
@@ -565,8 +582,10 @@ public class MC3000GathererThread extends Thread {
 			MC3000GathererThread.log.log(Level.WARNING, e.getMessage(), e);
 		}
 
+		closeFedRecordSets();
 		RecordSet tmpRecordSet = this.channel.get(this.recordSetKey);
 		if (tmpRecordSet != null) {
+			tmpRecordSet.closeIngestQueue();
 			this.device.updateVisibilityStatus(tmpRecordSet, false);
 			this.device.makeInActiveDisplayable(tmpRecordSet);
 			this.application.updateStatisticsData();
@@ -577,6 +596,16 @@ public class MC3000GathererThread extends Thread {
 		}
 	}
 
+	/**
+	 * close the ingest queues of all record sets fed by the slots, the record sets stop gathering
+	 */
+	void closeFedRecordSets() {
+		for (RecordSet fedRecordSet : this.fedRecordSets.values()) {
+			fedRecordSet.closeIngestQueue();
+		}
+		this.fedRecordSets.clear();
+	}
+
 	/**
 	 * cleanup all allocated resources and display the message
 	 * @param this.recordSetKey
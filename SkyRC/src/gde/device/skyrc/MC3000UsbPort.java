@@ -413,8 +413,9 @@ public class MC3000UsbPort extends DeviceCommPort implements IDeviceCommPort {
 	 */
 	private boolean isChecksumOK(final byte[] buffer, final int start, final int end, final int chkSumPosition) {
 		final String $METHOD_NAME = "isChecksumOK"; //$NON-NLS-1$
-		log.logp(Level.FINER, $CLASS_NAME, $METHOD_NAME,"CheckSum = " + (Checksum.ADD(buffer, start, end))); //$NON-NLS-1$
-		return Checksum.ADD(buffer, start, end) == (0x100 - buffer[chkSumPosition]);
+		int checkSum = Checksum.ADD(buffer, start, end);
+		if (log.isLoggable(Level.FINER)) log.logp(Level.FINER, $CLASS_NAME, $METHOD_NAME,"CheckSum = " + checkSum); //$NON-NLS-1$
+		return checkSum == (0x100 - buffer[chkSumPosition]);
 	}
 
 	/**
@@ -424,7 +425,7 @@ public class MC3000UsbPort extends DeviceCommPort implements IDeviceCommPort {
 	 */
 	private boolean isChecksumOK(final byte[] buffer) {
 		final String $METHOD_NAME = "isChecksumOK"; //$NON-NLS-1$
-		log.logp(Level.FINER, $CLASS_NAME, $METHOD_NAME,"CheckSum = " + (Checksum.ADD(buffer, 2, buffer.length-2))); //$NON-NLS-1$
+		if (log.isLoggable(Level.FINER)) log.logp(Level.FINER, $CLASS_NAME, $METHOD_NAME,"CheckSum = " + (Checksum.ADD(buffer, 2, buffer.length-2))); //$NON-NLS-1$
 		return calculateCheckSum(buffer) == buffer[buffer.length-1];
 	}
 }
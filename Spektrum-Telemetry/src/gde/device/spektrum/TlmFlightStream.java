@@ -0,0 +1,129 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2025 Winfried Bruegmann
+****************************************************************************************/
+package gde.device.spektrum;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.logging.Logger;
+
+import com.monstarmike.tlmreader.Flight;
+import com.monstarmike.tlmreader.datablock.DataBlock;
+import com.monstarmike.tlmreader.datablock.HeaderBlock;
+import com.monstarmike.tlmreader.datablock.HeaderDataBlock;
+import com.monstarmike.tlmreader.datablock.HeaderNameBlock;
+import com.monstarmike.tlmreader.datablock.HeaderRpmBlock;
+import com.monstarmike.tlmreader.datablock.HeaderRxBlock;
+import com.monstarmike.tlmreader.datablock.HeaderVoltBlock;
+
+import gde.log.Level;
+
+/**
+ * Single pass reader of Spektrum TLM files delivering the flights one after another.
+ * A flight starts with a header name block and ends with the next one or the end of file, so only the actual flight is kept in memory.
+ * Header and data blocks in front of the first header name block do not belong to a flight and are skipped.
+ * The blocks are decoded by the tlmreader library classes the same way as by TLMReader.parseFlight, which re-reads the file for each flight.
+ * @author Winfried Brügmann
+ */
+public class TlmFlightStream implements Closeable {
+	final static Logger							log									= Logger.getLogger(TlmFlightStream.class.getName());
+
+	final static int								MARKER_SIZE					= 4;
+	final static int								HEADER_BLOCK_SIZE		= 36;
+	final static int								DATA_BLOCK_SIZE			= 20;
+
+	private final BufferedInputStream	data_in;
+	private final byte[]							marker							= new byte[MARKER_SIZE];
+	private Flight										flight							= null;
+	private boolean										isEndOfFile					= false;
+
+	/**
+	 * @param filePath
+	 * @throws IOException
+	 */
+	public TlmFlightStream(String filePath) throws IOException {
+		this.data_in = new BufferedInputStream(new FileInputStream(filePath), 1 << 16);
+	}
+
+	/**
+	 * @return the next flight with its header and data blocks, the data blocks are not normalized, null if the end of file is reached
+	 * @throws IOException
+	 */
+	public Flight nextFlight() throws IOException {
+		while (!this.isEndOfFile) {
+			byte[] block = readBlock();
+			if (block == null) {
+				this.isEndOfFile = true;
+			}
+			else if (block.length == HEADER_BLOCK_SIZE) {
+				if (HeaderNameBlock.isHeaderName(block)) {
+					Flight completedFlight = this.flight;
+					this.flight = new Flight();
+					this.flight.addHeaderNameBlock(new HeaderNameBlock(block));
+					if (completedFlight != null) return completedFlight;
+				}
+				else if (this.flight == null)
+					log.log(Level.FINE, "header block without flight skipped"); //$NON-NLS-1$
+				else if (HeaderRpmBlock.isRpmHeader(block))
+					this.flight.addRpmHeaderBlock(new HeaderRpmBlock(block));
+				else if (HeaderVoltBlock.isVoltHeader(block))
+					this.flight.addHeaderBlock(new HeaderVoltBlock(block));
+				else if (HeaderRxBlock.isRxHeader(block))
+					this.flight.addHeaderBlock(new HeaderRxBlock(block));
+				else
+					this.flight.addHeaderBlock(new HeaderDataBlock(block));
+			}
+			else if (this.flight == null) {
+				log.log(Level.FINE, "data block without flight skipped"); //$NON-NLS-1$
+			}
+			else {
+				DataBlock dataBlock = DataBlock.createDataBlock(block, this.flight.getRpmHeader());
+				if (dataBlock != null) this.flight.addDataBlock(dataBlock);
+			}
+		}
+		Flight completedFlight = this.flight;
+		this.flight = null;
+		return completedFlight;
+	}
+
+	/**
+	 * @return the next header or data block depending on the block's marker bytes, null at the end of file or if the last block is truncated
+	 */
+	private byte[] readBlock() throws IOException {
+		int count = this.data_in.readNBytes(this.marker, 0, MARKER_SIZE);
+		if (count < MARKER_SIZE) {
+			if (count > 0) log.log(Level.WARNING, String.format("truncated block of %d bytes at file end", count)); //$NON-NLS-1$
+			return null;
+		}
+		byte[] block = new byte[HeaderBlock.isHeaderBlock(this.marker) ? HEADER_BLOCK_SIZE : DATA_BLOCK_SIZE];
+		System.arraycopy(this.marker, 0, block, 0, MARKER_SIZE);
+		count = MARKER_SIZE + this.data_in.readNBytes(block, MARKER_SIZE, block.length - MARKER_SIZE);
+		if (count < block.length) {
+			log.log(Level.WARNING, String.format("truncated block of %d bytes at file end", count)); //$NON-NLS-1$
+			return null;
+		}
+		return block;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.data_in.close();
+	}
+}
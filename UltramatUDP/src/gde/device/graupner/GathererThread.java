@@ -34,6 +34,8 @@ import gde.ui.DataExplorer;
 import gde.utils.StringHelper;
 import gde.utils.WaitTimer;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 /**
@@ -64,6 +66,7 @@ public class GathererThread extends Thread {
 	boolean										isCombinedMode							= false;
 	boolean 									isContinuousRecordSet 			= Settings.getInstance().isContinuousRecordSet();
 	int												lastNumberDisplayableRecords	= 0;
+	final Map<String, RecordSet>	fedRecordSets								= new HashMap<>();																				// record sets with points added through their ingest queue
 
 	/**
 	 * data gatherer thread definition 
@@ -394,6 +397,10 @@ public class GathererThread extends Thread {
 				}
 			}
 		}
+		for (RecordSet fedRecordSet : this.fedRecordSets.values()) {
+			fedRecordSet.closeIngestQueue();
+		}
+		this.fedRecordSets.clear();
 		this.application.setStatusMessage(""); //$NON-NLS-1$
 		log.logp(java.util.logging.Level.FINE, GathererThread.$CLASS_NAME, $METHOD_NAME, "======> exit"); //$NON-NLS-1$
 	}
@@ -493,7 +500,8 @@ public class GathererThread extends Thread {
 				return result;
 			}
 				
-			recordSet.addPoints(this.device.convertDataBytes(points, dataBuffer));
+			recordSet.getIngestQueue().addPoints(this.device.convertDataBytes(points, dataBuffer));
+			this.fedRecordSets.put(recordSetKey, recordSet);
 
 			RecordSet activeRecordSet = this.channels.getActiveChannel().getActiveRecordSet();
 			if (activeRecordSet != null && recordSet.size() > 0 && recordSet.isChildOfActiveChannel() && recordSet.equals(activeRecordSet)) {
@@ -501,7 +509,8 @@ public class GathererThread extends Thread {
 				this.lastNumberDisplayableRecords = recordSet.getConfiguredDisplayable();
 			}
 
-			if (recordSet.get(0).realSize() < 3 || recordSet.get(0).realSize() % 10 == 0) {
+			long queuedFrames = recordSet.getIngestQueue().getOfferedCount(); // the record size lags behind until the queue gets drained
+			if (queuedFrames < 3 || queuedFrames % 10 == 0) {
 				this.device.updateVisibilityStatus(recordSet, true);
 			}
 		}
@@ -533,9 +542,11 @@ public class GathererThread extends Thread {
 	}
 
 	/**
-	 * set isDisplayable according channel configuration and calculate slope
+	 * close the ingest queue of the record set with the given key, set isDisplayable according channel configuration and calculate slope
 	 */
 	void finalizeRecordSet(String recordSetKey) {
+		RecordSet fedRecordSet = this.fedRecordSets.remove(recordSetKey);
+		if (fedRecordSet != null) fedRecordSet.closeIngestQueue();
 
 		RecordSet tmpRecordSet = this.channels.getActiveChannel().getActiveRecordSet();
 		if (tmpRecordSet != null) {
@@ -555,6 +566,7 @@ public class GathererThread extends Thread {
 	 * @param e
 	 */
 	void cleanup(String recordSetKey, final String message) {
+		this.fedRecordSets.remove(recordSetKey);
 		RecordSet activeRecordSet = this.channels.getActiveChannel().getActiveRecordSet();
 		if (activeRecordSet != null) {
 			activeRecordSet.clear();
@@ -33,6 +33,7 @@ import gde.comm.DeviceCommPort;
 import gde.config.Settings;
 import gde.data.Channel;
 import gde.data.Channels;
+import gde.data.DerivedRecords;
 import gde.data.Record;
 import gde.data.RecordSet;
 import gde.device.DeviceConfiguration;
@@ -133,6 +134,16 @@ public class UniLog extends DeviceConfiguration implements IDevice {
 
 	final DataExplorer	application;
 	final UniLogSerialPort				serialPort;
+	// 0=voltageReceiver, 1=voltage, 2=current, 3=capacity, 4=power, 5=energy, 6=votagePerCell, 7=revolutionSpeed, 8=efficiency, 9=height, 10=slope, 11=a1Value
+	final DerivedRecords					derivedRecords	= new DerivedRecords() //
+			.integrate(3, 2, recordSet -> recordSet.get(2).getAverageTimeStep_ms(), 3600.) //
+			.product(4, 1, 2, 1000.) //
+			.integrateProduct(5, 1, 2, 1000., recordSet -> recordSet.get(1).getAverageTimeStep_ms(), 3600.) //
+			.ratio(6, 1, recordSet -> {
+				PropertyType property = recordSet.get(6).getProperty(UniLog.NUMBER_CELLS);
+				return property != null ? Integer.valueOf(property.getValue()) : 4;
+			}) //
+			.define(8, this::efficiencyKernel, 1, 7, 2, 4, 1, 11);
 	final UniLogDialog						dialog;
 
 	/**
@@ -816,121 +827,36 @@ public class UniLog extends DeviceConfiguration implements IDevice {
 				}
 			}
 
-			record = recordSet.get(3);// 3=capacity [Ah]
-			if (log.isLoggable(Level.FINE))
-				log.log(Level.FINE, "start data calculation for record = " + record.getName()); //$NON-NLS-1$
-			record.setDisplayable(false);
-			record.clear();
+			this.derivedRecords.evaluate(recordSet);
+
+			Record recordVoltage = recordSet.get(1); // 1=voltage
 			Record recordCurrent = recordSet.get(2); // 2=current
-			double timeStep_ms = recordCurrent.getAverageTimeStep_ms(); // timeStep_ms
-			Double capacity = 0.0;
-			for (int i = 0; i < recordCurrent.size(); i++) {
-				capacity = i > 0 ? capacity + ((recordCurrent.get(i) * timeStep_ms) / 3600) : 0.0;
-				record.add(capacity.intValue());
-				if (log.isLoggable(Level.FINEST)) log.log(Level.FINEST, "adding value = " + record.get(i)); //$NON-NLS-1$
-			}
-			if (recordCurrent.isDisplayable()) {
-				record.setDisplayable(true);
-				++displayableCounter;
-			}
+			record = recordSet.get(3);// 3=capacity [Ah]
+			record.setDisplayable(recordCurrent.isDisplayable());
+			if (record.isDisplayable()) ++displayableCounter;
 
 			record = recordSet.get(4); //4=power
-			if (log.isLoggable(Level.FINE))
-				log.log(Level.FINE, "start data calculation for record = " + record.getName()); //$NON-NLS-1$
-			record.setDisplayable(false);
-			record.clear();
-			Record recordVoltage = recordSet.get(1); // 1=voltage
-			recordCurrent = recordSet.get(2); // 2=current
-			for (int i = 0; i < recordVoltage.size(); i++) {
-				record.add(Double.valueOf(1.0 * recordVoltage.get(i) * recordCurrent.get(i) / 1000.0).intValue());
-				if (log.isLoggable(Level.FINEST)) log.log(Level.FINEST, "adding value = " + record.get(i)); //$NON-NLS-1$
-			}
-			if (recordVoltage.isDisplayable() && recordCurrent.isDisplayable()) {
-				record.setDisplayable(true);
-				++displayableCounter;
-			}
+			record.setDisplayable(recordVoltage.isDisplayable() && recordCurrent.isDisplayable());
+			if (record.isDisplayable()) ++displayableCounter;
 
 			record = recordSet.get(5); //5=energy
-			if (log.isLoggable(Level.FINE))
-				log.log(Level.FINE, "start data calculation for record = " + record.getName()); //$NON-NLS-1$
-			record.setDisplayable(false);
-			record.clear();
-			recordVoltage = recordSet.get(1); // 1=voltage
-			recordCurrent = recordSet.get(2); // 2=current
-			timeStep_ms = recordVoltage.getAverageTimeStep_ms(); // timeStep_ms
-			Double power = 0.0;
-			for (int i = 0; i < recordVoltage.size(); i++) {
-				power = i > 0 ? power + ((recordVoltage.get(i) / 1000.0) * (recordCurrent.get(i) / 1000.0) * (timeStep_ms / 3600.0)) : 0.0;
-				record.add(power.intValue());
-				if (log.isLoggable(Level.FINEST)) log.log(Level.FINEST, "adding value = " + record.get(i)); //$NON-NLS-1$
-			}
-			if (recordVoltage.isDisplayable() && recordCurrent.isDisplayable()) {
-				record.setDisplayable(true);
-				++displayableCounter;
-			}
+			record.setDisplayable(recordVoltage.isDisplayable() && recordCurrent.isDisplayable());
+			if (record.isDisplayable()) ++displayableCounter;
 
 			record = recordSet.get(6);// 6=votagePerCell
-			if (log.isLoggable(Level.FINE))
-				log.log(Level.FINE, "start data calculation for record = " + record.getName()); //$NON-NLS-1$
-			record.setDisplayable(false);
-			record.clear();
-			recordVoltage = recordSet.get(1); // 1=voltage
-			PropertyType property = record.getProperty(UniLog.NUMBER_CELLS);
-			int numberCells = property != null ? Integer.valueOf(property.getValue()) : 4;
-			for (int i = 0; i < recordVoltage.size(); i++) {
-				record.add(Double.valueOf(recordVoltage.get(i) / (double)numberCells).intValue());
-				if (log.isLoggable(Level.FINEST)) log.log(Level.FINEST, "adding value = " + record.get(i)); //$NON-NLS-1$
-			}
-			if (recordVoltage.isDisplayable()) {
-				record.setDisplayable(true);
-				++displayableCounter;
-			}
+			record.setDisplayable(recordVoltage.isDisplayable());
+			if (record.isDisplayable()) ++displayableCounter;
 
 			record = recordSet.get(8); // 8=efficiency
-			if (log.isLoggable(Level.FINE)) log.log(Level.FINE, "start data calculation for record = " + record.getName()); //$NON-NLS-1$
-			record.setDisplayable(false);
-			record.clear();
-			Record recordRevolution = recordSet.get(7); // 7=revolutionSpeed
-			property = recordRevolution.getProperty(UniLog.RPM_FACTOR);
-			double rpmFactor = property != null ? Double.valueOf(property.getValue()).doubleValue() : 1.0;
-			property = recordRevolution.getProperty(UniLog.NUMBER_MOTOR);
-			double numberMotor = property != null ? Double.valueOf(property.getValue()).doubleValue() : 1.0;
-			Record recordPower = recordSet.get(4); // 4=power [w]
-			property = record.getProperty(UniLog.PROP_N_100_W);
-			int prop_n100W = property != null ? Integer.valueOf(property.getValue()) : 10000;
-			recordCurrent = recordSet.get(2); // 2=current
-			Record recordA1 = recordSet.get(11); // 11=A1 -> torque
-			double eta = 0.;
-			for (int i = 0; i < recordRevolution.size(); i++) {
-				if (i > 1 && recordRevolution.get(i) > 100000 && recordCurrent.get(i) > 3000) { //100 1/min && 3A
-					if (prop_n100W == 99999) { // A1 -> torque
-						eta = (2 * Math.PI * (this.translateValue(recordA1, recordA1.get(i) / 1000.)) * (recordRevolution.get(i) / 1000.)) / ((recordVoltage.get(i) / 1000.) * (recordCurrent.get(i) / 1000.) * 60.);
-						log.log(Level.INFO, String.format("(2 * %4.3f * %3.1fNcm * %5.0frpm) / (%3.1fV * %3.1fA * 60 * 100) = %4.2f", Math.PI, (this.translateValue(recordA1, recordA1.get(i) / 1000.)), (recordRevolution.get(i) / 1000.), (recordVoltage.get(i) / 1000.), (recordCurrent.get(i) / 1000.), eta));
-					}
-					else {
-						double motorPower = Math.pow(((recordRevolution.get(i) * rpmFactor / numberMotor) / 1000.0 * 4.64) / prop_n100W, 3) * 1000.0;
-						eta = motorPower * 100.0 / recordPower.get(i);
-						eta = eta > 100 ? record.lastElement() / 1000.0 : eta < 0 ? 0 : eta;
-						if (log.isLoggable(Level.FINER)) log.log(Level.FINER, String.format("current=%5.1f; recordRevolution=%5.0f; recordPower=%6.2f; motorPower=%6.2f eta=%5.1f", recordCurrent.get(i) / 1000.0,
-								recordRevolution.get(i) / 1000.0, recordPower.get(i) / 1000.0, motorPower / 1000.0, eta));
-					}
-					record.add(Double.valueOf(eta * 1000).intValue());
-				}
-				else
-					record.add(0);
-				if (log.isLoggable(Level.FINEST)) log.log(Level.FINEST, "adding value = " + record.get(i)); //$NON-NLS-1$
-			}
-			if (recordRevolution.isDisplayable() && recordPower.isDisplayable()) {
-				record.setDisplayable(true);
-				++displayableCounter;
-			}
+			record.setDisplayable(recordSet.get(7).isDisplayable() && recordSet.get(4).isDisplayable());
+			if (record.isDisplayable()) ++displayableCounter;
 
 			boolean isNoSlopeCalculationStarted = true;
 			record = recordSet.get(10);// 10=slope
 			if (log.isLoggable(Level.FINE)) log.log(Level.FINE, "start data calculation for record = " + record.getName()); //$NON-NLS-1$
 			record.setDisplayable(false);
 			record.clear();
-			property = record.getProperty(CalculationThread.REGRESSION_INTERVAL_SEC);
+			PropertyType property = record.getProperty(CalculationThread.REGRESSION_INTERVAL_SEC);
 			int regressionInterval = property != null ? Integer.valueOf(property.getValue()) : 4;
 			property = record.getProperty(CalculationThread.REGRESSION_TYPE);
 			if (property == null || property.getValue().equals(CalculationThread.REGRESSION_TYPE_CURVE))
@@ -958,6 +884,43 @@ public class UniLog extends DeviceConfiguration implements IDevice {
 		}
 	}
 
+	/**
+	 * 8=efficiency from 7=revolutionSpeed, 2=current, 4=power and the propeller constant or from 1=voltage and 11=a1Value as torque
+	 */
+	DerivedRecords.Kernel efficiencyKernel(RecordSet recordSet) {
+		Record recordRevolution = recordSet.get(7); // 7=revolutionSpeed
+		PropertyType property = recordRevolution.getProperty(UniLog.RPM_FACTOR);
+		final double rpmFactor = property != null ? Double.valueOf(property.getValue()).doubleValue() : 1.0;
+		property = recordRevolution.getProperty(UniLog.NUMBER_MOTOR);
+		final double numberMotor = property != null ? Double.valueOf(property.getValue()).doubleValue() : 1.0;
+		property = recordSet.get(8).getProperty(UniLog.PROP_N_100_W);
+		final int prop_n100W = property != null ? Integer.valueOf(property.getValue()) : 10000;
+		final Record recordA1 = recordSet.get(11); // 11=A1 -> torque
+
+		return (sources, target, fromIndex, state) -> {
+			final int[] revolution = sources[0], current = sources[1], power = sources[2], voltage = sources[3], a1 = sources[4];
+			int lastValue = (int) state[0];
+			for (int j = 0; j < target.length; j++) {
+				if (fromIndex + j > 1 && revolution[j] > 100000 && current[j] > 3000) { //100 1/min && 3A
+					double eta;
+					if (prop_n100W == 99999) { // A1 -> torque
+						eta = (2 * Math.PI * (this.translateValue(recordA1, a1[j] / 1000.)) * (revolution[j] / 1000.)) / ((voltage[j] / 1000.) * (current[j] / 1000.) * 60.);
+					}
+					else {
+						double motorPower = Math.pow(((revolution[j] * rpmFactor / numberMotor) / 1000.0 * 4.64) / prop_n100W, 3) * 1000.0;
+						eta = motorPower * 100.0 / power[j];
+						eta = eta > 100 ? lastValue / 1000.0 : eta < 0 ? 0 : eta;
+					}
+					target[j] = (int) (eta * 1000);
+				}
+				else
+					target[j] = 0;
+				lastValue = target[j];
+			}
+			state[0] = lastValue;
+		};
+	}
+
 	/**
 	 * @return the dialog
 	 */
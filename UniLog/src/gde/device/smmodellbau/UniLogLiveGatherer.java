@@ -178,6 +178,7 @@ public class UniLogLiveGatherer extends Thread {
 							byte[] dataBuffer = UniLogLiveGatherer.this.serialPort.queryLiveData();
 
 							recordSet.addPoints(usedDevice.convertDataBytes(points, dataBuffer));
+							usedDevice.derivedRecords.evaluate(recordSet, true); // calculate the new points of capacity, power, energy, ...
 
 							// switch the active record set if the current record set is child of active channel
 							if (!UniLogLiveGatherer.this.isSwitchedRecordSet && UniLogLiveGatherer.this.channel.getName().equals(UniLogLiveGatherer.this.channels.getActiveChannel().getName())) {
@@ -37,6 +37,7 @@ import gde.GDE;
 import gde.comm.DeviceCommPort;
 import gde.config.Settings;
 import gde.data.Channels;
+import gde.data.DerivedRecords;
 import gde.data.Record;
 import gde.data.RecordSet;
 import gde.device.DeviceConfiguration;
@@ -72,6 +73,7 @@ public class UniLog2 extends DeviceConfiguration implements IDevice {
 	final Channels					channels;
 	final UniLog2Dialog			dialog;
 	final UniLog2SerialPort	serialPort;
+	final DerivedRecords		derivedRecords	= new DerivedRecords().define(14, this::efficiencyKernel, 1, 13, 2, 4, 1, 11);
 
 	/**
 	 * constructor using properties file
@@ -570,38 +572,44 @@ public class UniLog2 extends DeviceConfiguration implements IDevice {
 		//20=AirPressure, 21=InternTemperature, 22=ServoImpuls In, 23=ServoImpuls Out,
 		//M-LINK 24=valAdd00 25=valAdd01 26=valAdd02 27=valAdd03 28=valAdd04 29=valAdd05 30=valAdd06 31=valAdd07 32=valAdd08 33=valAdd09 34=valAdd10 35=valAdd11 36=valAdd12 37=valAdd13 38=valAdd14;
 
+		this.derivedRecords.evaluate(recordSet);
 		Record record = recordSet.get(14); // 14=efficiency
-		if (log.isLoggable(Level.FINE)) log.log(Level.FINE, "start data calculation for record = " + record.getName()); //$NON-NLS-1$
-		Record recordRevolution = recordSet.get(13); // 13=revolution
-		Record recordPower = recordSet.get(4); // 4=Power [w]
-		PropertyType property = record.getProperty(MeasurementPropertyTypes.PROP_N_100_W.value());
-		int prop_n100W = property != null ? Integer.valueOf(property.getValue()) : 10000;
-		property = recordRevolution.getProperty(MeasurementPropertyTypes.NUMBER_MOTOR.value());
-		double numberMotor = property != null ? Double.valueOf(property.getValue()).doubleValue() : 1.0;
-		Record recordVoltage = recordSet.get(1); // 1=voltage
-		Record recordCurrent = recordSet.get(2); // 2=Current
-		Record recordA1 = recordSet.get(11); // 11=A1 -> torque
-		double eta = 0.;
-		for (int i = 0; i < recordRevolution.size(); i++) {
-			if (i > 1 && recordRevolution.get(i)> 100000 && recordCurrent.get(i) > 3000) { //100 1/min && 3A
-				if (prop_n100W == 99999) { // A1 -> torque
-					eta = (2 * Math.PI * (this.translateValue(recordA1, recordA1.get(i) / 1000.)) * (recordRevolution.get(i) / 1000.)) / ((recordVoltage.get(i) / 1000.) * (recordCurrent.get(i) / 1000.) * 60.);
-					log.log(Level.INFO, String.format("(2 * %4.3f * %3.1fNcm * %5.0frpm) / (%3.1fV * %3.1fA * 60 * 100) = %4.2f", Math.PI, (this.translateValue(recordA1, recordA1.get(i) / 1000.)), (recordRevolution.get(i) / 1000.), (recordVoltage.get(i) / 1000.), (recordCurrent.get(i) / 1000.), eta));
-				}
-				else {
-					double motorPower = Math.pow(((recordRevolution.get(i) / numberMotor) / 1000.0 * 4.64) / prop_n100W, 3) * 1000.0;
-					eta = motorPower * 100.0 / recordPower.get(i);
-					eta = eta > 100 && i > 1 ? record.get(i-1)/1000.0 : eta < 0 ? 0 : eta;
-					if (log.isLoggable(Level.FINER))
-						log.log(Level.FINER, String.format("current=%5.1f; recordRevolution=%5.0f; recordPower=%6.2f; motorPower=%6.2f eta=%5.1f", recordCurrent.get(i)/1000.0, recordRevolution.get(i)/1000.0, recordPower.get(i)/1000.0, motorPower/1000.0, eta));
+		if (record.getRealMaxValue() != 0 || record.getRealMinValue() != 0) record.setDisplayable(true); // efficiency calculated for some points
+		this.application.updateStatisticsData();
+	}
+
+	/**
+	 * 14=efficiency from 13=revolution, 2=current, 4=power and the propeller constant or from 1=voltage and 11=A1 as torque
+	 */
+	DerivedRecords.Kernel efficiencyKernel(RecordSet recordSet) {
+		PropertyType property = recordSet.get(14).getProperty(MeasurementPropertyTypes.PROP_N_100_W.value());
+		final int prop_n100W = property != null ? Integer.valueOf(property.getValue()) : 10000;
+		property = recordSet.get(13).getProperty(MeasurementPropertyTypes.NUMBER_MOTOR.value());
+		final double numberMotor = property != null ? Double.valueOf(property.getValue()).doubleValue() : 1.0;
+		final Record recordA1 = recordSet.get(11); // 11=A1 -> torque
+
+		return (sources, target, fromIndex, state) -> {
+			final int[] revolution = sources[0], current = sources[1], power = sources[2], voltage = sources[3], a1 = sources[4];
+			int lastValue = (int) state[0];
+			for (int j = 0; j < target.length; j++) {
+				if (fromIndex + j > 1 && revolution[j] > 100000 && current[j] > 3000) { //100 1/min && 3A
+					double eta;
+					if (prop_n100W == 99999) { // A1 -> torque
+						eta = (2 * Math.PI * (this.translateValue(recordA1, a1[j] / 1000.)) * (revolution[j] / 1000.)) / ((voltage[j] / 1000.) * (current[j] / 1000.) * 60.);
+					}
+					else {
+						double motorPower = Math.pow(((revolution[j] / numberMotor) / 1000.0 * 4.64) / prop_n100W, 3) * 1000.0;
+						eta = motorPower * 100.0 / power[j];
+						eta = eta > 100 ? lastValue / 1000.0 : eta < 0 ? 0 : eta;
+					}
+					target[j] = (int) (eta * 1000);
 				}
-				record.set(i, Double.valueOf(eta * 1000).intValue());
-				record.setDisplayable(true);
+				else
+					target[j] = 0;
+				lastValue = target[j];
 			}
-			else record.set(i, 0);
-			if (log.isLoggable(Level.FINEST)) log.log(Level.FINEST, "adding value = " + record.get(i)); //$NON-NLS-1$
-		}
-		this.application.updateStatisticsData();
+			state[0] = lastValue;
+		};
 	}
 
 	/**
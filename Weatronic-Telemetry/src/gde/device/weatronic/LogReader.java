@@ -1,14 +1,15 @@
 package gde.device.weatronic;
 
+import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.text.SimpleDateFormat;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Locale;
-import java.util.Map;
-import java.util.Vector;
+import java.util.List;
 import java.util.logging.Logger;
 
 import gde.GDE;
@@ -29,35 +30,68 @@ import gde.ui.DataExplorer;
 import gde.ui.menu.MenuToolBar;
 import gde.utils.StringHelper;
 
+/**
+ * Reader of the Weatronic telemetry log files, each import uses its own reader instance holding the complete parse state.
+ * Measurements and received data items are resolved by their 16 bit measurement id through id indexed arrays.
+ */
 public class LogReader {
-	final static String								$CLASS_NAME					= LogReader.class.getName();
-	final static Logger								log									= Logger.getLogger(LogReader.$CLASS_NAME);
-
-	final static DataExplorer					application					= DataExplorer.getInstance();
-	final static Channels							channels						= Channels.getInstance();
-
-	static long												startTimeStamp_ms;
-	static int[]											points;
-	static Vector<Integer>						pointsVector				= new Vector<Integer>();
-	static RecordSet									recordSet;
-	static WeatronicAdapter						device;
-	static byte[]											buf_length					= new byte[4];
-	static byte[]											buf_log_record_tmp;
-	static byte[]											buf_log_record;
-	static byte[]											buf_header;
-	static byte[]											buf_data;
-	static long												timeStep_ms;
-	static Map<Integer, Measurement>	measurements				= new HashMap<Integer, Measurement>();
-	static Vector<Integer>						usedMeasurementIds	= new Vector<Integer>();
-	static Map<Integer, DataItem>			receivedDataItems		= new HashMap<Integer, DataItem>();
-	static Vector<Integer>						unknownIds					= new Vector<Integer>();
-
-	public LogReader(int activeChannelNumber) {
-		LogReader.channels.setActiveChannelNumber(activeChannelNumber);
+	final static String					$CLASS_NAME						= LogReader.class.getName();
+	final static Logger					log										= Logger.getLogger(LogReader.$CLASS_NAME);
+
+	final static DataExplorer		application						= DataExplorer.getInstance();
+	final static Channels				channels							= Channels.getInstance();
+
+	final static int						ID_COUNT							= 0x10000;
+	final static int						DATA_ITEM_TX_POWER		= 33968;
+	final static int						BUFFER_SIZE						= 1 << 16;
+
+	final WeatronicAdapter			device;
+	final int										channelConfigNumber;
+
+	long												startTimeStamp_ms			= 0;
+	RecordSet										recordSet;
+	int[]												points;
+	/**
+	 * values of the actual data section with shortest interval, taken as points if the count matches the record set
+	 */
+	int[]												pointValues						= new int[64];
+	int													pointCount						= 0;
+	final Measurement[]					measurements					= new Measurement[ID_COUNT];
+	int													measurementCount			= 0;
+	final boolean[]							isUsedMeasurement			= new boolean[ID_COUNT];
+	/**
+	 * measurement ids in the sequence of the record set
+	 */
+	int[]												usedMeasurementIds		= new int[64];
+	int													usedMeasurementCount	= 0;
+	final DataItem[]						receivedDataItems			= new DataItem[ID_COUNT];
+	final BitSet								unknownIds						= new BitSet(ID_COUNT);
+
+	public LogReader(WeatronicAdapter device, int channelConfigNumber) {
+		this.device = device;
+		this.channelConfigNumber = channelConfigNumber;
 	}
 
 	public enum RecordType {
 		UNKNOWN, DATA, HEADER, EVENT;
+
+		public static final RecordType[] VALUES = values();
+	}
+
+	private void putMeasurement(Measurement measurement) {
+		if (this.measurements[measurement.getId()] == null) ++this.measurementCount;
+		this.measurements[measurement.getId()] = measurement;
+	}
+
+	private void addUsedMeasurementId(int id) {
+		if (this.usedMeasurementCount == this.usedMeasurementIds.length) this.usedMeasurementIds = Arrays.copyOf(this.usedMeasurementIds, this.usedMeasurementCount * 2);
+		this.usedMeasurementIds[this.usedMeasurementCount++] = id;
+		this.isUsedMeasurement[id] = true;
+	}
+
+	void addPoint(int value) {
+		if (this.pointCount == this.pointValues.length) this.pointValues = Arrays.copyOf(this.pointValues, this.pointCount * 2);
+		this.pointValues[this.pointCount++] = value;
 	}
 
 	public class Record {
@@ -109,8 +143,8 @@ public class LogReader {
 				|| (measurementId & 0xFF00) == 0x1000
 				|| (measurementId & 0xFF00) == 0x1100
 				|| ((measurementId >= 0x1200 && measurementId <= 0x125E)
-						&& (LogReader.measurements.get(measurementId) != null ? LogReader.measurements.get(measurementId).getName().contains("Function") : true)
-				|| LogReader.measurements.get(measurementId).getName().contains("ControlID"));
+						&& (this.measurements[measurementId] != null ? this.measurements[measurementId].getName().contains("Function") : true)
+				|| this.measurements[measurementId].getName().contains("ControlID"));
 	}
 
 	private boolean isStatusFilter(int measurementId) {
@@ -257,17 +291,17 @@ public class LogReader {
 			this.measurementCount = DataParser.parse2UnsignedShort(buffer, 256 + this.offset);
 			this.realUsedMeasurementCount = 0;
 
-			int activeChannelConfigNumber = LogReader.application.getActiveChannelNumber();
+			int activeChannelConfigNumber = LogReader.this.channelConfigNumber;
 			int ordinal = 0;
-			int existingNumberMeasurements = LogReader.device.getDeviceConfiguration().getMeasurementNames(activeChannelConfigNumber).length;
+			int existingNumberMeasurements = LogReader.this.device.getDeviceConfiguration().getMeasurementNames(activeChannelConfigNumber).length;
 			for (int i = this.measurementCount; i < existingNumberMeasurements; i++) {
-				LogReader.device.removeMeasurementFromChannel(activeChannelConfigNumber, LogReader.device.getMeasurement(activeChannelConfigNumber, this.measurementCount));
+				LogReader.this.device.removeMeasurementFromChannel(activeChannelConfigNumber, LogReader.this.device.getMeasurement(activeChannelConfigNumber, this.measurementCount));
 			}
 			if (this.measurementCount != existingNumberMeasurements)
 				System.out.println();
-//			existingNumberMeasurements = LogReader.device.getDeviceConfiguration().getMeasurementNames(activeChannelConfigNumber).length;
+//			existingNumberMeasurements = LogReader.this.device.getDeviceConfiguration().getMeasurementNames(activeChannelConfigNumber).length;
 //			for (int i = 0; i < existingNumberMeasurements; i++) {
-//				LogReader.device.getMeasurement(activeChannelConfigNumber, i).setName(i + GDE.STRING_DOLLAR);
+//				LogReader.this.device.getMeasurement(activeChannelConfigNumber, i).setName(i + GDE.STRING_DOLLAR);
 //			}
 			//device.getDeviceConfiguration().storeDeviceProperties();
 
@@ -318,8 +352,8 @@ public class LogReader {
 						}
 					}
 					Measurement measurement = new Measurement(measurementBuffer);
-					LogReader.measurements.put(measurement.getId(), measurement);
-					LogReader.usedMeasurementIds.add(measurement.getId());
+					putMeasurement(measurement);
+					addUsedMeasurementId(measurement.getId());
 					break;
 
 				case PowerSupply://Power Supply packet
@@ -355,18 +389,18 @@ public class LogReader {
 						}
 					}
 					measurement = new Measurement(measurementBuffer);
-					LogReader.measurements.put(measurement.getId(), measurement);
-					LogReader.usedMeasurementIds.add(measurement.getId());
+					putMeasurement(measurement);
+					addUsedMeasurementId(measurement.getId());
 					break;
 
 				default:
 					measurement = new Measurement(measurementBuffer);
-					LogReader.measurements.put(measurement.getId(), measurement);
+					putMeasurement(measurement);
 
 					if ((WeatronicAdapter.isChannelFilter && isChannelFilter(measurement.getId())) || (WeatronicAdapter.isStatusFilter && isStatusFilter(measurement.getId()))
 							|| (WeatronicAdapter.isUtcFilter && isUTCFilter(measurement))) break; //skip Tx_Control[%] Id=0x1000, Tx_Servo[%] Id=0x1080, Tx_Function Id=0x1200
 
-					LogReader.usedMeasurementIds.add(measurement.getId());
+					addUsedMeasurementId(measurement.getId());
 
 					int index = 1;
 					String tmpMeasurementName = measurement.getName();
@@ -414,39 +448,40 @@ public class LogReader {
 			}
 			if (this.realUsedMeasurementCount != existingNumberMeasurements) {
 				for (int i = this.realUsedMeasurementCount; i < existingNumberMeasurements; i++) {
-					LogReader.device.removeMeasurementFromChannel(activeChannelConfigNumber, LogReader.device.getMeasurement(activeChannelConfigNumber, this.realUsedMeasurementCount));
+					LogReader.this.device.removeMeasurementFromChannel(activeChannelConfigNumber, LogReader.this.device.getMeasurement(activeChannelConfigNumber, this.realUsedMeasurementCount));
 				}
 			}
-//		existingNumberMeasurements = LogReader.device.getDeviceConfiguration().getMeasurementNames(activeChannelConfigNumber).length;
+//		existingNumberMeasurements = LogReader.this.device.getDeviceConfiguration().getMeasurementNames(activeChannelConfigNumber).length;
 //		for (int i = 0; i < existingNumberMeasurements; i++) {
-//			LogReader.device.getMeasurement(activeChannelConfigNumber, i).setName(i + GDE.STRING_DOLLAR);
+//			LogReader.this.device.getMeasurement(activeChannelConfigNumber, i).setName(i + GDE.STRING_DOLLAR);
 //		}
-			LogReader.device.getDeviceConfiguration().storeDeviceProperties();
+			LogReader.this.device.getDeviceConfiguration().storeDeviceProperties();
 
 			//build up the record set with variable number of records just fit the sensor data
-			String[] recordNames = LogReader.device.getDeviceConfiguration().getMeasurementNames(activeChannelConfigNumber);
+			String[] recordNames = LogReader.this.device.getDeviceConfiguration().getMeasurementNames(activeChannelConfigNumber);
 			String[] recordSymbols = new String[recordNames.length];
 			String[] recordUnits = new String[recordNames.length];
 			for (int i = 0; i < recordNames.length; i++) {
-				MeasurementType measurement = LogReader.device.getMeasurement(activeChannelConfigNumber, i);
+				MeasurementType measurement = LogReader.this.device.getMeasurement(activeChannelConfigNumber, i);
 				recordSymbols[i] = GDE.STRING_EMPTY; //measurement.getSymbol();
 				recordUnits[i] = measurement.getUnit();
 			}
-			String recordSetNameExtend = LogReader.device.getRecordSetStateNameReplacement(1); // state name
+			String recordSetNameExtend = LogReader.this.device.getRecordSetStateNameReplacement(1); // state name
 			String recordSetName = (LogReader.channels.getActiveChannel().size() + 1) + ") " + recordSetNameExtend; //$NON-NLS-1$
-			LogReader.recordSet = RecordSet.createRecordSet(recordSetName, LogReader.device, activeChannelConfigNumber, recordNames, recordSymbols, recordUnits, LogReader.device.getTimeStep_ms(), true, true, true);
-			LogReader.recordSet.getName(); // cut/correct length of recordSetName
-			for (int i = 0; i < LogReader.recordSet.size(); i++) {
-				gde.data.Record record = LogReader.recordSet.get(i);
-				MeasurementType measurementType = LogReader.device.getMeasurement(activeChannelConfigNumber, record.getOrdinal());
+			RecordSet newRecordSet = RecordSet.createRecordSet(recordSetName, LogReader.this.device, activeChannelConfigNumber, recordNames, recordSymbols, recordUnits, LogReader.this.device.getTimeStep_ms(), true, true, true);
+			newRecordSet.getName(); // cut/correct length of recordSetName
+			for (int i = 0; i < newRecordSet.size(); i++) {
+				gde.data.Record record = newRecordSet.get(i);
+				MeasurementType measurementType = LogReader.this.device.getMeasurement(activeChannelConfigNumber, record.getOrdinal());
 				if (measurementType == null || measurementType.getProperty(gde.data.Record.DataType.DEFAULT.value()) != null) continue;
 				record.setDataType();
 			}
-			//LogReader.recordSet.realSize();
+			LogReader.this.recordSet = newRecordSet;
+			LogReader.this.points = new int[newRecordSet.realSize()];
 		}
 
 		private boolean isDuplicatedName(int ordinal, int channelConfigNumber, String name) {
-			String[] measurementNames = LogReader.device.getMeasurementNamesReplacements(channelConfigNumber);
+			String[] measurementNames = LogReader.this.device.getMeasurementNamesReplacements(channelConfigNumber);
 			for (int i = 0; i < ordinal; i++) {
 				if (measurementNames[i].equals(name))
 					return true;
@@ -457,7 +492,7 @@ public class LogReader {
 		private void setupMeasurement(final gde.data.Record.DataType dataType, final int channelConfig, final int measurementOrdinal, String name, String unit, boolean isActive, double factor,
 				double offset, boolean isClearStatistics) {
 			++this.realUsedMeasurementCount;
-			MeasurementType gdeMeasurement = LogReader.device.getMeasurement(channelConfig, measurementOrdinal);
+			MeasurementType gdeMeasurement = LogReader.this.device.getMeasurement(channelConfig, measurementOrdinal);
 			if (!name.equals(gdeMeasurement.getName())) {
 				gdeMeasurement.setName(name);
 				gdeMeasurement.setStatistics(null);//delete statistics with trigger, ....
@@ -510,7 +545,7 @@ public class LogReader {
 			}
 
 			if (WeatronicAdapter.properties.get(name) != null) { //scale_sync_ref_ordinal
-				String[] measurementNames = LogReader.device.getMeasurementNamesReplacements(channelConfig);
+				String[] measurementNames = LogReader.this.device.getMeasurementNamesReplacements(channelConfig);
 				int syncOrdinal = -1;
 				String syncName = (String) WeatronicAdapter.properties.get(name);
 				for (int i = 0; i < measurementNames.length; i++) {
@@ -548,7 +583,7 @@ public class LogReader {
 		private void setupMeasurement(final int channelConfig, final int measurementOrdinal, Measurement measurement,
 				boolean isClearStatistics) {
 			++this.realUsedMeasurementCount;
-			MeasurementType gdeMeasurement = LogReader.device.getMeasurement(channelConfig, measurementOrdinal);
+			MeasurementType gdeMeasurement = LogReader.this.device.getMeasurement(channelConfig, measurementOrdinal);
 			if (!measurement.getName().equals(gdeMeasurement.getName())) {
 				gdeMeasurement.setName(measurement.getName().length() == 0 ? ("???_" + measurementOrdinal) : measurement.getName());
 				gdeMeasurement.setStatistics(null);//delete statistics with trigger, ....
@@ -560,7 +595,7 @@ public class LogReader {
 			gdeMeasurement.setOffset(measurement.getOffset());
 
 			if (WeatronicAdapter.properties.get(measurement.getName()) != null) { //scale_sync_ref_ordinal
-				String[] measurementNames = LogReader.device.getMeasurementNamesReplacements(channelConfig);
+				String[] measurementNames = LogReader.this.device.getMeasurementNamesReplacements(channelConfig);
 				int syncOrdinal = -1;
 				String syncName = (String) WeatronicAdapter.properties.get(measurement.getName());
 				for (int i = 0; i < measurementNames.length; i++) {
@@ -601,19 +636,23 @@ public class LogReader {
 		}
 
 		public int getMeasurementCount() {
-			return this.measurementCount > LogReader.measurements.size() ? this.measurementCount : LogReader.measurements.size();
+			return this.measurementCount > LogReader.this.measurementCount ? this.measurementCount : LogReader.this.measurementCount;
 		}
 
-		public Map<Integer, Measurement> getMeasurements() {
-			return LogReader.measurements;
+		/**
+		 * @param id the 16 bit measurement id
+		 * @return the measurement or null if the header does not define the id
+		 */
+		public Measurement getMeasurement(int id) {
+			return LogReader.this.measurements[id];
 		}
 	}
 
 	public class ConfigSection {
-		int							count;
-		int							interval;
-		Vector<Integer>	ids					= new Vector<Integer>();
-		int							lengthBytes	= 0;
+		int		count;
+		int		interval;
+		int[]	ids;
+		int		lengthBytes	= 0;
 
 		public ConfigSection(final byte[] buffer, final int offset) {
 			this.count = DataParser.parse2UnsignedShort(buffer, 0 + offset);
@@ -621,17 +660,18 @@ public class LogReader {
 			this.interval = (buffer[2 + offset] & 0xFF);
 			if (LogReader.log.isLoggable(Level.FINE)) log.log(Level.FINE, String.format("interval %3d, IDs ", this.interval));
 			this.lengthBytes = 3 + this.count * 2;
+			this.ids = new int[this.count];
 			for (int i = 0; i < this.count; i++) {
-				this.ids.add(DataParser.parse2UnsignedShort(buffer, 3 + offset + i * 2));
+				this.ids[i] = DataParser.parse2UnsignedShort(buffer, 3 + offset + i * 2);
 			}
-			if (LogReader.log.isLoggable(Level.FINE)) log.log(Level.FINE, this.ids.toString());
+			if (LogReader.log.isLoggable(Level.FINE)) log.log(Level.FINE, Arrays.toString(this.ids));
 		}
 
 		public int getId(final int index) {
-			return this.ids.get(index);
+			return this.ids[index];
 		}
 
-		public Vector<Integer> getIds() {
+		public int[] getIds() {
 			return this.ids;
 		}
 
@@ -832,57 +872,57 @@ public class LogReader {
 			}
 		}
 
-		private void addValue(final Vector<Integer> addPointsVector, final long dataSectionTimeStamp) {
+		private void addValue(final long dataSectionTimeStamp) {
 			switch (this.dataType) {
 			case PaketGPS: //special measurement needs to handle add filters by itself
 				//"4_Latitude","4_Longitude","2_Speed","2_Altitude","2_Course","1_isValid","4+1_UTC"
-				addPointsVector.add(this.latitude);
-				addPointsVector.add(this.longitude);
-				addPointsVector.add(this.speed * 1000);
-				addPointsVector.add(this.altitude * 1000);
-				addPointsVector.add(this.course * 1000);
-				addPointsVector.add(this.isValid * 1000);
-				if (!WeatronicAdapter.isUtcFilter) addPointsVector.add((int) (this.timeStamp_ms_utc - dataSectionTimeStamp) * 1000);
+				addPoint(this.latitude);
+				addPoint(this.longitude);
+				addPoint(this.speed * 1000);
+				addPoint(this.altitude * 1000);
+				addPoint(this.course * 1000);
+				addPoint(this.isValid * 1000);
+				if (!WeatronicAdapter.isUtcFilter) addPoint((int) (this.timeStamp_ms_utc - dataSectionTimeStamp) * 1000);
 				break;
 			case PowerSupply: //special measurement needs to handle add filters by itself
 				//"_Main_Status","_Main_Voltage","_Main_Current","_Main_InputVoltage","_Main_InputCurrent","_Main_MainVoltage","_Main_ReserveVoltage","_Main_InputTemperature"
-				if (!WeatronicAdapter.isStatusFilter) addPointsVector.add(this.status * 1000);
-				addPointsVector.add(this.voltage * 1000);
-				addPointsVector.add(this.current * 1000);
-				addPointsVector.add(this.inVoltage * 1000);
-				addPointsVector.add(this.inCurrent * 1000);
-				addPointsVector.add(this.mainVoltage * 1000);
-				addPointsVector.add(this.reserveVoltage * 1000);
-				addPointsVector.add(this.inTemperature * 1000);
+				if (!WeatronicAdapter.isStatusFilter) addPoint(this.status * 1000);
+				addPoint(this.voltage * 1000);
+				addPoint(this.current * 1000);
+				addPoint(this.inVoltage * 1000);
+				addPoint(this.inCurrent * 1000);
+				addPoint(this.mainVoltage * 1000);
+				addPoint(this.reserveVoltage * 1000);
+				addPoint(this.inTemperature * 1000);
 
 				//"_Cell%d_Status","_Cell%d_Voltage","_Cell%d_Current","_Cell%d_Capacity","_Cell%d_Temperature"
-				if (!WeatronicAdapter.isStatusFilter) addPointsVector.add(this.cell1_Status * 1000);
-				addPointsVector.add(this.cell1_Voltage * 1000);
-				addPointsVector.add(this.cell1_Current * 1000);
-				addPointsVector.add(this.cell1_Capacity * 1000);
-				addPointsVector.add(this.cell1_Temperature * 1000);
-				if (!WeatronicAdapter.isStatusFilter) addPointsVector.add(this.cell2_Status * 1000);
-				addPointsVector.add(this.cell2_Voltage * 1000);
-				addPointsVector.add(this.cell2_Current * 1000);
-				addPointsVector.add(this.cell2_Capacity * 1000);
-				addPointsVector.add(this.cell2_Temperature * 1000);
-				if (!WeatronicAdapter.isStatusFilter) addPointsVector.add(this.cell3_Status * 1000);
-				addPointsVector.add(this.cell3_Voltage * 1000);
-				addPointsVector.add(this.cell3_Current * 1000);
-				addPointsVector.add(this.cell3_Capacity * 1000);
-				addPointsVector.add(this.cell3_Temperature * 1000);
-				if (!WeatronicAdapter.isStatusFilter) addPointsVector.add(this.cell4_Status * 1000);
-				addPointsVector.add(this.cell4_Voltage * 1000);
-				addPointsVector.add(this.cell4_Current * 1000);
-				addPointsVector.add(this.cell4_Capacity * 1000);
-				addPointsVector.add(this.cell4_Temperature * 1000);
+				if (!WeatronicAdapter.isStatusFilter) addPoint(this.cell1_Status * 1000);
+				addPoint(this.cell1_Voltage * 1000);
+				addPoint(this.cell1_Current * 1000);
+				addPoint(this.cell1_Capacity * 1000);
+				addPoint(this.cell1_Temperature * 1000);
+				if (!WeatronicAdapter.isStatusFilter) addPoint(this.cell2_Status * 1000);
+				addPoint(this.cell2_Voltage * 1000);
+				addPoint(this.cell2_Current * 1000);
+				addPoint(this.cell2_Capacity * 1000);
+				addPoint(this.cell2_Temperature * 1000);
+				if (!WeatronicAdapter.isStatusFilter) addPoint(this.cell3_Status * 1000);
+				addPoint(this.cell3_Voltage * 1000);
+				addPoint(this.cell3_Current * 1000);
+				addPoint(this.cell3_Capacity * 1000);
+				addPoint(this.cell3_Temperature * 1000);
+				if (!WeatronicAdapter.isStatusFilter) addPoint(this.cell4_Status * 1000);
+				addPoint(this.cell4_Voltage * 1000);
+				addPoint(this.cell4_Current * 1000);
+				addPoint(this.cell4_Capacity * 1000);
+				addPoint(this.cell4_Temperature * 1000);
 				break;
 			default:
 				//skipping values controlled before calling addValues
 				if (this.measurement.getName().contains("_GPS_L"))
-					addPointsVector.add(this.value);
+					addPoint(this.value);
 				else
-					addPointsVector.add(this.value * 1000);
+					addPoint(this.value * 1000);
 				break;
 			}
 		}
@@ -906,7 +946,7 @@ public class LogReader {
 		int	interval;
 		int	readBytes;
 
-		public DataSection(final byte[] buffer, int offset, final Vector<ConfigSection> configSections, final RecordHeader recordHeader, final long sectionTimeStamp) throws DataInconsitsentException {
+		public DataSection(final byte[] buffer, int offset, final List<ConfigSection> configSections, final RecordHeader recordHeader, final long sectionTimeStamp) throws DataInconsitsentException {
 			this.length = DataParser.parse2Int(buffer, 0 + offset);
 			this.interval = (buffer[4 + offset] & 0xFF);
 			if (LogReader.log.isLoggable(Level.FINE)) log.log(Level.FINE, String.format("data sections %3d, interval %3d", this.length, this.interval));
@@ -917,19 +957,17 @@ public class LogReader {
 
 			for (ConfigSection configSection : configSections) {
 				if (configSection.getInterval() == this.interval) {
-					for (Integer id : configSection.ids) {
-						Measurement measurement = recordHeader.getMeasurements().get(id);
+					for (int id : configSection.ids) {
+						Measurement measurement = recordHeader.getMeasurement(id);
 						if (measurement != null && (offset + 5 + measurement.getDataSize()) <= buffer.length) {
-							if (LogReader.usedMeasurementIds.contains(measurement.id)) // only add measurement which are not filtered out
-								LogReader.receivedDataItems.put(id, new DataItem(buffer, offset + 5, measurement, sectionTimeStamp));
+							if (LogReader.this.isUsedMeasurement[measurement.id]) // only add measurement which are not filtered out
+								LogReader.this.receivedDataItems[id] = new DataItem(buffer, offset + 5, measurement, sectionTimeStamp);
 							//but keep the data offset pointer actual, this enables to filter single measurement in between without data disruption
 							offset += measurement.getDataSize();
 							this.readBytes += measurement.getDataSize();
 						}
 						else {
-							if (!LogReader.unknownIds.contains(id)) {
-								LogReader.unknownIds.add(id);
-							}
+							LogReader.this.unknownIds.set(id);
 							offset += 2; //default width used for unknown measurements
 						}
 					}
@@ -956,7 +994,7 @@ public class LogReader {
 	 */
 	public class RecordData extends Record {
 
-		Vector<ConfigSection>	configSections			= new Vector<LogReader.ConfigSection>();
+		List<ConfigSection>		configSections			= new ArrayList<ConfigSection>();
 		int										configSectionCount;
 		int										shortestInterval	  = 13;	//0.1Hz
 		int										measurementCount		= 0;
@@ -995,47 +1033,43 @@ public class LogReader {
 					//						System.out.println(timeStamp);
 					if (LogReader.log.isLoggable(Level.FINE)) log.log(Level.FINE, StringHelper.getFormatedTime("yyyy-MM-dd HH:mm:ss.SSS;", timeStamp_ms));
 
-					Iterator<Integer> iteratorMeasurementIds = LogReader.usedMeasurementIds.iterator();
-
-					while (iteratorMeasurementIds.hasNext()) {
-						int measurementId = iteratorMeasurementIds.next();
-						DataItem dataItem = LogReader.receivedDataItems.get(measurementId);
+					LogReader.this.pointCount = 0;
+					for (int j = 0; j < LogReader.this.usedMeasurementCount; j++) {
+						int measurementId = LogReader.this.usedMeasurementIds[j];
+						DataItem dataItem = LogReader.this.receivedDataItems[measurementId];
 						if (dataItem == null) { //data not received
-							Measurement measurement = LogReader.measurements.get(measurementId);
+							Measurement measurement = LogReader.this.measurements[measurementId];
 							switch (measurement.getDataType()) {
 							case PaketGPS:
 								for (int i = 0; i < (WeatronicAdapter.isUtcFilter ? 6 : 7); i++) {
-									LogReader.pointsVector.add(0);
+									addPoint(0);
 									if (LogReader.log.isLoggable(Level.FINER)) System.out.print("-;");
 								}
 								break;
 							case PowerSupply:
 								for (int i = 0; i < (WeatronicAdapter.isStatusFilter ? 23 : 28); i++) {
-									LogReader.pointsVector.add(0);
+									addPoint(0);
 									if (LogReader.log.isLoggable(Level.FINER)) System.out.print("-;");
 								}
 								break;
 
 							default:
-								LogReader.pointsVector.add(0);
+								addPoint(0);
 								if (LogReader.log.isLoggable(Level.FINER)) System.out.print("-;");
 								break;
 							}
 						}
 						else {
-							dataItem.addValue(LogReader.pointsVector, timeStamp_ms);
+							dataItem.addValue(timeStamp_ms);
 							dataItem.printValue(inTimeStamp_ms);
 						}
 					}
 					try {
-						if (LogReader.recordSet.realSize() == LogReader.pointsVector.size()) {
-							LogReader.points = new int[LogReader.recordSet.realSize()];
-
-							for (int i = 0; i < LogReader.points.length; i++) {
-								LogReader.points[i] = LogReader.pointsVector.get(i);
+						if (LogReader.this.points.length == LogReader.this.pointCount) {
+							if (LogReader.this.receivedDataItems[DATA_ITEM_TX_POWER] != null) { //skip first measurements as long as Tx power supply has data
+								System.arraycopy(LogReader.this.pointValues, 0, LogReader.this.points, 0, LogReader.this.pointCount);
+								LogReader.this.recordSet.addPoints(LogReader.this.points, (timeStamp_ms - startTimeStamp_ms) * 1.0);
 							}
-							if (LogReader.receivedDataItems.get(33968) != null) //skip first measurements as long as Tx power supply has data
-								LogReader.recordSet.addPoints(LogReader.points, (timeStamp_ms - startTimeStamp_ms) * 1.0);
 						}
 					}
 					catch (DataInconsitsentException e) {
@@ -1043,7 +1077,6 @@ public class LogReader {
 						LogReader.log.log(Level.WARNING, e.getMessage(), e);
 					}
 					if (LogReader.log.isLoggable(Level.FINER)) System.out.println();
-					LogReader.pointsVector.clear();
 				}
 				if (LogReader.log.isLoggable(Level.FINER))
 					if (tmpDataSection.getLength() != tmpDataSection.getReadBytes()) 
@@ -1063,7 +1096,7 @@ public class LogReader {
 
 		public RecordEvent(byte[] buffer) {
 			super();
-			this.eventData = buffer;
+			this.eventData = buffer.clone(); // the record buffer is reused
 		}
 
 	}
@@ -1081,15 +1114,17 @@ public class LogReader {
 			this.recordHeader = header;
 			this.length = DataParser.parse2Int(buffer, 0);
 			this.timeStamp_ms = DataParser.parse2Long(buffer, 4);
-			this.recordType = RecordType.values()[buffer[12]];
+			this.recordType = RecordType.VALUES[buffer[12]];
 			switch (this.recordType) {
 			case HEADER: //RecordType.HEADER
 				if (LogReader.log.isLoggable(Level.FINEST)) System.out.println("RecordType.HEADER");
-				this.recordHeader = new RecordHeader(buffer);
+				synchronized (LogReader.this.device) { // the header adapts the device measurements of the channel
+					this.recordHeader = new RecordHeader(buffer);
+				}
 				break;
 			case DATA: //RecordType.DATA
 				if (LogReader.log.isLoggable(Level.FINEST)) System.out.println("RecordType.DATA");
-				this.recordData = new RecordData(buffer, header, this.timeStamp_ms, LogReader.startTimeStamp_ms);
+				this.recordData = new RecordData(buffer, header, this.timeStamp_ms, LogReader.this.startTimeStamp_ms);
 				break;
 			case EVENT: //RecordType.EVENT
 				if (LogReader.log.isLoggable(Level.FINEST)) System.out.println("RecordType.EVENT");
@@ -1137,129 +1172,126 @@ public class LogReader {
 	/**
 	 * read complete file data and display the first found record set
 	 * @param filePath
+	 * @param channelConfigNumber the channel to receive the record set, null for the active channel
+	 * @throws Exception
+	 */
+	public static RecordSet read(String filePath, Integer channelConfigNumber) throws Exception {
+		Channel activeChannel = channelConfigNumber == null ? LogReader.channels.getActiveChannel() : LogReader.channels.get(channelConfigNumber);
+		if (activeChannel == null) return null;
+
+		LogReader.channels.setActiveChannelNumber(activeChannel.getNumber());
+		return new LogReader((WeatronicAdapter) LogReader.application.getActiveDevice(), activeChannel.getNumber()).read(filePath);
+	}
+
+	/**
+	 * stream the log records of the file through a reused record buffer and display the resulting record set
+	 * @param filePath
+	 * @return the record set or null if the file does not contain a header record
 	 * @throws Exception
 	 */
-	public static synchronized RecordSet read(String filePath, Integer channelConfigNumber) throws Exception {
+	public RecordSet read(String filePath) throws Exception {
 		final String $METHOD_NAME = "read";
 		long startTime = System.nanoTime() / 1000000;
 		File file = new File(filePath);
-		FileInputStream file_input = new FileInputStream(file);
-		DataInputStream data_in = new DataInputStream(file_input);
 		long fileSize = file.length();
 		long readByteCount = 0;
 		boolean isInitialSwitched = false;
-		LogReader.device = (WeatronicAdapter) DataExplorer.getInstance().getActiveDevice();
-		LogReader logReader = new LogReader(channelConfigNumber);
 		LogRecord logRecord = null; //records red from file
-		LogReader.pointsVector.clear();
-		LogReader.usedMeasurementIds.clear();
-		LogReader.receivedDataItems.clear();
-		LogReader.unknownIds.clear();
-		Channel 	activeChannel;
-
-		long timeStamp = 0;
-
-		LogReader.startTimeStamp_ms = 0;
+		byte[] buf_length = new byte[4];
+		byte[] buf_log_record = new byte[0];
 
 		MenuToolBar menuToolBar = LogReader.application.getMenuToolBar();
+		GDE.getUiNotification().setStatusMessage(Messages.getString(MessageIds.GDE_MSGT0594) + filePath);
 		GDE.getUiNotification().setProgress(0);
 
-		try {
-			if (channelConfigNumber == null)
-				activeChannel = LogReader.channels.getActiveChannel();
-			else
-				activeChannel = LogReader.channels.get(channelConfigNumber);
-
-			if (activeChannel != null) {
-				GDE.getUiNotification().setStatusMessage(Messages.getString(MessageIds.GDE_MSGT0594) + filePath);
-				GDE.getUiNotification().setProgress(0);
-				LogReader.channels.setActiveChannelNumber(activeChannel.getNumber());
-
-				int logRecordCount = 0;
-				while (readByteCount < fileSize) {
-					LogReader.buf_length = new byte[4];
-					int readSize = data_in.read(LogReader.buf_length);
-					if (readSize == 4) {
-						final int logRecordLength = DataParser.parse2Int(LogReader.buf_length, 0);
-						if (logRecordLength > 4) {
-							if (LogReader.log.isLoggable(Level.FINER)) log.log(Level.FINER, "logRecordLength = " + logRecordLength);
-							LogReader.buf_log_record = new byte[logRecordLength];
-							System.arraycopy(LogReader.buf_length, 0, LogReader.buf_log_record, 0, 4);
-							readByteCount += 4;
-							readByteCount += data_in.read(LogReader.buf_log_record, 4, logRecordLength - 4);
-							//CRC check should occur at first
-							//boolean isOK = Checksum.CRC16CCITT(buf_log_record, 0, buf_log_record.length-2) == DataParser.parse2UnsignedShort(buf_log_record, buf_log_record.length-2);
-							//System.out.println("CRC = " + isOK);
-							timeStamp = DataParser.parse2Long(LogReader.buf_log_record, 4);
-							//System.out.println(StringHelper.getFormatedTime("yyyy-MM-dd HH:mm:ss.SSS", timeStamp));
-							RecordType recordType = RecordType.values()[LogReader.buf_log_record[12]];
-							if (LogReader.startTimeStamp_ms == 0 && recordType == RecordType.DATA) LogReader.startTimeStamp_ms = timeStamp;
-		
-							try {
-								logRecord = logReader.new LogRecord(LogReader.buf_log_record, (logRecord == null ? null : logRecord.getRecordHeader()));
-							}
-							catch (DataInconsitsentException e) {
-								log.log(Level.SEVERE, e.getMessage());
-							}
-							GDE.getUiNotification().setProgress((int) (readByteCount * 100 / fileSize));
-							logRecordCount += 1;
+		try (DataInputStream data_in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), LogReader.BUFFER_SIZE))) {
+			int logRecordCount = 0;
+			int progress = 0;
+			while (readByteCount < fileSize) {
+				int readSize = data_in.readNBytes(buf_length, 0, 4);
+				if (readSize == 4) {
+					final int logRecordLength = DataParser.parse2Int(buf_length, 0);
+					if (logRecordLength > 4) {
+						if (LogReader.log.isLoggable(Level.FINER)) log.log(Level.FINER, "logRecordLength = " + logRecordLength);
+						if (buf_log_record.length != logRecordLength) buf_log_record = new byte[logRecordLength];
+						System.arraycopy(buf_length, 0, buf_log_record, 0, 4);
+						readByteCount += 4;
+						readByteCount += data_in.readNBytes(buf_log_record, 4, logRecordLength - 4);
+						//CRC check should occur at first
+						//boolean isOK = Checksum.CRC16CCITT(buf_log_record, 0, buf_log_record.length-2) == DataParser.parse2UnsignedShort(buf_log_record, buf_log_record.length-2);
+						//System.out.println("CRC = " + isOK);
+						long timeStamp = DataParser.parse2Long(buf_log_record, 4);
+						//System.out.println(StringHelper.getFormatedTime("yyyy-MM-dd HH:mm:ss.SSS", timeStamp));
+						RecordType recordType = RecordType.VALUES[buf_log_record[12]];
+						if (this.startTimeStamp_ms == 0 && recordType == RecordType.DATA) this.startTimeStamp_ms = timeStamp;
+
+						try {
+							logRecord = new LogRecord(buf_log_record, (logRecord == null ? null : logRecord.getRecordHeader()));
 						}
-						else {
-							log.log(Level.WARNING, "logRecordLength = 0");
-							break;
+						catch (DataInconsitsentException e) {
+							log.log(Level.SEVERE, e.getMessage());
+						}
+						if ((int) (readByteCount * 100 / fileSize) != progress) {
+							progress = (int) (readByteCount * 100 / fileSize);
+							GDE.getUiNotification().setProgress(progress);
 						}
+						logRecordCount += 1;
 					}
 					else {
-						log.log(Level.WARNING, "datain.read failed!");
+						log.log(Level.WARNING, "logRecordLength = 0");
 						break;
 					}
 				}
-
-				LogReader.recordSet.setStartTimeStamp(LogReader.startTimeStamp_ms);
-				LogReader.recordSet.setRecordSetDescription(LogReader.device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129)
-						+ new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss").format(LogReader.startTimeStamp_ms));
-
-				if (LogReader.log.isLoggable(Level.FINEST)) {
-					System.out.println("logRecordCount = " + logRecordCount);
+				else {
+					log.log(Level.WARNING, "datain.read failed!");
+					break;
 				}
+			}
+			if (this.recordSet == null) {
+				log.log(Level.WARNING, filePath + " does not contain a header record");
+				return null;
+			}
 
-				StringBuilder sb = new StringBuilder().append("unknown Ids = ");
-				for (Integer unknownId : LogReader.unknownIds) {
-					sb.append(String.format("0x%04x, ", unknownId));
-				}
-				LogReader.log.log(Level.WARNING, sb.toString());
+			this.recordSet.setStartTimeStamp(this.startTimeStamp_ms);
+			this.recordSet.setRecordSetDescription(this.device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129)
+					+ new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss").format(this.startTimeStamp_ms));
 
-				LogReader.log.logp(Level.TIME, LogReader.$CLASS_NAME, $METHOD_NAME, "read time = " + StringHelper.getFormatedTime("mm:ss:SSS", (System.nanoTime() / 1000000 - startTime))); //$NON-NLS-1$ //$NON-NLS-2$
+			if (LogReader.log.isLoggable(Level.FINEST)) {
+				System.out.println("logRecordCount = " + logRecordCount);
+			}
 
-				if (menuToolBar != null && LogReader.recordSet != null) {
-					GDE.getUiNotification().setProgress(99);
-					String recordSetName = LogReader.recordSet.getName();
-					activeChannel = LogReader.application.getActiveChannel();
-					activeChannel.put(recordSetName, LogReader.recordSet);
-					activeChannel.applyTemplate(recordSetName, false);
+			StringBuilder sb = new StringBuilder().append("unknown Ids = ");
+			for (int unknownId = this.unknownIds.nextSetBit(0); unknownId >= 0; unknownId = this.unknownIds.nextSetBit(unknownId + 1)) {
+				sb.append(String.format("0x%04x, ", unknownId));
+			}
+			LogReader.log.log(Level.WARNING, sb.toString());
 
-					if (!isInitialSwitched) {
-						LogReader.channels.switchChannel(activeChannel.getName());
-						activeChannel.switchRecordSet(LogReader.recordSet.getName());
-					}
-					else {
-						LogReader.device.makeInActiveDisplayable(LogReader.recordSet);
-					}
-					LogReader.device.updateVisibilityStatus(LogReader.recordSet, true);
+			LogReader.log.logp(Level.TIME, LogReader.$CLASS_NAME, $METHOD_NAME, "read time = " + StringHelper.getFormatedTime("mm:ss:SSS", (System.nanoTime() / 1000000 - startTime))); //$NON-NLS-1$ //$NON-NLS-2$
 
-					//write filename after import to record description
-					LogReader.recordSet.descriptionAppendFilename(file.getName());
+			if (menuToolBar != null) {
+				GDE.getUiNotification().setProgress(99);
+				String recordSetName = this.recordSet.getName();
+				Channel activeChannel = LogReader.channels.get(this.channelConfigNumber);
+				activeChannel.put(recordSetName, this.recordSet);
+				activeChannel.applyTemplate(recordSetName, false);
 
-					menuToolBar.updateChannelSelector();
-					menuToolBar.updateRecordSetSelectCombo();
-					GDE.getUiNotification().setProgress(100);
+				if (!isInitialSwitched) {
+					LogReader.channels.switchChannel(activeChannel.getName());
+					activeChannel.switchRecordSet(this.recordSet.getName());
+				}
+				else {
+					this.device.makeInActiveDisplayable(this.recordSet);
 				}
+				this.device.updateVisibilityStatus(this.recordSet, true);
+
+				//write filename after import to record description
+				this.recordSet.descriptionAppendFilename(file.getName());
+
+				menuToolBar.updateChannelSelector();
+				menuToolBar.updateRecordSetSelectCombo();
+				GDE.getUiNotification().setProgress(100);
 			}
 		}
-		finally {
-			data_in.close();
-			data_in = null;
-		}
-		return LogReader.recordSet;
+		return this.recordSet;
 	}
 }
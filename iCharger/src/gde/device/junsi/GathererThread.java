@@ -160,8 +160,10 @@ public class GathererThread extends Thread {
 						measurementCount = 0;
 					}
 
-					if (measurementCount > 0)// prepare the data for adding to record set
-					 recordSet.addPoints(this.device.convertDataBytes(points, dataBuffer));//constant time step
+					if (measurementCount > 0) {// prepare the data for adding to record set
+						recordSet.addPoints(this.device.convertDataBytes(points, dataBuffer));//constant time step
+						this.device.derivedRecords.evaluate(recordSet, true);
+					}
 					
 					++measurementCount;
 
@@ -19,6 +19,8 @@
 package gde.device.junsi;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import javax.usb.UsbDisconnectedException;
@@ -53,6 +55,7 @@ public class UsbGathererThread extends Thread {
 	final static String	$CLASS_NAME									= UsbGathererThread.class.getName();
 	final static Logger	log													= Logger.getLogger(UsbGathererThread.class.getName());
 	final static int		WAIT_TIME_RETRYS						= 1900;		// 1900 * 1 sec = 30 Minutes
+	final static int		IDLE_POLL_DELAY_MAX_MS			= 1000;
 
 	final DataExplorer					application;
 	final Settings							settings;
@@ -61,6 +64,7 @@ public class UsbGathererThread extends Thread {
 	final Channels							channels;
 	final Channel								channel;
 	final int										channelNumber;
+	final Map<Integer, RecordSet>	fedRecordSets	= new HashMap<>();	// record sets fed through the ingest queue per outlet number
 
 	String							recordSetKey								= Messages.getString(gde.messages.MessageIds.GDE_MSGT0272);
 	boolean							isPortOpenedByLiveGatherer	= false;
@@ -71,7 +75,8 @@ public class UsbGathererThread extends Thread {
 	boolean							isProgrammExecuting3				= false;
 	boolean							isProgrammExecuting4				= false;
 	boolean[]						isAlerted4Finish						= { false, false, false, false };
-	int									retryCounter								= UsbGathererThread.WAIT_TIME_RETRYS;	//30 Min
+	int									retryCounter								= UsbGathererThread.WAIT_TIME_RETRYS * 1000;	//30 Min in ms
+	int									idlePollDelay_ms						= UsbGathererThread.USB_QUERY_DELAY;
 	long								lastTimeStamp_01_ms						= 0;
 	long 								lastRecordEndTimeStamp_01_ms 	= 0;
 	long								lastTimeStamp_02_ms						= 0;
@@ -195,14 +200,18 @@ public class UsbGathererThread extends Thread {
 						
 						this.application.setStatusMessage(GDE.STRING_EMPTY);
 						
-						this.retryCounter	= UsbGathererThread.WAIT_TIME_RETRYS;	//30 Min
+						this.retryCounter	= UsbGathererThread.WAIT_TIME_RETRYS * 1000;	//30 Min
+						this.idlePollDelay_ms = UsbGathererThread.USB_QUERY_DELAY; // detect state changes while charging fast
 					}
 					else {
 						this.application.setStatusMessage(Messages.getString(MessageIds.GDE_MSGI2600));
 						log.logp(Level.FINE, UsbGathererThread.$CLASS_NAME, $METHOD_NAME, "wait for device activation ..."); //$NON-NLS-1$
-						WaitTimer.delay(1000);
+						// poll fast after a program end and slow down while the charger stays idle
+						WaitTimer.delay(this.idlePollDelay_ms);
+						this.retryCounter -= this.idlePollDelay_ms;
+						this.idlePollDelay_ms = Math.min(UsbGathererThread.IDLE_POLL_DELAY_MAX_MS, this.idlePollDelay_ms * 2);
 
-						if (0 >= (this.retryCounter -= 1)) {
+						if (0 >= this.retryCounter) {
 							log.log(Level.FINE, "device activation timeout"); //$NON-NLS-1$
 							this.application.openMessageDialogAsync(Messages.getString(MessageIds.GDE_MSGW2600));
 							stopDataGatheringThread(false, null);
@@ -372,6 +381,10 @@ public class UsbGathererThread extends Thread {
 					}
 				}
 				device.resetEnergySum(number); //reset integrated energy due to switch over capacity and energy 
+				if (recordSet != null) {
+					recordSet.closeIngestQueue(); // the replaced record set of this outlet gets no more data
+					this.fedRecordSets.remove(number);
+				}
 				processRecordSetKey = String.format("%d) %s - %s %s", outputChannel.getNextRecordSetNumber(), batteryType, processTypeName, extend.toString()).trim();
 				processRecordSetKey = processRecordSetKey.length() <= RecordSet.MAX_NAME_LENGTH ? processRecordSetKey : processRecordSetKey.substring(0, RecordSet.MAX_NAME_LENGTH);
 
@@ -401,8 +414,10 @@ public class UsbGathererThread extends Thread {
 			}
 
 			deltaTimeStamp_ms = this.device.getTimeStamp(dataBuffer) - (number == 2 ? this.lastRecordEndTimeStamp_02_ms : this.lastRecordEndTimeStamp_01_ms);
-			if (deltaTimeStamp_ms > 0)
-				recordSet.addPoints(this.device.convertDataBytes(points, dataBuffer), deltaTimeStamp_ms);
+			if (deltaTimeStamp_ms > 0) {
+				recordSet.getIngestQueue().addPoints(this.device.convertDataBytes(points, dataBuffer), deltaTimeStamp_ms);
+				this.fedRecordSets.put(number, recordSet);
+			}
 			
 			long intervalTime_ms = deltaTimeStamp_ms - (number == 2 ? this.lastTimeStamp_02_ms : this.lastTimeStamp_01_ms);
 			if (UsbGathererThread.log.isLoggable(Level.INFO))
@@ -420,7 +435,8 @@ public class UsbGathererThread extends Thread {
 				break;
 			}
 
-			if (recordSet.get(0).realSize() < 3 || recordSet.get(0).realSize() % 10 == 0) {
+			long queuedFrames = recordSet.getIngestQueue().getOfferedCount(); // the record size lags behind until the queue gets drained
+			if (queuedFrames < 3 || queuedFrames % 10 == 0) {
 				this.device.updateVisibilityStatus(recordSet, true);
 			}
 
@@ -462,6 +478,7 @@ public class UsbGathererThread extends Thread {
 			}
 		}
 
+		closeFedRecordSets();
 		RecordSet recordSet = this.channel.get(this.recordSetKey);
 		if (recordSet != null && recordSet.getRecordDataSize(true) > 5) { // some other exception while program execution, record set has data points
 			finalizeRecordSet(false);
@@ -485,8 +502,10 @@ public class UsbGathererThread extends Thread {
 			UsbGathererThread.log.log(Level.WARNING, e.getMessage(), e);
 		}
 
+		closeFedRecordSets();
 		RecordSet tmpRecordSet = this.channel.get(this.recordSetKey);
 		if (tmpRecordSet != null) {
+			tmpRecordSet.closeIngestQueue();
 			this.device.updateVisibilityStatus(tmpRecordSet, false);
 			this.device.makeInActiveDisplayable(tmpRecordSet);
 			this.application.updateStatisticsData();
@@ -497,6 +516,16 @@ public class UsbGathererThread extends Thread {
 		}
 	}
 
+	/**
+	 * close the ingest queues of all record sets fed by the outlets, the record sets stop gathering
+	 */
+	void closeFedRecordSets() {
+		for (RecordSet fedRecordSet : this.fedRecordSets.values()) {
+			fedRecordSet.closeIngestQueue();
+		}
+		this.fedRecordSets.clear();
+	}
+
 	/**
 	 * cleanup all allocated resources and display the message
 	 * @param this.recordSetKey
@@ -29,6 +29,7 @@ import gde.comm.DeviceCommPort;
 import gde.config.Settings;
 import gde.data.Channel;
 import gde.data.Channels;
+import gde.data.DerivedRecords;
 import gde.data.Record;
 import gde.data.RecordSet;
 import gde.device.DeviceConfiguration;
@@ -62,7 +63,30 @@ public abstract class iCharger extends DeviceConfiguration implements IDevice {
 	protected       GathererThread								gathererThread;
 	protected String[]														BATTERIE_TYPES;
 	
-	protected static double energySum = 0.0; 
+	/**
+	 * 4=Leistung 5=Energie calculated from the serial data, the energy sum restarts if the capacity is zero
+	 */
+	protected final DerivedRecords								derivedRecords	= new DerivedRecords().product(4, 1, 2, 100.).define(5, recordSet -> this::energyKernel, 1, 4, 3);
+
+	/**
+	 * energy = energy + (timeDelta * power) with the constant time step of 2 seconds as long as the capacity is not zero
+	 */
+	private void energyKernel(int[][] sources, int[] target, int fromIndex, double[] state) {
+		final double timeStep_h = 2.0 / 3600.0;
+		final int[] power = sources[0], capacity = sources[1];
+		double energySum = state[0];
+		for (int j = 0; j < target.length; j++) {
+			if (capacity[j] != 0) {
+				energySum += power[j] * timeStep_h;
+				target[j] = (int) energySum;
+			}
+			else {
+				target[j] = 0;
+				energySum = 0.0;
+			}
+		}
+		state[0] = energySum;
+	}
 
 	/**
 	 * @param batTypeName LiPo, LiIo, LiFe,...
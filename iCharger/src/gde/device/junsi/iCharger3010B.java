@@ -90,6 +90,7 @@ public class iCharger3010B extends iCharger {
 			if (doUpdateProgressBar && i % 50 == 0) this.application.setProgress(((++progressCycle * 5000) / recordDataSize), sThreadId);
 		}
 
+		this.derivedRecords.evaluate(recordSet);
 		if (doUpdateProgressBar) this.application.setProgress(100, sThreadId);
 	}
 
@@ -107,7 +108,6 @@ public class iCharger3010B extends iCharger {
 		DataParser data = new  DataParser(this.getDataBlockTimeUnitFactor(), this.getDataBlockLeader(), this.getDataBlockSeparator().value(), null, null, Math.abs(this.getDataBlockSize(InputTypes.FILE_IO)), this.getDataBlockFormat(InputTypes.SERIAL_IO), false);
 		int[] startLength = new int[] {0,0};
 		byte[] lineBuffer = null;
-		double timeStep_h = 2.0 / 3600.0;
 				
 		try {
 			setDataLineStartAndLength(dataBuffer, startLength);
@@ -128,14 +128,8 @@ public class iCharger3010B extends iCharger {
 			points[2] = values[2];			
 			points[3] = values[cellOffset + 3] * 1000;
 			//4=Leistung 5=Energie
-			points[4] = Double.valueOf(points[1] * points[2] / 100.0).intValue(); 							// power U*I [W]
-			if (points[3] != 0) {
-				energySum += points[4] * timeStep_h; //energy = energy + (timeDelta * power)
-				points[5] = Double.valueOf(energySum).intValue();
-			} else {
-				points[5] = 0;
-				energySum = 0.0;
-			}
+			points[4] = 0; // power U*I [W], see derivedRecords
+			points[5] = 0; // energy, see derivedRecords
 			//6=Temp.intern 7=Temp.extern 
 			points[6] = values[cellOffset + 1];
 			points[7] = values[cellOffset + 2];
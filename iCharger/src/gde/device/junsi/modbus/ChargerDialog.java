@@ -275,15 +275,11 @@ public class ChargerDialog extends DeviceDialog {
 	public ChargerStatus readStatus(int channelNumber) {
 		ChargerStatus chargerStatus = null;
 		try {
-			//Read system info data
+			//Read channel status data
 			short sizeStatus = (short) ((ChargerStatus.getSize() + 1) / 2);
 			byte[] statusBuffer = new byte[sizeStatus * 2];
-			if (channelNumber == 2)
-				if (ModBusErrorCode.MB_EOK != this.usbPort.masterRead((byte) 1, ChargerDialog.REG_INPUT_STATUS_CH2, sizeStatus, statusBuffer))
-					throw new IllegalStateException();
-			else
-				if (ModBusErrorCode.MB_EOK != this.usbPort.masterRead((byte) 1, ChargerDialog.REG_INPUT_STATUS_CH1, sizeStatus, statusBuffer))
-					throw new IllegalStateException();
+			if (ModBusErrorCode.MB_EOK != this.usbPort.masterRead((byte) 1, channelNumber == 2 ? ChargerDialog.REG_INPUT_STATUS_CH2 : ChargerDialog.REG_INPUT_STATUS_CH1, sizeStatus, statusBuffer))
+				throw new IllegalStateException();
 			
 			chargerStatus = new ChargerStatus(statusBuffer);
 			if (ChargerDialog.log.isLoggable(Level.INFO)) 
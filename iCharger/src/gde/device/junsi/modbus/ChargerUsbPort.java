@@ -24,6 +24,7 @@ import gde.device.IDevice;
 import gde.device.junsi.iChargerUsbPort;
 import gde.exception.TimeOutException;
 import gde.log.Level;
+import gde.log.Metrics;
 import gde.ui.DataExplorer;
 import gde.utils.StringHelper;
 
@@ -62,6 +63,11 @@ public class ChargerUsbPort extends iChargerUsbPort {
 	protected final static byte	MB_FUNC_OTHER_REPORT_SLAVEID					= 17;
 	protected final static byte	MB_FUNC_ERROR													= (byte) 128;
 
+	/**
+	 * metrics timer of the HID write/read round trip of one ModBus transaction
+	 */
+	public final static String	METRIC_TRANSACTION										= "modbus.transaction";									//$NON-NLS-1$
+
 	protected final static byte	READ_REG_COUNT_MAX										= ((HID_PACK_MAX - 4) / 2);							//30
 	protected final static byte	WRITE_REG_COUNT_MAX										= ((HID_PACK_MAX - 8) / 2);							//28
 
@@ -219,11 +225,14 @@ public class ChargerUsbPort extends iChargerUsbPort {
 		//read system junk 2: [64] 07 30 03 84 1E 00 1D 20 01 F4 00 64 00 02 00 10 00 10 00 0A 00 00 00 00 00 00 00 01 00 01 00 01 00 01 00 05 00 05 00 05 00 05 00 00 00 00 03 E8 00 00 00 5A 01 C2 04 4C 00 00 00 91 00 64 04 4C
 		//read memory junk 1: [64] 07 30 03 8C 00 00 1E
 		if (log.isLoggable(Level.FINEST)) log.log(Level.FINEST, "write " + StringHelper.byte2Hex2CharString(hidBuf, hidBuf.length));
+		long startNanoTime = System.nanoTime();
 		this.write(libUsbHandle, this.endpointIn, hidBuf, timeOut_ms);
 		//if(JsHID.Write(hidBuf,HID_PACK_MAX+1)==FALSE)return ModBusErrorCode.MB_EIO;
 		//rece
 		//hidBuf[HID_PACK_CH] = REPORT_ID;
 		this.read(libUsbHandle, this.endpointOut, hidBuf, timeOut_ms);
+		long elapsedNanos = Metrics.timer(METRIC_TRANSACTION).recordSince(startNanoTime);
+		if (log.isLoggable(Level.FINE)) log.log(Level.FINE, String.format("function 0x%02X transaction %d us", funCode, elapsedNanos / 1000)); //$NON-NLS-1$
 		//read system junk 1: [64] 40 30 03 3C 00 00 03 20 01 F4 00 64 00 02 00 10 00 10 00 0A 00 00 00 00 00 00 00 01 00 01 00 01 00 01 00 05 00 05 00 05 00 05 00 00 00 00 03 E8 00 00 00 5A 01 C2 04 4C 00 00 00 91 00 64 04 4C
 		//read system junk 2: [64] 3E 30 03 3A 00 00 00 00 00 5A 01 C2 04 4C 00 00 00 91 00 64 04 4C 00 00 00 00 00 5A 01 C2 04 4C 00 00 00 91 00 64 04 4C 00 00 00 00 00 5A 01 C2 04 4C 00 00 00 91 00 64 04 4C 00 00 00 00 04 4C
 		if (log.isLoggable(Level.FINEST)) log.log(Level.FINEST, "read  " + StringHelper.byte2Hex2CharString(hidBuf, hidBuf.length));